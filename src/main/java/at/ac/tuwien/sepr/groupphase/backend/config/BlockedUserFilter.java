@@ -1,8 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.config;
 
-import at.ac.tuwien.sepr.groupphase.backend.entity.ApplicationUser;
-import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
-import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlockedUserRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,10 +16,10 @@ import java.io.IOException;
 @Component
 public class BlockedUserFilter extends OncePerRequestFilter {
 
-    private final UserService userService;
+    private final BlockedUserRegistry blockedUserRegistry;
 
-    public BlockedUserFilter(UserService userService) {
-        this.userService = userService;
+    public BlockedUserFilter(BlockedUserRegistry blockedUserRegistry) {
+        this.blockedUserRegistry = blockedUserRegistry;
     }
 
     @Override
@@ -29,28 +27,22 @@ public class BlockedUserFilter extends OncePerRequestFilter {
         throws ServletException, IOException {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (authentication != null && authentication.isAuthenticated()) {
-            String email = authentication.getName();
-            try {
-                ApplicationUser user = userService.findApplicationUserByEmail(email);
-                if (user.getBlocked()) {
-                    new SecurityContextLogoutHandler().logout(request, response, authentication);
-
-                    // Add CORS headers to the response
-                    response.setHeader("Access-Control-Allow-Origin", "http://localhost:4200");
-                    response.setHeader("Access-Control-Allow-Credentials", "true");
-                    response.setHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
-                    response.setHeader("Access-Control-Allow-Headers", "*");
-
-                    // Send HTTP 401 (Unauthorized) with a custom header or JSON payload
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    response.setHeader("Location", "/"); // Optional: frontend can read this header
-                    response.getWriter().write("{\"message\":\"User is blocked\"}");
-                    return;
-                }
-            } catch (NotFoundException e) {
-                // Log the error and proceed
-            }
+        // the blocked users are kept in memory, so that checking a request reads nothing from the database
+        if (authentication != null && authentication.isAuthenticated()
+            && blockedUserRegistry.isBlocked(authentication.getName())) {
+            new SecurityContextLogoutHandler().logout(request, response, authentication);
+
+            // Add CORS headers to the response
+            response.setHeader("Access-Control-Allow-Origin", "http://localhost:4200");
+            response.setHeader("Access-Control-Allow-Credentials", "true");
+            response.setHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
+            response.setHeader("Access-Control-Allow-Headers", "*");
+
+            // Send HTTP 401 (Unauthorized) with a custom header or JSON payload
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setHeader("Location", "/"); // Optional: frontend can read this header
+            response.getWriter().write("{\"message\":\"User is blocked\"}");
+            return;
         }
         filterChain.doFilter(request, response);
     }
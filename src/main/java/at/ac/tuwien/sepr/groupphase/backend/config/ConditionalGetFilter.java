@@ -0,0 +1,96 @@
+package at.ac.tuwien.sepr.groupphase.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adds the tag that {@link ConditionalGetInterceptor} chose for a response once the status of the response is known,
+ * so that errors such as a missing venue or a failed check are neither tagged nor cached.
+ */
+@Component
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        TaggingResponse tagging = new TaggingResponse(request, response);
+        filterChain.doFilter(request, tagging);
+        // streamed responses are tagged once they start writing, which happens on another thread
+        if (!request.isAsyncStarted()) {
+            tagging.tag();
+        }
+    }
+
+    /**
+     * Adds the tag right before the body is written, when the status has been set, or at the end of a response
+     * without a body. Errors and redirects sent through the container are never tagged.
+     */
+    private static final class TaggingResponse extends HttpServletResponseWrapper {
+        private final HttpServletRequest request;
+        private final AtomicBoolean decided = new AtomicBoolean();
+
+        TaggingResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        void tag() {
+            if (decided.compareAndSet(false, true)
+                && request.getAttribute(ConditionalGetInterceptor.TAG_ATTRIBUTE) instanceof ConditionalGetInterceptor.ResponseTag tag
+                && getStatus() < HttpServletResponse.SC_MULTIPLE_CHOICES) {
+                tag.applyTo(this);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            tag();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            tag();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            tag();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            decided.set(true);
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            decided.set(true);
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            decided.set(true);
+            super.sendRedirect(location);
+        }
+    }
+}
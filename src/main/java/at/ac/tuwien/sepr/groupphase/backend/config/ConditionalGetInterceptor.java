@@ -0,0 +1,108 @@
+package at.ac.tuwien.sepr.groupphase.backend.config;
+
+import at.ac.tuwien.sepr.groupphase.backend.config.properties.HttpCacheProperties;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.ConditionalGet;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tags the responses of endpoints marked with {@link ConditionalGet} and answers requests whose
+ * {@code If-None-Match} still holds the current tag with 304, before the endpoint reads or maps anything.
+ * The tag is added to the response by {@link ConditionalGetFilter}, and only if the endpoint succeeds.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    static final String TAG_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".tag";
+    private final CatalogVersions catalogVersions;
+    private final HttpCacheProperties properties;
+
+    public ConditionalGetInterceptor(CatalogVersions catalogVersions, HttpCacheProperties properties) {
+        this.catalogVersions = catalogVersions;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod method)
+            || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        ConditionalGet conditionalGet = method.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+        // the role check of @Secured only runs once the endpoint is called, so it is done here before answering;
+        // a request that it turns away is neither answered nor tagged
+        if (!isAllowed(method)) {
+            return true;
+        }
+        String etag = "W/\"" + catalogVersions.tagOf(conditionalGet.value()) + "\"";
+        ResponseTag tag = new ResponseTag(etag, properties.cacheControlOf(conditionalGet.policy()));
+        if (matches(request, etag)) {
+            LOGGER.debug("{} {} not modified since {}", request.getMethod(), request.getRequestURI(), etag);
+            tag.applyTo(response);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        // added by ConditionalGetFilter once the endpoint answers successfully, so that errors are never cached
+        request.setAttribute(TAG_ATTRIBUTE, tag);
+        return true;
+    }
+
+    private static boolean matches(HttpServletRequest request, String etag) {
+        String opaqueTag = etag.substring(2);
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                // weak comparison, as both sides are compared without their W/ prefix
+                if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAllowed(HandlerMethod method) {
+        Secured secured = method.getMethodAnnotation(Secured.class);
+        if (secured == null) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        List<String> required = Arrays.asList(secured.value());
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).anyMatch(required::contains);
+    }
+
+    /**
+     * The headers of a successful response of an endpoint marked with {@link ConditionalGet}.
+     */
+    record ResponseTag(String etag, String cacheControl) {
+
+        void applyTo(HttpServletResponse response) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            // a cached response of one user is never handed to another
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package at.ac.tuwien.sepr.groupphase.backend.config;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the conflicts reported by the services, tagged with the service and method that first reported them.
+ * Every service method that declares a {@link ConflictException} is counted, so new services need nothing to be added.
+ */
+@Aspect
+@Component
+public class ConflictMetricsAspect {
+    private final MeterRegistry meterRegistry;
+    // a conflict passes through every service on its way out, but is only counted where it came from;
+    // the depth of the nested counted calls on this thread; removed once the outermost call returns,
+    // so pooled threads do not keep the last conflict around
+    private final ThreadLocal<Calls> calls = ThreadLocal.withInitial(Calls::new);
+
+    public ConflictMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* at.ac.tuwien.sepr.groupphase.backend.service..*(..) "
+        + "throws at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException)")
+    public Object countConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        Calls current = calls.get();
+        current.depth++;
+        try {
+            return joinPoint.proceed();
+        } catch (ConflictException conflict) {
+            if (current.lastCounted != conflict) {
+                current.lastCounted = conflict;
+                Counter.builder("app.conflicts")
+                    .description("Requests turned away because they conflict with the current state")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .register(meterRegistry)
+                    .increment();
+            }
+            throw conflict;
+        } finally {
+            if (--current.depth == 0) {
+                calls.remove();
+            }
+        }
+    }
+
+    /**
+     * The counted service calls running on a thread, nested in each other.
+     */
+    private static final class Calls {
+        private int depth;
+        private ConflictException lastCounted;
+    }
+}
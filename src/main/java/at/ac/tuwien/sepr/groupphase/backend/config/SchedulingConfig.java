@@ -0,0 +1,12 @@
+package at.ac.tuwien.sepr.groupphase.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled background jobs, such as releasing expired cart holds.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -55,6 +55,7 @@ public class SecurityPropertiesConfig {
         private String issuer;
         private String audience;
         private Long expirationTime;
+        private int verifiedTokenCacheSize = 10_000;
 
         public String getSecret() {
             return secret;
@@ -95,5 +96,13 @@ public class SecurityPropertiesConfig {
         public void setExpirationTime(Long expirationTime) {
             this.expirationTime = expirationTime;
         }
+
+        public int getVerifiedTokenCacheSize() {
+            return verifiedTokenCacheSize;
+        }
+
+        public void setVerifiedTokenCacheSize(int verifiedTokenCacheSize) {
+            this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+        }
     }
 }
@@ -0,0 +1,47 @@
+package at.ac.tuwien.sepr.groupphase.backend.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * How clients may cache the responses of the catalog endpoints.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheProperties {
+    private static final String DEFAULT_POLICY = "default";
+    private static final String DEFAULT_CACHE_CONTROL = "private, no-cache";
+
+    private boolean enabled = true;
+    private Map<String, String> cacheControl = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, String> getCacheControl() {
+        return cacheControl;
+    }
+
+    public void setCacheControl(Map<String, String> cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * Gets the Cache-Control header of a policy.
+     *
+     * @param policy the name of the policy
+     * @return the header of the policy, or of the default policy if it has none
+     */
+    public String cacheControlOf(String policy) {
+        String value = cacheControl.get(policy);
+        return value != null ? value : cacheControl.getOrDefault(DEFAULT_POLICY, DEFAULT_CACHE_CONTROL);
+    }
+}
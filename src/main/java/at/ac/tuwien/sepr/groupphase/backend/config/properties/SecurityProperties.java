@@ -49,4 +49,8 @@ public class SecurityProperties {
         return jwt.getExpirationTime();
     }
 
+    public int getJwtVerifiedTokenCacheSize() {
+        return jwt.getVerifiedTokenCacheSize();
+    }
+
 }
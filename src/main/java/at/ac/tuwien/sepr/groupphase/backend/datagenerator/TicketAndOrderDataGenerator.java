@@ -1,7 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.datagenerator;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.ApplicationUser;
-import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Order;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
@@ -65,8 +64,8 @@ public class TicketAndOrderDataGenerator {
 
         List<Show> shows = showRepository.findAllWithShowSectors();
         List<ApplicationUser> users = userRepository.findAll();
-        List<Show> showsToUpdate = new ArrayList<>();
-        List<Event> eventsToUpdate = new ArrayList<>();
+        Map<Long, Integer> soldSeatsPerShow = new HashMap<>();
+        Map<Long, Integer> soldSeatsPerEvent = new HashMap<>();
 
         if (shows.isEmpty() || users.isEmpty()) {
             LOGGER.error("No shows or users found in database");
@@ -114,9 +113,9 @@ public class TicketAndOrderDataGenerator {
 
         // Process both purchased tickets and reservations
         generateTickets(shows, users, random, usedSeatsMap, usedStandingCapacityPerShow,
-            numberOfOrders, true, ordersToSave, ticketsToSave, showsToUpdate, eventsToUpdate);
+            numberOfOrders, true, ordersToSave, ticketsToSave, soldSeatsPerShow, soldSeatsPerEvent);
         generateTickets(shows, users, random, usedSeatsMap, usedStandingCapacityPerShow,
-            numberOfReservations, false, ordersToSave, ticketsToSave, showsToUpdate, eventsToUpdate);
+            numberOfReservations, false, ordersToSave, ticketsToSave, soldSeatsPerShow, soldSeatsPerEvent);
 
         // Batch save all entities
         LOGGER.debug("Saving {} orders", ordersToSave.size());
@@ -125,11 +124,11 @@ public class TicketAndOrderDataGenerator {
         LOGGER.debug("Saving {} tickets", ticketsToSave.size());
         ticketRepository.saveAll(ticketsToSave);
 
-        LOGGER.debug("Updating {} shows", showsToUpdate.size());
-        showRepository.saveAll(showsToUpdate);
+        LOGGER.debug("Updating {} shows", soldSeatsPerShow.size());
+        soldSeatsPerShow.forEach(showRepository::incrementSoldSeats);
 
-        LOGGER.debug("Updating {} events", eventsToUpdate.size());
-        eventRepository.saveAll(eventsToUpdate);
+        LOGGER.debug("Updating {} events", soldSeatsPerEvent.size());
+        soldSeatsPerEvent.forEach(eventRepository::incrementSoldSeats);
     }
 
     private void generateTickets(List<Show> shows, List<ApplicationUser> users, Random random,
@@ -137,7 +136,7 @@ public class TicketAndOrderDataGenerator {
                                Map<Show, Map<StandingSector, Integer>> usedStandingCapacityPerShow,
                                int count, boolean forPurchase,
                                List<Order> ordersToSave, List<Ticket> ticketsToSave,
-                               List<Show> showsToUpdate, List<Event> eventsToUpdate) {
+                               Map<Long, Integer> soldSeatsPerShow, Map<Long, Integer> soldSeatsPerEvent) {
 
         for (int i = 0; i < count; i++) {
             Show show = shows.get(random.nextInt(shows.size()));
@@ -223,17 +222,10 @@ public class TicketAndOrderDataGenerator {
 
                     // Update soldSeats counters only for purchased tickets
                     int ticketCount = orderTickets.size();
-                    show.setSoldSeats(show.getSoldSeats() + ticketCount);
-                    if (!showsToUpdate.contains(show)) {
-                        showsToUpdate.add(show);
-                    }
+                    soldSeatsPerShow.merge(show.getId(), ticketCount, Integer::sum);
 
                     if (show.getEvent() != null) {
-                        Event event = show.getEvent();
-                        event.setSoldSeats(event.getSoldSeats() + ticketCount);
-                        if (!eventsToUpdate.contains(event)) {
-                            eventsToUpdate.add(event);
-                        }
+                        soldSeatsPerEvent.merge(show.getEvent().getId(), ticketCount, Integer::sum);
                     }
 
                     for (Ticket ticket : orderTickets) {
@@ -5,13 +5,16 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.ArtistInquiryDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleArtistDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.ArtistMapper;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.service.ArtistService;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent.Catalog;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 
 import jakarta.validation.Valid;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -34,23 +38,35 @@ public class ArtistEndpoint {
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final ArtistService artistService;
     private final ArtistMapper artistMapper;
+    private final JsonListWriter jsonListWriter;
 
     @Autowired
-    public ArtistEndpoint(ArtistService artistService, ArtistMapper artistMapper) {
+    public ArtistEndpoint(ArtistService artistService, ArtistMapper artistMapper, JsonListWriter jsonListWriter) {
         this.artistService = artistService;
         this.artistMapper = artistMapper;
+        this.jsonListWriter = jsonListWriter;
     }
 
     @Secured("ROLE_USER")
     @GetMapping
+    @ConditionalGet(value = Catalog.ARTISTS, policy = "artists")
     @Operation(summary = "Get list of artists without details", security = @SecurityRequirement(name = "apiKey"))
-    public List<SimpleArtistDto> findAll() {
-        LOGGER.info("GET /api/v1/artists");
-        return artistMapper.artistToSimpleArtistDto(artistService.findAll());
+    public ResponseEntity<StreamingResponseBody> findAll(@RequestParam(name = "limit", required = false) Integer limit,
+                                                         @RequestParam(name = "cursor", required = false) String cursor) throws ValidationException {
+        LOGGER.info("GET /api/v1/artists limit={}", limit);
+        if (limit == null) {
+            return jsonListWriter.stream(artistService::streamAll, artistMapper::artistToSimpleArtistDto);
+        }
+        int size = jsonListWriter.limit(limit);
+        JsonListWriter.Cursor after = jsonListWriter.cursor(cursor, 1);
+        Long afterId = after.id(0);
+        return jsonListWriter.writePage(() -> artistService.findAllAfter(afterId, size), size,
+            artistMapper::artistToSimpleArtistDto, artist -> List.of(artist.getId()));
     }
 
     @Secured("ROLE_USER")
     @GetMapping(value = "/{id}")
+    @ConditionalGet(value = {Catalog.ARTISTS, Catalog.SHOWS}, policy = "artists")
     @Operation(summary = "Get detailed information about a specific artist", security = @SecurityRequirement(name = "apiKey"))
     public DetailedArtistDto find(@PathVariable(name = "id") Long id) {
         LOGGER.info("GET /api/v1/artists/{}", id);
@@ -81,6 +97,7 @@ public class ArtistEndpoint {
 
     @Secured("ROLE_ADMIN")
     @GetMapping(value = "/search")
+    @ConditionalGet(value = Catalog.ARTISTS, policy = "artists")
     @Operation(summary = "Search for artists by name", security = @SecurityRequirement(name = "apiKey"))
     public List<SimpleArtistDto> searchArtists(@RequestParam(name = "search") String query) {
         LOGGER.info("GET /api/v1/artists/search?search={}", query);
@@ -89,6 +106,7 @@ public class ArtistEndpoint {
 
     @Secured("ROLE_USER")
     @GetMapping(value = "/filter")
+    @ConditionalGet(value = Catalog.ARTISTS, policy = "artists")
     @Operation(summary = "Search for artists by name", security = @SecurityRequirement(name = "apiKey"))
     public List<SimpleArtistDto> filterArtists(@RequestParam(name = "name", required = false) String query) {
         LOGGER.info("GET /api/v1/artists?filter={}", query);
@@ -0,0 +1,30 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint;
+
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET endpoint whose response only depends on the given catalogs.
+ * The response is tagged with the current versions of the catalogs, and a request that already holds that tag
+ * is answered with 304 Not Modified before the endpoint runs.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /**
+     * The catalogs the response is read from.
+     */
+    CatalogChangedEvent.Catalog[] value();
+
+    /**
+     * The name of the {@code app.http-cache.cache-control} entry that holds the Cache-Control header of the response.
+     */
+    String policy();
+}
@@ -5,6 +5,10 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.EventInquiryDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SearchEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.EventMapper;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent.Catalog;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventLeaderboard;
 import at.ac.tuwien.sepr.groupphase.backend.service.EventService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,6 +17,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -24,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
 
@@ -40,24 +46,42 @@ public class EventEndpoint {
 
     private final EventMapper eventMapper;
     private final EventService eventService;
+    private final CatalogCache catalogCache;
+    private final EventLeaderboard eventLeaderboard;
+    private final JsonListWriter jsonListWriter;
 
     @Autowired
-    public EventEndpoint(EventMapper eventMapper, EventService eventService) {
+    public EventEndpoint(EventMapper eventMapper, EventService eventService, CatalogCache catalogCache,
+                         EventLeaderboard eventLeaderboard, JsonListWriter jsonListWriter) {
         this.eventMapper = eventMapper;
+        this.catalogCache = catalogCache;
+        this.eventLeaderboard = eventLeaderboard;
         this.eventService = eventService;
+        this.jsonListWriter = jsonListWriter;
     }
 
 
     @Secured("ROLE_USER")
     @GetMapping
+    @ConditionalGet(value = Catalog.EVENTS, policy = "events")
     @Operation(summary = "Get list of events without details", security = @SecurityRequirement(name = "apiKey"))
-    public List<SimpleEventDto> findAll() {
-        LOGGER.info("GET /api/v1/events");
-        return eventMapper.eventToSimpleEventDto(eventService.findAll());
+    public ResponseEntity<StreamingResponseBody> findAll(@RequestParam(name = "limit", required = false) Integer limit,
+                                                         @RequestParam(name = "cursor", required = false) String cursor) throws ValidationException {
+        LOGGER.info("GET /api/v1/events limit={}", limit);
+        if (limit == null) {
+            return jsonListWriter.write(catalogCache.getEvents());
+        }
+        int size = jsonListWriter.limit(limit);
+        JsonListWriter.Cursor after = jsonListWriter.cursor(cursor, 2);
+        Integer afterSoldSeats = after.integer(0);
+        Long afterId = after.id(1);
+        return jsonListWriter.writePage(() -> eventService.findAllAfter(afterSoldSeats, afterId, size), size,
+            eventMapper::eventListItemToSimpleEventDto, event -> List.of(event.soldSeats(), event.id()));
     }
 
     @Secured("ROLE_USER")
     @GetMapping(value = "/filter")
+    @ConditionalGet(value = Catalog.EVENTS, policy = "events")
     @Operation(summary = "Get all the events matching the filter", security = @SecurityRequirement(name = "apiKey"))
     public List<SimpleEventDto> findAllWithFilter(SearchEventDto searchEventDto) {
         LOGGER.info("GET /api/v1/events with filter {}", searchEventDto);
@@ -67,6 +91,7 @@ public class EventEndpoint {
 
     @Secured("ROLE_USER")
     @GetMapping(value = "/{id}")
+    @ConditionalGet(value = {Catalog.EVENTS, Catalog.SHOWS}, policy = "events")
     @Transactional
     @Operation(summary = "Get detailed information about a specific event", security = @SecurityRequirement(name = "apiKey"))
     public DetailedEventDto find(@PathVariable(name = "id") Long id) {
@@ -77,10 +102,11 @@ public class EventEndpoint {
 
     @Secured("ROLE_USER")
     @GetMapping("/top-ten")
+    @ConditionalGet(value = Catalog.EVENTS, policy = "events")
     @Operation(summary = "Get list of top 10 events without details by sold seats", security = @SecurityRequirement(name = "apiKey"))
     public List<SimpleEventDto> findTop10(@RequestParam(value = "type", required = false) String eventType) {
         LOGGER.info("GET /api/v1/events/top-ten with type {}", eventType);
-        return eventMapper.eventToSimpleEventDto(eventService.findTop10BySoldSeats(eventType));
+        return eventLeaderboard.getTopTen(eventType);
     }
 
 
@@ -2,16 +2,22 @@ package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.HallDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.HallInquiryDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatMapLayoutDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SectorDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.StandingSectorDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.HallMapper;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent.Catalog;
 import at.ac.tuwien.sepr.groupphase.backend.service.HallService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatMapService;
 import io.swagger.v3.oas.annotations.Operation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -22,7 +28,6 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.access.annotation.Secured;
 
 import java.lang.invoke.MethodHandles;
@@ -40,29 +45,44 @@ public class HallEndpoint {
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final HallService hallService;
     private final HallMapper hallMapper;
+    private final SeatMapService seatMapService;
     private final AtomicLong sectorIdCounter = new AtomicLong(0);
 
     @Autowired
-    public HallEndpoint(HallService hallService, HallMapper hallMapper) {
+    public HallEndpoint(HallService hallService, HallMapper hallMapper, SeatMapService seatMapService) {
         this.hallService = hallService;
         this.hallMapper = hallMapper;
+        this.seatMapService = seatMapService;
     }
 
     @Secured("ROLE_USER")
     @GetMapping
-    @Transactional(readOnly = true)
+    @ConditionalGet(value = Catalog.HALLS, policy = "halls")
     @Operation(summary = "Get all halls")
     public List<HallDto> getHalls() {
-        return hallMapper.hallToHallDto(hallService.findAll());
+        return hallMapper.hallLayoutToHallDto(hallService.findAllLayouts());
     }
 
     @Secured("ROLE_USER")
     @GetMapping("/{id}")
-    @Transactional(readOnly = true)
+    @ConditionalGet(value = Catalog.HALLS, policy = "halls")
     @Operation(summary = "Get specific hall")
     public HallDto getHall(@PathVariable("id") Long id) {
         LOGGER.info("Endpoint Layer: GET /api/v1/halls/{}", id);
-        return hallMapper.hallToHallDto(hallService.findOne(id));
+        return hallMapper.hallLayoutToHallDto(hallService.findLayout(id));
+    }
+
+    @Secured("ROLE_USER")
+    @GetMapping("/{id}/layout")
+    @Operation(summary = "Get the seat map layout of a hall")
+    public ResponseEntity<SeatMapLayoutDto> getLayout(@PathVariable("id") Long id) {
+        LOGGER.info("GET /api/v1/halls/{}/layout", id);
+        SeatMapLayoutDto layout = seatMapService.getLayout(id);
+        // the version tag lets clients revalidate their copy with a 304 instead of downloading every seat again
+        return ResponseEntity.ok()
+            .eTag("layout-" + layout.hallId() + "-" + layout.version())
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(layout);
     }
 
     @Secured("ROLE_ADMIN")
@@ -78,8 +98,8 @@ public class HallEndpoint {
             hallInquiryDto.getSectors());
 
         LOGGER.info("Mapped HallDto: {}", hallMapper.hallInquiryDtoToHallDto(hallInquiryDto));
-        HallDto result =  hallMapper.hallToHallDto(
-            hallService.createHall(hallMapper.hallInquiryDtoToHallDto(hallInquiryDto)));
+        Hall hall = hallService.createHall(hallMapper.hallInquiryDtoToHallDto(hallInquiryDto));
+        HallDto result = hallMapper.hallLayoutToHallDto(hallService.findLayout(hall.getId()));
 
         LOGGER.info("Created HallDto: {}", result);
         return result;
@@ -88,7 +108,6 @@ public class HallEndpoint {
     @Secured("ROLE_ADMIN")
     @PutMapping("/{id}")
     @Operation(summary = "Update an existing hall")
-    @Transactional
     public HallDto updateHall(@PathVariable("id") Long id, @Valid @RequestBody HallInquiryDto hallInquiryDto) throws ValidationException {
         LOGGER.info("PUT /api/v1/halls/{} body: {}", id, hallInquiryDto);
         HallDto hallDto = hallMapper.hallInquiryDtoToHallDto(hallInquiryDto);
@@ -137,7 +156,8 @@ public class HallEndpoint {
                 .collect(Collectors.toList()) : null
         );
 
-        return hallMapper.hallToHallDto(hallService.updateHall(hallDto));
+        Hall hall = hallService.updateHall(hallDto);
+        return hallMapper.hallLayoutToHallDto(hallService.findLayout(hall.getId()));
     }
 
     @Secured("ROLE_ADMIN")
@@ -150,6 +170,7 @@ public class HallEndpoint {
 
     @Secured("ROLE_USER")
     @GetMapping("/seats")
+    @ConditionalGet(value = Catalog.HALLS, policy = "halls")
     @Operation(summary = "Get seats by IDs")
     public List<SeatDto> getSeatsByIds(@RequestParam("seats") List<Long> seatIds) {
         LOGGER.info("GET /api/v1/halls/seats?ids={}", seatIds);
@@ -158,6 +179,7 @@ public class HallEndpoint {
 
     @Secured("ROLE_USER")
     @GetMapping("/sectors")
+    @ConditionalGet(value = Catalog.HALLS, policy = "halls")
     @Operation(summary = "Get sectors by IDs")
     public List<SectorDto> getSectorsByIds(@RequestParam("sectors") List<Long> sectorIds) {
         LOGGER.info("GET /api/v1/halls/sectors?ids={}", sectorIds);
@@ -0,0 +1,231 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes list responses element by element as a JSON array, so that long lists are never held in memory as a whole.
+ * The responses are written after the request thread has been handed back, so a slow client does not hold on to it.
+ * Lists are paginated by keyset once the client asks for a {@code limit}. A full page carries the opaque cursor
+ * of the next page in the {@value #NEXT_CURSOR_HEADER} header, which the client passes back as {@code cursor}.
+ * As the status is sent before the first element, a failure while writing aborts the connection
+ * instead of ending the array, so that the client does not take a truncated list for the whole one.
+ */
+@Component
+class JsonListWriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int MAX_LIMIT = 500;
+    // entities already written are let go of in batches, so that a long stream does not pile up in the session
+    private static final int CLEAR_EVERY = 100;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnly;
+
+    JsonListWriter(ObjectMapper objectMapper, EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    /**
+     * Writes elements that are already loaded, like a cached list, as a JSON array.
+     *
+     * @param elements the elements to write
+     * @return the response writing the elements
+     */
+    ResponseEntity<StreamingResponseBody> write(List<?> elements) {
+        return json(null, out -> writeArray(out, elements.iterator(), element -> element, false));
+    }
+
+    /**
+     * Streams entities as a JSON array. The stream is opened, read and closed within a read-only transaction
+     * of its own while the response is written.
+     *
+     * @param elements opens the stream of entities
+     * @param toDto maps an element to what is written
+     * @return the response writing the elements
+     */
+    <T> ResponseEntity<StreamingResponseBody> stream(Supplier<Stream<T>> elements, Function<T, ?> toDto) {
+        return json(null, out -> {
+            try {
+                readOnly.executeWithoutResult(status -> {
+                    try (Stream<T> stream = elements.get()) {
+                        writeArray(out, stream.iterator(), toDto, true);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * Writes a page of a keyset paginated list, with the cursor of the next page if the page is full.
+     * The page is loaded and mapped within a read-only transaction before the request thread is handed back.
+     *
+     * @param page loads the elements of the page
+     * @param limit the requested page size
+     * @param toDto maps an element to what is written
+     * @param keyOf the sort key of an element, which the next page follows
+     * @return the response writing the page
+     */
+    <T> ResponseEntity<StreamingResponseBody> writePage(Supplier<List<T>> page, int limit, Function<T, ?> toDto,
+                                                        Function<T, List<?>> keyOf) {
+        Page loaded = readOnly.execute(status -> {
+            List<T> elements = page.get();
+            String next = null;
+            if (elements.size() == limit) {
+                String key = keyOf.apply(elements.getLast()).stream().map(String::valueOf).collect(Collectors.joining("\n"));
+                next = Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return new Page(elements.stream().map(toDto).toList(), next);
+        });
+        return json(loaded.nextCursor(), out -> writeArray(out, loaded.dtos().iterator(), dto -> dto, false));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> json(String nextCursor, StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(out -> {
+            try {
+                body.writeTo(out);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to write list response, aborting it", e);
+                // wrapped, so that no exception handler answers it on the committed response and the container
+                // closes the connection instead of finishing the response
+                throw new IllegalStateException("List response aborted", e);
+            }
+        });
+    }
+
+    private <T> void writeArray(OutputStream out, Iterator<T> elements, Function<T, ?> toDto, boolean entities)
+        throws IOException {
+        // the response stream is closed by the container once the body is written,
+        // and the array is only ended once every element is written
+        try (JsonGenerator generator = objectMapper.createGenerator(StreamUtils.nonClosing(out))
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+            generator.writeStartArray();
+            for (int written = 1; elements.hasNext(); written++) {
+                generator.writeObject(toDto.apply(elements.next()));
+                if (entities && written % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Checks the requested page size.
+     *
+     * @param limit the requested page size
+     * @return the page size, at most {@value #MAX_LIMIT}
+     * @throws ValidationException if the limit is not positive
+     */
+    int limit(int limit) throws ValidationException {
+        if (limit < 1) {
+            throw new ValidationException("Invalid page size", List.of("limit must be at least 1"));
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Decodes the cursor handed out with the previous page.
+     *
+     * @param cursor the cursor, or null for the first page
+     * @param keys the number of keys the cursor has to hold
+     * @return the cursor, whose keys are all null for the first page
+     * @throws ValidationException if the cursor was not handed out for this list
+     */
+    Cursor cursor(String cursor, int keys) throws ValidationException {
+        if (cursor == null) {
+            return new Cursor(new String[keys]);
+        }
+        try {
+            String[] decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\n", -1);
+            if (decoded.length == keys) {
+                return new Cursor(decoded);
+            }
+        } catch (IllegalArgumentException e) {
+            // not base64, reported below
+        }
+        throw invalidCursor();
+    }
+
+    private static ValidationException invalidCursor() {
+        return new ValidationException("Invalid cursor", List.of("cursor does not belong to this list"));
+    }
+
+    private record Page(List<?> dtos, String nextCursor) {
+    }
+
+    /**
+     * The sort key of the last element of the previous page.
+     */
+    record Cursor(String[] keys) {
+
+        Long id(int index) throws ValidationException {
+            return parse(index, Long::valueOf);
+        }
+
+        Integer integer(int index) throws ValidationException {
+            return parse(index, Integer::valueOf);
+        }
+
+        LocalDate date(int index) throws ValidationException {
+            return parse(index, LocalDate::parse);
+        }
+
+        LocalTime time(int index) throws ValidationException {
+            return parse(index, LocalTime::parse);
+        }
+
+        LocalDateTime dateTime(int index) throws ValidationException {
+            return parse(index, LocalDateTime::parse);
+        }
+
+        private <V> V parse(int index, Function<String, V> parser) throws ValidationException {
+            if (keys[index] == null) {
+                return null;
+            }
+            try {
+                return parser.apply(keys[index]);
+            } catch (RuntimeException e) {
+                throw invalidCursor();
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.UserLoginDto;
+import at.ac.tuwien.sepr.groupphase.backend.service.LoginRateLimiter;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
 import jakarta.annotation.security.PermitAll;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -13,14 +15,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class LoginEndpoint {
 
     private final UserService userService;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public LoginEndpoint(UserService userService) {
+    public LoginEndpoint(UserService userService, LoginRateLimiter loginRateLimiter) {
         this.userService = userService;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PermitAll
     @PostMapping
-    public String login(@RequestBody UserLoginDto userLoginDto) {
+    public String login(@RequestBody UserLoginDto userLoginDto, HttpServletRequest request) {
+        // attempts over the limit are turned away before the user is read or a password is hashed;
+        // behind the proxy, the remote address is the client from X-Forwarded-For (see server.forward-headers-strategy)
+        loginRateLimiter.acquire(request.getRemoteAddr(), userLoginDto.getEmail());
         return userService.login(userLoginDto);
     }
 }
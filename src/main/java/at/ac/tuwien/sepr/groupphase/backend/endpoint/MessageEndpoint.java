@@ -2,9 +2,9 @@ package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.DetailedMessageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.MessageInquiryDto;
-import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleMessageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.MessageMapper;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.UserMapper;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
 import at.ac.tuwien.sepr.groupphase.backend.service.MessageService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,18 +13,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 
 import jakarta.validation.Valid;
 import java.lang.invoke.MethodHandles;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(value = "/api/v1/messages")
@@ -33,19 +37,31 @@ public class MessageEndpoint {
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final MessageService messageService;
     private final MessageMapper messageMapper;
+    private final JsonListWriter jsonListWriter;
 
     @Autowired
-    public MessageEndpoint(MessageService messageService, MessageMapper messageMapper, UserMapper userMapper, UserService userService) {
+    public MessageEndpoint(MessageService messageService, MessageMapper messageMapper, UserMapper userMapper, UserService userService,
+                           JsonListWriter jsonListWriter) {
         this.messageService = messageService;
         this.messageMapper = messageMapper;
+        this.jsonListWriter = jsonListWriter;
     }
 
     @Secured("ROLE_USER")
     @GetMapping
     @Operation(summary = "Get list of messages without details", security = @SecurityRequirement(name = "apiKey"))
-    public List<SimpleMessageDto> findAll() {
-        LOGGER.info("GET /api/v1/messages");
-        return messageMapper.messageToSimpleMessageDto(messageService.findAll());
+    public ResponseEntity<StreamingResponseBody> findAll(@RequestParam(name = "limit", required = false) Integer limit,
+                                                         @RequestParam(name = "cursor", required = false) String cursor) throws ValidationException {
+        LOGGER.info("GET /api/v1/messages limit={}", limit);
+        if (limit == null) {
+            return jsonListWriter.stream(messageService::streamAll, messageMapper::messageToSimpleMessageDto);
+        }
+        int size = jsonListWriter.limit(limit);
+        JsonListWriter.Cursor after = jsonListWriter.cursor(cursor, 2);
+        LocalDateTime afterPublishedAt = after.dateTime(0);
+        Long afterId = after.id(1);
+        return jsonListWriter.writePage(() -> messageService.findAllAfter(afterPublishedAt, afterId, size), size,
+            messageMapper::messageToSimpleMessageDto, message -> List.of(message.getPublishedAt(), message.getId()));
     }
 
     @Secured("ROLE_USER")
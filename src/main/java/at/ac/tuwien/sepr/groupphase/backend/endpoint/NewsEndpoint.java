@@ -2,9 +2,10 @@ package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.DetailedNewsDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.NewsInquiryDto;
-import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleNewsDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.NewsMapper;
 import at.ac.tuwien.sepr.groupphase.backend.entity.News;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent.Catalog;
 import at.ac.tuwien.sepr.groupphase.backend.service.ImageService;
 import at.ac.tuwien.sepr.groupphase.backend.service.NewsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,17 +14,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 
 import jakarta.validation.Valid;
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -31,6 +35,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import org.springframework.web.multipart.MultipartFile;
 
@@ -42,25 +47,39 @@ public class NewsEndpoint {
     private final NewsService newsService;
     private final ImageService imageService;
     private final NewsMapper newsMapper;
+    private final JsonListWriter jsonListWriter;
 
     @Autowired
-    public NewsEndpoint(NewsService newsService, NewsMapper newsMapper, ImageService imageService) {
+    public NewsEndpoint(NewsService newsService, NewsMapper newsMapper, ImageService imageService,
+                        JsonListWriter jsonListWriter) {
         this.newsService = newsService;
         this.newsMapper = newsMapper;
         this.imageService = imageService;
+        this.jsonListWriter = jsonListWriter;
     }
 
     @Secured({"ROLE_USER", "ROLE_ADMIN"})
     @GetMapping
+    @ConditionalGet(value = Catalog.NEWS, policy = "news")
     @Operation(summary = "Get list of news without details", security = @SecurityRequirement(name = "apiKey"))
-    public List<SimpleNewsDto> findAll() {
-        LOGGER.info("GET /api/v1/news");
-        return newsMapper.newsToSimpleNewsDto(newsService.findAll());
+    public ResponseEntity<StreamingResponseBody> findAll(@RequestParam(name = "limit", required = false) Integer limit,
+                                                         @RequestParam(name = "cursor", required = false) String cursor) throws ValidationException {
+        LOGGER.info("GET /api/v1/news limit={}", limit);
+        if (limit == null) {
+            return jsonListWriter.stream(newsService::streamAll, newsMapper::newsToSimpleNewsDto);
+        }
+        int size = jsonListWriter.limit(limit);
+        JsonListWriter.Cursor after = jsonListWriter.cursor(cursor, 2);
+        LocalDateTime afterPublishedAt = after.dateTime(0);
+        Long afterId = after.id(1);
+        return jsonListWriter.writePage(() -> newsService.findAllAfter(afterPublishedAt, afterId, size), size,
+            newsMapper::newsToSimpleNewsDto, news -> List.of(news.getPublishedAt(), news.getId()));
     }
 
     @Transactional
     @Secured({"ROLE_USER", "ROLE_ADMIN"})
     @GetMapping(value = "/{id}")
+    @ConditionalGet(value = Catalog.NEWS, policy = "news")
     @Operation(summary = "Get detailed information about a specific news", security = @SecurityRequirement(name = "apiKey"))
     public DetailedNewsDto find(@PathVariable(name = "id") Long id) {
         LOGGER.info("GET /api/v1/news/{}", id);
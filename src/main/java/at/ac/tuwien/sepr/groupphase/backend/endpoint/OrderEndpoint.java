@@ -11,7 +11,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -21,13 +28,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
-import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.FatalException;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -37,10 +45,13 @@ public class OrderEndpoint {
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final OrderService orderService;
     private final OrderMapper orderMapper;
+    private final Duration invoicePollInterval;
 
-    public OrderEndpoint(OrderService orderService, OrderMapper orderMapper) {
+    public OrderEndpoint(OrderService orderService, OrderMapper orderMapper,
+                         @Value("${app.invoices.poll-interval:PT5S}") Duration invoicePollInterval) {
         this.orderService = orderService;
         this.orderMapper = orderMapper;
+        this.invoicePollInterval = invoicePollInterval;
     }
 
     @Secured("ROLE_USER")
@@ -112,43 +123,50 @@ public class OrderEndpoint {
     @Secured("ROLE_USER")
     @GetMapping("/{orderId}/pdf")
     @Operation(summary = "Get PDF for an order", security = @SecurityRequirement(name = "apiKey"))
-    public void getOrderPdf(
+    public ResponseEntity<Resource> getOrderPdf(
         @PathVariable Long orderId,
-        @RequestParam Long userId,
-        HttpServletResponse response) throws NotFoundException, ConflictException {
+        @RequestParam Long userId) throws NotFoundException, ConflictException {
         LOGGER.info("GET /api/v1/orders/{}/pdf", orderId);
 
-        response.setContentType("application/pdf");
-        response.setHeader("Content-Disposition", "attachment; filename=\"order-" + orderId + ".pdf\"");
-
-        try {
-            byte[] pdfBytes = orderService.getOrderPdf(orderId, userId);
-            response.getOutputStream().write(pdfBytes);
-            response.getOutputStream().flush();
-        } catch (IOException e) {
-            throw new FatalException("Failed to write PDF to response", e);
+        Optional<Resource> pdf = orderService.getOrderPdf(orderId, userId);
+        if (pdf.isEmpty()) {
+            // The invoice is still being rendered, so ask the client to come back
+            return ResponseEntity.accepted()
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, invoicePollInterval.toSeconds())))
+                .build();
         }
+        return pdfResponse(pdf.get(), "order-" + orderId + ".pdf");
     }
 
     @Secured("ROLE_USER")
     @GetMapping("/cancellation-invoice/{invoiceId}/pdf")
     @Operation(summary = "Get PDF for a cancellation invoice", security = @SecurityRequirement(name = "apiKey"))
-    public void getCancellationInvoicePdf(
+    public ResponseEntity<Resource> getCancellationInvoicePdf(
         @PathVariable Long invoiceId,
-        @RequestParam Long userId,
-        HttpServletResponse response) throws NotFoundException, ConflictException {
+        @RequestParam Long userId) throws NotFoundException, ConflictException {
         LOGGER.info("GET /api/v1/orders/cancellation-invoice/{}/pdf", invoiceId);
-        
-        response.setContentType("application/pdf");
-        response.setHeader("Content-Disposition", 
-            "attachment; filename=\"cancellation-invoice-" + invoiceId + ".pdf\"");
-        
+        return pdfResponse(orderService.getCancellationInvoicePdf(invoiceId, userId),
+            "cancellation-invoice-" + invoiceId + ".pdf");
+    }
+
+    /**
+     * Serves a stored PDF file. The file is streamed from disk, Range requests are answered with
+     * the requested parts only, and a matching If-None-Match gets a 304 without the file being read.
+     */
+    private ResponseEntity<Resource> pdfResponse(Resource pdf, String filename) {
         try {
-            byte[] pdfBytes = orderService.getCancellationInvoicePdf(invoiceId, userId);
-            response.getOutputStream().write(pdfBytes);
-            response.getOutputStream().flush();
+            long length = pdf.contentLength();
+            long lastModified = pdf.lastModified();
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                // the stored invoices are only ever replaced as a whole, which changes their size or modification time
+                .eTag(Long.toHexString(length) + "-" + Long.toHexString(lastModified))
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(pdf);
         } catch (IOException e) {
-            throw new FatalException("Failed to write PDF to response", e);
+            throw new FatalException("Failed to read PDF", e);
         }
     }
 
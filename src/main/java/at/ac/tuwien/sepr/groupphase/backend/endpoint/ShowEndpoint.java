@@ -2,12 +2,19 @@ package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.DetailedShowDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SearchShowDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatMapOccupancyDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.ShowInquiryDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.ShowSectorDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleShowDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.HallMapper;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.ShowMapper;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent.Catalog;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatMapService;
 import at.ac.tuwien.sepr.groupphase.backend.service.ShowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -15,20 +22,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.validation.Valid;
 import java.lang.invoke.MethodHandles;
+import java.time.LocalTime;
 import java.time.LocalDate;
 import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -40,24 +52,47 @@ public class ShowEndpoint {
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final ShowService showService;
     private final ShowMapper showMapper;
+    private final CatalogCache catalogCache;
+    private final JsonListWriter jsonListWriter;
+    private final SeatMapService seatMapService;
+    private final HallService hallService;
+    private final HallMapper hallMapper;
 
     @Autowired
-    public ShowEndpoint(ShowService showService, ShowMapper showMapper) {
+    public ShowEndpoint(ShowService showService, ShowMapper showMapper, CatalogCache catalogCache,
+                        JsonListWriter jsonListWriter, SeatMapService seatMapService, HallService hallService,
+                        HallMapper hallMapper) {
         this.showService = showService;
         this.showMapper = showMapper;
+        this.catalogCache = catalogCache;
+        this.jsonListWriter = jsonListWriter;
+        this.seatMapService = seatMapService;
+        this.hallService = hallService;
+        this.hallMapper = hallMapper;
     }
 
     @Secured("ROLE_USER")
     @GetMapping
+    @ConditionalGet(value = Catalog.SHOWS, policy = "shows")
     @Operation(summary = "Get list of shows without details", security = @SecurityRequirement(name = "apiKey"))
-    @Transactional(readOnly = true)
-    public List<SimpleShowDto> findAll() {
-        LOGGER.info("GET /api/v1/shows");
-        return showMapper.showToSimpleShowDto(showService.findAll());
+    public ResponseEntity<StreamingResponseBody> findAll(@RequestParam(name = "limit", required = false) Integer limit,
+                                                         @RequestParam(name = "cursor", required = false) String cursor) throws ValidationException {
+        LOGGER.info("GET /api/v1/shows limit={}", limit);
+        if (limit == null) {
+            return jsonListWriter.write(catalogCache.getShows());
+        }
+        int size = jsonListWriter.limit(limit);
+        JsonListWriter.Cursor after = jsonListWriter.cursor(cursor, 3);
+        LocalDate afterDate = after.date(0);
+        LocalTime afterTime = after.time(1);
+        Long afterId = after.id(2);
+        return jsonListWriter.writePage(() -> showService.findAllAfter(afterDate, afterTime, afterId, size), size,
+            showMapper::showListItemToSimpleShowDto, show -> List.of(show.date(), show.time(), show.id()));
     }
 
     @Secured("ROLE_USER")
     @GetMapping(value = "/filter")
+    @ConditionalGet(value = Catalog.SHOWS, policy = "shows")
     @Operation(summary = "Get all shows matching the filter", security = @SecurityRequirement(name = "apiKey"))
     public List<SimpleShowDto> findAllWithFilter(SearchShowDto searchShowDto) {
         LOGGER.info("GET /api/v1/shows with filter - name: {}, minPrice: {}, maxPrice: {}, date: {}, timeFrom: {}, timeTo: {}, eventName: {}, venueId: {}, type: {}",
@@ -75,6 +110,7 @@ public class ShowEndpoint {
 
     @Secured("ROLE_USER")
     @GetMapping("/available")
+    @ConditionalGet(value = Catalog.SHOWS, policy = "shows")
     @Operation(summary = "Get list of shows without event", security = @SecurityRequirement(name = "apiKey"))
     @Transactional(readOnly = true)
     public List<SimpleShowDto> getShowsWithoutEvent(
@@ -91,7 +127,21 @@ public class ShowEndpoint {
     @Operation(summary = "Get detailed information about a specific show", security = @SecurityRequirement(name = "apiKey"))
     public DetailedShowDto find(@PathVariable(name = "id") Long id) {
         LOGGER.info("GET /api/v1/shows/{}", id);
-        return showMapper.showToDetailedShowDto(showService.findOne(id));
+        return toDetailedShowDto(showService.findOne(id));
+    }
+
+    @Secured("ROLE_USER")
+    @GetMapping(value = "/{id}/seat-map")
+    @Operation(summary = "Get the occupied seats of a show as a bitmap over the layout of its hall",
+        security = @SecurityRequirement(name = "apiKey"))
+    public ResponseEntity<SeatMapOccupancyDto> findSeatMap(@PathVariable(name = "id") Long id) {
+        LOGGER.info("GET /api/v1/shows/{}/seat-map", id);
+        SeatMapOccupancyDto occupancy = seatMapService.getOccupancy(id);
+        // polling clients get a 304 as long as nothing was taken or given back
+        return ResponseEntity.ok()
+            .eTag(occupancy.layoutVersion() + "-" + occupancy.occupancyVersion())
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(occupancy);
     }
 
     @Secured("ROLE_ADMIN")
@@ -127,11 +177,21 @@ public class ShowEndpoint {
         Show show = showMapper.showInquiryDtoToShow(showDto);
         Show createdShow = showService.createShow(show);
 
-        return showMapper.showToDetailedShowDto(createdShow);
+        return toDetailedShowDto(createdShow);
+    }
+
+    @Secured("ROLE_ADMIN")
+    @PutMapping("/{id}/flash-sale")
+    @Operation(summary = "Turn the flash sale mode of a show on or off", security = @SecurityRequirement(name = "apiKey"))
+    public DetailedShowDto setFlashSale(@PathVariable(name = "id") Long id, @RequestParam("enabled") boolean enabled) {
+        LOGGER.info("PUT /api/v1/shows/{}/flash-sale?enabled={}", id, enabled);
+        showService.setFlashSale(id, enabled);
+        return toDetailedShowDto(showService.findOne(id));
     }
 
     @Secured("ROLE_USER")
     @GetMapping("/tickets/shows")
+    @ConditionalGet(value = Catalog.SHOWS, policy = "shows")
     @Operation(summary = "Get shows by IDs", security = @SecurityRequirement(name = "apiKey"))
     public List<SimpleShowDto> getShowsByIds(@RequestParam("ids") List<Long> showIds) {
         LOGGER.info("GET /api/v1/shows/tickets/shows?ids={}", showIds);
@@ -140,9 +200,18 @@ public class ShowEndpoint {
 
     @Secured("ROLE_USER")
     @GetMapping("/hall/{hallId}")
+    @ConditionalGet(value = Catalog.SHOWS, policy = "shows")
     @Operation(summary = "Get all shows for a specific hall")
     public List<SimpleShowDto> getShowsByHallId(@PathVariable Long hallId) {
         LOGGER.info("GET /api/v1/shows/hall/{}", hallId);
         return showMapper.showToSimpleShowDto(showService.findShowsByHallId(hallId));
     }
+
+    private DetailedShowDto toDetailedShowDto(Show show) {
+        DetailedShowDto showDto = showMapper.showToDetailedShowDto(show);
+        if (show.getHall() != null) {
+            showDto.setHall(hallMapper.hallLayoutToHallDto(hallService.findLayout(show.getHall().getId())));
+        }
+        return showDto;
+    }
 }
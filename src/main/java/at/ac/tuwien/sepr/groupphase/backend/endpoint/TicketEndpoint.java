@@ -1,6 +1,7 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.TicketDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.WaitingRoomEntryDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.TicketMapper;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import at.ac.tuwien.sepr.groupphase.backend.entity.ApplicationUser;
@@ -8,6 +9,7 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.FatalException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
+import at.ac.tuwien.sepr.groupphase.backend.service.TicketWaitingRoom;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
@@ -15,8 +17,10 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.http.HttpStatus;
@@ -33,8 +37,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -45,11 +52,13 @@ public class TicketEndpoint {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final TicketService ticketService;
+    private final TicketWaitingRoom ticketWaitingRoom;
     private final TicketMapper ticketMapper;
 
     @Autowired
-    public TicketEndpoint(TicketService ticketService, TicketMapper ticketMapper) {
+    public TicketEndpoint(TicketService ticketService, TicketWaitingRoom ticketWaitingRoom, TicketMapper ticketMapper) {
         this.ticketService = ticketService;
+        this.ticketWaitingRoom = ticketWaitingRoom;
         this.ticketMapper = ticketMapper;
     }
 
@@ -124,10 +133,41 @@ public class TicketEndpoint {
     @PostMapping("/create")
     @Operation(summary = "Create multiple tickets", security = @SecurityRequirement(name = "apiKey"))
     @ResponseStatus(HttpStatus.CREATED)
-    public List<TicketDto> createTickets(@Valid @RequestBody List<TicketDto> tickets) throws ConflictException {
+    public CompletableFuture<List<TicketDto>> createTickets(@Valid @RequestBody List<TicketDto> tickets) {
         LOGGER.info("POST /api/v1/tickets/create body: {}", tickets);
-        List<Ticket> createdTickets = ticketService.createTickets(ticketMapper.ticketDtoToTicket(tickets));
-        return ticketMapper.ticketToTicketDto(createdTickets);
+        return ticketWaitingRoom.createTickets(ticketMapper.ticketDtoToTicket(tickets))
+            .thenApply(ticketMapper::ticketToTicketDto);
+    }
+
+    @Secured("ROLE_USER")
+    @PostMapping("/waiting-room")
+    @Operation(summary = "Queue up multiple tickets for creation and poll for the result", security = @SecurityRequirement(name = "apiKey"))
+    public ResponseEntity<WaitingRoomEntryDto> enqueueTickets(Authentication authentication,
+                                                              @Valid @RequestBody List<TicketDto> tickets) {
+        LOGGER.info("POST /api/v1/tickets/waiting-room body: {}", tickets);
+        TicketWaitingRoom.Entry entry = ticketWaitingRoom.enqueue(ticketMapper.ticketDtoToTicket(tickets), authentication.getName());
+        WaitingRoomEntryDto dto = ticketMapper.waitingRoomEntryToDto(entry);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/tickets/waiting-room/" + entry.id()))
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, dto.estimatedWaitSeconds())))
+            .body(dto);
+    }
+
+    @Secured("ROLE_USER")
+    @GetMapping("/waiting-room/{id}")
+    @Operation(summary = "Get the position in line or the created tickets of a queued ticket creation",
+        security = @SecurityRequirement(name = "apiKey"))
+    public ResponseEntity<WaitingRoomEntryDto> getWaitingRoomEntry(Authentication authentication, @PathVariable UUID id)
+        throws ConflictException {
+        LOGGER.info("GET /api/v1/tickets/waiting-room/{}", id);
+        TicketWaitingRoom.Entry entry = ticketWaitingRoom.getEntry(id, authentication.getName());
+        WaitingRoomEntryDto dto = ticketMapper.waitingRoomEntryToDto(entry);
+        if (entry.state() == TicketWaitingRoom.State.DONE) {
+            return ResponseEntity.ok(dto);
+        }
+        return ResponseEntity.ok()
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, dto.estimatedWaitSeconds())))
+            .body(dto);
     }
 
     @Secured("ROLE_USER")
@@ -148,4 +188,41 @@ public class TicketEndpoint {
             throw new FatalException("Failed to write PDF to response", e);
         }
     }
+
+    @Secured("ROLE_USER")
+    @GetMapping("/order/{orderId}/pdf")
+    @Operation(summary = "Generate one PDF with all tickets of an order", security = @SecurityRequirement(name = "apiKey"))
+    public void generateOrderTicketsPdf(
+        @PathVariable Long orderId,
+        @RequestParam Long userId,
+        HttpServletResponse response) throws NotFoundException, ConflictException {
+        LOGGER.info("GET /api/v1/tickets/order/{}/pdf", orderId);
+        writeTicketBundle(orderId, userId, TicketService.BundleFormat.PDF, "application/pdf", ".pdf", response);
+    }
+
+    @Secured("ROLE_USER")
+    @GetMapping("/order/{orderId}/zip")
+    @Operation(summary = "Generate a ZIP archive with the ticket PDFs of an order", security = @SecurityRequirement(name = "apiKey"))
+    public void generateOrderTicketsZip(
+        @PathVariable Long orderId,
+        @RequestParam Long userId,
+        HttpServletResponse response) throws NotFoundException, ConflictException {
+        LOGGER.info("GET /api/v1/tickets/order/{}/zip", orderId);
+        writeTicketBundle(orderId, userId, TicketService.BundleFormat.ZIP, "application/zip", ".zip", response);
+    }
+
+    private void writeTicketBundle(Long orderId, Long userId, TicketService.BundleFormat format, String contentType,
+                                   String extension, HttpServletResponse response) throws NotFoundException, ConflictException {
+        // load and check the tickets before the headers are set, so that errors are still reported as usual
+        List<Ticket> tickets = ticketService.getPrintableTicketsByOrder(orderId, userId);
+
+        response.setContentType(contentType);
+        response.setHeader("Content-Disposition", "attachment; filename=\"tickets-order-" + orderId + extension + "\"");
+
+        try {
+            ticketService.generateTicketBundle(tickets, format, response.getOutputStream());
+        } catch (IOException e) {
+            throw new FatalException("Failed to write tickets to response", e);
+        }
+    }
 }
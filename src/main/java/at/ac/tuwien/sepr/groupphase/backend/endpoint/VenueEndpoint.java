@@ -3,7 +3,10 @@ package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.HallDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SearchVenueDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueImportResultDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.VenueMapper;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent.Catalog;
+import at.ac.tuwien.sepr.groupphase.backend.service.VenueImportService;
 import at.ac.tuwien.sepr.groupphase.backend.service.VenueService;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.HallMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,8 +14,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -30,7 +36,11 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -41,25 +51,39 @@ public class VenueEndpoint {
     private final VenueService venueService;
     private final VenueMapper venueMapper;
     private final HallMapper hallMapper;
+    private final JsonListWriter jsonListWriter;
+    private final VenueImportService venueImportService;
 
     @Autowired
-    public VenueEndpoint(VenueService venueService, VenueMapper venueMapper, HallMapper hallMapper) {
+    public VenueEndpoint(VenueService venueService, VenueMapper venueMapper, HallMapper hallMapper,
+                         JsonListWriter jsonListWriter, VenueImportService venueImportService) {
         this.venueService = venueService;
         this.venueMapper = venueMapper;
         this.hallMapper = hallMapper;
+        this.jsonListWriter = jsonListWriter;
+        this.venueImportService = venueImportService;
     }
 
     @Secured("ROLE_USER")
     @GetMapping
-    @Transactional(readOnly = true)
+    @ConditionalGet(value = {Catalog.VENUES, Catalog.HALLS}, policy = "venues")
     @Operation(summary = "Get all venues")
-    public List<VenueDto> getVenues() {
-        LOGGER.info("GET /api/v1/venues");
-        return venueMapper.venueToVenueDto(venueService.findAll());
+    public ResponseEntity<StreamingResponseBody> getVenues(@RequestParam(name = "limit", required = false) Integer limit,
+                                                           @RequestParam(name = "cursor", required = false) String cursor) throws ValidationException {
+        LOGGER.info("GET /api/v1/venues limit={}", limit);
+        if (limit == null) {
+            return jsonListWriter.stream(venueService::streamAll, venueMapper::venueToVenueDto);
+        }
+        int size = jsonListWriter.limit(limit);
+        JsonListWriter.Cursor after = jsonListWriter.cursor(cursor, 1);
+        Long afterId = after.id(0);
+        return jsonListWriter.writePage(() -> venueService.findAllAfter(afterId, size), size,
+            venueMapper::venueToVenueDto, venue -> List.of(venue.getId()));
     }
 
     @Secured("ROLE_USER")
     @GetMapping("/{id}")
+    @ConditionalGet(value = {Catalog.VENUES, Catalog.HALLS}, policy = "venues")
     @Transactional(readOnly = true)
     @Operation(summary = "Get specific venue")
     public VenueDto getVenue(@PathVariable("id") Long id) {
@@ -70,7 +94,9 @@ public class VenueEndpoint {
     @Secured("ROLE_ADMIN")
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    @Operation(summary = "Create a new venue")
+    @Operation(summary = "Create a new venue",
+        description = "Answers 409 if another venue has the same name and street, "
+            + "compared regardless of case, surrounding or repeated whitespace and Unicode compatibility forms (NFKC)")
     public VenueDto createVenue(@Valid @RequestBody VenueDto venueDto) throws ValidationException, ConflictException {
         LOGGER.info("POST /api/v1/venues body: {}", venueDto);
         VenueDto createdVenueDto = venueMapper.venueToVenueDto(venueService.createVenue(venueDto));
@@ -78,9 +104,27 @@ public class VenueEndpoint {
         return createdVenueDto;
     }
 
+    @Secured("ROLE_ADMIN")
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Import venues with their halls from a CSV file")
+    public VenueImportResultDto importVenuesCsv(InputStream csv) throws IOException, ValidationException {
+        LOGGER.info("POST /api/v1/venues/import (CSV)");
+        return venueImportService.importCsv(new InputStreamReader(csv, StandardCharsets.UTF_8));
+    }
+
+    @Secured("ROLE_ADMIN")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Import venues with their halls from a JSON array")
+    public VenueImportResultDto importVenuesJson(InputStream json) throws IOException, ValidationException {
+        LOGGER.info("POST /api/v1/venues/import (JSON)");
+        return venueImportService.importJson(json);
+    }
+
     @Secured("ROLE_ADMIN")
     @PutMapping("/{id}")
-    @Operation(summary = "Update an existing venue")
+    @Operation(summary = "Update an existing venue",
+        description = "Answers 409 if another venue has the same name and street, compared as when creating a venue. "
+            + "A venue that already was such a duplicate before can still be updated while it keeps its name and street")
     @Transactional
     public VenueDto updateVenue(
         @PathVariable("id") Long id,
@@ -101,6 +145,7 @@ public class VenueEndpoint {
 
     @Secured("ROLE_ADMIN")
     @GetMapping("/search")
+    @ConditionalGet(value = {Catalog.VENUES, Catalog.HALLS}, policy = "venues")
     @Transactional(readOnly = true)
     @Operation(summary = "Search for venues by name", security = @SecurityRequirement(name = "apiKey"))
     public List<VenueDto> searchVenues(@RequestParam(name = "search") String query) {
@@ -110,15 +155,16 @@ public class VenueEndpoint {
 
     @Secured("ROLE_USER")
     @GetMapping("/{id}/halls")
-    @Transactional(readOnly = true)
+    @ConditionalGet(value = {Catalog.VENUES, Catalog.HALLS}, policy = "venues")
     @Operation(summary = "Get all halls for a specific venue")
     public List<HallDto> getHallsByVenueId(@PathVariable("id") Long id) {
         LOGGER.info("GET /api/v1/venues/{}/halls", id);
-        return hallMapper.hallToHallDto(venueService.getHallsByVenueId(id));
+        return hallMapper.hallLayoutToHallDto(venueService.getHallsByVenueId(id));
     }
 
     @Secured("ROLE_USER")
     @GetMapping("/filter")
+    @ConditionalGet(value = {Catalog.VENUES, Catalog.HALLS}, policy = "venues")
     @Operation(summary = "Filter venues based on search criteria")
     public List<VenueDto> filterVenues(SearchVenueDto searchDto) {
         LOGGER.info("GET /api/v1/venues/filter with searchDto: {}", searchDto);
@@ -127,6 +173,7 @@ public class VenueEndpoint {
 
     @Secured("ROLE_USER")
     @GetMapping("/countriesAndCities")
+    @ConditionalGet(value = Catalog.VENUES, policy = "venues")
     @Operation(summary = "Loads a String[] of unique counties and a String[] of unique cities that are already in the db")
     public List<String[]> availableCountriesAndCities() {
         LOGGER.info("GET /api/v1/countriesAndCities");
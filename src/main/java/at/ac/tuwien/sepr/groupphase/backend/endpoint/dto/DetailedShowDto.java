@@ -11,6 +11,7 @@ public class DetailedShowDto extends SimpleShowDto {
     private int capacity;
     private int soldSeats;
     private int duration;
+    private boolean flashSale;
     private VenueDto venue;
     private HallDto hall;
     private List<TicketDto> tickets;
@@ -48,6 +49,14 @@ public class DetailedShowDto extends SimpleShowDto {
         this.duration = duration;
     }
 
+    public boolean isFlashSale() {
+        return flashSale;
+    }
+
+    public void setFlashSale(boolean flashSale) {
+        this.flashSale = flashSale;
+    }
+
     public VenueDto getVenue() {
         return venue;
     }
@@ -94,6 +103,7 @@ public class DetailedShowDto extends SimpleShowDto {
         return capacity == that.capacity
             && soldSeats == that.soldSeats
             && duration == that.duration
+            && flashSale == that.flashSale
             && Objects.equals(text, that.text)
             && Objects.equals(venue, that.venue)
             && Objects.equals(hall, that.hall)
@@ -102,7 +112,7 @@ public class DetailedShowDto extends SimpleShowDto {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), text, capacity, soldSeats, duration, venue, hall, showSectors);
+        return Objects.hash(super.hashCode(), text, capacity, soldSeats, duration, flashSale, venue, hall, showSectors);
     }
 
     @Override
@@ -112,6 +122,7 @@ public class DetailedShowDto extends SimpleShowDto {
             + ", capacity=" + capacity
             + ", soldSeats=" + soldSeats
             + ", duration=" + duration
+            + ", flashSale=" + flashSale
             + ", venue=" + venue
             + ", hall=" + hall
             + ", showSectors=" + showSectors
@@ -130,6 +141,7 @@ public class DetailedShowDto extends SimpleShowDto {
         private int capacity;
         private int soldSeats;
         private int duration;
+        private boolean flashSale;
         private VenueDto venue;
         private HallDto hall;
         private List<TicketDto> tickets;
@@ -197,6 +209,11 @@ public class DetailedShowDto extends SimpleShowDto {
             return this;
         }
 
+        public DetailedShowDtoBuilder withFlashSale(boolean flashSale) {
+            this.flashSale = flashSale;
+            return this;
+        }
+
         public DetailedShowDtoBuilder withVenue(VenueDto venue) {
             this.venue = venue;
             return this;
@@ -230,6 +247,7 @@ public class DetailedShowDto extends SimpleShowDto {
             detailedShowDto.setCapacity(capacity);
             detailedShowDto.setSoldSeats(soldSeats);
             detailedShowDto.setDuration(duration);
+            detailedShowDto.setFlashSale(flashSale);
             detailedShowDto.setVenue(venue);
             detailedShowDto.setHall(hall);
             detailedShowDto.setTickets(tickets);
@@ -0,0 +1,18 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto;
+
+import java.util.List;
+
+/**
+ * The geometry of a hall for drawing its seat map. It only changes when the hall is edited,
+ * which raises the version, so clients keep it until a {@link SeatMapOccupancyDto} names another version.
+ * The seats of all sectors, in the order of the sectors, are the bits of the occupancy bitmap.
+ */
+public record SeatMapLayoutDto(
+    Long hallId,
+    Integer version,
+    Integer canvasWidth,
+    Integer canvasHeight,
+    StageDto stage,
+    List<SeatMapSectorDto> sectors,
+    List<SeatMapStandingSectorDto> standingSectors
+) { }
@@ -0,0 +1,19 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto;
+
+import java.util.Map;
+
+/**
+ * The taken places of a show, to be laid over the {@link SeatMapLayoutDto} of the given version.
+ * {@code occupied} is a base64 encoded bitmap with one bit per seat of the layout, least significant bit first,
+ * in which a set bit means the seat is in a cart, reserved or sold. Trailing bytes without any set bit are left out,
+ * so the bitmap may end before the last seat of the layout, and the seats past its end are free.
+ * {@code occupancyVersion} changes whenever a seat or standing place of the show is taken or given back.
+ */
+public record SeatMapOccupancyDto(
+    Long showId,
+    Long hallId,
+    Integer layoutVersion,
+    Long occupancyVersion,
+    String occupied,
+    Map<Long, Integer> standingTaken
+) { }
@@ -0,0 +1,18 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto;
+
+/**
+ * A sector of a seat map layout. The seats are given as parallel arrays, the {@code i}-th seat has the
+ * {@code i}-th entry of every array.
+ */
+public record SeatMapSectorDto(
+    Long id,
+    String sectorName,
+    Long price,
+    Integer rows,
+    Integer columns,
+    long[] seatIds,
+    int[] seatRows,
+    int[] seatColumns,
+    int[] positionsX,
+    int[] positionsY
+) { }
@@ -0,0 +1,12 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto;
+
+public record SeatMapStandingSectorDto(
+    Long id,
+    String sectorName,
+    Integer capacity,
+    Long price,
+    Integer positionX1,
+    Integer positionY1,
+    Integer positionX2,
+    Integer positionY2
+) { }
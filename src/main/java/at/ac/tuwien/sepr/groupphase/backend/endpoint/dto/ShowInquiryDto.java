@@ -51,6 +51,8 @@ public class ShowInquiryDto {
     @Min(value = 1, message = "Duration must be positive")
     private int duration;
 
+    private boolean flashSale;
+
     private String imageUrl;
 
     private Long[] artistIds;
@@ -197,6 +199,14 @@ public class ShowInquiryDto {
         this.showSectors = showSectors;
     }
 
+    public boolean isFlashSale() {
+        return flashSale;
+    }
+
+    public void setFlashSale(boolean flashSale) {
+        this.flashSale = flashSale;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -208,6 +218,7 @@ public class ShowInquiryDto {
         return capacity == that.capacity
             && soldSeats == that.soldSeats
             && duration == that.duration
+            && flashSale == that.flashSale
             && Objects.equals(name, that.name)
             && Objects.equals(date, that.date)
             && Objects.equals(time, that.time)
@@ -226,7 +237,7 @@ public class ShowInquiryDto {
     @Override
     public int hashCode() {
         return Objects.hash(name, date, time, capacity, soldSeats,
-                           eventType, duration, summary, text, imageUrl, venueId, hallId, artistIds,
+                           eventType, duration, flashSale, summary, text, imageUrl, venueId, hallId, artistIds,
                            minPrice, maxPrice, showSectors);
     }
 
@@ -240,6 +251,7 @@ public class ShowInquiryDto {
             + ", soldSeats=" + soldSeats + '\''
             + ", eventType='" + eventType + '\''
             + ", duration=" + duration + '\''
+            + ", flashSale=" + flashSale + '\''
             + ", summary='" + summary + '\''
             + ", text='" + text + '\''
             + ", imageUrl='" + imageUrl + '\''
@@ -263,6 +275,7 @@ public class ShowInquiryDto {
         private int soldSeats;
         private String eventType;
         private int duration;
+        private boolean flashSale;
         private Long venueId;
         private Long hallId;
         private Long[] artistIds;
@@ -327,6 +340,11 @@ public class ShowInquiryDto {
             return this;
         }
 
+        public ShowInquiryDtoBuilder withFlashSale(boolean flashSale) {
+            this.flashSale = flashSale;
+            return this;
+        }
+
         public ShowInquiryDtoBuilder withVenueId(Long venueId) {
             this.venueId = venueId;
             return this;
@@ -366,6 +384,7 @@ public class ShowInquiryDto {
             showInquiryDto.setSoldSeats(soldSeats);
             showInquiryDto.setEventType(eventType);
             showInquiryDto.setDuration(duration);
+            showInquiryDto.setFlashSale(flashSale);
             showInquiryDto.setSummary(summary);
             showInquiryDto.setText(text);
             showInquiryDto.setImageUrl(imageUrl);
@@ -0,0 +1,16 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto;
+
+import java.util.List;
+
+/**
+ * One venue of a bulk import, with the halls that are created for it.
+ */
+public record VenueImportDto(
+    String name,
+    String street,
+    String city,
+    String county,
+    String postalCode,
+    List<HallDto> halls
+) {
+}
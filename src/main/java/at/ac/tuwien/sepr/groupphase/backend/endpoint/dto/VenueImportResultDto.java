@@ -0,0 +1,27 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto;
+
+import java.util.List;
+
+/**
+ * The outcome of a bulk venue import.
+ *
+ * @param imported the number of venues imported
+ * @param failed the number of venues that were not imported
+ * @param errors why venues were not imported, for the first of the failed venues
+ */
+public record VenueImportResultDto(
+    int imported,
+    int failed,
+    List<RowError> errors
+) {
+
+    /**
+     * Why a venue was not imported.
+     *
+     * @param row the number of the venue in the import, counting from 1 and without the CSV header
+     * @param name the name of the venue, if it could be read
+     * @param messages what is wrong with the venue
+     */
+    public record RowError(long row, String name, List<String> messages) {
+    }
+}
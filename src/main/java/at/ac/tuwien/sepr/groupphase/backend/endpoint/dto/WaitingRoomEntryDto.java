@@ -0,0 +1,13 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record WaitingRoomEntryDto(
+    UUID id,
+    Long showId,
+    String state,
+    Long position,
+    Long estimatedWaitSeconds,
+    List<TicketDto> tickets
+) { }
@@ -1,11 +1,15 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint.exceptionhandler;
 
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.FatalException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -59,6 +63,35 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, body, new HttpHeaders(), HttpStatus.CONFLICT, request);
     }
 
+    /**
+     * A seat taken by a concurrent transaction is only noticed by the unique key on active seat tickets, often when
+     * the transaction commits. That is a conflict like any other taken seat, every other violation stays a server error.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    protected ResponseEntity<Object> handleDataIntegrityViolation(DataIntegrityViolationException ex, WebRequest request) {
+        if (!(ex.getCause() instanceof ConstraintViolationException violation)
+            || violation.getConstraintName() == null
+            || !violation.getConstraintName().toLowerCase().contains(Ticket.ACTIVE_SEAT_CONSTRAINT)) {
+            LOGGER.error("Internal server error: {}", ex.getMessage(), ex);
+            return handleExceptionInternal(ex, "An internal server error occurred", new HttpHeaders(),
+                HttpStatus.INTERNAL_SERVER_ERROR, request);
+        }
+        logClientError(HttpStatus.CONFLICT, "Resource conflict", ex);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", "One or more seats are already taken for this show");
+        return handleExceptionInternal(ex, body, new HttpHeaders(), HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<Object> handleTooManyRequests(TooManyRequestsException ex, WebRequest request) {
+        logClientError(HttpStatus.TOO_MANY_REQUESTS, "Request shed", ex);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", ex.getMessage());
+        return handleExceptionInternal(ex, body, headers, HttpStatus.TOO_MANY_REQUESTS, request);
+    }
+
     @ExceptionHandler(FatalException.class)
     protected ResponseEntity<Object> handleFatal(FatalException ex, WebRequest request) {
         LOGGER.error("Internal server error: {}", ex.getMessage(), ex);
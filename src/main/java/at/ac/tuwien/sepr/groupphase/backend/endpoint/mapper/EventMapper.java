@@ -4,6 +4,7 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.DetailedEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.EventInquiryDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem;
 import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -38,6 +39,22 @@ public interface EventMapper {
     @IterableMapping(qualifiedByName = "simpleEvent")
     List<SimpleEventDto> eventToSimpleEventDto(List<Event> events);
 
+    /**
+     * Maps the list columns of an event, as read for event lists, to a SimpleEventDto.
+     *
+     * @param event the list columns of the event
+     * @return the corresponding SimpleEventDto
+     */
+    SimpleEventDto eventListItemToSimpleEventDto(EventListItem event);
+
+    /**
+     * Maps the list columns of several events to a list of SimpleEventDto objects.
+     *
+     * @param events the list columns of the events
+     * @return a list of corresponding SimpleEventDto objects
+     */
+    List<SimpleEventDto> eventListItemToSimpleEventDto(List<EventListItem> events);
+
     /**
      * Maps an Event entity to a DetailedEventDto, including show information.
      *
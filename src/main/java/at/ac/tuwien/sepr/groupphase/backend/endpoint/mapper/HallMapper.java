@@ -11,8 +11,10 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.StandingSectorDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.StandingSector;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatDto;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayout;
 
 import org.mapstruct.Mapper;
+import java.util.ArrayList;
 import java.util.List;
 import org.mapstruct.Mapping;
 
@@ -46,6 +48,49 @@ public interface HallMapper {
      */
     List<HallDto> hallToHallDto(List<Hall> halls);
 
+    /**
+     * Converts a cached hall layout to a HallDto, with sectors, seats and standing sectors ordered by id.
+     *
+     * @param layout the layout to convert
+     * @return the corresponding HallDto
+     */
+    default HallDto hallLayoutToHallDto(HallLayout layout) {
+        if (layout == null) {
+            return null;
+        }
+        HallLayout.Stage stage = layout.getStage();
+        StageDto stageDto = stage == null ? null
+            : new StageDto(stage.id(), stage.positionX(), stage.positionY(), stage.width(), stage.height());
+        List<SectorDto> sectors = new ArrayList<>(layout.sectorCount());
+        for (int sector = 0; sector < layout.sectorCount(); sector++) {
+            Integer sectorId = (int) layout.sectorId(sector);
+            List<SeatDto> seats = new ArrayList<>(layout.firstSeat(sector + 1) - layout.firstSeat(sector));
+            for (int seat = layout.firstSeat(sector); seat < layout.firstSeat(sector + 1); seat++) {
+                seats.add(new SeatDto(layout.seatId(seat), layout.seatRow(seat), sectorId, layout.seatColumn(seat),
+                    layout.seatPositionX(seat), layout.seatPositionY(seat)));
+            }
+            sectors.add(new SectorDto(layout.sectorId(sector), Long.parseLong(layout.sectorName(sector)),
+                layout.sectorRows(sector), layout.sectorColumns(sector), layout.sectorPrice(sector), seats));
+        }
+        List<StandingSectorDto> standingSectors = layout.getStandingSectors().stream()
+            .map(standing -> new StandingSectorDto(standing.id(), standing.sectorName(), standing.capacity(),
+                standing.takenCapacity(), standing.positionX1(), standing.positionY1(), standing.positionX2(),
+                standing.positionY2(), standing.price()))
+            .toList();
+        return new HallDto(layout.getHallId(), layout.getName(), layout.getCapacity(), layout.getCanvasWidth(),
+            layout.getCanvasHeight(), stageDto, sectors, standingSectors);
+    }
+
+    /**
+     * Converts a list of cached hall layouts to a list of HallDtos.
+     *
+     * @param layouts the layouts to convert
+     * @return the corresponding list of HallDtos
+     */
+    default List<HallDto> hallLayoutToHallDto(List<HallLayout> layouts) {
+        return layouts.stream().map(this::hallLayoutToHallDto).toList();
+    }
+
     /**
      * Converts a HallInquiryDto to a HallDto, ignoring the id field.
      *
@@ -4,6 +4,7 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.DetailedShowDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.ShowInquiryDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleShowDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem;
 import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -40,17 +41,33 @@ public interface ShowMapper {
     @IterableMapping(qualifiedByName = "simpleShow")
     List<SimpleShowDto> showToSimpleShowDto(List<Show> show);
 
+    /**
+     * Converts the list columns of a show, as read for show lists, to a SimpleShowDto.
+     *
+     * @param show the list columns of the show
+     * @return the corresponding SimpleShowDto
+     */
+    SimpleShowDto showListItemToSimpleShowDto(ShowListItem show);
+
+    /**
+     * Converts the list columns of several shows to a list of SimpleShowDtos.
+     *
+     * @param shows the list columns of the shows
+     * @return the corresponding list of SimpleShowDtos
+     */
+    List<SimpleShowDto> showListItemToSimpleShowDto(List<ShowListItem> shows);
+
     /**
      * Converts a Show entity to a DetailedShowDto.
      * This method includes all show properties and maps related entities such as
-     * artists, venue, hall, tickets, and show sectors.
+     * artists, venue, tickets, and show sectors. The hall is left out, it is set from its cached layout.
      *
      * @param show the Show entity to convert
      * @return the corresponding DetailedShowDto
      */
     @Mapping(source = "artists", target = "artists")
     @Mapping(source = "venue", target = "venue")
-    @Mapping(source = "hall", target = "hall")
+    @Mapping(target = "hall", ignore = true)
     @Mapping(source = "tickets", target = "tickets")
     @Mapping(source = "showSectors", target = "showSectors")
     DetailedShowDto showToDetailedShowDto(Show show);
@@ -45,6 +45,7 @@ public interface ShowSectorMapper {
     @Mapping(source = "showId", target = "show.id")
     @Mapping(source = "sectorId", target = "sector.id")
     @Mapping(source = "standingSectorId", target = "standingSector.id")
+    @Mapping(target = "takenCapacity", ignore = true)
     ShowSector showSectorDtoToShowSector(ShowSectorDto showSectorDto);
 
     /**
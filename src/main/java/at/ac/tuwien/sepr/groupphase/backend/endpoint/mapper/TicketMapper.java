@@ -1,7 +1,9 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.TicketDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.WaitingRoomEntryDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.service.TicketWaitingRoom;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -69,4 +71,18 @@ public interface TicketMapper {
      * @return the corresponding list of Ticket entities
      */
     List<Ticket> ticketDtoToTicket(List<TicketDto> ticketDtos);
+
+    /**
+     * Converts an entry of the ticket waiting room to a WaitingRoomEntryDto.
+     * The estimated wait is rounded up to whole seconds.
+     *
+     * @param entry the entry of the waiting room to convert
+     * @return the corresponding WaitingRoomEntryDto
+     */
+    @Mapping(target = "estimatedWaitSeconds", expression = "java(estimatedWaitSeconds(entry))")
+    WaitingRoomEntryDto waitingRoomEntryToDto(TicketWaitingRoom.Entry entry);
+
+    default Long estimatedWaitSeconds(TicketWaitingRoom.Entry entry) {
+        return (entry.estimatedWait().toMillis() + 999) / 1000;
+    }
 }
\ No newline at end of file
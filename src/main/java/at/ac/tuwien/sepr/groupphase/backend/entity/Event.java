@@ -50,7 +50,8 @@ public class Event {
     @OneToMany(mappedBy = "event", fetch = FetchType.EAGER)
     private List<Show> shows = new ArrayList<>();
 
-    @Column(nullable = false)
+    // only changed through EventRepository#incrementSoldSeats, so that concurrent ticket sales never overwrite each other
+    @Column(nullable = false, updatable = false)
     private Integer soldSeats;
 
     @ManyToMany
@@ -56,6 +56,10 @@ public class Hall {
     @OneToMany(mappedBy = "hall", cascade = CascadeType.ALL)
     private Set<StandingSector> standingSectors = new HashSet<>();
 
+    // counts the edits of the hall's geometry, so that clients know when a cached seat map layout is outdated
+    @Column(nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private Integer layoutVersion = 0;
+
     public Long getId() {
         return id;
     }
@@ -154,6 +158,14 @@ public class Hall {
         standingSector.setHall(this);
     }
 
+    public Integer getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    public void setLayoutVersion(Integer layoutVersion) {
+        this.layoutVersion = layoutVersion;
+    }
+
     public void removeStandingSector(StandingSector standingSector) {
         standingSectors.remove(standingSector);
         standingSector.setHall(null);
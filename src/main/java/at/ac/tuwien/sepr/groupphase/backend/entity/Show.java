@@ -41,12 +41,17 @@ public class Show {
     @Column(nullable = false)
     private int capacity;
 
-    @Column(nullable = false)
+    // only changed through ShowRepository#incrementSoldSeats, so that concurrent ticket sales never overwrite each other
+    @Column(nullable = false, updatable = false)
     private int soldSeats;
 
     @Column(nullable = false)
     private String eventType;
 
+    // in flash sale mode seats are claimed with a single insert guarded by the unique key of the ticket table
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean flashSale;
+
     @Column(nullable = false)
     private int duration;
 
@@ -156,6 +161,14 @@ public class Show {
         this.eventType = eventType;
     }
 
+    public boolean isFlashSale() {
+        return flashSale;
+    }
+
+    public void setFlashSale(boolean flashSale) {
+        this.flashSale = flashSale;
+    }
+
     public int getDuration() {
         return duration;
     }
@@ -351,6 +364,7 @@ public class Show {
         private int capacity;
         private int soldSeats;
         private String eventType;
+        private boolean flashSale;
         private int duration;
         private String summary;
         private String text;
@@ -405,6 +419,11 @@ public class Show {
             return this;
         }
 
+        public ShowBuilder withFlashSale(boolean flashSale) {
+            this.flashSale = flashSale;
+            return this;
+        }
+
         public ShowBuilder withDuration(int duration) {
             this.duration = duration;
             return this;
@@ -469,6 +488,7 @@ public class Show {
             show.setCapacity(capacity);
             show.setSoldSeats(soldSeats);
             show.setEventType(eventType);
+            show.setFlashSale(flashSale);
             show.setDuration(duration);
             show.setSummary(summary);
             show.setText(text);
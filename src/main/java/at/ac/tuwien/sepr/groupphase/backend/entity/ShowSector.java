@@ -36,6 +36,10 @@ public class ShowSector {
     @Column(nullable = false, columnDefinition = "DECIMAL(12,2)")
     private Double price;
 
+    // standing places of this show taken by tickets in the cart, reserved or purchased
+    @Column(nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private Integer takenCapacity = 0;
+
     // Constructors
     public ShowSector() {
     }
@@ -88,6 +92,14 @@ public class ShowSector {
         this.price = price;
     }
 
+    public Integer getTakenCapacity() {
+        return takenCapacity;
+    }
+
+    public void setTakenCapacity(Integer takenCapacity) {
+        this.takenCapacity = takenCapacity;
+    }
+
     // equals and hashCode based on show and sector/standingSector
     @Override
     public boolean equals(Object o) {
@@ -7,6 +7,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -15,7 +17,10 @@ import jakarta.validation.constraints.Positive;
 import java.util.UUID;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Ticket.ACTIVE_SEAT_CONSTRAINT, columnNames = {"show_id", "seat_id", "active"}))
 public class Ticket {
+    public static final String ACTIVE_SEAT_CONSTRAINT = "uk_ticket_show_seat_active";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -67,6 +72,11 @@ public class Ticket {
     @Column(unique = true)
     private UUID ticketUuid;
 
+    // TRUE while the ticket is in a cart, reserved or purchased and NULL otherwise,
+    // so that a seat can be held only once per show but given back any number of times
+    @Column(name = "active")
+    private Boolean active;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -106,6 +116,7 @@ public class Ticket {
 
     public void setReserved(Boolean reserved) {
         this.reserved = reserved;
+        updateActive();
     }
 
     public Boolean getPurchased() {
@@ -114,6 +125,7 @@ public class Ticket {
 
     public void setPurchased(Boolean purchased) {
         this.purchased = purchased;
+        updateActive();
     }
 
     public Boolean getInCart() {
@@ -122,6 +134,16 @@ public class Ticket {
 
     public void setInCart(Boolean inCart) {
         this.inCart = inCart;
+        updateActive();
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    private void updateActive() {
+        boolean held = Boolean.TRUE.equals(inCart) || Boolean.TRUE.equals(reserved) || Boolean.TRUE.equals(purchased);
+        this.active = held ? Boolean.TRUE : null;
     }
 
     public Seat getSeat() {
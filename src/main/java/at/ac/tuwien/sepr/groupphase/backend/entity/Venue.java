@@ -6,14 +6,25 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import java.text.Normalizer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.CollectionTable;
 import java.util.Objects;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Venue.UNIQUE_KEY_CONSTRAINT, columnNames = "unique_key"))
 public class Venue {
+    public static final String UNIQUE_KEY_CONSTRAINT = "uk_venue_unique_key";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,6 +44,15 @@ public class Venue {
     @Column(nullable = false)
     private String postalCode;
 
+    // name and street as compared for duplicates, kept up to date on every write;
+    // left empty for a venue that already duplicated another one before venues had a key
+    @Column(name = "unique_key")
+    private String uniqueKey;
+
+    // the key of a venue loaded without one
+    @Transient
+    private String unkeyedAs;
+
     @Column(name = "hall_ids")
     @ElementCollection
     @CollectionTable(
@@ -98,6 +118,59 @@ public class Venue {
         this.postalCode = postalCode;
     }
 
+    public String getUniqueKey() {
+        return uniqueKey;
+    }
+
+    @PrePersist
+    public void updateUniqueKey() {
+        uniqueKey = uniqueKeyOf(name, street);
+    }
+
+    @PostLoad
+    void rememberMissingUniqueKey() {
+        unkeyedAs = uniqueKey == null ? uniqueKeyOf(name, street) : null;
+    }
+
+    @PreUpdate
+    void updateUniqueKeyUnlessLegacyDuplicate() {
+        if (!isLegacyDuplicateUnder(uniqueKeyOf(name, street))) {
+            updateUniqueKey();
+        }
+    }
+
+    /**
+     * Checks whether this is a venue that already duplicated another one before venues had a unique key,
+     * and that would keep its name and street under the given key. Such a venue stays without key,
+     * so that it can still be saved; it gets one once it is renamed, or at the next start if the other venue is gone.
+     *
+     * @param uniqueKey the key the venue is about to be saved under
+     * @return true if the venue is saved without key
+     */
+    public boolean isLegacyDuplicateUnder(String uniqueKey) {
+        return this.uniqueKey == null && uniqueKey.equals(unkeyedAs);
+    }
+
+    /**
+     * Builds the key under which a venue must be unique.
+     * Venues with the same name and street are the same venue, regardless of case, accents written as
+     * combining characters and surrounding or repeated whitespace.
+     *
+     * @param name the name of the venue
+     * @param street the street of the venue
+     * @return the key
+     */
+    public static String uniqueKeyOf(String name, String street) {
+        return normalize(name) + '\n' + normalize(street);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
     public List<Long> getHallIds() {
         return hallIds;
     }
@@ -0,0 +1,31 @@
+package at.ac.tuwien.sepr.groupphase.backend.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a request is shed because too many requests are already waiting for the same resource.
+ * Carries the time after which the client may try again.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new TooManyRequestsException with the specified detail message and retry delay.
+     *
+     * @param message the detail message explaining the reason for the exception
+     * @param retryAfter the time after which the client may try again
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the time after which the client may try again.
+     *
+     * @return the retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,13 +1,19 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ArtistSearchItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for managing {@link Artist} entities.
@@ -42,4 +48,31 @@ public interface ArtistRepository extends JpaRepository<Artist, Long> {
      */
     List<Artist> findByNameContainingIgnoreCase(String query);
 
+    /**
+     * Stream all artists ordered by ID. Must be consumed within a transaction and closed afterwards.
+     *
+     * @return stream of all artists
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<Artist> streamAllByOrderByIdAsc();
+
+    /**
+     * Find the next page of artists ordered by ID, following the given artist.
+     *
+     * @param id the ID of the last artist of the previous page, or null for the first page
+     * @param pageable the size of the page
+     * @return the artists following the given one
+     */
+    @Query("SELECT a FROM Artist a WHERE :id IS NULL OR a.id > :id ORDER BY a.id ASC")
+    List<Artist> findPageAfter(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Find the searchable columns of all artists.
+     * Used to build the search index.
+     *
+     * @return the searchable columns of every artist
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.ArtistSearchItem(a.id, a.name) FROM Artist a")
+    List<ArtistSearchItem> findSearchableFields();
+
 }
\ No newline at end of file
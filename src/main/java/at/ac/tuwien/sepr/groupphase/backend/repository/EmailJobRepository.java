@@ -0,0 +1,62 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.EmailJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the outbox of emails that still have to be sent.
+ */
+@Repository
+public interface EmailJobRepository extends JpaRepository<EmailJob, Long> {
+
+    /**
+     * Find the pending entries that are due, oldest first.
+     *
+     * @param now the current time
+     * @param pageable the maximum number of entries to return
+     * @return the due entries
+     */
+    @Query("""
+        SELECT j FROM EmailJob j
+        WHERE j.status = at.ac.tuwien.sepr.groupphase.backend.entity.EmailJob.Status.PENDING
+        AND j.nextAttemptAt <= :now
+        ORDER BY j.nextAttemptAt ASC
+        """)
+    List<EmailJob> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claim a due entry by pushing its next attempt back to the end of the lease.
+     * Only one of several dispatchers racing for the same entry succeeds.
+     *
+     * @param id the ID of the entry
+     * @param now the current time
+     * @param leaseUntil the time until which the entry is left to the claiming dispatcher
+     * @return 1 if the entry was claimed, 0 if it is not due (anymore)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE EmailJob j SET j.nextAttemptAt = :leaseUntil
+        WHERE j.id = :id
+        AND j.status = at.ac.tuwien.sepr.groupphase.backend.entity.EmailJob.Status.PENDING
+        AND j.nextAttemptAt <= :now
+        """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Count the entries with a status.
+     *
+     * @param status the status
+     * @return the number of entries
+     */
+    long countByStatus(EmailJob.Status status);
+}
@@ -1,13 +1,19 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventSearchItem;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository for managing {@link Event} entities.
@@ -47,6 +53,20 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         """)
     List<Event> findTop10ByTypeOrderBySoldSeatsDesc(@Param("type") String type);
 
+    /**
+     * Find the list columns of all future or ongoing events, without loading their shows and artists.
+     * Used to rebuild the event leaderboard.
+     *
+     * @return the list columns of all current events
+     */
+    @Query("""
+        SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem(
+            e.id, e.name, e.summary, e.type, e.durationFrom, e.durationTo, e.soldSeats, e.imageUrl)
+        FROM Event e
+        WHERE e.durationTo >= CURRENT_DATE
+        """)
+    List<EventListItem> findCurrentEventSummaries();
+
     /**
      * Find all future or ongoing events ordered by sold seats.
      * Eagerly fetches related shows and artists to avoid N+1 query problems.
@@ -62,6 +82,43 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         """)
     List<Event> findAllByOrderBySoldSeatsDesc();
 
+    /**
+     * Find the list columns of all future or ongoing events ordered by sold seats, in a single query
+     * that loads neither the event entities nor their shows and artists.
+     *
+     * @return list of all future or ongoing events, ordered by popularity
+     */
+    @Query("""
+        SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem(
+            e.id, e.name, e.summary, e.type, e.durationFrom, e.durationTo, e.soldSeats, e.imageUrl)
+        FROM Event e
+        WHERE e.durationTo >= CURRENT_DATE
+        ORDER BY e.soldSeats DESC
+        """)
+    List<EventListItem> findCurrentListItems();
+
+    /**
+     * Find the list columns of the next page of future or ongoing events ordered by sold seats and ID,
+     * following the given event.
+     * The sold seats keep changing while a client pages through the list, so an event that sells seats in between
+     * moves up past the cursor and is skipped, and one whose tickets are cancelled moves down and is listed again.
+     *
+     * @param soldSeats the sold seats of the last event of the previous page, or null for the first page
+     * @param id the ID of the last event of the previous page, or null for the first page
+     * @param pageable the size of the page
+     * @return the events following the given one
+     */
+    @Query("""
+        SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem(
+            e.id, e.name, e.summary, e.type, e.durationFrom, e.durationTo, e.soldSeats, e.imageUrl)
+        FROM Event e
+        WHERE e.durationTo >= CURRENT_DATE
+        AND (:id IS NULL OR e.soldSeats < :soldSeats OR (e.soldSeats = :soldSeats AND e.id > :id))
+        ORDER BY e.soldSeats DESC, e.id ASC
+        """)
+    List<EventListItem> findListItemPageAfter(@Param("soldSeats") Integer soldSeats, @Param("id") Long id,
+                                              Pageable pageable);
+
     /**
      * Find future or ongoing events by multiple filter criteria.
      * All filter parameters are optional and can be null.
@@ -92,4 +149,50 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         @Param("text") String text,
         @Param("duration") Integer duration
     );
+
+    /**
+     * Find future or ongoing events among the given ones, with the remaining filters of
+     * {@link #findByFilters(String, String, String, Integer)}. Used once the search index matched the texts.
+     *
+     * @param ids the IDs of the events matching the text filters, must not be empty
+     * @param duration approximate show duration in minutes (±30 minutes)
+     * @return filtered list of future or ongoing events
+     */
+    @Query("""
+        SELECT DISTINCT e FROM Event e
+        LEFT JOIN FETCH e.shows s
+        WHERE e.durationTo >= CURRENT_DATE
+        AND e.id IN :ids
+        AND (:duration IS NULL OR EXISTS (
+            SELECT 1 FROM Show s2
+            WHERE s2.event = e
+            AND s2.duration BETWEEN :duration - 30 AND :duration + 30
+        ))
+        ORDER BY e.durationFrom ASC
+        """)
+    List<Event> findByIdsAndFilters(
+        @Param("ids") Collection<Long> ids,
+        @Param("duration") Integer duration
+    );
+
+    /**
+     * Find the searchable columns of all events.
+     * Used to build the search index.
+     *
+     * @return the searchable columns of every event
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventSearchItem(e.id, e.name, e.type, e.text) FROM Event e")
+    List<EventSearchItem> findSearchableFields();
+
+    /**
+     * Adds a delta to the sold seats of an event in a single statement, without reading the event first.
+     *
+     * @param eventId the ID of the event
+     * @param delta the number of seats to add, negative to subtract
+     * @return the number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.soldSeats = e.soldSeats + :delta WHERE e.id = :eventId")
+    int incrementSoldSeats(@Param("eventId") Long eventId, @Param("delta") int delta);
 }
@@ -26,6 +26,23 @@ public interface HallRepository extends JpaRepository<Hall, Long> {
      */
     List<Hall> findAllById(Iterable<Long> ids);
 
+    /**
+     * Find the IDs of all halls, ordered by ID.
+     *
+     * @return the hall IDs
+     */
+    @Query("SELECT h.id FROM Hall h ORDER BY h.id ASC")
+    List<Long> findAllIds();
+
+    /**
+     * Find which of the given hall IDs belong to existing halls.
+     *
+     * @param ids the hall IDs to check
+     * @return the IDs of the existing halls, ordered by ID
+     */
+    @Query("SELECT h.id FROM Hall h WHERE h.id IN :ids ORDER BY h.id ASC")
+    List<Long> findExistingIds(@Param("ids") Iterable<Long> ids);
+
     /**
      * Find all halls for a specific venue, including their sectors and seats.
      * Eagerly fetches related entities to avoid N+1 query problems.
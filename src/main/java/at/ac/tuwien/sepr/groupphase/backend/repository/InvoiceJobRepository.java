@@ -0,0 +1,63 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.InvoiceJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the outbox of invoice PDFs that still have to be rendered.
+ */
+@Repository
+public interface InvoiceJobRepository extends JpaRepository<InvoiceJob, Long> {
+
+    /**
+     * Find the outbox entry of an order.
+     *
+     * @param orderId the ID of the order
+     * @return the entry, if the invoice of the order has not been rendered yet
+     */
+    Optional<InvoiceJob> findByOrderId(Long orderId);
+
+    /**
+     * Find the IDs of the pending entries that are due, oldest first.
+     *
+     * @param now the current time
+     * @param pageable the maximum number of entries to return
+     * @return the IDs of the due entries
+     */
+    @Query("""
+        SELECT j.id FROM InvoiceJob j
+        WHERE j.status = at.ac.tuwien.sepr.groupphase.backend.entity.InvoiceJob.Status.PENDING
+        AND j.nextAttemptAt <= :now
+        ORDER BY j.nextAttemptAt ASC
+        """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claim a due entry by pushing its next attempt back to the end of the lease.
+     * Only one of several workers racing for the same entry succeeds.
+     *
+     * @param id the ID of the entry
+     * @param now the current time
+     * @param leaseUntil the time until which the entry is left to the claiming worker
+     * @return 1 if the entry was claimed, 0 if it is not due (anymore)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE InvoiceJob j SET j.nextAttemptAt = :leaseUntil
+        WHERE j.id = :id
+        AND j.status = at.ac.tuwien.sepr.groupphase.backend.entity.InvoiceJob.Status.PENDING
+        AND j.nextAttemptAt <= :now
+        """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
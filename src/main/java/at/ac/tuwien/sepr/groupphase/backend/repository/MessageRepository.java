@@ -1,10 +1,18 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Message;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository for managing {@link Message} entities.
@@ -21,4 +29,29 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
      */
     List<Message> findAllByOrderByPublishedAtDesc();
 
+    /**
+     * Stream all messages, newest first. Must be consumed within a transaction and closed afterwards.
+     *
+     * @return stream of all messages
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<Message> streamAllByOrderByPublishedAtDescIdDesc();
+
+    /**
+     * Find the next page of messages, newest first, following the given entry.
+     *
+     * @param publishedAt the publishing time of the last entry of the previous page, or null for the first page
+     * @param id the ID of the last entry of the previous page, or null for the first page
+     * @param pageable the size of the page
+     * @return the messages following the given one
+     */
+    @Query("""
+        SELECT m FROM Message m
+        WHERE :id IS NULL
+        OR m.publishedAt < :publishedAt
+        OR (m.publishedAt = :publishedAt AND m.id < :id)
+        ORDER BY m.publishedAt DESC, m.id DESC
+        """)
+    List<Message> findPageAfter(@Param("publishedAt") LocalDateTime publishedAt, @Param("id") Long id, Pageable pageable);
+
 }
@@ -1,10 +1,18 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.News;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository for managing {@link News} entities.
@@ -21,4 +29,29 @@ public interface NewsRepository extends JpaRepository<News, Long> {
      */
     List<News> findAllByOrderByPublishedAtDesc();
 
+    /**
+     * Stream all news entries, newest first. Must be consumed within a transaction and closed afterwards.
+     *
+     * @return stream of all news entries
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<News> streamAllByOrderByPublishedAtDescIdDesc();
+
+    /**
+     * Find the next page of news entries, newest first, following the given entry.
+     *
+     * @param publishedAt the publishing time of the last entry of the previous page, or null for the first page
+     * @param id the ID of the last entry of the previous page, or null for the first page
+     * @param pageable the size of the page
+     * @return the news entries following the given one
+     */
+    @Query("""
+        SELECT n FROM News n
+        WHERE :id IS NULL
+        OR n.publishedAt < :publishedAt
+        OR (n.publishedAt = :publishedAt AND n.id < :id)
+        ORDER BY n.publishedAt DESC, n.id DESC
+        """)
+    List<News> findPageAfter(@Param("publishedAt") LocalDateTime publishedAt, @Param("id") Long id, Pageable pageable);
+
 }
@@ -0,0 +1,34 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.SeatRow;
+
+import java.util.List;
+
+/**
+ * Writes the seats of a hall in JDBC batches.
+ * A hall has up to tens of thousands of seats, which are far too many to persist and flush one entity at a time.
+ * The writes bypass the persistence context, so seats written here are not seen by seat entities already loaded.
+ */
+public interface SeatBatchRepository {
+
+    /**
+     * Inserts seats, in batches.
+     *
+     * @param seats the seats to insert, their IDs are ignored and generated by the database
+     */
+    void insertAll(List<SeatRow> seats);
+
+    /**
+     * Moves seats to new positions, in batches.
+     *
+     * @param seats the seats with their IDs and new positions
+     */
+    void updatePositions(List<SeatRow> seats);
+
+    /**
+     * Deletes seats, in batches.
+     *
+     * @param seatIds the IDs of the seats to delete
+     */
+    void deleteAllByIds(List<Long> seatIds);
+}
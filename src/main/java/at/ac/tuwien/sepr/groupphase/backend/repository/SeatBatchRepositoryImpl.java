@@ -0,0 +1,58 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.SeatRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+/**
+ * Implements {@link SeatBatchRepository} on the JDBC connection of the current transaction.
+ */
+class SeatBatchRepositoryImpl implements SeatBatchRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    // rows per JDBC batch, and IDs per delete so that it stays below the bind parameter limit of the database
+    private static final int BATCH_SIZE = 1000;
+    private final JdbcTemplate jdbcTemplate;
+
+    SeatBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<SeatRow> seats) {
+        LOGGER.debug("Insert {} seats", seats.size());
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO seat (sector_id, seat_row, seat_column, positionx, positiony) VALUES (?, ?, ?, ?, ?)",
+            seats, BATCH_SIZE, (statement, seat) -> {
+                statement.setObject(1, seat.sectorId());
+                statement.setObject(2, seat.row());
+                statement.setObject(3, seat.column());
+                statement.setObject(4, seat.positionX());
+                statement.setObject(5, seat.positionY());
+            });
+    }
+
+    @Override
+    public void updatePositions(List<SeatRow> seats) {
+        LOGGER.debug("Move {} seats", seats.size());
+        jdbcTemplate.batchUpdate("UPDATE seat SET positionx = ?, positiony = ? WHERE seat_id = ?",
+            seats, BATCH_SIZE, (statement, seat) -> {
+                statement.setObject(1, seat.positionX());
+                statement.setObject(2, seat.positionY());
+                statement.setObject(3, seat.id());
+            });
+    }
+
+    @Override
+    public void deleteAllByIds(List<Long> seatIds) {
+        LOGGER.debug("Delete {} seats", seatIds.size());
+        for (int from = 0; from < seatIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = seatIds.subList(from, Math.min(from + BATCH_SIZE, seatIds.size()));
+            jdbcTemplate.update("DELETE FROM seat WHERE seat_id IN (" + "?,".repeat(batch.size() - 1) + "?)",
+                batch.toArray());
+        }
+    }
+}
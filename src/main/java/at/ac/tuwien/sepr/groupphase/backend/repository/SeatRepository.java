@@ -1,7 +1,10 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.SeatRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,9 +13,10 @@ import java.util.List;
  * Repository for managing {@link Seat} entities.
  * Provides methods for CRUD operations and custom queries related to individual seats in sectors.
  * Seats represent specific seating positions within a sector, each with their own row and number.
+ * The seats of whole halls are written through {@link SeatBatchRepository}.
  */
 @Repository
-public interface SeatRepository extends JpaRepository<Seat, Long> {
+public interface SeatRepository extends JpaRepository<Seat, Long>, SeatBatchRepository {
 
     /**
      * Find all seats by their IDs.
@@ -22,4 +26,20 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
      * @return list of seats matching the provided IDs
      */
     List<Seat> findAllById(Iterable<Long> ids);
+
+    /**
+     * Find the geometry of all seats of a hall, ordered by sector and seat ID.
+     * Used to build the cached hall layouts without loading the seat entities.
+     *
+     * @param hallId the ID of the hall
+     * @return the geometry of every seat
+     */
+    @Query("""
+        SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.SeatRow(s.seatId, sec.id, s.rowSeat, s.columnSeat, s.positionX, s.positionY)
+        FROM Seat s
+        JOIN s.sector sec
+        WHERE sec.hall.id = :hallId
+        ORDER BY sec.id ASC, s.seatId ASC
+        """)
+    List<SeatRow> findLayoutRowsByHallId(@Param("hallId") Long hallId);
 } 
\ No newline at end of file
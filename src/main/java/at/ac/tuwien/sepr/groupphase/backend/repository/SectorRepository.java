@@ -1,6 +1,7 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.SectorRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,4 +25,14 @@ public interface SectorRepository extends JpaRepository<Sector, Long> {
      */
     @Query("SELECT DISTINCT s FROM Sector s LEFT JOIN FETCH s.seats WHERE s.id IN :ids")
     List<Sector> findAllByIdWithSeats(@Param("ids") Iterable<Long> ids);
-} 
\ No newline at end of file
+
+    /**
+     * Find the layout columns of all sectors of a hall, ordered by ID.
+     *
+     * @param hallId the ID of the hall
+     * @return the layout columns of every sector
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.SectorRow(s.id, s.sectorName, s.rows, s.columns, s.price) "
+        + "FROM Sector s WHERE s.hall.id = :hallId ORDER BY s.id ASC")
+    List<SectorRow> findLayoutRowsByHallId(@Param("hallId") Long hallId);
+}
@@ -2,13 +2,21 @@ package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowArtistItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.HallLayoutVersion;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowSearchItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -110,6 +118,55 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
         @Param("type") String type
     );
 
+    /**
+     * Find future shows among the given ones, with the remaining filters of {@link #findByFilters}.
+     * Used once the search index matched the show and event names.
+     *
+     * @param ids the IDs of the shows matching the name filters, must not be empty
+     * @param date optional specific date filter
+     * @param timeFrom optional start time filter
+     * @param timeTo optional end time filter
+     * @param maxPrice optional maximum price filter
+     * @param minPrice optional minimum price filter
+     * @param venueId optional venue ID filter
+     * @param type optional show type filter
+     * @return filtered list of future shows
+     */
+    @Query("""
+        SELECT DISTINCT s FROM Show s
+        LEFT JOIN FETCH s.event e
+        LEFT JOIN FETCH s.artists
+        WHERE s.id IN :ids
+        AND (:date IS NULL OR s.date = :date)
+        AND (:timeFrom IS NULL OR s.time >= :timeFrom)
+        AND (:timeTo IS NULL OR s.time <= :timeTo)
+        AND (:venueId IS NULL OR s.venue.id = :venueId)
+        AND (:type IS NULL OR s.eventType = :type)
+        AND (:minPrice IS NULL OR s.minPrice <= :minPrice)
+        AND (:maxPrice IS NULL OR s.maxPrice >= :maxPrice)
+        AND (s.date > CURRENT_DATE OR (s.date = CURRENT_DATE AND s.time > CURRENT_TIME))
+        ORDER BY s.date ASC, s.time ASC
+        """)
+    List<Show> findByIdsAndFilters(
+        @Param("ids") Collection<Long> ids,
+        @Param("date") LocalDate date,
+        @Param("timeFrom") LocalTime timeFrom,
+        @Param("timeTo") LocalTime timeTo,
+        @Param("maxPrice") Double maxPrice,
+        @Param("minPrice") Double minPrice,
+        @Param("venueId") Long venueId,
+        @Param("type") String type
+    );
+
+    /**
+     * Find the searchable columns of all shows.
+     * Used to build the search index.
+     *
+     * @return the searchable columns of every show
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowSearchItem(s.id, s.name, e.name) FROM Show s LEFT JOIN s.event e")
+    List<ShowSearchItem> findSearchableFields();
+
     /**
      * Find all future shows ordered by date and time.
      *
@@ -122,6 +179,58 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
         """)
     List<Show> findAllByOrderByDateAscTimeAsc();
 
+    /**
+     * Find the list columns of all future shows ordered by date and time, without loading the show entities.
+     * The artists are read separately by {@link #findArtistItemsByShowIds(Collection)}.
+     *
+     * @return ordered list of all future shows
+     */
+    @Query("""
+        SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem(
+            s.id, s.name, s.date, s.time, s.summary, s.eventType, s.imageUrl)
+        FROM Show s
+        WHERE (s.date > CURRENT_DATE OR (s.date = CURRENT_DATE AND s.time > CURRENT_TIME))
+        ORDER BY s.date ASC, s.time ASC
+        """)
+    List<ShowListItem> findUpcomingListItems();
+
+    /**
+     * Find the list columns of the next page of future shows ordered by date, time and ID, following the given show.
+     *
+     * @param date the date of the last show of the previous page, or null for the first page
+     * @param time the time of the last show of the previous page, or null for the first page
+     * @param id the ID of the last show of the previous page, or null for the first page
+     * @param pageable the size of the page
+     * @return the shows following the given one
+     */
+    @Query("""
+        SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem(
+            s.id, s.name, s.date, s.time, s.summary, s.eventType, s.imageUrl)
+        FROM Show s
+        WHERE (s.date > CURRENT_DATE OR (s.date = CURRENT_DATE AND s.time > CURRENT_TIME))
+        AND (:id IS NULL
+            OR s.date > :date
+            OR (s.date = :date AND (s.time > :time OR (s.time = :time AND s.id > :id))))
+        ORDER BY s.date ASC, s.time ASC, s.id ASC
+        """)
+    List<ShowListItem> findListItemPageAfter(@Param("date") LocalDate date, @Param("time") LocalTime time,
+                                             @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Find the list columns of the artists of the given shows, without loading the artist entities.
+     *
+     * @param showIds the IDs of the shows
+     * @return one row per show and artist
+     */
+    @Query("""
+        SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowArtistItem(
+            s.id, a.id, a.name, a.summary, a.text, a.imageUrl)
+        FROM Show s JOIN s.artists a
+        WHERE s.id IN :showIds
+        ORDER BY a.id ASC
+        """)
+    List<ShowArtistItem> findArtistItemsByShowIds(@Param("showIds") Collection<Long> showIds);
+
     /**
      * Find shows by IDs with their associated artists.
      *
@@ -133,6 +242,15 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
         + "WHERE s.id IN :ids")
     List<Show> findAllByIdsWithArtists(@Param("ids") List<Long> ids);
 
+    /**
+     * Find the hall of a show and the version of its layout.
+     *
+     * @param showId the ID of the show
+     * @return the hall and its layout version, or empty if the show does not exist or has no hall
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.HallLayoutVersion(h.id, h.layoutVersion) FROM Show s JOIN s.hall h WHERE s.id = :showId")
+    Optional<HallLayoutVersion> findHallLayoutVersionByShowId(@Param("showId") Long showId);
+
     /**
      * Find future shows for a specific hall.
      *
@@ -196,4 +314,16 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
      */
     @Query("SELECT s FROM Show s WHERE s.venue.id = :venueId")
     List<Show> findByVenueId(@Param("venueId") Long venueId);
-}
\ No newline at end of file
+
+    /**
+     * Adds a delta to the sold seats of a show in a single statement, without reading the show first.
+     *
+     * @param showId the ID of the show
+     * @param delta the number of seats to add, negative to subtract
+     * @return the number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Show s SET s.soldSeats = s.soldSeats + :delta WHERE s.id = :showId")
+    int incrementSoldSeats(@Param("showId") Long showId, @Param("delta") int delta);
+}
@@ -1,7 +1,11 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.ShowSector;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.StandingCapacityItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -41,4 +45,69 @@ public interface ShowSectorRepository extends JpaRepository<ShowSector, Long> {
      * @return a list of matching ShowSector entities
      */
     List<ShowSector> findBySector_IdOrStandingSector_Id(Long sectorId, Long standingSectorId);
-}
\ No newline at end of file
+
+    /**
+     * Find the capacity and the taken places of a standing sector for a show.
+     *
+     * @param showId the ID of the show
+     * @param standingSectorId the ID of the standing sector
+     * @return the capacity, or empty if the sector is not part of the show
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.StandingCapacityItem(ss.show.id, st.id, st.capacity, ss.takenCapacity) "
+        + "FROM ShowSector ss JOIN ss.standingSector st "
+        + "WHERE ss.show.id = :showId AND st.id = :standingSectorId")
+    Optional<StandingCapacityItem> findStandingCapacity(@Param("showId") Long showId, @Param("standingSectorId") Long standingSectorId);
+
+    /**
+     * Find the capacity and the taken places of all standing sectors of upcoming shows.
+     *
+     * @return the capacities of all standing sectors of shows taking place today or later
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.StandingCapacityItem(ss.show.id, st.id, st.capacity, ss.takenCapacity) "
+        + "FROM ShowSector ss JOIN ss.standingSector st "
+        + "WHERE ss.show.date >= CURRENT_DATE")
+    List<StandingCapacityItem> findStandingCapacitiesOfUpcomingShows();
+
+    /**
+     * Takes places of a standing sector for a show, but only if the capacity is not exceeded.
+     *
+     * @param showId the ID of the show
+     * @param standingSectorId the ID of the standing sector
+     * @param count the number of places to take
+     * @param capacity the capacity of the standing sector
+     * @return the number of updated rows, 0 if the places could not be taken
+     */
+    @Modifying
+    @Query("UPDATE ShowSector ss SET ss.takenCapacity = ss.takenCapacity + :count "
+        + "WHERE ss.show.id = :showId AND ss.standingSector.id = :standingSectorId "
+        + "AND ss.takenCapacity + :count <= :capacity")
+    int takeStandingCapacity(@Param("showId") Long showId, @Param("standingSectorId") Long standingSectorId,
+                             @Param("count") int count, @Param("capacity") int capacity);
+
+    /**
+     * Gives back places of a standing sector for a show.
+     *
+     * @param showId the ID of the show
+     * @param standingSectorId the ID of the standing sector
+     * @param count the number of places to give back
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE ShowSector ss SET ss.takenCapacity = ss.takenCapacity - :count "
+        + "WHERE ss.show.id = :showId AND ss.standingSector.id = :standingSectorId "
+        + "AND ss.takenCapacity >= :count")
+    int releaseStandingCapacity(@Param("showId") Long showId, @Param("standingSectorId") Long standingSectorId,
+                                @Param("count") int count);
+
+    /**
+     * Recounts the taken places of all standing sectors from the tickets in the cart, reserved or purchased.
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE ShowSector ss SET ss.takenCapacity = CAST(("
+        + "SELECT COUNT(t) FROM Ticket t WHERE t.show = ss.show AND t.standingSector = ss.standingSector "
+        + "AND (t.inCart = true OR t.reserved = true OR t.purchased = true)) AS Integer) "
+        + "WHERE ss.standingSector IS NOT NULL")
+    int recountStandingCapacity();
+}
@@ -4,6 +4,8 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.StandingSector;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository for managing {@link StandingSector} entities.
  * Provides methods for CRUD operations and custom queries related to standing sectors in venues.
@@ -11,4 +13,12 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface StandingSectorRepository extends JpaRepository<StandingSector, Long> {
-} 
\ No newline at end of file
+
+    /**
+     * Find all standing sectors of a hall, ordered by ID.
+     *
+     * @param hallId the ID of the hall
+     * @return the standing sectors
+     */
+    List<StandingSector> findByHallIdOrderByIdAsc(Long hallId);
+}
@@ -2,11 +2,18 @@ package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.ApplicationUser;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.CartHold;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.OccupiedSeat;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowCartCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,6 +49,26 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
      */
     List<Ticket> findByOrderId(Long orderId);
 
+    /**
+     * Find the purchased or reserved tickets of an order together with everything printed on them,
+     * so that the tickets of a whole order are loaded with a single query.
+     *
+     * @param orderId the ID of the order
+     * @return the printable tickets of the order, ordered by ID
+     */
+    @Query("SELECT t FROM Ticket t "
+        + "LEFT JOIN FETCH t.user "
+        + "JOIN FETCH t.show s "
+        + "LEFT JOIN FETCH s.venue "
+        + "LEFT JOIN FETCH s.hall "
+        + "LEFT JOIN FETCH s.event "
+        + "LEFT JOIN FETCH t.seat se "
+        + "LEFT JOIN FETCH se.sector "
+        + "LEFT JOIN FETCH t.standingSector "
+        + "WHERE t.order.id = :orderId AND (t.purchased = true OR t.reserved = true) "
+        + "ORDER BY t.id")
+    List<Ticket> findPrintableByOrderId(@Param("orderId") Long orderId);
+
     /**
      * Delete all reserved tickets for a specific user.
      * Used for cleanup of expired reservations.
@@ -77,4 +104,86 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     Long countByStandingSectorIdAndShowIdAndInCartTrueOrReservedTrueOrPurchasedTrue(
         @Param("sectorId") Long sectorId,
         @Param("showId") Long showId);
-}
\ No newline at end of file
+
+    /**
+     * Find the IDs of all seats of a show that are occupied by a ticket in the cart, reserved or purchased.
+     * Used to load the seat occupancy of a single show.
+     *
+     * @param showId the ID of the show
+     * @return ascending list of occupied seat IDs
+     */
+    @Query("""
+        SELECT t.seat.seatId FROM Ticket t
+        WHERE t.show.id = :showId
+        AND t.seat IS NOT NULL
+        AND (t.inCart = true OR t.reserved = true OR t.purchased = true)
+        ORDER BY t.seat.seatId ASC
+        """)
+    List<Long> findOccupiedSeatIdsByShowId(@Param("showId") Long showId);
+
+    /**
+     * Find all occupied seats of shows that have not yet taken place.
+     * Used to rebuild the seat occupancy of all upcoming shows at once.
+     *
+     * @return the occupied seats ordered by show and seat
+     */
+    @Query("""
+        SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.OccupiedSeat(t.show.id, t.seat.seatId) FROM Ticket t
+        WHERE t.seat IS NOT NULL
+        AND t.show.date >= CURRENT_DATE
+        AND (t.inCart = true OR t.reserved = true OR t.purchased = true)
+        ORDER BY t.show.id ASC, t.seat.seatId ASC
+        """)
+    List<OccupiedSeat> findOccupiedSeatsOfUpcomingShows();
+
+    /**
+     * Find all tickets of a user that are either in the cart or reserved.
+     *
+     * @param user the user whose held tickets to find
+     * @return list of tickets in the cart or reserved by the user
+     */
+    @Query("SELECT t FROM Ticket t WHERE t.user = :user AND (t.inCart = true OR t.reserved = true)")
+    List<Ticket> findInCartOrReservedByUser(@Param("user") ApplicationUser user);
+
+    /**
+     * Find the ID and the time it was put into the cart of every ticket that is in a cart.
+     * Used to rebuild the pending cart holds on startup.
+     *
+     * @return the tickets in a cart
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.CartHold(t.id, t.date) FROM Ticket t WHERE t.inCart = true")
+    List<CartHold> findCartHolds();
+
+    /**
+     * Count the users holding tickets of each show in their cart.
+     *
+     * @return the number of users per show, only for shows with tickets in a cart
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowCartCount(t.show.id, COUNT(DISTINCT t.user.id)) "
+        + "FROM Ticket t WHERE t.inCart = true GROUP BY t.show.id")
+    List<ShowCartCount> countCartsByShow();
+
+    /**
+     * Find those of the given tickets that are still in a cart and were put there before the cutoff.
+     *
+     * @param ids the IDs of the tickets to check
+     * @param cutoff tickets put into the cart before this time are expired
+     * @return list of expired cart tickets
+     */
+    @Query("SELECT t FROM Ticket t WHERE t.id IN :ids AND t.inCart = true AND t.date < :cutoff")
+    List<Ticket> findExpiredCartTickets(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Mark every ticket that is in a cart, reserved or purchased as active.
+     * Used to fill in the marker for tickets stored before it existed.
+     *
+     * @return the number of tickets marked
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Ticket t SET t.active = true
+        WHERE t.active IS NULL AND (t.inCart = true OR t.reserved = true OR t.purchased = true)
+        """)
+    int markHeldTicketsActive();
+}
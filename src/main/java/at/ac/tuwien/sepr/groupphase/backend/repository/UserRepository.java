@@ -2,6 +2,7 @@ package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.ApplicationUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -28,6 +29,14 @@ public interface UserRepository extends JpaRepository<ApplicationUser, Long> {
      */
     List<ApplicationUser> findByBlocked(Boolean blocked);
 
+    /**
+     * Finds the email addresses of all blocked users, without loading the users themselves.
+     *
+     * @return the email addresses of the blocked users
+     */
+    @Query("SELECT u.email FROM ApplicationUser u WHERE u.blocked = true")
+    List<String> findBlockedEmails();
+
     /**
      * Finds all users in the database.
      *
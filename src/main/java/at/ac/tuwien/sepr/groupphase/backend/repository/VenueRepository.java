@@ -1,12 +1,20 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Venue;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.VenueSearchItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository for managing {@link Venue} entities.
@@ -23,6 +31,24 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
      */
     List<Venue> findByNameContainingIgnoreCase(String query);
 
+    /**
+     * Stream all venues ordered by ID. Must be consumed within a transaction and closed afterwards.
+     *
+     * @return stream of all venues
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<Venue> streamAllByOrderByIdAsc();
+
+    /**
+     * Find the next page of venues ordered by ID, following the given venue.
+     *
+     * @param id the ID of the last venue of the previous page, or null for the first page
+     * @param pageable the size of the page
+     * @return the venues following the given one
+     */
+    @Query("SELECT v FROM Venue v WHERE :id IS NULL OR v.id > :id ORDER BY v.id ASC")
+    List<Venue> findPageAfter(@Param("id") Long id, Pageable pageable);
+
     /**
      * Find venues based on multiple filter criteria.
      * All parameters are optional and can be null. If a parameter is null, it will not be used in the filter.
@@ -46,6 +72,52 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
                             @Param("county") String county,
                             @Param("postalCode") String postalCode);
 
+    /**
+     * Find the given venues with their hall IDs.
+     *
+     * @param ids the IDs of the venues
+     * @return the venues found, in no particular order
+     */
+    @Query("SELECT DISTINCT v FROM Venue v LEFT JOIN FETCH v.hallIds WHERE v.id IN :ids")
+    List<Venue> findAllByIdWithHalls(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Check whether a venue with the given unique key exists, other than the given one.
+     * Uses the unique index on the key.
+     *
+     * @param uniqueKey the key, see {@link Venue#uniqueKeyOf(String, String)}
+     * @param id the ID of the venue to ignore, or null to check all venues
+     * @return true if another venue has the key
+     */
+    @Query("SELECT COUNT(v) > 0 FROM Venue v WHERE v.uniqueKey = :uniqueKey AND (:id IS NULL OR v.id <> :id)")
+    boolean existsOtherByUniqueKey(@Param("uniqueKey") String uniqueKey, @Param("id") Long id);
+
+    /**
+     * Find which of the given unique keys are taken.
+     * Used to check a whole batch of imported venues at once.
+     *
+     * @param uniqueKeys the keys
+     * @return the keys that belong to a venue
+     */
+    @Query("SELECT v.uniqueKey FROM Venue v WHERE v.uniqueKey IN :uniqueKeys")
+    Set<String> findTakenUniqueKeys(@Param("uniqueKeys") Collection<String> uniqueKeys);
+
+    /**
+     * Find the venues stored before they had a unique key.
+     *
+     * @return the venues without a key
+     */
+    List<Venue> findByUniqueKeyIsNull();
+
+    /**
+     * Find the searchable columns of all venues.
+     * Used to build the search index.
+     *
+     * @return the searchable columns of every venue
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.repository.projection.VenueSearchItem(v.id, v.name, v.street, v.city, v.county, v.postalCode) FROM Venue v")
+    List<VenueSearchItem> findSearchableFields();
+
     @Query("SELECT DISTINCT v.city FROM Venue v WHERE v.city IS NOT NULL")
     List<String> findDistinctCities();
 
@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * The searchable columns of an artist, read to build the search index.
+ */
+public record ArtistSearchItem(Long id, String name) {
+}
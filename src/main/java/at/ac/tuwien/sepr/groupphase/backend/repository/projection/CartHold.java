@@ -0,0 +1,9 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * A ticket in a cart, and the time it was put there.
+ */
+public record CartHold(Long ticketId, LocalDateTime date) {
+}
@@ -0,0 +1,10 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * The columns of an event that event lists display, read without loading the event entity and its shows.
+ */
+public record EventListItem(Long id, String name, String summary, String type, LocalDate durationFrom,
+                            LocalDate durationTo, Integer soldSeats, String imageUrl) {
+}
@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * The searchable columns of an event, read to build the search index.
+ */
+public record EventSearchItem(Long id, String name, String type, String text) {
+}
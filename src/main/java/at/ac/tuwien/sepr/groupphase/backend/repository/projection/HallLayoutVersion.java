@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * The hall a show takes place in, and the version of its layout.
+ */
+public record HallLayoutVersion(Long hallId, Integer layoutVersion) {
+}
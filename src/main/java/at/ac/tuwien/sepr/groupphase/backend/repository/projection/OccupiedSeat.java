@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * A seat of a show that is held by a ticket in a cart, reserved or purchased.
+ */
+public record OccupiedSeat(Long showId, Long seatId) {
+}
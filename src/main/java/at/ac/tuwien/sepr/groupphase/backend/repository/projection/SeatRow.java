@@ -0,0 +1,9 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * The columns of a seat, written and compared in bulk without the seat entity.
+ *
+ * @param id the ID of the seat, or null for a seat that is not written yet
+ */
+public record SeatRow(Long id, Long sectorId, Integer row, Integer column, Integer positionX, Integer positionY) {
+}
@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * The layout columns of a sector, read without the sector entity and its seats.
+ */
+public record SectorRow(Long id, String sectorName, Integer rows, Integer columns, Long price) {
+}
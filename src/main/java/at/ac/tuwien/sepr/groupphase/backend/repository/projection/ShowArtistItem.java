@@ -0,0 +1,24 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+
+/**
+ * An artist of a show, read without loading the artist entity and its shows and events.
+ */
+public record ShowArtistItem(Long showId, Long id, String name, String summary, String text, String imageUrl) {
+
+    /**
+     * Creates a detached artist holding the read columns, as show lists display it.
+     *
+     * @return the artist, without shows and events
+     */
+    public Artist toArtist() {
+        return Artist.ArtistBuilder.anArtist()
+            .withId(id)
+            .withName(name)
+            .withSummary(summary)
+            .withText(text)
+            .withImageUrl(imageUrl)
+            .build();
+    }
+}
@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * The number of users holding tickets of a show in their cart.
+ */
+public record ShowCartCount(Long showId, Long users) {
+}
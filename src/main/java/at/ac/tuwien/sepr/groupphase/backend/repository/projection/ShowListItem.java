@@ -0,0 +1,21 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The columns of a show that show lists display, read without loading the show entity.
+ * The artists are read by a second query and added afterwards.
+ */
+public record ShowListItem(Long id, String name, LocalDate date, LocalTime time, String summary, String eventType,
+                           String imageUrl, Set<Artist> artists) {
+
+    public ShowListItem(Long id, String name, LocalDate date, LocalTime time, String summary, String eventType,
+                        String imageUrl) {
+        this(id, name, date, time, summary, eventType, imageUrl, new LinkedHashSet<>());
+    }
+}
@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * The searchable columns of a show, read to build the search index.
+ */
+public record ShowSearchItem(Long id, String name, String eventName) {
+}
@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * The capacity of a standing sector and the places of it that are taken for a show.
+ */
+public record StandingCapacityItem(Long showId, Long standingSectorId, Integer capacity, Integer takenCapacity) {
+}
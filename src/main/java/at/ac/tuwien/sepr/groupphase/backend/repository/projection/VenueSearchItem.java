@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.projection;
+
+/**
+ * The searchable columns of a venue, read to build the search index.
+ */
+public record VenueSearchItem(Long id, String name, String street, String city, String county, String postalCode) {
+}
@@ -1,8 +1,10 @@
 package at.ac.tuwien.sepr.groupphase.backend.security;
 
 import at.ac.tuwien.sepr.groupphase.backend.config.properties.SecurityProperties;
+import at.ac.tuwien.sepr.groupphase.backend.security.VerifiedTokenCache.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.io.IOException;
@@ -29,9 +31,16 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final SecurityProperties securityProperties;
+    private final VerifiedTokenCache verifiedTokenCache;
+    // the key and the parser are immutable and thread-safe, so they are built once instead of per request
+    private final JwtParser parser;
 
-    public JwtAuthorizationFilter(SecurityProperties securityProperties) {
+    public JwtAuthorizationFilter(SecurityProperties securityProperties, VerifiedTokenCache verifiedTokenCache) {
         this.securityProperties = securityProperties;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.parser = Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(securityProperties.getJwtSecret().getBytes()))
+            .build();
     }
 
     @Override
@@ -82,14 +91,23 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             throw new IllegalArgumentException("Authorization header is malformed or missing");
         }
 
-        byte[] signingKey = securityProperties.getJwtSecret().getBytes();
-
         if (!token.startsWith("Bearer ")) {
             throw new IllegalArgumentException("Token must start with 'Bearer'");
         }
-        Claims claims = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(signingKey)).build()
-            .parseSignedClaims(token.replace(securityProperties.getAuthTokenPrefix(), ""))
-            .getPayload();
+        String jwt = token.replace(securityProperties.getAuthTokenPrefix(), "");
+        VerifiedToken verified = verifiedTokenCache.get(jwt);
+        if (verified == null) {
+            verified = verify(jwt);
+        }
+        String username = verified.username();
+
+        MDC.put("u", username);
+
+        return new UsernamePasswordAuthenticationToken(username, null, verified.authorities());
+    }
+
+    private VerifiedToken verify(String jwt) throws JwtException, IllegalArgumentException {
+        Claims claims = parser.parseSignedClaims(jwt).getPayload();
 
         String username = claims.getSubject();
 
@@ -102,8 +120,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             throw new IllegalArgumentException("Token contains no user");
         }
 
-        MDC.put("u", username);
-
-        return new UsernamePasswordAuthenticationToken(username, null, authorities);
+        if (claims.getExpiration() == null) {
+            // a token without expiration is verified every time rather than kept for good
+            return new VerifiedToken(username, authorities, Long.MIN_VALUE);
+        }
+        VerifiedToken verified = new VerifiedToken(username, authorities, claims.getExpiration().getTime());
+        verifiedTokenCache.put(jwt, verified);
+        return verified;
     }
 }
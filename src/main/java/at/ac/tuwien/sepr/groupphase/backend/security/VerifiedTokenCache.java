@@ -0,0 +1,114 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.config.properties.SecurityProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers tokens whose signature was already verified, until they expire, so that a client sending the same
+ * token with every request is not verified and parsed again each time.
+ * Tokens are kept by their SHA-256 hash only. The cache holds at most as many tokens as configured; once full,
+ * expired tokens are dropped first and then arbitrary ones, which are simply verified again when they come back.
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final Map<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    @Autowired
+    public VerifiedTokenCache(SecurityProperties securityProperties) {
+        this(securityProperties.getJwtVerifiedTokenCacheSize());
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize how many tokens are kept at most, 0 disables the cache
+     */
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Looks up a verified token.
+     *
+     * @param token the token as sent, without the prefix
+     * @return the user and roles of the token, or null if the token was not verified before or has expired since
+     */
+    public VerifiedToken get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        String key = hash(token);
+        VerifiedToken verified = tokens.get(key);
+        if (verified != null && verified.expiresAt() <= System.currentTimeMillis()) {
+            tokens.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    /**
+     * Remembers a token after its signature was verified.
+     *
+     * @param token the token as sent, without the prefix
+     * @param verified the user and roles of the token, and when it expires
+     */
+    public void put(String token, VerifiedToken verified) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (tokens.size() >= maxSize) {
+            evict();
+        }
+        tokens.put(hash(token), verified);
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(verified -> verified.expiresAt() <= now);
+        Iterator<VerifiedToken> iterator = tokens.values().iterator();
+        while (tokens.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        LOGGER.debug("Evicted verified tokens, {} left", tokens.size());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * What a verified token grants.
+     *
+     * @param expiresAt the expiration of the token in milliseconds since the epoch
+     */
+    public record VerifiedToken(String username, List<SimpleGrantedAuthority> authorities, long expiresAt) {
+    }
+}
@@ -4,6 +4,7 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ArtistService {
 
@@ -14,6 +15,23 @@ public interface ArtistService {
      */
     List<Artist> findAll();
 
+    /**
+     * Stream all artist entries ordered by id, without loading them all at once.
+     * Must be consumed within a transaction and closed afterwards.
+     *
+     * @return stream of all artist entries
+     */
+    Stream<Artist> streamAll();
+
+    /**
+     * Find a page of artist entries ordered by id, following the given artist.
+     *
+     * @param id the id of the last artist of the previous page, or null for the first page
+     * @param limit the maximum number of artists to return
+     * @return ordered list of the following artist entries
+     */
+    List<Artist> findAllAfter(Long id, int limit);
+
     /**
      * Find a single artist entry by id.
      *
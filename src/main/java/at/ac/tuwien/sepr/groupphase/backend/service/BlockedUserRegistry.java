@@ -0,0 +1,36 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+/**
+ * In-memory set of the email addresses of blocked users, so that authenticated requests can be checked
+ * against it without reading the user. It is loaded on startup and kept in step by the user service
+ * whenever a user is blocked or unblocked.
+ */
+public interface BlockedUserRegistry {
+
+    /**
+     * Checks whether a user is blocked.
+     *
+     * @param email the email address of the user
+     * @return true if the user is blocked
+     */
+    boolean isBlocked(String email);
+
+    /**
+     * Marks a user as blocked right away. If the surrounding transaction is rolled back, the user is unblocked again.
+     *
+     * @param email the email address of the user
+     */
+    void block(String email);
+
+    /**
+     * Marks a user as no longer blocked. If a transaction is active, this happens once it commits.
+     *
+     * @param email the email address of the user
+     */
+    void unblock(String email);
+
+    /**
+     * Reads the blocked users from the database again, replacing the current set.
+     */
+    void rebuild();
+}
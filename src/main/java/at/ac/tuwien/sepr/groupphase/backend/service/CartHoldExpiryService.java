@@ -0,0 +1,40 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps track of the tickets held in carts and releases them once their hold time is over.
+ * Expired holds are deleted in batches by a background job, so that reads never have to clean up.
+ */
+public interface CartHoldExpiryService {
+
+    /**
+     * Registers a ticket that was put into a cart.
+     *
+     * @param ticketId the ID of the ticket
+     * @param heldSince the time the ticket was put into the cart
+     */
+    void hold(Long ticketId, LocalDateTime heldSince);
+
+    /**
+     * Checks whether the hold of a ticket in a cart is over, even if it has not been released yet.
+     *
+     * @param ticket the ticket to check
+     * @return true if the ticket is in a cart and its hold time is over
+     */
+    boolean isExpired(Ticket ticket);
+
+    /**
+     * Deletes all tickets whose hold is over and releases their seats, standing places and sold seats.
+     *
+     * @return the number of deleted tickets
+     */
+    int expireHolds();
+
+    /**
+     * Rebuilds the pending holds from the tickets currently in a cart.
+     */
+    void rebuild();
+}
@@ -0,0 +1,28 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleShowDto;
+
+import java.util.List;
+
+/**
+ * In-memory copy of the mapped show and event lists that every visitor of the start page loads.
+ * A list is read again in the background once a {@link CatalogChangedEvent} says it changed or it
+ * got too old, and the previous copy is served until then.
+ */
+public interface CatalogCache {
+
+    /**
+     * Gets all upcoming shows, ordered by date and time.
+     *
+     * @return the shows, which must not be modified
+     */
+    List<SimpleShowDto> getShows();
+
+    /**
+     * Gets all current events, ordered by sold seats.
+     *
+     * @return the events, which must not be modified
+     */
+    List<SimpleEventDto> getEvents();
+}
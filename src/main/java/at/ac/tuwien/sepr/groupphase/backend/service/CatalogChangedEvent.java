@@ -0,0 +1,23 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+/**
+ * Published when a change makes what the catalog endpoints return for one of the catalogs outdated.
+ * Listeners that read the catalog again should only do so once the publishing transaction has committed.
+ *
+ * @param catalog the catalog that changed
+ */
+public record CatalogChangedEvent(Catalog catalog) {
+
+    /**
+     * The catalogs whose changes are tracked. Shows and events are also kept as lists in the {@link CatalogCache},
+     * all of them are counted by the {@link CatalogVersions}.
+     */
+    public enum Catalog {
+        SHOWS,
+        EVENTS,
+        ARTISTS,
+        VENUES,
+        HALLS,
+        NEWS
+    }
+}
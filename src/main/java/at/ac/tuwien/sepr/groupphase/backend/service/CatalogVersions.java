@@ -0,0 +1,17 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+/**
+ * Counts the committed changes of each catalog, so that the catalog endpoints can tag their responses and tell a
+ * client that its copy is still current without reading anything from the database.
+ */
+public interface CatalogVersions {
+
+    /**
+     * Builds the entity tag of a response that only depends on the given catalogs.
+     * The tag changes with every committed change of one of them, and whenever the application restarts.
+     *
+     * @param catalogs the catalogs the response is read from
+     * @return the tag, without quotes
+     */
+    String tagOf(CatalogChangedEvent.Catalog... catalogs);
+}
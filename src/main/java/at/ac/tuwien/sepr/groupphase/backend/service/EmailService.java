@@ -1,16 +1,21 @@
 package at.ac.tuwien.sepr.groupphase.backend.service;
 
-import java.io.IOException;
-
 public interface EmailService {
 
     /**
-     * Sends an email to the given email address.
+     * Queues an email to the given email address. It is stored in the email outbox as part of the current
+     * transaction and sent in the background once that commits, with failed sends retried later.
      *
      * @param toEmail the email address to send the email to
      * @param subject the subject of the email
      * @param content the content of the email
-     * @throws IOException if an error occurs while sending the email
      */
-    void sendEmail(String toEmail, String subject, String content) throws IOException;
+    void sendEmail(String toEmail, String subject, String content);
+
+    /**
+     * Sends the emails of the outbox that are due, grouping equal emails into one send.
+     *
+     * @return the number of emails sent
+     */
+    int dispatchDue();
 }
@@ -0,0 +1,22 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Delivers emails for the email outbox. Which transport is used is chosen with {@code app.email.transport}:
+ * {@code sendgrid} sends them through SendGrid, {@code log} only writes them to the log.
+ */
+public interface EmailTransport {
+
+    /**
+     * Sends the same email to each of the recipients, in one go where the transport allows it.
+     * The recipients do not see each other.
+     *
+     * @param subject the subject of the email
+     * @param content the plain text content of the email
+     * @param recipients the email addresses to send the email to
+     * @throws IOException if the email could not be handed over, none of the recipients should be considered reached
+     */
+    void send(String subject, String content, List<String> recipients) throws IOException;
+}
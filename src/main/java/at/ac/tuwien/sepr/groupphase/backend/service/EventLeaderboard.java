@@ -0,0 +1,41 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+
+import java.util.List;
+
+/**
+ * Ranking of the future and ongoing events by sold seats, overall and per event type, kept in memory.
+ * It follows the committed sold seat changes and is checked against the stored counters from time to time.
+ */
+public interface EventLeaderboard {
+
+    /**
+     * Gets the ten events with the most sold seats.
+     *
+     * @param type the event type, or null for all events
+     * @return the events, most sold first, which must not be modified
+     */
+    List<SimpleEventDto> getTopTen(String type);
+
+    /**
+     * Starts ranking a newly created event.
+     *
+     * @param event the event
+     */
+    void track(Event event);
+
+    /**
+     * Adds committed sold seats to a ranked event. Events that are not ranked are ignored.
+     *
+     * @param eventId the ID of the event
+     * @param delta the number of seats sold, negative for seats given back
+     */
+    void addSoldSeats(Long eventId, int delta);
+
+    /**
+     * Rebuilds the ranking from the stored events.
+     */
+    void reconcile();
+}
@@ -2,6 +2,7 @@ package at.ac.tuwien.sepr.groupphase.backend.service;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SearchEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -33,6 +34,24 @@ public interface EventService {
      */
     List<Event> findAll();
 
+    /**
+     * Get the list columns of all future or ongoing events ordered by sold seats, without loading their shows.
+     *
+     * @return the list of events
+     */
+    List<EventListItem> findAllListItems();
+
+    /**
+     * Get the list columns of a page of the future or ongoing events ordered by sold seats and id,
+     * following the given event. Events whose sales change between two pages may be skipped or listed twice.
+     *
+     * @param soldSeats the sold seats of the last event of the previous page, or null for the first page
+     * @param id the id of the last event of the previous page, or null for the first page
+     * @param limit the maximum number of events to return
+     * @return the following events
+     */
+    List<EventListItem> findAllAfter(Integer soldSeats, Long id, int limit);
+
     /**
      * Get an event by id.
      *
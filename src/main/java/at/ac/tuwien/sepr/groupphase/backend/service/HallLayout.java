@@ -0,0 +1,281 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable copy of the geometry of a hall in one layout version.
+ * Sectors are ordered by ID and the seats of all sectors are kept in one run of primitive arrays, ordered by
+ * sector and seat ID, so that a sector's seats are the indexes from {@link #firstSeat(int)} up to
+ * {@link #firstSeat(int) firstSeat(sector + 1)}.
+ */
+public final class HallLayout {
+    private final Long hallId;
+    private final int version;
+    private final String name;
+    private final Integer capacity;
+    private final Integer canvasWidth;
+    private final Integer canvasHeight;
+    private final Stage stage;
+    private final long[] sectorIds;
+    private final String[] sectorNames;
+    private final int[] sectorRows;
+    private final int[] sectorColumns;
+    private final long[] sectorPrices;
+    // one more entry than sectors, the last one is the seat count
+    private final int[] sectorFirstSeats;
+    private final long[] seatIds;
+    private final int[] seatRows;
+    private final int[] seatColumns;
+    private final int[] seatPositionsX;
+    private final int[] seatPositionsY;
+    private final List<StandingSector> standingSectors;
+
+    private HallLayout(Builder builder) {
+        this.hallId = builder.hallId;
+        this.version = builder.version;
+        this.name = builder.name;
+        this.capacity = builder.capacity;
+        this.canvasWidth = builder.canvasWidth;
+        this.canvasHeight = builder.canvasHeight;
+        this.stage = builder.stage;
+        int sectors = builder.sectorCount;
+        this.sectorIds = Arrays.copyOf(builder.sectorIds, sectors);
+        this.sectorNames = Arrays.copyOf(builder.sectorNames, sectors);
+        this.sectorRows = Arrays.copyOf(builder.sectorRows, sectors);
+        this.sectorColumns = Arrays.copyOf(builder.sectorColumns, sectors);
+        this.sectorPrices = Arrays.copyOf(builder.sectorPrices, sectors);
+        this.sectorFirstSeats = Arrays.copyOf(builder.sectorFirstSeats, sectors + 1);
+        this.sectorFirstSeats[sectors] = builder.seatCount;
+        int seats = builder.seatCount;
+        this.seatIds = Arrays.copyOf(builder.seatIds, seats);
+        this.seatRows = Arrays.copyOf(builder.seatRows, seats);
+        this.seatColumns = Arrays.copyOf(builder.seatColumns, seats);
+        this.seatPositionsX = Arrays.copyOf(builder.seatPositionsX, seats);
+        this.seatPositionsY = Arrays.copyOf(builder.seatPositionsY, seats);
+        this.standingSectors = List.copyOf(builder.standingSectors);
+    }
+
+    public Long getHallId() {
+        return hallId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public Integer getCanvasWidth() {
+        return canvasWidth;
+    }
+
+    public Integer getCanvasHeight() {
+        return canvasHeight;
+    }
+
+    /**
+     * Gets the stage.
+     *
+     * @return the stage, or null if the hall has none
+     */
+    public Stage getStage() {
+        return stage;
+    }
+
+    public int sectorCount() {
+        return sectorIds.length;
+    }
+
+    public long sectorId(int sector) {
+        return sectorIds[sector];
+    }
+
+    public String sectorName(int sector) {
+        return sectorNames[sector];
+    }
+
+    public int sectorRows(int sector) {
+        return sectorRows[sector];
+    }
+
+    public int sectorColumns(int sector) {
+        return sectorColumns[sector];
+    }
+
+    public long sectorPrice(int sector) {
+        return sectorPrices[sector];
+    }
+
+    /**
+     * Gets the index of the first seat of a sector.
+     *
+     * @param sector the index of the sector, or {@link #sectorCount()} for the end of the last sector
+     * @return the seat index
+     */
+    public int firstSeat(int sector) {
+        return sectorFirstSeats[sector];
+    }
+
+    public int seatCount() {
+        return seatIds.length;
+    }
+
+    public long seatId(int seat) {
+        return seatIds[seat];
+    }
+
+    public int seatRow(int seat) {
+        return seatRows[seat];
+    }
+
+    public int seatColumn(int seat) {
+        return seatColumns[seat];
+    }
+
+    public int seatPositionX(int seat) {
+        return seatPositionsX[seat];
+    }
+
+    public int seatPositionY(int seat) {
+        return seatPositionsY[seat];
+    }
+
+    /**
+     * Gets the IDs of all seats of the hall.
+     *
+     * @return the seat IDs, ordered by sector and seat ID
+     */
+    public List<Long> seatIds() {
+        return Arrays.stream(seatIds).boxed().toList();
+    }
+
+    /**
+     * Gets the standing sectors, ordered by ID.
+     *
+     * @return the standing sectors
+     */
+    public List<StandingSector> getStandingSectors() {
+        return standingSectors;
+    }
+
+    public record Stage(Long id, Integer positionX, Integer positionY, Integer width, Integer height) {
+    }
+
+    public record StandingSector(Long id, String sectorName, Integer capacity, Integer takenCapacity,
+                                 Integer positionX1, Integer positionY1, Integer positionX2, Integer positionY2,
+                                 Long price) {
+    }
+
+    /**
+     * Collects a layout sector by sector. The seats of a sector follow right after it.
+     */
+    public static final class Builder {
+        private final Long hallId;
+        private final int version;
+        private String name;
+        private Integer capacity;
+        private Integer canvasWidth;
+        private Integer canvasHeight;
+        private Stage stage;
+        private int sectorCount;
+        private long[] sectorIds = new long[4];
+        private String[] sectorNames = new String[4];
+        private int[] sectorRows = new int[4];
+        private int[] sectorColumns = new int[4];
+        private long[] sectorPrices = new long[4];
+        private int[] sectorFirstSeats = new int[5];
+        private int seatCount;
+        private long[] seatIds;
+        private int[] seatRows;
+        private int[] seatColumns;
+        private int[] seatPositionsX;
+        private int[] seatPositionsY;
+        private final List<StandingSector> standingSectors = new ArrayList<>();
+
+        /**
+         * Starts a layout.
+         *
+         * @param hallId the ID of the hall
+         * @param version the layout version of the hall
+         * @param expectedSeats the number of seats, to size the arrays
+         */
+        public Builder(Long hallId, int version, int expectedSeats) {
+            this.hallId = hallId;
+            this.version = version;
+            int seats = Math.max(expectedSeats, 1);
+            this.seatIds = new long[seats];
+            this.seatRows = new int[seats];
+            this.seatColumns = new int[seats];
+            this.seatPositionsX = new int[seats];
+            this.seatPositionsY = new int[seats];
+        }
+
+        public Builder hall(String name, Integer capacity, Integer canvasWidth, Integer canvasHeight) {
+            this.name = name;
+            this.capacity = capacity;
+            this.canvasWidth = canvasWidth;
+            this.canvasHeight = canvasHeight;
+            return this;
+        }
+
+        public Builder stage(Stage stage) {
+            this.stage = stage;
+            return this;
+        }
+
+        public Builder sector(long id, String name, int rows, int columns, long price) {
+            if (sectorCount == sectorIds.length) {
+                int length = sectorCount * 2;
+                sectorIds = Arrays.copyOf(sectorIds, length);
+                sectorNames = Arrays.copyOf(sectorNames, length);
+                sectorRows = Arrays.copyOf(sectorRows, length);
+                sectorColumns = Arrays.copyOf(sectorColumns, length);
+                sectorPrices = Arrays.copyOf(sectorPrices, length);
+                sectorFirstSeats = Arrays.copyOf(sectorFirstSeats, length + 1);
+            }
+            sectorIds[sectorCount] = id;
+            sectorNames[sectorCount] = name;
+            sectorRows[sectorCount] = rows;
+            sectorColumns[sectorCount] = columns;
+            sectorPrices[sectorCount] = price;
+            sectorFirstSeats[sectorCount] = seatCount;
+            sectorCount++;
+            return this;
+        }
+
+        public Builder seat(long id, int row, int column, int positionX, int positionY) {
+            if (seatCount == seatIds.length) {
+                int length = seatCount * 2;
+                seatIds = Arrays.copyOf(seatIds, length);
+                seatRows = Arrays.copyOf(seatRows, length);
+                seatColumns = Arrays.copyOf(seatColumns, length);
+                seatPositionsX = Arrays.copyOf(seatPositionsX, length);
+                seatPositionsY = Arrays.copyOf(seatPositionsY, length);
+            }
+            seatIds[seatCount] = id;
+            seatRows[seatCount] = row;
+            seatColumns[seatCount] = column;
+            seatPositionsX[seatCount] = positionX;
+            seatPositionsY[seatCount] = positionY;
+            seatCount++;
+            return this;
+        }
+
+        public Builder standingSector(StandingSector standingSector) {
+            standingSectors.add(standingSector);
+            return this;
+        }
+
+        public HallLayout build() {
+            return new HallLayout(this);
+        }
+    }
+}
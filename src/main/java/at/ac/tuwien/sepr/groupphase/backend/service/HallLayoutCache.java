@@ -0,0 +1,34 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+/**
+ * In-memory copy of the hall layouts, which are read for every show detail page and seat map but hardly ever change.
+ * A layout is read on first use and dropped once its hall is created, updated or deleted.
+ */
+public interface HallLayoutCache {
+
+    /**
+     * Gets the current layout of a hall.
+     *
+     * @param hallId the ID of the hall
+     * @return the layout
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if the hall does not exist
+     */
+    HallLayout get(Long hallId);
+
+    /**
+     * Gets the layout of a hall in a given version, reading it again if the cached copy is of another version.
+     *
+     * @param hallId the ID of the hall
+     * @param version the layout version the caller read from the database
+     * @return the layout
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if the hall does not exist
+     */
+    HallLayout get(Long hallId, int version);
+
+    /**
+     * Drops the layout of a hall once the current transaction commits.
+     *
+     * @param hallId the ID of the hall that was created, updated or deleted
+     */
+    void invalidate(Long hallId);
+}
@@ -25,8 +25,24 @@ public interface HallService {
      */
     Hall findOne(Long id);
 
+    /**
+     * Find the layouts of all halls.
+     *
+     * @return the layouts, ordered by hall id
+     */
+    List<HallLayout> findAllLayouts();
+
+    /**
+     * Find the layout of a specific hall.
+     *
+     * @param id the id of the hall
+     * @return the current layout of the hall
+     */
+    HallLayout findLayout(Long id);
+
     /**
      * Create a new hall.
+     * The seats are inserted in batches and are not part of the returned hall, {@link #findLayout(Long)} reads them.
      *
      * @param hallDto the hall to create
      * @return the created hall
@@ -35,6 +51,8 @@ public interface HallService {
 
     /**
      * Update an existing hall.
+     * Sectors and standing sectors are matched by ID, and the seats of a kept sector by row and column, so that only
+     * seats that are new, gone or moved are written. Like on creation, the seats are not part of the returned hall.
      *
      * @param hallDto the hall to update
      * @return the updated hall
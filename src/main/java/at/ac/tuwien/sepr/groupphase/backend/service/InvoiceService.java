@@ -0,0 +1,49 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+/**
+ * Renders the invoice PDFs of orders in the background, so that purchasing does not wait for them.
+ * Invoices to render are kept in an outbox table and handed to a bounded pool of workers,
+ * which retry failed attempts with a growing delay.
+ */
+public interface InvoiceService {
+
+    /**
+     * Requests the invoice of an order to be rendered, unless this has already been requested.
+     * The request is stored in the surrounding transaction and rendering starts once it commits.
+     *
+     * @param orderId the ID of the order
+     */
+    void requestInvoice(Long orderId);
+
+    /**
+     * Requests the invoice of a stored order that has none yet, e.g. one from before invoices were rendered in
+     * the background. The request is stored in a transaction of its own, so that several requests for the same
+     * order racing each other store it once and none of them fails.
+     *
+     * @param orderId the ID of the order
+     */
+    void requestMissingInvoice(Long orderId);
+
+    /**
+     * Checks whether rendering the invoice of an order has failed for good.
+     *
+     * @param orderId the ID of the order
+     * @return true if all attempts to render the invoice have failed
+     */
+    boolean hasFailed(Long orderId);
+
+    /**
+     * Renders the invoice of an order right away on the calling thread, if it is pending and not taken by a worker.
+     *
+     * @param orderId the ID of the order
+     * @return true if the invoice was rendered
+     */
+    boolean renderInvoice(Long orderId);
+
+    /**
+     * Hands the pending invoices that are due to the workers, as far as they have room for them.
+     *
+     * @return the number of invoices handed to the workers
+     */
+    int renderDueInvoices();
+}
@@ -0,0 +1,17 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+/**
+ * Limits how often logins may be attempted, separately per client address and per account.
+ * Each of them has a bucket of attempts that refills over time; an attempt takes one from both buckets.
+ */
+public interface LoginRateLimiter {
+
+    /**
+     * Takes an attempt for the client address and the account, before anything about the login is checked.
+     *
+     * @param clientAddress the address the login comes from
+     * @param email the account the login is for, may be null
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException if either bucket is empty
+     */
+    void acquire(String clientAddress, String email);
+}
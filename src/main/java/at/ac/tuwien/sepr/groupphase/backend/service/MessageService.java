@@ -2,7 +2,9 @@ package at.ac.tuwien.sepr.groupphase.backend.service;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Message;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MessageService {
 
@@ -13,6 +15,24 @@ public interface MessageService {
      */
     List<Message> findAll();
 
+    /**
+     * Stream all message entries ordered by published at date (descending), without loading them all at once.
+     * Must be consumed within a transaction and closed afterwards.
+     *
+     * @return stream of all message entries
+     */
+    Stream<Message> streamAll();
+
+    /**
+     * Find a page of message entries ordered by published at date (descending), following the given entry.
+     *
+     * @param publishedAt the published at date of the last entry of the previous page, or null for the first page
+     * @param id the id of the last entry of the previous page, or null for the first page
+     * @param limit the maximum number of entries to return
+     * @return ordered list of the following message entries
+     */
+    List<Message> findAllAfter(LocalDateTime publishedAt, Long id, int limit);
+
 
     /**
      * Find a single message entry by id.
@@ -3,8 +3,10 @@ package at.ac.tuwien.sepr.groupphase.backend.service;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Order;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import org.springframework.core.io.Resource;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderService {
     /**
@@ -43,22 +45,24 @@ public interface OrderService {
      *
      * @param invoiceId the ID of the cancellation invoice
      * @param userId the ID of the user requesting the PDF
-     * @return byte array containing the PDF data
+     * @return the stored PDF file, which is only read once it is written to the response
      * @throws NotFoundException if the invoice is not found
      * @throws ConflictException if the user is not authorized to access the invoice
      */
-    byte[] getCancellationInvoicePdf(Long invoiceId, Long userId) throws NotFoundException, ConflictException;
+    Resource getCancellationInvoicePdf(Long invoiceId, Long userId) throws NotFoundException, ConflictException;
 
     /**
      * Get the PDF file for an order invoice.
+     * The invoice is rendered in the background after the purchase, so it may not be ready yet.
      *
      * @param orderId the ID of the order
      * @param userId the ID of the user requesting the PDF
-     * @return byte array containing the PDF data
+     * @return the stored PDF file, which is only read once it is written to the response,
+     *     or empty if the invoice is still being rendered
      * @throws NotFoundException if the order is not found
      * @throws ConflictException if the user is not authorized to access the invoice
      */
-    byte[] getOrderPdf(Long orderId, Long userId) throws NotFoundException, ConflictException;
+    Optional<Resource> getOrderPdf(Long orderId, Long userId) throws NotFoundException, ConflictException;
 
     /**
      * Get all cancelled orders for a specific user.
@@ -0,0 +1,20 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+/**
+ * Checks passwords against their stored hashes on a bounded pool of workers, so that a burst of logins
+ * cannot occupy every request thread with hashing. Once all workers are busy and the line in front of them
+ * is full, further checks are turned away instead of waiting.
+ */
+public interface PasswordVerifier {
+
+    /**
+     * Checks a password against its stored hash, waiting for a free worker.
+     *
+     * @param rawPassword the password as entered
+     * @param encodedPassword the stored hash
+     * @return true if the password matches the hash
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException if too many checks
+     *     are already waiting
+     */
+    boolean matches(String rawPassword, String encodedPassword);
+}
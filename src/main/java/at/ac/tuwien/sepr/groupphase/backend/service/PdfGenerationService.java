@@ -4,6 +4,7 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import at.ac.tuwien.sepr.groupphase.backend.entity.CancellationInvoice;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Order;
 import java.io.OutputStream;
+import java.util.List;
 
 /**
  * Service for generating PDF documents.
@@ -19,6 +20,26 @@ public interface PdfGenerationService {
      */
     void generateTicketPdf(Ticket ticket, OutputStream outputStream) throws Exception;
 
+    /**
+     * Generates a single PDF document with one page per ticket, in the order of the given list.
+     * The tickets are rendered in parallel and written to the stream as soon as they are ready.
+     *
+     * @param tickets the tickets for which the PDF is to be generated
+     * @param outputStream the output stream to which the PDF will be written
+     * @throws Exception if an error occurs during PDF generation
+     */
+    void generateTicketsPdf(List<Ticket> tickets, OutputStream outputStream) throws Exception;
+
+    /**
+     * Generates a ZIP archive with one ticket PDF per ticket, in the order of the given list.
+     * The tickets are rendered in parallel and written to the stream as soon as they are ready.
+     *
+     * @param tickets the tickets for which the PDFs are to be generated
+     * @param outputStream the output stream to which the ZIP archive will be written
+     * @throws Exception if an error occurs during PDF generation
+     */
+    void generateTicketsZip(List<Ticket> tickets, OutputStream outputStream) throws Exception;
+
     /**
      * Generates an invoice PDF document for a given order.
      * The invoice includes company details, customer information, and itemized list of tickets
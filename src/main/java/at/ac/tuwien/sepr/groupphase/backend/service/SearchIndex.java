@@ -0,0 +1,97 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Venue;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory trigram index over the searchable text of shows, events, artists and venues.
+ * A search matches the documents whose fields contain the given texts, ignoring case, like the repository queries do.
+ * It returns no result when it cannot narrow the search, for example when no text is given, the index is not built
+ * yet or too many documents match, and the caller then falls back to the repository query.
+ */
+public interface SearchIndex {
+
+    /**
+     * Searches shows by name and by the name of their event.
+     *
+     * @param name the text the show name contains, or null
+     * @param eventName the text the event name contains, or null
+     * @return the IDs of the matching shows, best match first, or empty if the index cannot narrow the search
+     */
+    Optional<List<Long>> searchShows(String name, String eventName);
+
+    /**
+     * Searches events by name, type and description.
+     *
+     * @param name the text the event name contains, or null
+     * @param type the text the event type contains, or null
+     * @param text the text the event description contains, or null
+     * @return the IDs of the matching events, best match first, or empty if the index cannot narrow the search
+     */
+    Optional<List<Long>> searchEvents(String name, String type, String text);
+
+    /**
+     * Searches artists by name.
+     *
+     * @param name the text the artist name contains, or null
+     * @return the IDs of the matching artists, best match first, or empty if the index cannot narrow the search
+     */
+    Optional<List<Long>> searchArtists(String name);
+
+    /**
+     * Searches venues by name and address.
+     *
+     * @param name the text the venue name contains, or null
+     * @param street the text the street contains, or null
+     * @param city the text the city contains, or null
+     * @param county the text the county contains, or null
+     * @param postalCode the text the postal code contains, or null
+     * @return the IDs of the matching venues, best match first, or empty if the index cannot narrow the search
+     */
+    Optional<List<Long>> searchVenues(String name, String street, String city, String county, String postalCode);
+
+    /**
+     * Adds a saved show to the index or replaces its entry once the current transaction commits.
+     *
+     * @param show the show
+     */
+    void index(Show show);
+
+    /**
+     * Adds a saved event to the index or replaces its entry once the current transaction commits.
+     *
+     * @param event the event
+     */
+    void index(Event event);
+
+    /**
+     * Adds a saved artist to the index or replaces its entry once the current transaction commits.
+     *
+     * @param artist the artist
+     */
+    void index(Artist artist);
+
+    /**
+     * Adds a saved venue to the index or replaces its entry once the current transaction commits.
+     *
+     * @param venue the venue
+     */
+    void index(Venue venue);
+
+    /**
+     * Removes a deleted venue from the index once the current transaction commits.
+     *
+     * @param venueId the ID of the venue
+     */
+    void removeVenue(Long venueId);
+
+    /**
+     * Builds the index anew from the stored shows, events, artists and venues.
+     */
+    void rebuild();
+}
@@ -0,0 +1,29 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatMapLayoutDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatMapOccupancyDto;
+
+/**
+ * Compact seat maps for the show detail page, split into the hall geometry, which rarely changes,
+ * and the occupancy of a show, which clients poll.
+ */
+public interface SeatMapService {
+
+    /**
+     * Gets the geometry of a hall.
+     *
+     * @param hallId the ID of the hall
+     * @return the layout in its current version
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if the hall does not exist
+     */
+    SeatMapLayoutDto getLayout(Long hallId);
+
+    /**
+     * Gets the occupied seats and the taken standing places of a show.
+     *
+     * @param showId the ID of the show
+     * @return the occupancy, relative to the current layout of the show's hall
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if the show does not exist or has no hall
+     */
+    SeatMapOccupancyDto getOccupancy(Long showId);
+}
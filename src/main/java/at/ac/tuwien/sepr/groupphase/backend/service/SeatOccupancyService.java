@@ -0,0 +1,52 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * In-memory index of the seats of each show that are taken by a ticket in the cart, reserved or purchased.
+ * Replaces scanning the ticket table when checking whether a seat is still available.
+ */
+public interface SeatOccupancyService {
+
+    /**
+     * Atomically claims a seat of a show if it is not yet occupied.
+     * If the surrounding transaction is rolled back, the claim is released again.
+     *
+     * @param showId the ID of the show
+     * @param seatId the ID of the seat
+     * @return true if the seat was free and is now claimed, false if it is already occupied
+     */
+    boolean tryClaim(Long showId, Long seatId);
+
+    /**
+     * Releases a seat of a show. If a transaction is active, the seat is released once it commits.
+     *
+     * @param showId the ID of the show
+     * @param seatId the ID of the seat
+     */
+    void release(Long showId, Long seatId);
+
+    /**
+     * Checks whether a seat of a show is occupied.
+     *
+     * @param showId the ID of the show
+     * @param seatId the ID of the seat
+     * @return true if the seat is occupied
+     */
+    boolean isOccupied(Long showId, Long seatId);
+
+    /**
+     * Checks which of the given seats of a show are occupied, all at once.
+     *
+     * @param showId the ID of the show
+     * @param seatIds the IDs of the seats
+     * @return a bit set in which bit {@code i} is set if the {@code i}-th seat is occupied
+     */
+    BitSet findOccupied(Long showId, List<Long> seatIds);
+
+    /**
+     * Rebuilds the occupancy of all upcoming shows from the stored tickets.
+     */
+    void rebuild();
+}
@@ -3,9 +3,11 @@ package at.ac.tuwien.sepr.groupphase.backend.service;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SearchShowDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 public interface ShowService {
@@ -17,6 +19,25 @@ public interface ShowService {
      */
     List<Show> findAll();
 
+    /**
+     * Find the list columns of all upcoming show entries ordered by date and time, with their artists,
+     * without loading the show entities.
+     *
+     * @return ordered list of all upcoming show entries
+     */
+    List<ShowListItem> findAllListItems();
+
+    /**
+     * Find the list columns of a page of upcoming show entries ordered by date, time and id, following the given show.
+     *
+     * @param date the date of the last show of the previous page, or null for the first page
+     * @param time the time of the last show of the previous page, or null for the first page
+     * @param id the id of the last show of the previous page, or null for the first page
+     * @param limit the maximum number of shows to return
+     * @return ordered list of the following show entries
+     */
+    List<ShowListItem> findAllAfter(LocalDate date, LocalTime time, Long id, int limit);
+
     /**
      * Find a single show entry by id.
      *
@@ -33,6 +54,16 @@ public interface ShowService {
      */
     Show createShow(Show show) throws ConflictException;
 
+    /**
+     * Turns the flash sale mode of a show on or off.
+     * In flash sale mode, seats are claimed with a single insert that fails if the seat is already held.
+     *
+     * @param id the id of the show
+     * @param enabled whether the show is sold in flash sale mode
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if the show does not exist
+     */
+    void setFlashSale(Long id, boolean enabled);
+
     /**
      * Save an image and return the URL.
      *
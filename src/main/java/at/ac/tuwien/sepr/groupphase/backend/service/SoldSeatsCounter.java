@@ -0,0 +1,21 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+
+/**
+ * Collects changes of the sold seats of shows and their events and writes them behind.
+ * All changes of a transaction are summed up and applied right before it commits,
+ * with a single update statement per show and per event.
+ */
+public interface SoldSeatsCounter {
+
+    /**
+     * Adds a delta to the sold seats of a show and of its event.
+     * The given show and its event, if already loaded, reflect the change immediately.
+     * Without an active transaction, the change is written right away.
+     *
+     * @param show the show the seats were sold or given back for
+     * @param delta the number of seats sold, negative if seats were given back
+     */
+    void add(Show show, int delta);
+}
@@ -0,0 +1,46 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+/**
+ * In-memory ledger of the places taken in each standing sector of a show.
+ * Admission is decided by an atomic compare-and-add on the ledger, so that no count query is
+ * needed per request and concurrent requests cannot oversell a sector.
+ */
+public interface StandingCapacityService {
+
+    /**
+     * Atomically takes places of a standing sector for a show if enough capacity is left.
+     * The places are also taken in the database with a conditional update.
+     * If the surrounding transaction is rolled back, the places are given back again.
+     *
+     * @param showId the ID of the show
+     * @param standingSectorId the ID of the standing sector
+     * @param count the number of places to take
+     * @return true if the places were taken, false if the capacity would be exceeded
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if the standing sector does not exist
+     */
+    boolean tryReserve(Long showId, Long standingSectorId, int count);
+
+    /**
+     * Gives back places of a standing sector for a show.
+     * If a transaction is active, the ledger is updated once it commits.
+     *
+     * @param showId the ID of the show
+     * @param standingSectorId the ID of the standing sector
+     * @param count the number of places to give back
+     */
+    void release(Long showId, Long standingSectorId, int count);
+
+    /**
+     * Returns the number of places taken in a standing sector for a show.
+     *
+     * @param showId the ID of the show
+     * @param standingSectorId the ID of the standing sector
+     * @return the number of taken places
+     */
+    int getTaken(Long showId, Long standingSectorId);
+
+    /**
+     * Recounts the taken places from the stored tickets and rebuilds the ledger of all upcoming shows.
+     */
+    void rebuild();
+}
@@ -94,6 +94,35 @@ public interface TicketService {
      */
     void generatePdfForTicket(Long ticketId, Long userId, OutputStream outputStream) throws NotFoundException, ConflictException;
 
+    /**
+     * Gets the purchased or reserved tickets of an order with everything printed on them, loaded in one go.
+     *
+     * @param orderId the ID of the order
+     * @param userId the ID of the user
+     * @return the printable tickets of the order, ordered by ID
+     * @throws NotFoundException if the order is not found
+     * @throws ConflictException if the order belongs to another user or has no printable tickets
+     */
+    List<Ticket> getPrintableTicketsByOrder(Long orderId, Long userId) throws NotFoundException, ConflictException;
+
+    /**
+     * Generates the ticket PDFs of the given tickets, either as one PDF with a page per ticket
+     * or as a ZIP archive with one PDF per ticket.
+     *
+     * @param tickets the tickets, as returned by {@link #getPrintableTicketsByOrder(Long, Long)}
+     * @param format the format of the bundle
+     * @param outputStream the output stream to write the bundle to
+     */
+    void generateTicketBundle(List<Ticket> tickets, BundleFormat format, OutputStream outputStream);
+
+    /**
+     * The formats in which the tickets of an order can be downloaded.
+     */
+    enum BundleFormat {
+        PDF,
+        ZIP
+    }
+
     /**
      * Get all tickets associated with an order.
      *
@@ -0,0 +1,76 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.UUID;
+
+/**
+ * Waiting room in front of ticket creation. Requests for the same show wait in line
+ * and only a bounded number of them is let into the {@link TicketService} at once.
+ * Once too many requests wait for a show, further ones are turned away.
+ * A request with tickets of several shows waits in the line of each of these shows, one after the other.
+ */
+public interface TicketWaitingRoom {
+
+    /**
+     * Gets in line for the show of the tickets and creates them once admitted. Returns right away,
+     * the caller's thread does not wait in line.
+     *
+     * @param tickets the tickets to create
+     * @return the created tickets once they are created, completed with a {@link ConflictException} if the tickets
+     *     cannot be created, or with a {@link at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException}
+     *     if the request was not admitted in time
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException if the line is full
+     */
+    CompletableFuture<List<Ticket>> createTickets(List<Ticket> tickets);
+
+    /**
+     * Puts the tickets in line for their show without waiting for them to be created.
+     * The progress can then be polled with {@link #getEntry(UUID, String)}.
+     *
+     * @param tickets the tickets to create
+     * @param owner the name of the user who is waiting
+     * @return the new entry of the waiting room
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException if the line is full
+     *     or the waiting room already holds too many entries
+     */
+    Entry enqueue(List<Ticket> tickets, String owner);
+
+    /**
+     * Returns the current state of an entry of the waiting room.
+     * An entry that could not be created reports this by throwing the exception ticket creation failed with.
+     *
+     * @param id the id of the entry
+     * @param owner the name of the user who is waiting
+     * @return the entry with its position and estimated wait, or the created tickets once done
+     * @throws ConflictException if the tickets could not be created
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if there is no such entry of the user
+     */
+    Entry getEntry(UUID id, String owner) throws ConflictException;
+
+    /**
+     * State of an entry of the waiting room.
+     */
+    enum State {
+        WAITING,
+        ADMITTED,
+        DONE
+    }
+
+    /**
+     * An entry of the waiting room.
+     *
+     * @param id the id to poll the entry with
+     * @param showId the show whose line the entry waits in, or its first show once it is admitted
+     * @param state the state of the entry
+     * @param position the position in line, 0 once admitted
+     * @param estimatedWait the estimated time until the entry is admitted
+     * @param tickets the created tickets once done, empty before
+     */
+    record Entry(UUID id, Long showId, State state, long position, Duration estimatedWait, List<Ticket> tickets) {
+    }
+}
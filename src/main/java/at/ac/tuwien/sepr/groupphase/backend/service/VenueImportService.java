@@ -0,0 +1,41 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueImportResultDto;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * Imports venues with their halls in bulk.
+ * The input is read as it arrives and written in batches of venues, each in its own transaction, so that an import
+ * of any size neither has to fit into memory nor into one transaction. A venue that is invalid or already exists is
+ * left out and reported, the other venues are imported.
+ */
+public interface VenueImportService {
+
+    /**
+     * Imports venues from CSV.
+     * The header names the columns {@code name}, {@code street}, {@code city}, {@code county} and
+     * {@code postalCode}, and optionally {@code hallName}, {@code hallCapacity}, {@code canvasWidth} and
+     * {@code canvasHeight}. Consecutive rows of the same venue each add a hall to it.
+     *
+     * @param csv the CSV
+     * @return how many venues were imported, and why the others were not
+     * @throws IOException if the CSV cannot be read
+     * @throws ValidationException if the CSV has no header or the header lacks a column
+     */
+    VenueImportResultDto importCsv(Reader csv) throws IOException, ValidationException;
+
+    /**
+     * Imports venues from a JSON array of {@link at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueImportDto}.
+     * A venue that is not well-formed JSON ends the import, as the array cannot be read past it.
+     *
+     * @param json the JSON
+     * @return how many venues were imported, and why the others were not
+     * @throws IOException if the JSON cannot be read
+     * @throws ValidationException if the JSON is not an array
+     */
+    VenueImportResultDto importJson(InputStream json) throws IOException, ValidationException;
+}
@@ -5,10 +5,10 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Venue;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
-import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SearchVenueDto;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface VenueService {
     /**
@@ -18,6 +18,23 @@ public interface VenueService {
      */
     List<Venue> findAll();
 
+    /**
+     * Stream all venue entries ordered by id, without loading them all at once.
+     * Must be consumed within a transaction and closed afterwards.
+     *
+     * @return stream of all venue entries
+     */
+    Stream<Venue> streamAll();
+
+    /**
+     * Find a page of venue entries ordered by id, following the given venue.
+     *
+     * @param id the id of the last venue of the previous page, or null for the first page
+     * @param limit the maximum number of venues to return
+     * @return ordered list of the following venue entries
+     */
+    List<Venue> findAllAfter(Long id, int limit);
+
     /**
      * Find a single venue entry by id.
      *
@@ -28,6 +45,8 @@ public interface VenueService {
 
     /**
      * Create a new venue entry.
+     * A venue with the same name and street as another venue is a duplicate. Both are compared regardless of case,
+     * surrounding or repeated whitespace and Unicode compatibility forms (NFKC).
      *
      * @param venueDto to create
      * @return created venue entry
@@ -36,6 +55,8 @@ public interface VenueService {
 
     /**
      * Update an existing venue entry.
+     * Duplicates are found as when creating a venue. A venue that already duplicated another one before this rule
+     * existed can still be updated as long as it keeps its name and street.
      *
      * @param id the id of the venue to update
      * @param venueDto to update
@@ -59,12 +80,12 @@ public interface VenueService {
     List<Venue> searchVenuesByName(String query);
 
     /**
-     * Get all halls for a specific venue.
+     * Get the layouts of all halls for a specific venue.
      *
      * @param id the id of the venue
-     * @return list of halls associated with the venue
+     * @return list of layouts of the halls associated with the venue
      */
-    List<Hall> getHallsByVenueId(Long id);
+    List<HallLayout> getHallsByVenueId(Long id);
 
     /**
      * Filter venues based on search criteria.
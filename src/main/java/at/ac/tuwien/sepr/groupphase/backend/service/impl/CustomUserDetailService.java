@@ -19,7 +19,11 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.security.JwtTokenizer;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlockedUserRegistry;
 import at.ac.tuwien.sepr.groupphase.backend.service.EmailService;
+import at.ac.tuwien.sepr.groupphase.backend.service.PasswordVerifier;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatOccupancyService;
+import at.ac.tuwien.sepr.groupphase.backend.service.StandingCapacityService;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import at.ac.tuwien.sepr.groupphase.backend.validator.UserValidator;
@@ -37,7 +41,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Date;
 import java.util.List;
@@ -58,13 +61,19 @@ public class CustomUserDetailService implements UserService {
     private final TicketRepository ticketRepository;
     private final OrderRepository orderRepository;
     private final EmailService emailService;
+    private final SeatOccupancyService seatOccupancyService;
+    private final StandingCapacityService standingCapacityService;
+    private final BlockedUserRegistry blockedUserRegistry;
+    private final PasswordVerifier passwordVerifier;
 
     private static final int MAX_FAILED_ATTEMPTS = 5;
     private static final long LOCK_TIME_DURATION = 30 * 60 * 1000; // 30 minutes in milliseconds
 
     public CustomUserDetailService(UserRepository userRepository, PasswordEncoder passwordEncoder,
                                    JwtTokenizer jwtTokenizer, UserValidator userValidator, UserMapper userMapper,
-                                   PasswordTokenRepository passwordTokenRepository, SeenNewsRepository seenNewsRepository, TicketRepository ticketRepository, OrderRepository orderRepository, EmailService emailService) {
+                                   PasswordTokenRepository passwordTokenRepository, SeenNewsRepository seenNewsRepository, TicketRepository ticketRepository, OrderRepository orderRepository, EmailService emailService,
+                                   SeatOccupancyService seatOccupancyService, StandingCapacityService standingCapacityService,
+                                   BlockedUserRegistry blockedUserRegistry, PasswordVerifier passwordVerifier) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenizer = jwtTokenizer;
@@ -75,6 +84,10 @@ public class CustomUserDetailService implements UserService {
         this.ticketRepository = ticketRepository;
         this.orderRepository = orderRepository;
         this.emailService = emailService;
+        this.seatOccupancyService = seatOccupancyService;
+        this.standingCapacityService = standingCapacityService;
+        this.blockedUserRegistry = blockedUserRegistry;
+        this.passwordVerifier = passwordVerifier;
     }
 
     @Override
@@ -87,19 +100,19 @@ public class CustomUserDetailService implements UserService {
                 throw new MethodNotAllowedException(String.format("User with email %s is blocked", email), List.of(email));
             }
 
-            List<GrantedAuthority> grantedAuthorities;
-            if (applicationUser.getAdmin()) {
-                grantedAuthorities = AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_USER");
-            } else {
-                grantedAuthorities = AuthorityUtils.createAuthorityList("ROLE_USER");
-            }
-
-            return new User(applicationUser.getEmail(), applicationUser.getPassword(), grantedAuthorities);
+            return new User(applicationUser.getEmail(), applicationUser.getPassword(), authoritiesOf(applicationUser));
         } catch (NotFoundException e) {
             throw new UsernameNotFoundException(e.getMessage(), e);
         }
     }
 
+    private static List<GrantedAuthority> authoritiesOf(ApplicationUser applicationUser) {
+        if (applicationUser.getAdmin()) {
+            return AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_USER");
+        }
+        return AuthorityUtils.createAuthorityList("ROLE_USER");
+    }
+
     @Override
     public ApplicationUser findApplicationUserByEmail(String email) throws NotFoundException {
         LOGGER.debug("Find application user by email");
@@ -112,6 +125,7 @@ public class CustomUserDetailService implements UserService {
 
     @Override
     public String login(UserLoginDto userLoginDto) {
+        // the user is read once, everything below works on it
         ApplicationUser user = userRepository.findByEmail(userLoginDto.getEmail());
         if (user == null) {
             throw new BadCredentialsException("Username or password is incorrect");
@@ -121,32 +135,24 @@ public class CustomUserDetailService implements UserService {
         if (user.getBlocked()) {
             if (user.getLockTime() != null && new Date().getTime() - user.getLockTime().getTime() >= LOCK_TIME_DURATION) {
                 // Unlock the account if lock duration has passed
-                try {
-                    unblockUser(user.getEmail());
-                } catch (ConflictException e) {
-                    //already checked if user is blocked
-                }
+                user.setBlocked(false);
+                user.setFailedLoginAttempts(0);
+                user.setLockTime(null);
+                user = userRepository.save(user);
+                blockedUserRegistry.unblock(user.getEmail());
             } else {
                 throw new BadCredentialsException("Account is locked. Please try again later or reset your password.");
             }
         }
 
-        UserDetails userDetails = loadUserByUsername(userLoginDto.getEmail());
-        if (userDetails != null
-            && userDetails.isAccountNonExpired()
-            && userDetails.isCredentialsNonExpired()
-            && passwordEncoder.matches(userLoginDto.getPassword(), userDetails.getPassword())
-        ) {
+        if (passwordVerifier.matches(userLoginDto.getPassword(), user.getPassword())) {
             // Reset failed attempts on successful login
             if (user.getFailedLoginAttempts() > 0) {
                 resetFailedAttempts(user);
             }
 
-            List<String> roles = userDetails.getAuthorities()
-                .stream()
-                .map(GrantedAuthority::getAuthority)
-                .toList();
-            return jwtTokenizer.getAuthToken(userDetails.getUsername(), roles);
+            return jwtTokenizer.getAuthToken(user.getEmail(),
+                authoritiesOf(user).stream().map(GrantedAuthority::getAuthority).toList());
         }
 
         // Increment failed attempts
@@ -165,16 +171,13 @@ public class CustomUserDetailService implements UserService {
         String resetToken = createPasswordResetTokenForUser(user, token);
         String resetLink = "http://localhost:4200/reset-password?token=" + resetToken;
 
-        try {
-            String subject = "Ticketline | Password Reset";
-            String content = "Hello " + user.getFirstName() + " " + user.getLastName() + ", \n\n"
-                + "You have forgotten your password? Here you can set a new one:\n"
-                + resetLink + "\nIf you did not request a password reset, please ignore this email.\n\n"
-                + "Best regards,\nTicketline Team";
-            emailService.sendEmail(email, subject, content);
-        } catch (IOException e) {
-            System.err.println("Failed to send email: " + e.getMessage());
-        }
+        String subject = "Ticketline | Password Reset";
+        String content = "Hello " + user.getFirstName() + " " + user.getLastName() + ", \n\n"
+            + "You have forgotten your password? Here you can set a new one:\n"
+            + resetLink + "\nIf you did not request a password reset, please ignore this email.\n\n"
+            + "Best regards,\nTicketline Team";
+        // only queued here, the email is sent in the background
+        emailService.sendEmail(email, subject, content);
     }
 
     @Override
@@ -203,6 +206,7 @@ public class CustomUserDetailService implements UserService {
         user.setFailedLoginAttempts(0);
         user.setLockTime(null);
         userRepository.save(user);
+        blockedUserRegistry.unblock(user.getEmail());
     }
 
     @Override
@@ -286,6 +290,10 @@ public class CustomUserDetailService implements UserService {
 
         // Save updated user
         ApplicationUser savedUser = userRepository.save(existingUser);
+        if (savedUser.getBlocked() && !email.equals(savedUser.getEmail())) {
+            blockedUserRegistry.block(savedUser.getEmail());
+            blockedUserRegistry.unblock(email);
+        }
 
         // Generate new token
         List<String> roles = savedUser.getAdmin()
@@ -305,9 +313,16 @@ public class CustomUserDetailService implements UserService {
         // Delete associated SeenNews entries
         seenNewsRepository.deleteByUser(user);
 
-        // Delete reserved tickets and tickets in cart
-        ticketRepository.deleteByUserAndReservedTrue(user);
-        ticketRepository.deleteByUserAndInCartTrue(user);
+        // Delete reserved tickets and tickets in cart, freeing their seats
+        List<Ticket> heldTickets = ticketRepository.findInCartOrReservedByUser(user);
+        for (Ticket ticket : heldTickets) {
+            if (ticket.getSeat() != null) {
+                seatOccupancyService.release(ticket.getShow().getId(), ticket.getSeat().getSeatId());
+            } else if (ticket.getStandingSector() != null) {
+                standingCapacityService.release(ticket.getShow().getId(), ticket.getStandingSector().getId(), 1);
+            }
+        }
+        ticketRepository.deleteAll(heldTickets);
 
         // Set user to null for bought tickets
         List<Ticket> boughtTickets = ticketRepository.findByUserAndPurchasedTrue(user);
@@ -324,6 +339,7 @@ public class CustomUserDetailService implements UserService {
         }
 
         userRepository.delete(user);
+        blockedUserRegistry.unblock(email);
     }
 
 
@@ -337,6 +353,9 @@ public class CustomUserDetailService implements UserService {
         }
 
         userRepository.save(user);
+        if (user.getBlocked()) {
+            blockedUserRegistry.block(user.getEmail());
+        }
     }
 
     private void resetFailedAttempts(ApplicationUser user) {
@@ -358,6 +377,7 @@ public class CustomUserDetailService implements UserService {
             } else {
                 user.setBlocked(true);
                 userRepository.save(user);
+                blockedUserRegistry.block(email);
             }
         } else {
             throw new NotFoundException(String.format("Could not find the user with the email address %s", email));
@@ -377,6 +397,7 @@ public class CustomUserDetailService implements UserService {
             }
             user.setBlocked(false);
             userRepository.save(user);
+            blockedUserRegistry.unblock(email);
         } else {
             throw new NotFoundException(String.format("Could not find the user with the email address %s", email));
         }
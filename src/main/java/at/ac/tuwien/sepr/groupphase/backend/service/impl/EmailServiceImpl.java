@@ -1,50 +1,160 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
+import at.ac.tuwien.sepr.groupphase.backend.entity.EmailJob;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EmailJobRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.EmailService;
-import com.sendgrid.helpers.mail.Mail;
-import com.sendgrid.helpers.mail.objects.Email;
-import com.sendgrid.helpers.mail.objects.Content;
-import com.sendgrid.SendGrid;
-import com.sendgrid.Request;
-import com.sendgrid.Response;
-import com.sendgrid.Method;
+import at.ac.tuwien.sepr.groupphase.backend.service.EmailTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class EmailServiceImpl implements EmailService {
 
-    private static final Logger logger = LoggerFactory.getLogger(EmailServiceImpl.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private final EmailJobRepository emailJobRepository;
+    private final EmailTransport emailTransport;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration lease;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Timer sendTimer;
+    private final Timer deliveryTimer;
+    private final Counter deadLetterCounter;
 
-    @Value("${spring.sendgrid.api.key}")
-    private String sendgridApiKey;
+    public EmailServiceImpl(EmailJobRepository emailJobRepository, EmailTransport emailTransport,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                            @Value("${app.email.batch-size:100}") int batchSize,
+                            @Value("${app.email.max-attempts:8}") int maxAttempts,
+                            @Value("${app.email.retry-backoff:PT30S}") Duration retryBackoff,
+                            @Value("${app.email.lease:PT2M}") Duration lease) {
+        this.emailJobRepository = emailJobRepository;
+        this.emailTransport = emailTransport;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.lease = lease;
+        meterRegistry.gauge("email.outbox.backlog", backlog);
+        this.sendTimer = Timer.builder("email.send")
+            .description("Time the transport takes to send one batch of equal emails")
+            .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("email.delivery")
+            .description("Time from queueing an email until it is sent")
+            .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("email.dead.lettered")
+            .description("Emails given up on after failing too often")
+            .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public void sendEmail(String toEmail, String subject, String content) {
+        LOGGER.debug("Queue email '{}' to {}", subject, toEmail);
+        LocalDateTime now = LocalDateTime.now();
+        EmailJob job = new EmailJob();
+        job.setRecipient(toEmail);
+        job.setSubject(subject);
+        job.setContent(content);
+        job.setCreatedAt(now);
+        job.setNextAttemptAt(now);
+        emailJobRepository.save(job);
+    }
 
     @Override
-    public void sendEmail(String toEmail, String subject, String content) throws IOException {
-        Email from = new Email("sepr.ticketline@proton.me"); // Sender's email
-        Email recipient = new Email(toEmail); // Recipient's email
-        Content emailContent = new Content("text/plain", content); // Email body
-        Mail mail = new Mail(from, subject, recipient, emailContent);
+    @Scheduled(fixedDelayString = "${app.email.poll-interval:PT5S}")
+    public int dispatchDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailJob> due = emailJobRepository.findDue(now, PageRequest.of(0, batchSize));
+        backlog.set(emailJobRepository.countByStatus(EmailJob.Status.PENDING));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // equal emails, such as announcements, go out as one send to all of their recipients
+        Map<List<String>, List<EmailJob>> batches = new LinkedHashMap<>();
+        for (EmailJob job : due) {
+            if (emailJobRepository.claim(job.getId(), now, now.plus(lease)) == 1) {
+                batches.computeIfAbsent(List.of(job.getSubject(), job.getContent()), k -> new ArrayList<>()).add(job);
+            }
+        }
 
-        SendGrid sg = new SendGrid(sendgridApiKey);
-        Request request = new Request();
+        int sent = 0;
+        for (List<EmailJob> batch : batches.values()) {
+            if (send(batch)) {
+                sent += batch.size();
+            }
+        }
+        LOGGER.debug("Sent {} of {} due emails", sent, due.size());
+        return sent;
+    }
 
+    private boolean send(List<EmailJob> batch) {
+        EmailJob first = batch.getFirst();
+        List<String> recipients = batch.stream().map(EmailJob::getRecipient).toList();
+        long startedAt = System.nanoTime();
         try {
-            request.setMethod(Method.POST);
-            request.setEndpoint("mail/send");
-            request.setBody(mail.build());
-            Response response = sg.api(request);
-
-            logger.info("Response Code: {}", response.getStatusCode());
-            logger.info("Response Body: {}", response.getBody());
-            logger.info("Response Headers: {}", response.getHeaders());
-        } catch (IOException ex) {
-            logger.error("Error while sending email", ex);
-            throw ex;
+            emailTransport.send(first.getSubject(), first.getContent(), recipients);
+        } catch (Exception e) {
+            recordFailure(batch, e);
+            return false;
+        } finally {
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
+        emailJobRepository.deleteAllByIdInBatch(batch.stream().map(EmailJob::getId).toList());
+        LocalDateTime sentAt = LocalDateTime.now();
+        for (EmailJob job : batch) {
+            deliveryTimer.record(Duration.between(job.getCreatedAt(), sentAt));
+        }
+        return true;
+    }
+
+    private void recordFailure(List<EmailJob> batch, Exception failure) {
+        String error = errorOf(failure);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (EmailJob sent : batch) {
+                emailJobRepository.findById(sent.getId()).ifPresent(job -> {
+                    int attempts = job.getAttempts() + 1;
+                    job.setAttempts(attempts);
+                    job.setLastError(error);
+                    if (attempts >= maxAttempts) {
+                        LOGGER.error("Giving up on email '{}' to {} after {} attempts: {}", job.getSubject(),
+                            job.getRecipient(), attempts, error);
+                        job.setStatus(EmailJob.Status.FAILED);
+                        deadLetterCounter.increment();
+                    } else {
+                        LOGGER.warn("Sending email '{}' to {} failed, retrying: {}", job.getSubject(), job.getRecipient(), error);
+                        job.setNextAttemptAt(LocalDateTime.now().plus(retryBackoff.multipliedBy(1L << (attempts - 1))));
+                    }
+                });
+            }
+        });
+    }
+
+    private static String errorOf(Throwable failure) {
+        String error = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
     }
-}
\ No newline at end of file
+}
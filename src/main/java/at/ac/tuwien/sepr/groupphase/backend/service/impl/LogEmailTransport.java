@@ -0,0 +1,24 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.service.EmailTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+/**
+ * Writes emails to the log instead of sending them, for local runs and tests.
+ */
+@Component
+@ConditionalOnProperty(name = "app.email.transport", havingValue = "log")
+public class LogEmailTransport implements EmailTransport {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    @Override
+    public void send(String subject, String content, List<String> recipients) {
+        LOGGER.info("Email to {}: {}\n{}", recipients, subject, content);
+    }
+}
@@ -6,9 +6,12 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.SeenNews;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.NewsRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.SeenNewsRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
 import at.ac.tuwien.sepr.groupphase.backend.service.NewsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +19,7 @@ import java.lang.invoke.MethodHandles;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class NewsServiceImpl implements NewsService {
@@ -24,13 +28,16 @@ public class NewsServiceImpl implements NewsService {
     private final NewsRepository newsRepository;
     private final SeenNewsRepository seenNewsRepository;
     private final CustomUserDetailService customUserDetailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NewsServiceImpl(NewsRepository newsRepository,
                            CustomUserDetailService customUserDetailService,
-                           SeenNewsRepository seenNewsRepository) {
+                           SeenNewsRepository seenNewsRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.newsRepository = newsRepository;
         this.customUserDetailService = customUserDetailService;
         this.seenNewsRepository = seenNewsRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -39,6 +46,18 @@ public class NewsServiceImpl implements NewsService {
         return newsRepository.findAllByOrderByPublishedAtDesc();
     }
 
+    @Override
+    public Stream<News> streamAll() {
+        LOGGER.debug("Stream all news");
+        return newsRepository.streamAllByOrderByPublishedAtDescIdDesc();
+    }
+
+    @Override
+    public List<News> findAllAfter(LocalDateTime publishedAt, Long id, int limit) {
+        LOGGER.debug("Find {} news after {}", limit, id);
+        return newsRepository.findPageAfter(publishedAt, id, PageRequest.ofSize(limit));
+    }
+
     @Override
     public News findOne(Long id) {
         LOGGER.debug("Find news with id {}", id);
@@ -54,7 +73,9 @@ public class NewsServiceImpl implements NewsService {
     public News publishNews(News news) {
         LOGGER.debug("Publish new news {}", news);
         news.setPublishedAt(LocalDateTime.now());
-        return newsRepository.save(news);
+        News savedNews = newsRepository.save(news);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.NEWS));
+        return savedNews;
     }
 
     @Transactional
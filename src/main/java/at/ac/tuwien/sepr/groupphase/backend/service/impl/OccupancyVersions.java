@@ -0,0 +1,50 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the in-memory occupancy of each show, seats and standing places together.
+ * The version is bumped whenever the occupancy changes, when a place is taken as well as when it is given back
+ * because its transaction committed or rolled back, so that it can serve as the tag of a seat map.
+ * Versions are never handed out twice, not even after a rebuild.
+ */
+@Component
+public class OccupancyVersions {
+    // starts at a random value, so that the versions of several instances behind a load balancer do not collide
+    private final AtomicLong sequence = new AtomicLong(ThreadLocalRandom.current().nextLong(1L << 62));
+    private final Map<Long, Long> versionByShow = new ConcurrentHashMap<>();
+    private volatile long rebuiltVersion = sequence.incrementAndGet();
+
+    /**
+     * Gets the current occupancy version of a show. It has to be read before the occupancy itself,
+     * so that a change in between leaves the version behind the occupancy rather than ahead of it.
+     *
+     * @param showId the ID of the show
+     * @return the version
+     */
+    public long get(Long showId) {
+        return versionByShow.getOrDefault(showId, rebuiltVersion);
+    }
+
+    /**
+     * Bumps the version of a show after its occupancy changed.
+     *
+     * @param showId the ID of the show
+     */
+    public void bump(Long showId) {
+        versionByShow.put(showId, sequence.incrementAndGet());
+    }
+
+    /**
+     * Bumps the version of every show after the occupancy was rebuilt.
+     */
+    public void bumpAll() {
+        rebuiltVersion = sequence.incrementAndGet();
+        versionByShow.clear();
+    }
+}
@@ -7,32 +7,52 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Order;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
 import at.ac.tuwien.sepr.groupphase.backend.service.PdfGenerationService;
 import com.itextpdf.barcodes.BarcodeQRCode;
+import com.itextpdf.barcodes.qrcode.EncodeHintType;
+import com.itextpdf.barcodes.qrcode.ErrorCorrectionLevel;
+import com.itextpdf.io.image.ImageData;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.borders.SolidBorder;
+import com.itextpdf.layout.element.AreaBreak;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Image;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.layout.properties.AreaBreakType;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.layout.properties.VerticalAlignment;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
-import org.springframework.beans.factory.annotation.Autowired;
 import at.ac.tuwien.sepr.groupphase.backend.config.CompanyConfig;
+import at.ac.tuwien.sepr.groupphase.backend.exception.FatalException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.stream.Collectors;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Implementation of the PdfGenerationService using iText.
@@ -40,15 +60,50 @@ import java.util.UUID;
 @Service
 public class PdfGenerationServiceImpl implements PdfGenerationService {
 
-    @Autowired
-    private CompanyConfig companyConfig;
-
     private static final float TICKET_WIDTH = PageSize.A4.getWidth();
     private static final float TICKET_HEIGHT = 350f; // Increased to accommodate price
     private static final DeviceRgb DARK_BLUE = new DeviceRgb(0, 0, 102);
     private static final DeviceRgb BANNER_BLUE = new DeviceRgb(24, 32, 132); // Rich blue color
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final float[] TICKET_COLUMNS = {75f, 25f};
+    private static final float[] SINGLE_COLUMN = {1};
+    private static final float[] HEADER_COLUMNS = {1, 1};
+    private static final float[] ITEM_COLUMNS = {1, 4, 1, 2, 2, 1, 2};
+    private static final String[] ITEM_HEADERS = {"Pos", "Description", "Quantity", "Unit Price", "Price Net", "VAT %", "Price Gross"};
+    // the defaults of BarcodeQRCode, spelled out so that they are set up once instead of for every ticket
+    private static final Map<EncodeHintType, Object> QR_CODE_HINTS = Map.of(
+        EncodeHintType.CHARACTER_SET, "ISO-8859-1",
+        EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.L);
+
+    private final CompanyConfig companyConfig;
+    // the logo decoded once and shared by all documents, each of which only embeds it
+    private final ImageData logo;
+    private final int renderWorkers;
+    private final ExecutorService renderers;
+    private final MeterRegistry meterRegistry;
+    private final Timer ticketTimer;
+
+    public PdfGenerationServiceImpl(CompanyConfig companyConfig,
+                                    @Value("${app.pdf.render-workers:4}") int renderWorkers,
+                                    MeterRegistry meterRegistry) {
+        this.companyConfig = companyConfig;
+        this.meterRegistry = meterRegistry;
+        // timed here rather than with @Timed, since bundles and ZIP downloads lay out their tickets from within this class
+        this.ticketTimer = Timer.builder("pdf.ticket")
+            .description("Time to lay out a single ticket, whether on its own, in a bundle or in a ZIP download")
+            .register(meterRegistry);
+        this.renderWorkers = renderWorkers;
+        this.renderers = Executors.newFixedThreadPool(renderWorkers, Thread.ofPlatform().name("pdf-renderer-", 0).factory());
+        try {
+            this.logo = ImageDataFactory.create(new ClassPathResource("static/images/default_image.png").getURL());
+        } catch (IOException e) {
+            throw new FatalException("Failed to load the logo for PDF documents", e);
+        }
+    }
 
     @Override
+    @Timed("pdf.generate")
     public void generateTicketPdf(Ticket ticket, OutputStream outputStream) throws Exception {
         // Basic null checks
         if (ticket == null) {
@@ -61,133 +116,189 @@ public class PdfGenerationServiceImpl implements PdfGenerationService {
             throw new IllegalArgumentException("Ticket must be associated with a user");
         }
 
+        try {
+            Document document = ticketDocument(new PdfDocument(new PdfWriter(outputStream)));
+            addTicket(document, ticket);
+            document.close();
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Failed to generate PDF", e);
+        }
+    }
+
+    private static Document ticketDocument(PdfDocument pdf) {
+        // Create custom page size for ticket-like dimensions
+        pdf.setDefaultPageSize(new PageSize(TICKET_WIDTH, TICKET_HEIGHT));
+        Document document = new Document(pdf);
+        document.setMargins(20, 20, 20, 20);
+        return document;
+    }
+
+    /**
+     * Lays out a ticket on the current page of the document.
+     */
+    private void addTicket(Document document, Ticket ticket) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            layoutTicket(document, ticket);
+        } finally {
+            sample.stop(ticketTimer);
+        }
+    }
+
+    private void layoutTicket(Document document, Ticket ticket) {
         // Generate UUID if not present
         if (ticket.getTicketUuid() == null) {
             ticket.setTicketUuid(UUID.randomUUID());
         }
+        PdfDocument pdf = document.getPdfDocument();
 
-        try {
-            PdfWriter writer = new PdfWriter(outputStream);
-            PdfDocument pdf = new PdfDocument(writer);
-            // Create custom page size for ticket-like dimensions
-            PageSize customPageSize = new PageSize(TICKET_WIDTH, TICKET_HEIGHT);
-            Document document = new Document(pdf, customPageSize);
-            document.setMargins(20, 20, 20, 20);
-
-            // Create main table with two columns (ticket info and QR code)
-            Table mainTable = new Table(new float[]{75f, 25f});
-            mainTable.setWidth(TICKET_WIDTH - 40); // Account for margins
-
-            // Left column for ticket information
-            Cell leftCell = new Cell();
-            leftCell.setBorder(null);
-
-            // Create banner instead of logo
-            Table bannerTable = new Table(new float[]{1});
-            bannerTable.setWidth(TICKET_WIDTH - 45); // Account for margins
-            
-            Cell bannerCell = new Cell()
-                .setBackgroundColor(BANNER_BLUE)
-                .setPadding(10)
-                .setBorder(null);
-
-            Paragraph titleText = new Paragraph("TICKETLINE")
-                .setFontSize(24)
-                .setFontColor(ColorConstants.WHITE)
-                .setBold()
-                .setTextAlignment(TextAlignment.LEFT);
-
-            bannerCell.add(titleText);
-            bannerTable.addCell(bannerCell);
-            
-            // Add banner to left cell with some margin
-            leftCell.add(bannerTable.setMarginBottom(15));
-
-            // Create inner table for ticket details
-            Table detailsTable = new Table(new float[]{1});
-            detailsTable.setWidth(TICKET_WIDTH - 40);
-            detailsTable.setMarginBottom(0); // Reduce bottom margin
-
-            // Format dates
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd.MM.yyyy");
-            DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-
-            // Add ticket details with styling
-            addStyledRow(detailsTable, "EVENT", ticket.getShow().getName());
-            addStyledRow(detailsTable, "LOCATION", ticket.getShow().getVenue().getName());
-            
-            String dateTimeStr = String.format("%s at %s",
-                ticket.getShow().getDate().format(dateFormatter),
-                ticket.getShow().getTime().format(timeFormatter));
-            addStyledRow(detailsTable, "DATE AND TIME", dateTimeStr);
-
-            // Add seating information
-            if (ticket.getSeat() != null) {
-                String seatInfo = String.format("Sector %s, Row %d, Seat %d",
-                    ticket.getSeat().getSector().getSectorName(),
-                    ticket.getSeat().getRowSeat(),
-                    ticket.getSeat().getColumnSeat());
-                addStyledRow(detailsTable, "SEAT", seatInfo);
-            } else if (ticket.getStandingSector() != null) {
-                addStyledRow(detailsTable, "SECTION", "Standing - " + ticket.getStandingSector().getSectorName());
-            }
+        // Create main table with two columns (ticket info and QR code)
+        Table mainTable = new Table(TICKET_COLUMNS);
+        mainTable.setWidth(TICKET_WIDTH - 40); // Account for margins
+
+        // Left column for ticket information
+        Cell leftCell = new Cell();
+        leftCell.setBorder(null);
+
+        // Create banner instead of logo
+        Table bannerTable = new Table(SINGLE_COLUMN);
+        bannerTable.setWidth(TICKET_WIDTH - 45); // Account for margins
+        
+        Cell bannerCell = new Cell()
+            .setBackgroundColor(BANNER_BLUE)
+            .setPadding(10)
+            .setBorder(null);
+
+        Paragraph titleText = new Paragraph("TICKETLINE")
+            .setFontSize(24)
+            .setFontColor(ColorConstants.WHITE)
+            .setBold()
+            .setTextAlignment(TextAlignment.LEFT);
+
+        bannerCell.add(titleText);
+        bannerTable.addCell(bannerCell);
+        
+        // Add banner to left cell with some margin
+        leftCell.add(bannerTable.setMarginBottom(15));
+
+        // Create inner table for ticket details
+        Table detailsTable = new Table(SINGLE_COLUMN);
+        detailsTable.setWidth(TICKET_WIDTH - 40);
+        detailsTable.setMarginBottom(0); // Reduce bottom margin
+
+        // Add ticket details with styling
+        addStyledRow(detailsTable, "EVENT", ticket.getShow().getName());
+        addStyledRow(detailsTable, "LOCATION", ticket.getShow().getVenue().getName());
+        
+        String dateTimeStr = String.format("%s at %s",
+            ticket.getShow().getDate().format(DATE_FORMATTER),
+            ticket.getShow().getTime().format(TIME_FORMATTER));
+        addStyledRow(detailsTable, "DATE AND TIME", dateTimeStr);
+
+        // Add seating information
+        if (ticket.getSeat() != null) {
+            String seatInfo = String.format("Sector %s, Row %d, Seat %d",
+                ticket.getSeat().getSector().getSectorName(),
+                ticket.getSeat().getRowSeat(),
+                ticket.getSeat().getColumnSeat());
+            addStyledRow(detailsTable, "SEAT", seatInfo);
+        } else if (ticket.getStandingSector() != null) {
+            addStyledRow(detailsTable, "SECTION", "Standing - " + ticket.getStandingSector().getSectorName());
+        }
 
-            // Add price information with less bottom padding
-            Cell priceCell = new Cell()
-                .add(new Paragraph("PRICE")
-                    .setFontSize(8)
-                    .setFontColor(ColorConstants.GRAY)
-                    .setMarginBottom(0))
-                .add(new Paragraph(String.format("€%.2f", ticket.getPrice()))
-                    .setFontSize(12)
-                    .setFontColor(DARK_BLUE)
-                    .setMarginTop(0))
-                .setBorder(null)
-                .setPaddingBottom(5); // Reduced padding
-
-            detailsTable.addCell(priceCell);
-
-            leftCell.add(detailsTable);
-
-            // Right column for QR code with better alignment
-            Cell rightCell = new Cell();
-            rightCell.setBorder(null);
-            rightCell.setVerticalAlignment(VerticalAlignment.MIDDLE);
-            rightCell.setTextAlignment(TextAlignment.CENTER);
-            rightCell.setPaddingTop(30); // Add padding to move QR code down
-
-            // Generate QR code
-            String qrCodeContent = ticket.getTicketUuid().toString();
-            BarcodeQRCode qrCode = new BarcodeQRCode(qrCodeContent);
-            Image qrCodeImage = new Image(qrCode.createFormXObject(pdf));
-            qrCodeImage.setWidth(90)
-                .setHorizontalAlignment(com.itextpdf.layout.properties.HorizontalAlignment.CENTER);
-            
-            // Add ticket number with better styling
-            Paragraph ticketNumber = new Paragraph("#" + ticket.getId())
+        // Add price information with less bottom padding
+        Cell priceCell = new Cell()
+            .add(new Paragraph("PRICE")
+                .setFontSize(8)
+                .setFontColor(ColorConstants.GRAY)
+                .setMarginBottom(0))
+            .add(new Paragraph(String.format("€%.2f", ticket.getPrice()))
                 .setFontSize(12)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setMarginTop(10)
-                .setFontColor(DARK_BLUE);
+                .setFontColor(DARK_BLUE)
+                .setMarginTop(0))
+            .setBorder(null)
+            .setPaddingBottom(5); // Reduced padding
 
-            rightCell.add(qrCodeImage);
-            rightCell.add(ticketNumber);
+        detailsTable.addCell(priceCell);
 
-            // Add cells to main table
-            mainTable.addCell(leftCell);
-            mainTable.addCell(rightCell);
+        leftCell.add(detailsTable);
 
-            // Add border to the entire ticket
-            mainTable.setBorder(new SolidBorder(ColorConstants.BLACK, 1));
-            
-            document.add(mainTable);
-            document.close();
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Failed to generate PDF", e);
+        // Right column for QR code with better alignment
+        Cell rightCell = new Cell();
+        rightCell.setBorder(null);
+        rightCell.setVerticalAlignment(VerticalAlignment.MIDDLE);
+        rightCell.setTextAlignment(TextAlignment.CENTER);
+        rightCell.setPaddingTop(30); // Add padding to move QR code down
+
+        // Generate QR code
+        String qrCodeContent = ticket.getTicketUuid().toString();
+        BarcodeQRCode qrCode = new BarcodeQRCode(qrCodeContent, QR_CODE_HINTS);
+        Image qrCodeImage = new Image(qrCode.createFormXObject(pdf));
+        qrCodeImage.setWidth(90)
+            .setHorizontalAlignment(com.itextpdf.layout.properties.HorizontalAlignment.CENTER);
+        
+        // Add ticket number with better styling
+        Paragraph ticketNumber = new Paragraph("#" + ticket.getId())
+            .setFontSize(12)
+            .setTextAlignment(TextAlignment.CENTER)
+            .setMarginTop(10)
+            .setFontColor(DARK_BLUE);
+
+        rightCell.add(qrCodeImage);
+        rightCell.add(ticketNumber);
+
+        // Add cells to main table
+        mainTable.addCell(leftCell);
+        mainTable.addCell(rightCell);
+
+        // Add border to the entire ticket
+        mainTable.setBorder(new SolidBorder(ColorConstants.BLACK, 1));
+        
+        document.add(mainTable);
+    }
+
+    @Override
+    @Timed("pdf.generate")
+    public void generateTicketsPdf(List<Ticket> tickets, OutputStream outputStream) throws Exception {
+        if (tickets == null || outputStream == null) {
+            throw new IllegalArgumentException("Tickets and OutputStream must not be null");
+        }
+
+        // every ticket is laid out straight into the bundle, whose pages are written out as soon as they are full
+        Document document = ticketDocument(new PdfDocument(new PdfWriter(outputStream)));
+        for (int i = 0; i < tickets.size(); i++) {
+            if (i > 0) {
+                document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+            }
+            addTicket(document, tickets.get(i));
+        }
+        document.close();
+    }
+
+    @Override
+    @Timed("pdf.generate")
+    public void generateTicketsZip(List<Ticket> tickets, OutputStream outputStream) throws Exception {
+        if (tickets == null || outputStream == null) {
+            throw new IllegalArgumentException("Tickets and OutputStream must not be null");
         }
+
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        renderInOrder(tickets, (ticket, pdfBytes) -> {
+            zip.putNextEntry(new ZipEntry("ticket-" + ticket.getId() + ".pdf"));
+            zip.write(pdfBytes);
+            zip.closeEntry();
+            zip.flush();
+        });
+        zip.finish();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderers.shutdownNow();
     }
 
     @Override
+    @Timed("pdf.generate")
     public void generateOrderPdf(Order order, OutputStream outputStream) throws Exception {
         if (order == null || outputStream == null) {
             throw new IllegalArgumentException("Order and OutputStream must not be null");
@@ -198,48 +309,10 @@ public class PdfGenerationServiceImpl implements PdfGenerationService {
         Document document = new Document(pdf, PageSize.A4);
         document.setMargins(40, 40, 40, 40);
 
-        // Load company logo
-        Image logo = new Image(ImageDataFactory.create(
-            new ClassPathResource("static/images/default_image.png").getURL()));
-        logo.setWidth(100);
-        logo.setHeight(100);
-
-        // Create header table (2 columns: logo/customer info and company info)
-        Table headerTable = new Table(new float[]{1, 1});
-        headerTable.setWidth(UnitValue.createPercentValue(100));
-
-        // Left column: Logo and customer info
-        Cell leftCell = new Cell();
-        leftCell.setBorder(null);
-        leftCell.add(logo);
-        leftCell.add(new Paragraph("\n"));
-        leftCell.add(new Paragraph(order.getUser().getFirstName() + " " + order.getUser().getLastName())
-            .setFontSize(12));
-        leftCell.add(new Paragraph(order.getUser().getEmail())
-            .setFontSize(12));
-        // Add user address if available
-        if (order.getUser().getAddress() != null && !order.getUser().getAddress().isEmpty()) {
-            leftCell.add(new Paragraph(order.getUser().getAddress())
-                .setFontSize(12));
-        }
-
-        // Right column: Company info and order details
-        Cell rightCell = new Cell();
-        rightCell.setBorder(null);
-        rightCell.setTextAlignment(TextAlignment.RIGHT);
-        rightCell.add(new Paragraph(companyConfig.getName()).setBold());
-        rightCell.add(new Paragraph(companyConfig.getStreet()));
-        rightCell.add(new Paragraph(companyConfig.getPostalCode() + " " + companyConfig.getCity()));
-        rightCell.add(new Paragraph(companyConfig.getCountry()));
-        rightCell.add(new Paragraph("UID: " + companyConfig.getUid()));
-        rightCell.add(new Paragraph("\n"));
-        rightCell.add(new Paragraph("Order ID: " + order.getId()));
-        rightCell.add(new Paragraph("Date: " 
-            + order.getOrderDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy"))));
-
-        headerTable.addCell(leftCell);
-        headerTable.addCell(rightCell);
-        document.add(headerTable);
+        // Right column details: order ID and date
+        document.add(createInvoiceHeader(order.getUser(),
+            new Paragraph("Order ID: " + order.getId()),
+            new Paragraph("Date: " + order.getOrderDate().format(DATE_FORMATTER))));
 
         // Add title and introduction
         document.add(new Paragraph("\n"));
@@ -248,113 +321,25 @@ public class PdfGenerationServiceImpl implements PdfGenerationService {
             .setFontSize(14));
         document.add(new Paragraph("Dear " + order.getUser().getFirstName() + " " + order.getUser().getLastName() 
             + ", thank you for placing your order with Ticketline. We will charge your order on " 
-            + order.getOrderDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")) + " as follows:")
+            + order.getOrderDate().format(DATE_FORMATTER) + " as follows:")
             .setFontSize(12));
         document.add(new Paragraph("\n"));
 
-        // Create items table
-        Table itemsTable = new Table(new float[]{1, 4, 1, 2, 2, 1, 2});
-        itemsTable.setWidth(UnitValue.createPercentValue(100));
-
-        // Add table headers
-        String[] headers = {"Pos", "Description", "Quantity", "Unit Price", "Price Net", "VAT %", "Price Gross"};
-        for (String header : headers) {
-            itemsTable.addHeaderCell(new Cell()
-                .add(new Paragraph(header).setBold())
-                .setBackgroundColor(ColorConstants.LIGHT_GRAY));
-        }
-
-        // Group standing tickets by show, sector and price
-        Map<String, List<Ticket>> standingTicketGroups = order.getTickets().stream()
-            .filter(t -> t.getStandingSector() != null)
-            .collect(Collectors.groupingBy(t -> 
-                t.getShow().getId() + "-" 
-                + t.getStandingSector().getId() + "-" 
-                + t.getPrice()));
-
-        // Process seated tickets normally and grouped standing tickets
-        int position = 1;
-        double totalGross = 0;
-        double totalVat = 0;
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd.MM.yyyy");
-
-        // First handle seated tickets individually
-        for (Ticket ticket : order.getTickets()) {
-            if (ticket.getSeat() != null) {
-                Show show = ticket.getShow();
-                double priceGross = ticket.getPrice();
-                double priceNet = priceGross / (1 + companyConfig.getVatRate() / 100);
-                double vatAmount = priceGross - priceNet;
-                totalGross += priceGross;
-                totalVat += vatAmount;
-
-                StringBuilder description = new StringBuilder();
-                description.append(String.format("%s at %s on %s", 
-                    show.getName(),
-                    show.getVenue().getName(),
-                    show.getDate().format(dateFormatter)));
-
-                description.append(String.format("\nSector %s, Row %d, Seat %d",
-                    ticket.getSeat().getSector().getSectorName(),
-                    ticket.getSeat().getRowSeat(),
-                    ticket.getSeat().getColumnSeat()));
-
-                itemsTable.addCell(new Cell().add(new Paragraph(String.valueOf(position++))));
-                itemsTable.addCell(new Cell().add(new Paragraph(description.toString())));
-                itemsTable.addCell(new Cell().add(new Paragraph("1")));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", priceNet))));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", priceNet))));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("%.0f%%", companyConfig.getVatRate()))));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", priceGross))));
-            }
-        }
-
-        // Then handle grouped standing tickets
-        for (List<Ticket> ticketGroup : standingTicketGroups.values()) {
-            if (!ticketGroup.isEmpty()) {
-                Ticket sampleTicket = ticketGroup.get(0);
-                Show show = sampleTicket.getShow();
-                int quantity = ticketGroup.size();
-                double priceGrossPerTicket = sampleTicket.getPrice();
-                double totalPriceGross = priceGrossPerTicket * quantity;
-                double totalPriceNet = totalPriceGross / (1 + companyConfig.getVatRate() / 100);
-                double totalVatAmount = totalPriceGross - totalPriceNet;
-                totalGross += totalPriceGross;
-                totalVat += totalVatAmount;
-
-                
-                StringBuilder description = new StringBuilder();
-                description.append(String.format("%s at %s on %s", 
-                    show.getName(),
-                    show.getVenue().getName(),
-                    show.getDate().format(dateFormatter)));
-                description.append("\nStanding - " + sampleTicket.getStandingSector().getSectorName());
-
-                double unitPriceNet = totalPriceNet / quantity;
-                itemsTable.addCell(new Cell().add(new Paragraph(String.valueOf(position++))));
-                itemsTable.addCell(new Cell().add(new Paragraph(description.toString())));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.valueOf(quantity))));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", unitPriceNet))));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", totalPriceNet))));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("%.0f%%", companyConfig.getVatRate()))));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", totalPriceGross))));
-            }
-        }
-
-        document.add(itemsTable);
+        InvoiceTotals totals = addInvoiceItems(document, order.getTickets());
 
         // Add totals
         document.add(new Paragraph("\n"));
-        document.add(new Paragraph(String.format("Total Invoice Amount: €%.2f", totalGross))
+        document.add(new Paragraph(String.format("Total Invoice Amount: €%.2f", totals.gross()))
             .setBold()
             .setFontSize(12));
-        document.add(new Paragraph(String.format("Included VAT Amount: €%.2f", totalVat))
+        document.add(new Paragraph(String.format("Included VAT Amount: €%.2f", totals.vat()))
             .setFontSize(12));
 
         document.close();
     }
 
     @Override
+    @Timed("pdf.generate")
     public void generateCancellationOrderPdf(CancellationInvoice cancellationInvoice, OutputStream outputStream) throws Exception {
         if (cancellationInvoice == null || outputStream == null) {
             throw new IllegalArgumentException("CancellationInvoice and OutputStream must not be null");
@@ -374,34 +359,71 @@ public class PdfGenerationServiceImpl implements PdfGenerationService {
         document.add(cancellationHeader);
         document.add(new Paragraph("\n"));
 
-        // Load company logo
-        Image logo = new Image(ImageDataFactory.create(
-            new ClassPathResource("static/images/default_image.png").getURL()));
-        logo.setWidth(100);
-        logo.setHeight(100);
+        // Get the user from the first ticket (assuming all tickets belong to same user)
+        ApplicationUser user = cancellationInvoice.getTickets().get(0).getUser();
+
+        // Right column details: cancellation date and original order date from first ticket
+        document.add(createInvoiceHeader(user,
+            new Paragraph("Cancellation Date: " + cancellationInvoice.getCancellationDate().format(DATE_FORMATTER)),
+            new Paragraph("Original Order Date: "
+                + cancellationInvoice.getTickets().get(0).getOrder().getOrderDate().format(DATE_FORMATTER))));
+
+        // Add title and introduction
+        document.add(new Paragraph("\n"));
+        document.add(new Paragraph("Cancellation Invoice for ticket purchase")
+            .setBold()
+            .setFontSize(14));
+        document.add(new Paragraph("Dear " + user.getFirstName() + " " + user.getLastName() 
+            + ", this document confirms the cancellation of your tickets and the refund of your payment.")
+            .setFontSize(12));
+        document.add(new Paragraph("\n"));
+
+        InvoiceTotals totals = addInvoiceItems(document, cancellationInvoice.getTickets());
+
+        // Add totals with refund notice
+        document.add(new Paragraph("\n"));
+        Paragraph totalAmount = new Paragraph(String.format("Total Refunded Amount: €%.2f", totals.gross()))
+            .setBold()
+            .setFontSize(12);
+        document.add(totalAmount);
+        document.add(new Paragraph(String.format("Included VAT Amount: €%.2f", totals.vat()))
+            .setFontSize(12));
+        document.add(new Paragraph("Full amount refunded")
+            .setFontColor(ColorConstants.RED)
+            .setFontSize(12));
+
+        document.close();
+    }
+
+    /**
+     * Creates the header of an invoice: the logo and the customer on the left,
+     * the company and the given details on the right.
+     */
+    private Table createInvoiceHeader(ApplicationUser user, Paragraph... details) {
+        Image logoImage = new Image(logo);
+        logoImage.setWidth(100);
+        logoImage.setHeight(100);
 
         // Create header table (2 columns: logo/customer info and company info)
-        Table headerTable = new Table(new float[]{1, 1});
+        Table headerTable = new Table(HEADER_COLUMNS);
         headerTable.setWidth(UnitValue.createPercentValue(100));
 
-        // Get the user from the first ticket (assuming all tickets belong to same user)
-        ApplicationUser user = cancellationInvoice.getTickets().get(0).getUser();
-
         // Left column: Logo and customer info
         Cell leftCell = new Cell();
         leftCell.setBorder(null);
-        leftCell.add(logo);
+        leftCell.add(logoImage);
         leftCell.add(new Paragraph("\n"));
         leftCell.add(new Paragraph(user.getFirstName() + " " + user.getLastName())
             .setFontSize(12));
         leftCell.add(new Paragraph(user.getEmail())
             .setFontSize(12));
+        // Add user address if available
         if (user.getAddress() != null && !user.getAddress().isEmpty()) {
             leftCell.add(new Paragraph(user.getAddress())
                 .setFontSize(12));
         }
 
-        // Right column: Company info and cancellation details
+        // Right column: Company info and the details of the invoice
         Cell rightCell = new Cell();
         rightCell.setBorder(null);
         rightCell.setTextAlignment(TextAlignment.RIGHT);
@@ -411,58 +433,51 @@ public class PdfGenerationServiceImpl implements PdfGenerationService {
         rightCell.add(new Paragraph(companyConfig.getCountry()));
         rightCell.add(new Paragraph("UID: " + companyConfig.getUid()));
         rightCell.add(new Paragraph("\n"));
-        rightCell.add(new Paragraph("Cancellation Date: " 
-            + cancellationInvoice.getCancellationDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy"))));
-        // Get original order date from first ticket
-        rightCell.add(new Paragraph("Original Order Date: " 
-            + cancellationInvoice.getTickets().get(0).getOrder().getOrderDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy"))));
+        for (Paragraph detail : details) {
+            rightCell.add(detail);
+        }
 
         headerTable.addCell(leftCell);
         headerTable.addCell(rightCell);
-        document.add(headerTable);
-
-        // Add title and introduction
-        document.add(new Paragraph("\n"));
-        document.add(new Paragraph("Cancellation Invoice for ticket purchase")
-            .setBold()
-            .setFontSize(14));
-        document.add(new Paragraph("Dear " + user.getFirstName() + " " + user.getLastName() 
-            + ", this document confirms the cancellation of your tickets and the refund of your payment.")
-            .setFontSize(12));
-        document.add(new Paragraph("\n"));
+        return headerTable;
+    }
 
+    /**
+     * Adds the table of invoice items: seated tickets one per row, standing tickets grouped by show, sector and price.
+     */
+    private InvoiceTotals addInvoiceItems(Document document, List<Ticket> tickets) {
         // Create items table
-        Table itemsTable = new Table(new float[]{1, 4, 1, 2, 2, 1, 2});
+        Table itemsTable = new Table(ITEM_COLUMNS);
         itemsTable.setWidth(UnitValue.createPercentValue(100));
 
         // Add table headers
-        String[] headers = {"Pos", "Description", "Quantity", "Unit Price", "Price Net", "VAT %", "Price Gross"};
-        for (String header : headers) {
+        for (String header : ITEM_HEADERS) {
             itemsTable.addHeaderCell(new Cell()
                 .add(new Paragraph(header).setBold())
                 .setBackgroundColor(ColorConstants.LIGHT_GRAY));
         }
 
         // Group standing tickets by show, sector and price
-        Map<String, List<Ticket>> standingTicketGroups = cancellationInvoice.getTickets().stream()
+        Map<String, List<Ticket>> standingTicketGroups = tickets.stream()
             .filter(t -> t.getStandingSector() != null)
             .collect(Collectors.groupingBy(t -> 
                 t.getShow().getId() + "-" 
                 + t.getStandingSector().getId() + "-" 
                 + t.getPrice()));
 
-        // Process seated tickets and grouped standing tickets
+        // Process seated tickets normally and grouped standing tickets
         int position = 1;
         double totalGross = 0;
         double totalVat = 0;
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+        double vatFactor = 1 + companyConfig.getVatRate() / 100;
+        String vatRate = String.format("%.0f%%", companyConfig.getVatRate());
 
         // First handle seated tickets individually
-        for (Ticket ticket : cancellationInvoice.getTickets()) {
+        for (Ticket ticket : tickets) {
             if (ticket.getSeat() != null) {
                 Show show = ticket.getShow();
                 double priceGross = ticket.getPrice();
-                double priceNet = priceGross / (1 + companyConfig.getVatRate() / 100);
+                double priceNet = priceGross / vatFactor;
                 double vatAmount = priceGross - priceNet;
                 totalGross += priceGross;
                 totalVat += vatAmount;
@@ -471,7 +486,7 @@ public class PdfGenerationServiceImpl implements PdfGenerationService {
                 description.append(String.format("%s at %s on %s", 
                     show.getName(),
                     show.getVenue().getName(),
-                    show.getDate().format(dateFormatter)));
+                    show.getDate().format(DATE_FORMATTER)));
 
                 description.append(String.format("\nSector %s, Row %d, Seat %d",
                     ticket.getSeat().getSector().getSectorName(),
@@ -483,7 +498,7 @@ public class PdfGenerationServiceImpl implements PdfGenerationService {
                 itemsTable.addCell(new Cell().add(new Paragraph("1")));
                 itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", priceNet))));
                 itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", priceNet))));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("%.0f%%", companyConfig.getVatRate()))));
+                itemsTable.addCell(new Cell().add(new Paragraph(vatRate)));
                 itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", priceGross))));
             }
         }
@@ -496,17 +511,16 @@ public class PdfGenerationServiceImpl implements PdfGenerationService {
                 int quantity = ticketGroup.size();
                 double priceGrossPerTicket = sampleTicket.getPrice();
                 double totalPriceGross = priceGrossPerTicket * quantity;
-                double totalPriceNet = totalPriceGross / (1 + companyConfig.getVatRate() / 100);
+                double totalPriceNet = totalPriceGross / vatFactor;
                 double totalVatAmount = totalPriceGross - totalPriceNet;
                 totalGross += totalPriceGross;
                 totalVat += totalVatAmount;
 
-                
                 StringBuilder description = new StringBuilder();
                 description.append(String.format("%s at %s on %s", 
                     show.getName(),
                     show.getVenue().getName(),
-                    show.getDate().format(dateFormatter)));
+                    show.getDate().format(DATE_FORMATTER)));
                 description.append("\nStanding - " + sampleTicket.getStandingSector().getSectorName());
 
                 double unitPriceNet = totalPriceNet / quantity;
@@ -515,26 +529,63 @@ public class PdfGenerationServiceImpl implements PdfGenerationService {
                 itemsTable.addCell(new Cell().add(new Paragraph(String.valueOf(quantity))));
                 itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", unitPriceNet))));
                 itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", totalPriceNet))));
-                itemsTable.addCell(new Cell().add(new Paragraph(String.format("%.0f%%", companyConfig.getVatRate()))));
+                itemsTable.addCell(new Cell().add(new Paragraph(vatRate)));
                 itemsTable.addCell(new Cell().add(new Paragraph(String.format("€%.2f", totalPriceGross))));
             }
         }
 
         document.add(itemsTable);
+        return new InvoiceTotals(totalGross, totalVat);
+    }
 
-        // Add totals with refund notice
-        document.add(new Paragraph("\n"));
-        Paragraph totalAmount = new Paragraph(String.format("Total Refunded Amount: €%.2f", totalGross))
-            .setBold()
-            .setFontSize(12);
-        document.add(totalAmount);
-        document.add(new Paragraph(String.format("Included VAT Amount: €%.2f", totalVat))
-            .setFontSize(12));
-        document.add(new Paragraph("Full amount refunded")
-            .setFontColor(ColorConstants.RED)
-            .setFontSize(12));
+    private record InvoiceTotals(double gross, double vat) {
+    }
+
+    /**
+     * Renders the tickets on the shared pool and hands them to the consumer in their original order.
+     * At most as many tickets as there are render workers are rendered ahead of the consumer,
+     * so a large order does not pile up in memory.
+     */
+    private void renderInOrder(List<Ticket> tickets, RenderedTicketConsumer consumer) throws Exception {
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        int consumed = 0;
+        try {
+            for (Ticket ticket : tickets) {
+                pending.add(renderers.submit(() -> renderTicket(ticket)));
+                if (pending.size() >= renderWorkers) {
+                    consumer.accept(tickets.get(consumed++), awaitRendered(pending.remove()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                consumer.accept(tickets.get(consumed++), awaitRendered(pending.remove()));
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
 
+    /**
+     * Renders a ticket into a document of its own, laid out the same way as in the bundle.
+     */
+    private byte[] renderTicket(Ticket ticket) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Document document = ticketDocument(new PdfDocument(new PdfWriter(outputStream)));
+        addTicket(document, ticket);
         document.close();
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] awaitRendered(Future<byte[]> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RenderedTicketConsumer {
+        void accept(Ticket ticket, byte[] pdfBytes) throws Exception;
     }
 
     private void addStyledRow(Table table, String label, String value) {
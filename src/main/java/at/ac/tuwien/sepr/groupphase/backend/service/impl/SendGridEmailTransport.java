@@ -0,0 +1,57 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.service.EmailTransport;
+import com.sendgrid.Method;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import com.sendgrid.helpers.mail.Mail;
+import com.sendgrid.helpers.mail.objects.Content;
+import com.sendgrid.helpers.mail.objects.Email;
+import com.sendgrid.helpers.mail.objects.Personalization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "app.email.transport", havingValue = "sendgrid", matchIfMissing = true)
+public class SendGridEmailTransport implements EmailTransport {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final Email FROM = new Email("sepr.ticketline@proton.me");
+    // the client keeps its HTTP connections, so it is created once and not per email
+    private final SendGrid sendGrid;
+
+    public SendGridEmailTransport(@Value("${spring.sendgrid.api.key}") String apiKey) {
+        this.sendGrid = new SendGrid(apiKey);
+    }
+
+    @Override
+    public void send(String subject, String content, List<String> recipients) throws IOException {
+        Mail mail = new Mail();
+        mail.setFrom(FROM);
+        mail.setSubject(subject);
+        mail.addContent(new Content("text/plain", content));
+        // one personalization per recipient sends everyone their own copy with a single request
+        for (String recipient : recipients) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(recipient));
+            mail.addPersonalization(personalization);
+        }
+
+        Request request = new Request();
+        request.setMethod(Method.POST);
+        request.setEndpoint("mail/send");
+        request.setBody(mail.build());
+        Response response = sendGrid.api(request);
+        if (response.getStatusCode() >= 300) {
+            throw new IOException("SendGrid answered " + response.getStatusCode() + ": " + response.getBody());
+        }
+        LOGGER.debug("Sent email to {} recipients, SendGrid answered {}", recipients.size(), response.getStatusCode());
+    }
+}
@@ -4,15 +4,25 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.ArtistService;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.SearchIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,13 +37,18 @@ public class SimpleArtistService implements ArtistService {
     private final ArtistRepository artistRepository;
     private final String imageDirectory;
     private final String imageBaseUrl;
+    private final SearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SimpleArtistService(ArtistRepository artistRepository,
                              @Value("${app.storage.image-directory}") String imageDirectory,
-                             @Value("${app.image-base-url}") String imageBaseUrl) {
+                             @Value("${app.image-base-url}") String imageBaseUrl,
+                             SearchIndex searchIndex, ApplicationEventPublisher eventPublisher) {
         this.artistRepository = artistRepository;
         this.imageDirectory = imageDirectory;
         this.imageBaseUrl = imageBaseUrl;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
 
     }
 
@@ -43,6 +58,18 @@ public class SimpleArtistService implements ArtistService {
         return artistRepository.findAll();
     }
 
+    @Override
+    public Stream<Artist> streamAll() {
+        LOGGER.debug("Stream all artists");
+        return artistRepository.streamAllByOrderByIdAsc();
+    }
+
+    @Override
+    public List<Artist> findAllAfter(Long id, int limit) {
+        LOGGER.debug("Find {} artists after artist {}", limit, id);
+        return artistRepository.findPageAfter(id, PageRequest.ofSize(limit));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Artist findOne(Long id) {
@@ -65,7 +92,10 @@ public class SimpleArtistService implements ArtistService {
     @Override
     public Artist createArtist(Artist artist) {
         LOGGER.debug("Create new artist {}", artist);
-        return artistRepository.save(artist);
+        Artist savedArtist = artistRepository.save(artist);
+        searchIndex.index(savedArtist);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.ARTISTS));
+        return savedArtist;
     }
 
     @Override
@@ -93,6 +123,12 @@ public class SimpleArtistService implements ArtistService {
         if (query == null || query.trim().isEmpty()) {
             return findAll();
         }
+        Optional<List<Long>> ids = searchIndex.searchArtists(query);
+        if (ids.isPresent()) {
+            Map<Long, Artist> artists = artistRepository.findAllById(ids.get()).stream()
+                .collect(Collectors.toMap(Artist::getId, Function.identity()));
+            return ids.get().stream().map(artists::get).filter(Objects::nonNull).toList();
+        }
         return artistRepository.findByNameContainingIgnoreCase(query);
     }
 
@@ -0,0 +1,54 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlockedUserRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class SimpleBlockedUserRegistry implements BlockedUserRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final UserRepository userRepository;
+    private final Set<String> blocked = ConcurrentHashMap.newKeySet();
+
+    public SimpleBlockedUserRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public boolean isBlocked(String email) {
+        return email != null && blocked.contains(email);
+    }
+
+    @Override
+    public void block(String email) {
+        LOGGER.debug("Block user {}", email);
+        // blocking takes effect before the commit, so that no request slips through in between
+        blocked.add(email);
+        TransactionHooks.afterRollback(() -> blocked.remove(email));
+    }
+
+    @Override
+    public void unblock(String email) {
+        LOGGER.debug("Unblock user {}", email);
+        TransactionHooks.afterCommit(() -> blocked.remove(email));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LOGGER.debug("Rebuild blocked users");
+        Set<String> emails = new HashSet<>(userRepository.findBlockedEmails());
+        blocked.retainAll(emails);
+        blocked.addAll(emails);
+        LOGGER.info("Loaded {} blocked users", emails.size());
+    }
+}
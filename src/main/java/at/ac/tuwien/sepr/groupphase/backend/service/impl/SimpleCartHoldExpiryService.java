@@ -0,0 +1,157 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.CartHoldExpiryService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatOccupancyService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SoldSeatsCounter;
+import at.ac.tuwien.sepr.groupphase.backend.service.StandingCapacityService;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.CartHold;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class SimpleCartHoldExpiryService implements CartHoldExpiryService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final int BATCH_SIZE = 500;
+    private final TicketRepository ticketRepository;
+    private final SeatOccupancyService seatOccupancyService;
+    private final StandingCapacityService standingCapacityService;
+    private final SoldSeatsCounter soldSeatsCounter;
+    private final Duration holdTtl;
+    private final DelayQueue<Hold> holds = new DelayQueue<>();
+    private final Counter expiredCounter;
+    private final MultiGauge activeCarts;
+
+    public SimpleCartHoldExpiryService(TicketRepository ticketRepository, SeatOccupancyService seatOccupancyService,
+                                       StandingCapacityService standingCapacityService, SoldSeatsCounter soldSeatsCounter,
+                                       MeterRegistry meterRegistry, @Value("${app.cart.hold-ttl:PT10M}") Duration holdTtl) {
+        this.ticketRepository = ticketRepository;
+        this.seatOccupancyService = seatOccupancyService;
+        this.standingCapacityService = standingCapacityService;
+        this.soldSeatsCounter = soldSeatsCounter;
+        this.holdTtl = holdTtl;
+        this.expiredCounter = Counter.builder("cart.holds.expired")
+            .description("Cart tickets released because they were held for too long")
+            .register(meterRegistry);
+        this.activeCarts = MultiGauge.builder("cart.active")
+            .description("Users holding tickets of a show in their cart")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void hold(Long ticketId, LocalDateTime heldSince) {
+        LOGGER.trace("Hold ticket {} in cart since {}", ticketId, heldSince);
+        holds.put(new Hold(ticketId, deadlineOf(heldSince)));
+    }
+
+    @Override
+    public boolean isExpired(Ticket ticket) {
+        return Boolean.TRUE.equals(ticket.getInCart())
+            && ticket.getDate() != null
+            && ticket.getDate().isBefore(LocalDateTime.now().minus(holdTtl));
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.cart.expiry-interval:PT30S}")
+    public int expireHolds() {
+        List<Hold> due = new ArrayList<>();
+        holds.drainTo(due);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        LOGGER.debug("Expire {} cart holds", due.size());
+        TransactionHooks.afterRollback(() -> holds.addAll(due));
+
+        // the ticket may have been bought or put into the cart again since, so the database decides
+        LocalDateTime cutoff = LocalDateTime.now().minus(holdTtl);
+        int expired = 0;
+        for (int from = 0; from < due.size(); from += BATCH_SIZE) {
+            List<Long> ticketIds = due.subList(from, Math.min(from + BATCH_SIZE, due.size())).stream()
+                .map(Hold::ticketId)
+                .toList();
+            List<Ticket> tickets = ticketRepository.findExpiredCartTickets(ticketIds, cutoff);
+            tickets.forEach(this::release);
+            ticketRepository.deleteAllInBatch(tickets);
+            expired += tickets.size();
+        }
+        if (expired > 0) {
+            expiredCounter.increment(expired);
+            LOGGER.info("Released {} expired cart tickets", expired);
+        }
+        return expired;
+    }
+
+    /**
+     * Publishes the number of carts per show, dropping the shows whose carts have all been emptied since.
+     */
+    @Scheduled(fixedDelayString = "${app.cart.metrics-interval:PT30S}")
+    public void publishActiveCarts() {
+        activeCarts.register(ticketRepository.countCartsByShow().stream()
+            .<MultiGauge.Row<?>>map(carts -> MultiGauge.Row.of(Tags.of("show", String.valueOf(carts.showId())), carts.users()))
+            .toList(), true);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LOGGER.debug("Rebuild cart holds");
+        holds.clear();
+        for (CartHold cartHold : ticketRepository.findCartHolds()) {
+            hold(cartHold.ticketId(), cartHold.date());
+        }
+        LOGGER.info("Loaded {} cart holds", holds.size());
+    }
+
+    private void release(Ticket ticket) {
+        Long showId = ticket.getShow().getId();
+        if (ticket.getSeat() != null) {
+            seatOccupancyService.release(showId, ticket.getSeat().getSeatId());
+        } else if (ticket.getStandingSector() != null) {
+            standingCapacityService.release(showId, ticket.getStandingSector().getId(), 1);
+        }
+        soldSeatsCounter.add(ticket.getShow(), -1);
+    }
+
+    private long deadlineOf(LocalDateTime heldSince) {
+        LocalDateTime since = heldSince != null ? heldSince : LocalDateTime.now();
+        return since.plus(holdTtl).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * A ticket held in a cart until its deadline, in epoch milliseconds.
+     */
+    private record Hold(Long ticketId, long deadline) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadline, ((Hold) other).deadline);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleShowDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.EventMapper;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.ShowMapper;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventService;
+import at.ac.tuwien.sepr.groupphase.backend.service.ShowService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Service
+public class SimpleCatalogCache implements CatalogCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("catalog-refresher").daemon().factory());
+    private final CachedList<SimpleShowDto> shows;
+    private final CachedList<SimpleEventDto> events;
+
+    public SimpleCatalogCache(ShowService showService, EventService eventService, ShowMapper showMapper,
+                              EventMapper eventMapper, MeterRegistry meterRegistry,
+                              @Value("${app.catalog.enabled:true}") boolean enabled,
+                              @Value("${app.catalog.max-age:PT1M}") Duration maxAge) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.shows = new CachedList<>("shows", () -> showMapper.showListItemToSimpleShowDto(showService.findAllListItems()), meterRegistry);
+        this.events = new CachedList<>("events", () -> eventMapper.eventListItemToSimpleEventDto(eventService.findAllListItems()), meterRegistry);
+    }
+
+    @Override
+    public List<SimpleShowDto> getShows() {
+        return shows.get();
+    }
+
+    @Override
+    public List<SimpleEventDto> getEvents() {
+        return events.get();
+    }
+
+    /**
+     * Reads the changed list again once the change is committed.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        LOGGER.debug("Catalog of {} changed", event.catalog());
+        switch (event.catalog()) {
+            case SHOWS -> shows.refreshInBackground();
+            case EVENTS -> events.refreshInBackground();
+            default -> {
+                // the other catalogs are not kept as lists
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * A single cached list. Refreshes are run one after another on the refresher thread, and a change while a refresh
+     * is running schedules another one, so the list never stays behind the last committed change.
+     */
+    private final class CachedList<T> {
+        private final String name;
+        private final Supplier<List<T>> loader;
+        private final Counter hits;
+        private final Counter misses;
+        private final Timer rebuildTimer;
+        private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+        private volatile Snapshot<T> snapshot;
+
+        private CachedList(String name, Supplier<List<T>> loader, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.loader = loader;
+            this.hits = Counter.builder("catalog.cache.gets")
+                .description("Reads of a cached catalog list")
+                .tags("catalog", name, "result", "hit")
+                .register(meterRegistry);
+            this.misses = Counter.builder("catalog.cache.gets")
+                .description("Reads of a cached catalog list")
+                .tags("catalog", name, "result", "miss")
+                .register(meterRegistry);
+            this.rebuildTimer = Timer.builder("catalog.cache.rebuild")
+                .description("Time to read and map a catalog list again")
+                .tag("catalog", name)
+                .register(meterRegistry);
+            Gauge.builder("catalog.cache.hit.ratio", this, CachedList::hitRatio)
+                .description("Share of catalog reads served from the cache")
+                .tag("catalog", name)
+                .register(meterRegistry);
+        }
+
+        List<T> get() {
+            if (!enabled) {
+                return loader.get();
+            }
+            Snapshot<T> current = snapshot;
+            if (current == null) {
+                misses.increment();
+                return loadNow();
+            }
+            hits.increment();
+            if (System.nanoTime() - current.loadedAt() > maxAge.toNanos()) {
+                // the lists only hold upcoming shows and current events, so they also go stale by themselves
+                refreshInBackground();
+            }
+            return current.value();
+        }
+
+        void refreshInBackground() {
+            if (!enabled || !refreshScheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                refresher.execute(() -> {
+                    // cleared before loading, so that a change committed during the load schedules another refresh
+                    refreshScheduled.set(false);
+                    try {
+                        rebuild();
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Failed to refresh the cached {}, keeping the previous copy", name, e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                refreshScheduled.set(false);
+            }
+        }
+
+        private synchronized List<T> loadNow() {
+            Snapshot<T> current = snapshot;
+            return current != null ? current.value() : rebuild().value();
+        }
+
+        private Snapshot<T> rebuild() {
+            long start = System.nanoTime();
+            Snapshot<T> rebuilt = new Snapshot<>(List.copyOf(loader.get()), System.nanoTime());
+            rebuildTimer.record(Duration.ofNanos(rebuilt.loadedAt() - start));
+            snapshot = rebuilt;
+            LOGGER.debug("Cached {} {}", rebuilt.value().size(), name);
+            return rebuilt;
+        }
+
+        private double hitRatio() {
+            double total = hits.count() + misses.count();
+            return total == 0 ? 0 : hits.count() / total;
+        }
+    }
+
+    private record Snapshot<T>(List<T> value, long loadedAt) {
+    }
+}
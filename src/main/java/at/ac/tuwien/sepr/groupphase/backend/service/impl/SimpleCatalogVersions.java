@@ -0,0 +1,81 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Service
+public class SimpleCatalogVersions implements CatalogVersions {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final ShowRepository showRepository;
+    // the counters start over on every start and differ between instances, so tags of another run never match
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLongArray versions = new AtomicLongArray(CatalogChangedEvent.Catalog.values().length);
+    // when the next upcoming show starts and drops out of the show lists, null if it has to be read again
+    private volatile LocalDateTime nextShowStart;
+
+    public SimpleCatalogVersions(ShowRepository showRepository) {
+        this.showRepository = showRepository;
+    }
+
+    @Override
+    public String tagOf(CatalogChangedEvent.Catalog... catalogs) {
+        StringBuilder tag = new StringBuilder(epoch);
+        boolean shows = false;
+        boolean events = false;
+        for (CatalogChangedEvent.Catalog catalog : catalogs) {
+            tag.append('-').append(catalog.ordinal()).append('.').append(versions.get(catalog.ordinal()));
+            shows |= catalog == CatalogChangedEvent.Catalog.SHOWS;
+            events |= catalog == CatalogChangedEvent.Catalog.EVENTS;
+        }
+        if (shows) {
+            // shows drop out of the upcoming lists by themselves as soon as they start
+            tag.append('-').append(nextShowStart());
+        }
+        if (events) {
+            // events drop out of the current lists by themselves as the days pass
+            tag.append('-').append(LocalDate.now());
+        }
+        return tag.toString();
+    }
+
+    /**
+     * Counts a change once it is committed.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        long version = versions.incrementAndGet(event.catalog().ordinal());
+        if (event.catalog() == CatalogChangedEvent.Catalog.SHOWS) {
+            // the changed show may start before the one that was next so far
+            nextShowStart = null;
+        }
+        LOGGER.debug("Catalog of {} is now at version {}", event.catalog(), version);
+    }
+
+    private LocalDateTime nextShowStart() {
+        LocalDateTime next = nextShowStart;
+        LocalDateTime now = LocalDateTime.now();
+        if (next == null || !next.isAfter(now)) {
+            // only read again once the show that was next has started
+            List<ShowListItem> upcoming = showRepository.findListItemPageAfter(null, null, null, PageRequest.ofSize(1));
+            next = upcoming.isEmpty() ? LocalDateTime.MAX : LocalDateTime.of(upcoming.getFirst().date(), upcoming.getFirst().time());
+            nextShowStart = next;
+        }
+        return next;
+    }
+}
@@ -0,0 +1,188 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.EventMapper;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventLeaderboard;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+@Service
+public class SimpleEventLeaderboard implements EventLeaderboard {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final int SIZE = 10;
+    private static final Comparator<Ranked> RANKING = Comparator.comparingInt(Ranked::soldSeats).reversed()
+        .thenComparing(Ranked::id);
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final boolean enabled;
+    // guarded by this, readers only ever see the published board
+    private final Map<Long, Ranked> rankedById = new HashMap<>();
+    private final Map<String, NavigableSet<Ranked>> rankedByType = new HashMap<>();
+    private final NavigableSet<Ranked> rankedOverall = new TreeSet<>(RANKING);
+    private volatile Board board = new Board(List.of(), Map.of());
+
+    public SimpleEventLeaderboard(EventRepository eventRepository, EventMapper eventMapper,
+                                  @Value("${app.leaderboard.enabled:true}") boolean enabled) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public List<SimpleEventDto> getTopTen(String type) {
+        if (!enabled) {
+            return eventMapper.eventToSimpleEventDto(type != null
+                ? eventRepository.findTop10ByTypeOrderBySoldSeatsDesc(type)
+                : eventRepository.findTop10ByOrderBySoldSeatsDesc());
+        }
+        Board current = board;
+        return type != null ? current.byType().getOrDefault(type, List.of()) : current.overall();
+    }
+
+    @Override
+    public synchronized void track(Event event) {
+        if (!enabled || event.getDurationTo().isBefore(LocalDate.now())) {
+            return;
+        }
+        LOGGER.debug("Rank event {}", event.getId());
+        SimpleEventDto dto = eventMapper.eventToSimpleEventDto(event);
+        Ranked previous = rankedById.get(event.getId());
+        if (previous != null) {
+            remove(previous);
+        }
+        add(new Ranked(event.getId(), dto.getType(), dto.getSoldSeats() != null ? dto.getSoldSeats() : 0, dto));
+        publish(previous != null ? previous.type() : null, dto.getType());
+    }
+
+    @Override
+    public synchronized void addSoldSeats(Long eventId, int delta) {
+        Ranked previous = rankedById.get(eventId);
+        if (previous == null || delta == 0) {
+            return;
+        }
+        LOGGER.trace("Add {} sold seats to ranked event {}", delta, eventId);
+        remove(previous);
+        add(previous.withSoldSeats(previous.soldSeats() + delta));
+        publish(previous.type());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.leaderboard.reconcile-interval:PT5M}",
+        initialDelayString = "${app.leaderboard.reconcile-interval:PT5M}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        // changes committed while the rows are read are contained in them and may be added once more,
+        // the next reconciliation corrects that
+        List<EventListItem> events = eventRepository.findCurrentEventSummaries();
+        synchronized (this) {
+            rankedById.clear();
+            rankedByType.clear();
+            rankedOverall.clear();
+            for (EventListItem event : events) {
+                add(rankedOf(event));
+            }
+            publish(rankedByType.keySet().toArray(String[]::new));
+        }
+        LOGGER.debug("Ranked {} current events", events.size());
+    }
+
+    private void add(Ranked ranked) {
+        rankedById.put(ranked.id(), ranked);
+        rankedOverall.add(ranked);
+        rankedByType.computeIfAbsent(ranked.type(), type -> new TreeSet<>(RANKING)).add(ranked);
+    }
+
+    private void remove(Ranked ranked) {
+        rankedById.remove(ranked.id());
+        rankedOverall.remove(ranked);
+        NavigableSet<Ranked> ofType = rankedByType.get(ranked.type());
+        ofType.remove(ranked);
+        if (ofType.isEmpty()) {
+            rankedByType.remove(ranked.type());
+        }
+    }
+
+    /**
+     * Publishes a new board with the overall list and the lists of the given types taken anew.
+     */
+    private void publish(String... changedTypes) {
+        LocalDate today = LocalDate.now();
+        Map<String, List<SimpleEventDto>> byType = new HashMap<>(board.byType());
+        for (String type : changedTypes) {
+            if (type == null) {
+                continue;
+            }
+            NavigableSet<Ranked> ofType = rankedByType.get(type);
+            if (ofType == null) {
+                byType.remove(type);
+            } else {
+                byType.put(type, topOf(ofType, today));
+            }
+        }
+        byType.keySet().retainAll(rankedByType.keySet());
+        board = new Board(topOf(rankedOverall, today), Map.copyOf(byType));
+    }
+
+    private static List<SimpleEventDto> topOf(NavigableSet<Ranked> ranking, LocalDate today) {
+        // events that ended since the last reconciliation are skipped until it drops them
+        return ranking.stream()
+            .filter(ranked -> !ranked.event().getDurationTo().isBefore(today))
+            .limit(SIZE)
+            .map(Ranked::event)
+            .toList();
+    }
+
+    private static Ranked rankedOf(EventListItem event) {
+        SimpleEventDto dto = SimpleEventDto.SimpleEventDtoBuilder.aSimpleEventDto()
+            .withId(event.id())
+            .withName(event.name())
+            .withSummary(event.summary())
+            .withType(event.type())
+            .withDurationFrom(event.durationFrom())
+            .withDurationTo(event.durationTo())
+            .withSoldSeats(event.soldSeats())
+            .withImageUrl(event.imageUrl())
+            .build();
+        return new Ranked(dto.getId(), dto.getType(), dto.getSoldSeats(), dto);
+    }
+
+    private record Ranked(Long id, String type, int soldSeats, SimpleEventDto event) {
+
+        Ranked withSoldSeats(int newSoldSeats) {
+            SimpleEventDto dto = SimpleEventDto.SimpleEventDtoBuilder.aSimpleEventDto()
+                .withId(event.getId())
+                .withName(event.getName())
+                .withSummary(event.getSummary())
+                .withType(event.getType())
+                .withDurationFrom(event.getDurationFrom())
+                .withDurationTo(event.getDurationTo())
+                .withSoldSeats(newSoldSeats)
+                .withImageUrl(event.getImageUrl())
+                .build();
+            return new Ranked(id, type, newSoldSeats, dto);
+        }
+    }
+
+    private record Board(List<SimpleEventDto> overall, Map<String, List<SimpleEventDto>> byType) {
+    }
+}
@@ -6,11 +6,17 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventLeaderboard;
 import at.ac.tuwien.sepr.groupphase.backend.service.EventService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SearchIndex;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -24,6 +30,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class SimpleEventService implements EventService {
@@ -34,15 +41,24 @@ public class SimpleEventService implements EventService {
     private final ShowRepository showRepository;
     private final String imageDirectory;
     private final String imageBaseUrl;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventLeaderboard eventLeaderboard;
+    private final SearchIndex searchIndex;
 
     public SimpleEventService(EventRepository eventRepository,
                               ShowRepository showRepository,
                               @Value("${app.storage.image-directory}") String imageDirectory,
-                              @Value("${app.image-base-url}") String imageBaseUrl) {
+                              @Value("${app.image-base-url}") String imageBaseUrl,
+                              ApplicationEventPublisher eventPublisher,
+                              EventLeaderboard eventLeaderboard,
+                              SearchIndex searchIndex) {
         this.eventRepository = eventRepository;
         this.showRepository = showRepository;
         this.imageDirectory = imageDirectory;
         this.imageBaseUrl = imageBaseUrl;
+        this.eventPublisher = eventPublisher;
+        this.eventLeaderboard = eventLeaderboard;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -56,8 +72,14 @@ public class SimpleEventService implements EventService {
                 show.setEvent(savedEvent);
             }
             showRepository.saveAll(shows);
+            // the shows are found by the name of their event as well
+            shows.forEach(searchIndex::index);
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.SHOWS));
         }
+        searchIndex.index(savedEvent);
 
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.EVENTS));
+        TransactionHooks.afterCommit(() -> eventLeaderboard.track(savedEvent));
         return savedEvent;
     }
 
@@ -86,6 +108,18 @@ public class SimpleEventService implements EventService {
         return eventRepository.findAllByOrderBySoldSeatsDesc();
     }
 
+    @Override
+    public List<EventListItem> findAllListItems() {
+        LOGGER.debug("Find list items of all events ordered by sold seats");
+        return eventRepository.findCurrentListItems();
+    }
+
+    @Override
+    public List<EventListItem> findAllAfter(Integer soldSeats, Long id, int limit) {
+        LOGGER.debug("Find {} events after event {}", limit, id);
+        return eventRepository.findListItemPageAfter(soldSeats, id, PageRequest.ofSize(limit));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Event findOne(Long id) {
@@ -118,6 +152,10 @@ public class SimpleEventService implements EventService {
     @Override
     public List<Event> eventsByFilter(SearchEventDto searchEventDto) {
         LOGGER.debug("Find events by filter {}", searchEventDto);
+        Optional<List<Long>> ids = searchIndex.searchEvents(searchEventDto.getName(), searchEventDto.getType(), searchEventDto.getText());
+        if (ids.isPresent()) {
+            return ids.get().isEmpty() ? List.of() : eventRepository.findByIdsAndFilters(ids.get(), searchEventDto.getDuration());
+        }
         return eventRepository.findByFilters(searchEventDto.getName(), searchEventDto.getType(), searchEventDto.getText(), searchEventDto.getDuration());
     }
 }
@@ -0,0 +1,102 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Stage;
+import at.ac.tuwien.sepr.groupphase.backend.entity.StandingSector;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.SeatRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.SectorRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.StandingSectorRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayout;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayoutCache;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.SeatRow;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.SectorRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class SimpleHallLayoutCache implements HallLayoutCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final HallRepository hallRepository;
+    private final SectorRepository sectorRepository;
+    private final SeatRepository seatRepository;
+    private final StandingSectorRepository standingSectorRepository;
+    private final TransactionTemplate readOnly;
+    private final Map<Long, HallLayout> layouts = new ConcurrentHashMap<>();
+
+    public SimpleHallLayoutCache(HallRepository hallRepository, SectorRepository sectorRepository,
+                                 SeatRepository seatRepository, StandingSectorRepository standingSectorRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.hallRepository = hallRepository;
+        this.sectorRepository = sectorRepository;
+        this.seatRepository = seatRepository;
+        this.standingSectorRepository = standingSectorRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Override
+    public HallLayout get(Long hallId) {
+        // concurrent readers of a hall that is not cached yet wait for one read instead of all reading it
+        return layouts.computeIfAbsent(hallId, this::load);
+    }
+
+    @Override
+    public HallLayout get(Long hallId, int version) {
+        HallLayout layout = get(hallId);
+        if (layout.getVersion() != version) {
+            LOGGER.debug("Cached layout of hall {} is version {}, reading version {}", hallId, layout.getVersion(), version);
+            layouts.remove(hallId, layout);
+            layout = get(hallId);
+        }
+        return layout;
+    }
+
+    @Override
+    public void invalidate(Long hallId) {
+        TransactionHooks.afterCommit(() -> layouts.remove(hallId));
+    }
+
+    private HallLayout load(Long hallId) {
+        LOGGER.debug("Read layout of hall {}", hallId);
+        return readOnly.execute(status -> {
+            Hall hall = hallRepository.findById(hallId)
+                .orElseThrow(() -> new NotFoundException("Could not find hall with id " + hallId));
+            List<SeatRow> seats = seatRepository.findLayoutRowsByHallId(hallId);
+            HallLayout.Builder layout = new HallLayout.Builder(hall.getId(), hall.getLayoutVersion(), seats.size())
+                .hall(hall.getName(), hall.getCapacity(), hall.getCanvasWidth(), hall.getCanvasHeight());
+            Stage stage = hall.getStage();
+            if (stage != null) {
+                layout.stage(new HallLayout.Stage(stage.getId(), stage.getPositionX(), stage.getPositionY(),
+                    stage.getWidth(), stage.getHeight()));
+            }
+
+            // both are ordered by sector, so each sector's seats are the run of rows that follows the previous sector's
+            int seat = 0;
+            for (SectorRow sector : sectorRepository.findLayoutRowsByHallId(hallId)) {
+                layout.sector(sector.id(), sector.sectorName(), sector.rows(), sector.columns(), sector.price());
+                for (; seat < seats.size() && sector.id().equals(seats.get(seat).sectorId()); seat++) {
+                    SeatRow row = seats.get(seat);
+                    layout.seat(row.id(), row.row(), row.column(), row.positionX(), row.positionY());
+                }
+            }
+
+            for (StandingSector standingSector : standingSectorRepository.findByHallIdOrderByIdAsc(hallId)) {
+                layout.standingSector(new HallLayout.StandingSector(standingSector.getId(), standingSector.getSectorName(),
+                    standingSector.getCapacity(), standingSector.getTakenCapacity(), standingSector.getPositionX1(),
+                    standingSector.getPositionY1(), standingSector.getPositionX2(), standingSector.getPositionY2(),
+                    standingSector.getPrice()));
+            }
+            return layout.build();
+        });
+    }
+}
@@ -5,6 +5,9 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
 import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.SectorRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.StandingSectorRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayout;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayoutCache;
 import at.ac.tuwien.sepr.groupphase.backend.service.HallService;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.HallMapper;
@@ -17,8 +20,10 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.StandingSector;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.StandingSectorDto;
 
 import at.ac.tuwien.sepr.groupphase.backend.repository.SeatRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.SeatRow;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import org.slf4j.Logger;
@@ -28,13 +33,18 @@ import java.lang.invoke.MethodHandles;
 
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
-import java.util.stream.Collectors;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @Transactional
 public class SimpleHallService implements HallService {
     private final HallRepository hallRepository;
+    private final HallLayoutCache hallLayoutCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
@@ -49,8 +59,11 @@ public class SimpleHallService implements HallService {
     private SeatRepository seatRepository;
 
     public SimpleHallService(HallRepository hallRepository, HallMapper hallMapper,
-                             SeatRepository seatRepository, SectorRepository sectorRepository, StandingSectorRepository standingSectorRepository) {
+                             SeatRepository seatRepository, SectorRepository sectorRepository, StandingSectorRepository standingSectorRepository,
+                             HallLayoutCache hallLayoutCache, ApplicationEventPublisher eventPublisher) {
         this.hallRepository = hallRepository;
+        this.hallLayoutCache = hallLayoutCache;
+        this.eventPublisher = eventPublisher;
         this.seatRepository = seatRepository;
         this.sectorRepository = sectorRepository;
         this.standingSectorRepository = standingSectorRepository;
@@ -70,11 +83,25 @@ public class SimpleHallService implements HallService {
             .orElseThrow(() -> new NotFoundException("Could not find hall with id " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<HallLayout> findAllLayouts() {
+        LOGGER.debug("Find layouts of all halls");
+        return hallRepository.findAllIds().stream().map(hallLayoutCache::get).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public HallLayout findLayout(Long id) {
+        LOGGER.debug("Find layout of hall {}", id);
+        return hallLayoutCache.get(id);
+    }
+
     @Override
     public Hall createHall(HallDto hallDto) {
         LOGGER.info("Service Layer: Creating hall with name={}, capacity={}, width={}, height={}, stage={}, sectors={}",
             hallDto.name(), hallDto.capacity(), hallDto.canvasWidth(), hallDto.canvasHeight(),
-            hallDto.stage(), hallDto.sectors());
+            hallDto.stage(), hallDto.sectors() == null ? 0 : hallDto.sectors().size());
 
         Hall hall = new Hall();
         hall.setName(hallDto.name());
@@ -91,64 +118,49 @@ public class SimpleHallService implements HallService {
             hall.setStage(stage);
         }
 
+        // the seats are inserted in batches once their sectors have IDs
+        Map<Sector, List<SeatDto>> seatsBySector = new LinkedHashMap<>();
         if (hallDto.sectors() != null) {
             for (SectorDto sectorDto : hallDto.sectors()) {
                 Sector sector = new Sector();
-                sector.setSectorName(sectorDto.sectorName().toString());
-                sector.setRows(sectorDto.rows());
-                sector.setColumns(sectorDto.columns());
-                sector.setPrice(sectorDto.price());
-
-                if (sectorDto.seats() != null) {
-                    for (SeatDto seatDto : sectorDto.seats()) {
-                        Seat seat = new Seat();
-                        seat.setRowSeat(seatDto.rowSeat());
-                        seat.setColumnSeat(seatDto.columnSeat());
-                        seat.setPositionX(seatDto.positionX());
-                        seat.setPositionY(seatDto.positionY());
-                        seat.setSector(sector);
-                        sector.getSeats().add(seat);
-                    }
-                }
-
+                applySector(sector, sectorDto);
                 hall.addSector(sector);
+                seatsBySector.put(sector, sectorDto.seats());
             }
         }
 
         if (hallDto.standingSectors() != null) {
             for (StandingSectorDto standingSectorDto : hallDto.standingSectors()) {
                 StandingSector standingSector = new StandingSector();
-                standingSector.setSectorName(standingSectorDto.sectorName());
-                standingSector.setCapacity(standingSectorDto.capacity());
-                standingSector.setTakenCapacity(standingSectorDto.takenCapacity());
-                standingSector.setPositionX1(standingSectorDto.positionX1());
-                standingSector.setPositionY1(standingSectorDto.positionY1());
-                standingSector.setPositionX2(standingSectorDto.positionX2());
-                standingSector.setPositionY2(standingSectorDto.positionY2());
-                standingSector.setPrice(standingSectorDto.price());
+                applyStandingSector(standingSector, standingSectorDto);
                 hall.addStandingSector(standingSector);
             }
         }
 
-        Hall savedHall = hallRepository.save(hall);
-        LOGGER.info("Service Layer: Saved hall with id: {}", savedHall.getId());
+        Hall savedHall = hallRepository.saveAndFlush(hall);
+        List<SeatRow> seats = new ArrayList<>();
+        seatsBySector.forEach((sector, sectorSeats) -> addSeatRows(seats, sector, sectorSeats));
+        seatRepository.insertAll(seats);
+        LOGGER.info("Service Layer: Saved hall with id: {} and {} seats", savedHall.getId(), seats.size());
+        hallLayoutCache.invalidate(savedHall.getId());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.HALLS));
         return savedHall;
     }
 
     @Override
     public Hall updateHall(HallDto hallDto) throws ValidationException {
-        LOGGER.info("Service Layer: Updating hall: {}", hallDto);
+        LOGGER.info("Service Layer: Updating hall {} with name={}, sectors={}", hallDto.id(), hallDto.name(),
+            hallDto.sectors() == null ? 0 : hallDto.sectors().size());
         Hall existingHall = hallRepository.findById(hallDto.id())
             .orElseThrow(() -> new NotFoundException("Could not find hall with id " + hallDto.id()));
-
-        // Remove all existing content first
-        removeHallContent(hallDto.id());
+        assertNotInUse(existingHall);
 
         // Update basic hall properties
         existingHall.setName(hallDto.name());
         existingHall.setCapacity(hallDto.capacity());
         existingHall.setCanvasWidth(hallDto.canvasWidth());
         existingHall.setCanvasHeight(hallDto.canvasHeight());
+        existingHall.setLayoutVersion(existingHall.getLayoutVersion() + 1);
 
         // Update stage
         if (hallDto.stage() != null) {
@@ -164,55 +176,81 @@ public class SimpleHallService implements HallService {
             existingHall.setStage(null);
         }
 
-        // Clear existing sectors and their seats
-        existingHall.getSectors().clear();
+        // the stored seats by sector, and within a sector by row and column, read without loading the entities
+        Map<Long, Map<SeatKey, SeatRow>> storedSeats = new HashMap<>();
+        for (SeatRow seat : seatRepository.findLayoutRowsByHallId(existingHall.getId())) {
+            storedSeats.computeIfAbsent(seat.sectorId(), sectorId -> new HashMap<>())
+                .put(new SeatKey(seat.row(), seat.column()), seat);
+        }
 
-        // Add updated sectors and seats
+        // sectors are kept by ID, and a seat of a kept sector by its row and column, so that only changes are written
+        Map<Long, Sector> removedSectors = new HashMap<>();
+        existingHall.getSectors().forEach(sector -> removedSectors.put(sector.getId(), sector));
+        Map<Sector, List<SeatDto>> addedSectors = new LinkedHashMap<>();
+        List<SeatRow> insertedSeats = new ArrayList<>();
+        List<SeatRow> movedSeats = new ArrayList<>();
+        List<Long> deletedSeats = new ArrayList<>();
         if (hallDto.sectors() != null) {
             for (SectorDto sectorDto : hallDto.sectors()) {
-                Sector sector = new Sector();
-                sector.setSectorName(sectorDto.sectorName().toString());
-                sector.setRows(sectorDto.rows());
-                sector.setColumns(sectorDto.columns());
-                sector.setPrice(sectorDto.price());
-
-                // Add seats
-                if (sectorDto.seats() != null) {
-                    for (SeatDto seatDto : sectorDto.seats()) {
-                        Seat seat = new Seat();
-                        seat.setRowSeat(seatDto.rowSeat());
-                        seat.setColumnSeat(seatDto.columnSeat());
-                        seat.setPositionX(seatDto.positionX());
-                        seat.setPositionY(seatDto.positionY());
-                        seat.setSector(sector);
-                        sector.getSeats().add(seat);
+                Sector sector = sectorDto.id() == null ? null : removedSectors.remove(sectorDto.id());
+                if (sector == null) {
+                    sector = new Sector();
+                    applySector(sector, sectorDto);
+                    existingHall.addSector(sector);
+                    addedSectors.put(sector, sectorDto.seats());
+                    continue;
+                }
+                applySector(sector, sectorDto);
+                Map<SeatKey, SeatRow> sectorSeats = storedSeats.remove(sector.getId());
+                if (sectorSeats == null) {
+                    sectorSeats = new HashMap<>();
+                }
+                for (SeatDto seatDto : sectorDto.seats() == null ? List.<SeatDto>of() : sectorDto.seats()) {
+                    SeatRow stored = sectorSeats.remove(new SeatKey(seatDto.rowSeat(), seatDto.columnSeat()));
+                    if (stored == null) {
+                        insertedSeats.add(toSeatRow(null, sector.getId(), seatDto));
+                    } else if (!Objects.equals(stored.positionX(), seatDto.positionX())
+                        || !Objects.equals(stored.positionY(), seatDto.positionY())) {
+                        movedSeats.add(toSeatRow(stored.id(), sector.getId(), seatDto));
                     }
                 }
-
-                existingHall.addSector(sector);
+                sectorSeats.values().forEach(seat -> deletedSeats.add(seat.id()));
             }
         }
+        // what is left over are the seats of removed sectors
+        storedSeats.values().forEach(sectorSeats -> sectorSeats.values().forEach(seat -> deletedSeats.add(seat.id())));
 
-        // Clear existing standing sectors
-        existingHall.getStandingSectors().clear();
+        // the seats go first, so that removing their sectors finds nothing left to cascade to
+        seatRepository.deleteAllByIds(deletedSeats);
+        removedSectors.values().forEach(existingHall::removeSector);
+        sectorRepository.deleteAll(removedSectors.values());
 
-        // Add updated standing sectors
+        Map<Long, StandingSector> removedStandingSectors = new HashMap<>();
+        existingHall.getStandingSectors().forEach(standingSector -> removedStandingSectors.put(standingSector.getId(), standingSector));
         if (hallDto.standingSectors() != null) {
             for (StandingSectorDto standingSectorDto : hallDto.standingSectors()) {
-                StandingSector standingSector = new StandingSector();
-                standingSector.setSectorName(standingSectorDto.sectorName());
-                standingSector.setCapacity(standingSectorDto.capacity());
-                standingSector.setTakenCapacity(standingSectorDto.takenCapacity());
-                standingSector.setPositionX1(standingSectorDto.positionX1());
-                standingSector.setPositionY1(standingSectorDto.positionY1());
-                standingSector.setPositionX2(standingSectorDto.positionX2());
-                standingSector.setPositionY2(standingSectorDto.positionY2());
-                standingSector.setPrice(standingSectorDto.price());
-                existingHall.addStandingSector(standingSector);
+                StandingSector standingSector = standingSectorDto.id() == null
+                    ? null : removedStandingSectors.remove(standingSectorDto.id());
+                if (standingSector == null) {
+                    standingSector = new StandingSector();
+                    existingHall.addStandingSector(standingSector);
+                }
+                applyStandingSector(standingSector, standingSectorDto);
             }
         }
-
-        return hallRepository.save(existingHall);
+        removedStandingSectors.values().forEach(existingHall::removeStandingSector);
+        standingSectorRepository.deleteAll(removedStandingSectors.values());
+
+        Hall savedHall = hallRepository.saveAndFlush(existingHall);
+        addedSectors.forEach((sector, sectorSeats) -> addSeatRows(insertedSeats, sector, sectorSeats));
+        seatRepository.updatePositions(movedSeats);
+        seatRepository.insertAll(insertedSeats);
+        LOGGER.debug("Hall {}: inserted {}, moved {} and deleted {} seats", savedHall.getId(), insertedSeats.size(),
+            movedSeats.size(), deletedSeats.size());
+
+        hallLayoutCache.invalidate(savedHall.getId());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.HALLS));
+        return savedHall;
     }
 
     @Override
@@ -221,6 +259,8 @@ public class SimpleHallService implements HallService {
             throw new NotFoundException("Could not find hall with id " + id);
         }
         hallRepository.deleteById(id);
+        hallLayoutCache.invalidate(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.HALLS));
     }
 
     @Override
@@ -244,44 +284,60 @@ public class SimpleHallService implements HallService {
         LOGGER.debug("Remove all content for hall with id {}", hallId);
 
         Hall hall = findOne(hallId);
+        assertNotInUse(hall);
+
+        // Delete in correct order to maintain referential integrity
+        seatRepository.deleteAllByIds(seatRepository.findLayoutRowsByHallId(hallId).stream()
+            .map(SeatRow::id)
+            .toList());
+
+        List<Sector> sectors = new ArrayList<>(hall.getSectors());
+        sectors.forEach(hall::removeSector);
+        sectorRepository.deleteAll(sectors);
 
-        // Check if hall has associated shows
+        List<StandingSector> standingSectors = new ArrayList<>(hall.getStandingSectors());
+        standingSectors.forEach(hall::removeStandingSector);
+        standingSectorRepository.deleteAll(standingSectors);
+        hallLayoutCache.invalidate(hallId);
+    }
+
+    private static void assertNotInUse(Hall hall) throws ValidationException {
         if (hall.getShows() != null && !hall.getShows().isEmpty()) {
             throw new ValidationException(
                 "Cannot edit hall as it is associated with one or more shows",
                 List.of("Hall is currently in use by one or more shows and cannot be modified")
             );
         }
+    }
 
-        // Convert Sets to Lists
-        List<Sector> sectors = new ArrayList<>(hall.getSectors());
-        List<StandingSector> standingSectors = new ArrayList<>(hall.getStandingSectors());
+    private static void applySector(Sector sector, SectorDto sectorDto) {
+        sector.setSectorName(sectorDto.sectorName().toString());
+        sector.setRows(sectorDto.rows());
+        sector.setColumns(sectorDto.columns());
+        sector.setPrice(sectorDto.price());
+    }
 
-        // Collect all seat IDs from sectors
-        List<Long> seatIds = sectors.stream()
-            .flatMap(sector -> sector.getSeats().stream())
-            .map(Seat::getSeatId)
-            .collect(Collectors.toList());
+    private static void applyStandingSector(StandingSector standingSector, StandingSectorDto standingSectorDto) {
+        standingSector.setSectorName(standingSectorDto.sectorName());
+        standingSector.setCapacity(standingSectorDto.capacity());
+        standingSector.setTakenCapacity(standingSectorDto.takenCapacity());
+        standingSector.setPositionX1(standingSectorDto.positionX1());
+        standingSector.setPositionY1(standingSectorDto.positionY1());
+        standingSector.setPositionX2(standingSectorDto.positionX2());
+        standingSector.setPositionY2(standingSectorDto.positionY2());
+        standingSector.setPrice(standingSectorDto.price());
+    }
 
-        // Delete in correct order to maintain referential integrity
-        if (!seatIds.isEmpty()) {
-            seatRepository.deleteAllById(seatIds);
+    private static void addSeatRows(List<SeatRow> rows, Sector sector, List<SeatDto> seats) {
+        if (seats != null) {
+            seats.forEach(seat -> rows.add(toSeatRow(null, sector.getId(), seat)));
         }
+    }
 
-        if (!sectors.isEmpty()) {
-            sectorRepository.deleteAllById(
-                sectors.stream()
-                    .map(Sector::getId)
-                    .collect(Collectors.toList())
-            );
-        }
+    private static SeatRow toSeatRow(Long id, Long sectorId, SeatDto seat) {
+        return new SeatRow(id, sectorId, seat.rowSeat(), seat.columnSeat(), seat.positionX(), seat.positionY());
+    }
 
-        if (!standingSectors.isEmpty()) {
-            standingSectorRepository.deleteAllById(
-                standingSectors.stream()
-                    .map(StandingSector::getId)
-                    .collect(Collectors.toList())
-            );
-        }
+    private record SeatKey(Integer row, Integer column) {
     }
-}
\ No newline at end of file
+}
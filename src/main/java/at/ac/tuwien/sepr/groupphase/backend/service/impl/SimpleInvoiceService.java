@@ -0,0 +1,211 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.InvoiceJob;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Order;
+import at.ac.tuwien.sepr.groupphase.backend.exception.FatalException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.InvoiceJobRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.OrderRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.InvoiceService;
+import at.ac.tuwien.sepr.groupphase.backend.service.PdfGenerationService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FileOutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class SimpleInvoiceService implements InvoiceService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private final InvoiceJobRepository invoiceJobRepository;
+    private final OrderRepository orderRepository;
+    private final PdfGenerationService pdfGenerationService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final String invoicesDirectory;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration lease;
+    private final ThreadPoolExecutor workers;
+
+    public SimpleInvoiceService(InvoiceJobRepository invoiceJobRepository, OrderRepository orderRepository,
+                                PdfGenerationService pdfGenerationService, PlatformTransactionManager transactionManager,
+                                @Value("${app.storage.invoices-directory}") String invoicesDirectory,
+                                @Value("${app.invoices.workers:2}") int workerCount,
+                                @Value("${app.invoices.queue-capacity:100}") int queueCapacity,
+                                @Value("${app.invoices.max-attempts:5}") int maxAttempts,
+                                @Value("${app.invoices.retry-backoff:PT10S}") Duration retryBackoff,
+                                @Value("${app.invoices.lease:PT5M}") Duration lease) {
+        this.invoiceJobRepository = invoiceJobRepository;
+        this.orderRepository = orderRepository;
+        this.pdfGenerationService = pdfGenerationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.invoicesDirectory = invoicesDirectory;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.lease = lease;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("invoice-worker-", 0).factory());
+    }
+
+    @Override
+    @Transactional
+    public void requestInvoice(Long orderId) {
+        if (invoiceJobRepository.findByOrderId(orderId).isPresent()) {
+            return;
+        }
+        LOGGER.debug("Request invoice of order {}", orderId);
+        InvoiceJob job = new InvoiceJob();
+        job.setOrderId(orderId);
+        job.setNextAttemptAt(LocalDateTime.now());
+        Long jobId = invoiceJobRepository.save(job).getId();
+        TransactionHooks.afterCommit(() -> submit(jobId));
+    }
+
+    @Override
+    public void requestMissingInvoice(Long orderId) {
+        if (invoiceJobRepository.findByOrderId(orderId).isPresent()) {
+            return;
+        }
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> requestInvoice(orderId));
+        } catch (DataIntegrityViolationException e) {
+            // the unique key on the order kept a concurrent request from storing the same invoice twice
+            LOGGER.debug("Invoice of order {} has just been requested by someone else", orderId);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasFailed(Long orderId) {
+        return invoiceJobRepository.findByOrderId(orderId)
+            .map(job -> job.getStatus() == InvoiceJob.Status.FAILED)
+            .orElse(false);
+    }
+
+    @Override
+    public boolean renderInvoice(Long orderId) {
+        return invoiceJobRepository.findByOrderId(orderId)
+            .map(job -> render(job.getId()))
+            .orElse(false);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.invoices.poll-interval:PT5S}")
+    public int renderDueInvoices() {
+        int room = workers.getQueue().remainingCapacity();
+        if (room == 0) {
+            return 0;
+        }
+        List<Long> due = invoiceJobRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, room));
+        int submitted = 0;
+        for (Long jobId : due) {
+            if (!submit(jobId)) {
+                break;
+            }
+            submitted++;
+        }
+        if (submitted > 0) {
+            LOGGER.debug("Handed {} due invoices to the workers", submitted);
+        }
+        return submitted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private boolean submit(Long jobId) {
+        try {
+            workers.execute(() -> render(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            // the job stays due and is picked up by the next poll
+            LOGGER.debug("Invoice workers are busy, leaving job {} for later", jobId);
+            return false;
+        }
+    }
+
+    private boolean render(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (invoiceJobRepository.claim(jobId, now, now.plus(lease)) == 0) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> renderClaimed(jobId));
+            return true;
+        } catch (RuntimeException e) {
+            recordFailure(jobId, e);
+            return false;
+        }
+    }
+
+    private void renderClaimed(Long jobId) {
+        InvoiceJob job = invoiceJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        Order order = orderRepository.findById(job.getOrderId())
+            .orElseThrow(() -> new NotFoundException("Order not found"));
+        LOGGER.debug("Render invoice of order {}", order.getId());
+        try {
+            Files.createDirectories(Paths.get(invoicesDirectory));
+            String filename = String.format("invoice_%d_%s.pdf",
+                order.getId(),
+                order.getOrderDate().toString().replace(":", "-"));
+            Path pdfPath = Paths.get(invoicesDirectory, filename);
+            try (FileOutputStream outputStream = new FileOutputStream(pdfPath.toFile())) {
+                pdfGenerationService.generateOrderPdf(order, outputStream);
+            }
+            order.setInvoicePath(pdfPath.toString());
+        } catch (Exception e) {
+            throw new FatalException("Failed to generate invoice PDF", e);
+        }
+        invoiceJobRepository.delete(job);
+    }
+
+    private void recordFailure(Long jobId, RuntimeException failure) {
+        transactionTemplate.executeWithoutResult(status -> invoiceJobRepository.findById(jobId).ifPresent(job -> {
+            int attempts = job.getAttempts() + 1;
+            job.setAttempts(attempts);
+            job.setLastError(errorOf(failure));
+            if (attempts >= maxAttempts) {
+                LOGGER.error("Giving up on invoice of order {} after {} attempts", job.getOrderId(), attempts, failure);
+                job.setStatus(InvoiceJob.Status.FAILED);
+            } else {
+                LOGGER.warn("Rendering invoice of order {} failed, retrying: {}", job.getOrderId(), failure.getMessage());
+                job.setNextAttemptAt(LocalDateTime.now().plus(retryBackoff.multipliedBy(1L << (attempts - 1))));
+            }
+        }));
+    }
+
+    private static String errorOf(Throwable failure) {
+        Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,108 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import at.ac.tuwien.sepr.groupphase.backend.service.LoginRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class SimpleLoginRateLimiter implements LoginRateLimiter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final int addressAttempts;
+    private final int accountAttempts;
+    private final long refillNanos;
+    private final Map<String, Bucket> addressBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> accountBuckets = new ConcurrentHashMap<>();
+    private final Counter rejectedCounter;
+
+    public SimpleLoginRateLimiter(MeterRegistry meterRegistry,
+                                  @Value("${app.login.attempts-per-address:20}") int addressAttempts,
+                                  @Value("${app.login.attempts-per-account:10}") int accountAttempts,
+                                  @Value("${app.login.refill-interval:PT1M}") Duration refillInterval) {
+        this.addressAttempts = addressAttempts;
+        this.accountAttempts = accountAttempts;
+        this.refillNanos = refillInterval.toNanos();
+        this.rejectedCounter = Counter.builder("login.rate.limited")
+            .description("Logins turned away because their address or account tried too often")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void acquire(String clientAddress, String email) {
+        long now = System.nanoTime();
+        long wait = take(addressBuckets, clientAddress, addressAttempts, now);
+        if (wait == 0 && email != null) {
+            wait = take(accountBuckets, email.strip().toLowerCase(Locale.ROOT), accountAttempts, now);
+        }
+        if (wait > 0) {
+            rejectedCounter.increment();
+            LOGGER.debug("Rate limited login of {} from {}", email, clientAddress);
+            throw new TooManyRequestsException("Too many login attempts, please try again later", Duration.ofNanos(wait));
+        }
+    }
+
+    /**
+     * Forgets the buckets that have refilled completely, as they are no different from new ones.
+     */
+    @Scheduled(fixedDelayString = "${app.login.refill-interval:PT1M}")
+    public void purgeFull() {
+        long now = System.nanoTime();
+        addressBuckets.values().removeIf(bucket -> bucket.isFull(addressAttempts, refillNanos, now));
+        accountBuckets.values().removeIf(bucket -> bucket.isFull(accountAttempts, refillNanos, now));
+    }
+
+    private long take(Map<String, Bucket> buckets, String key, int capacity, long now) {
+        return buckets.computeIfAbsent(key, k -> new Bucket(capacity, now)).take(capacity, refillNanos, now);
+    }
+
+    /**
+     * Attempts left for one address or account. It refills continuously, from empty to full over the refill interval.
+     */
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        Bucket(int capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+        }
+
+        /**
+         * Takes an attempt.
+         *
+         * @return 0 if an attempt was taken, otherwise the nanoseconds until the next one is available
+         */
+        synchronized long take(int capacity, long refillNanos, long now) {
+            refill(capacity, refillNanos, now);
+            if (tokens >= 1) {
+                tokens--;
+                return 0;
+            }
+            return Math.max(1, (long) ((1 - tokens) * refillNanos / capacity));
+        }
+
+        synchronized boolean isFull(int capacity, long refillNanos, long now) {
+            refill(capacity, refillNanos, now);
+            return tokens >= capacity;
+        }
+
+        private void refill(int capacity, long refillNanos, long now) {
+            // a concurrent attempt may have read the clock earlier but got here later
+            if (now - updatedAt > 0) {
+                tokens = Math.min(capacity, tokens + (double) (now - updatedAt) * capacity / refillNanos);
+                updatedAt = now;
+            }
+        }
+    }
+}
@@ -6,12 +6,14 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.MessageRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.MessageService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.lang.invoke.MethodHandles;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class SimpleMessageService implements MessageService {
@@ -29,6 +31,18 @@ public class SimpleMessageService implements MessageService {
         return messageRepository.findAllByOrderByPublishedAtDesc();
     }
 
+    @Override
+    public Stream<Message> streamAll() {
+        LOGGER.debug("Stream all messages");
+        return messageRepository.streamAllByOrderByPublishedAtDescIdDesc();
+    }
+
+    @Override
+    public List<Message> findAllAfter(LocalDateTime publishedAt, Long id, int limit) {
+        LOGGER.debug("Find {} messages after {}", limit, id);
+        return messageRepository.findPageAfter(publishedAt, id, PageRequest.ofSize(limit));
+    }
+
     @Override
     public Message findOne(Long id) {
         LOGGER.debug("Find message with id {}", id);
@@ -10,12 +10,16 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.CancellationInvoiceRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.OrderRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.InvoiceService;
 import at.ac.tuwien.sepr.groupphase.backend.service.OrderService;
 import at.ac.tuwien.sepr.groupphase.backend.service.PdfGenerationService;
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
 import at.ac.tuwien.sepr.groupphase.backend.service.StripeService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,8 +34,8 @@ import com.stripe.exception.StripeException;
 import java.lang.invoke.MethodHandles;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
-import java.io.IOException;
 
 @Service
 @Transactional
@@ -43,6 +47,7 @@ public class SimpleOrderService implements OrderService {
     private final CancellationInvoiceRepository cancellationInvoiceRepository;
     private final StripeService stripeService;
     private final PdfGenerationService pdfGenerationService;
+    private final InvoiceService invoiceService;
 
     @Value("${app.storage.image-directory}")
     private String storageBaseDir;
@@ -50,12 +55,10 @@ public class SimpleOrderService implements OrderService {
     @Value("${app.storage.cancellation-invoices-directory}")
     private String cancellationInvoicesDir;
 
-    @Value("${app.storage.invoices-directory}")
-    private String invoicesDirectory;
-
     public SimpleOrderService(OrderRepository orderRepository, UserRepository userRepository,
                               TicketService ticketService, CancellationInvoiceRepository cancellationInvoiceRepository,
-                              PdfGenerationService pdfGenerationService, StripeService stripeService) {
+                              PdfGenerationService pdfGenerationService, StripeService stripeService,
+                              InvoiceService invoiceService) {
 
         this.orderRepository = orderRepository;
         this.userRepository = userRepository;
@@ -63,29 +66,11 @@ public class SimpleOrderService implements OrderService {
         this.cancellationInvoiceRepository = cancellationInvoiceRepository;
         this.stripeService = stripeService;
         this.pdfGenerationService = pdfGenerationService;
-    }
-
-    private Order generateAndSaveInvoicePdf(Order order) throws Exception {
-        // Create directory if it doesn't exist
-        Files.createDirectories(Paths.get(invoicesDirectory));
-        
-        // Generate unique filename
-        String filename = String.format("invoice_%d_%s.pdf", 
-            order.getId(), 
-            order.getOrderDate().toString().replace(":", "-"));
-        Path pdfPath = Paths.get(invoicesDirectory, filename);
-        
-        // Generate PDF
-        try (FileOutputStream outputStream = new FileOutputStream(pdfPath.toFile())) {
-            pdfGenerationService.generateOrderPdf(order, outputStream);
-        }
-        
-        // Set the path in the order
-        order.setInvoicePath(pdfPath.toString());
-        return order;
+        this.invoiceService = invoiceService;
     }
 
     @Override
+    @Timed("orders.purchase")
     public Order purchaseOrder(Order order) throws ConflictException, NotFoundException {
         LOGGER.debug("Purchase order {}", order);
 
@@ -113,16 +98,14 @@ public class SimpleOrderService implements OrderService {
         }
 
         Order savedOrder = orderRepository.save(order);
-        
-        try {
-            savedOrder = generateAndSaveInvoicePdf(savedOrder);
-            return orderRepository.save(savedOrder);
-        } catch (Exception e) {
-            throw new FatalException("Failed to generate invoice PDF", e);
-        }
+
+        // The invoice is rendered in the background once the purchase is committed
+        invoiceService.requestInvoice(savedOrder.getId());
+        return savedOrder;
     }
 
     @Override
+    @Timed("orders.cancel")
     public Order cancelPurchase(List<Long> ticketIds, Long userId) throws ConflictException, NotFoundException {
         LOGGER.debug("Cancel purchase for tickets with ids: {} for user with id: {}", ticketIds, userId);
 
@@ -216,7 +199,7 @@ public class SimpleOrderService implements OrderService {
     }
 
     @Override
-    public byte[] getCancellationInvoicePdf(Long invoiceId, Long userId) throws NotFoundException, ConflictException {
+    public Resource getCancellationInvoicePdf(Long invoiceId, Long userId) throws NotFoundException, ConflictException {
         LOGGER.debug("Getting cancellation invoice PDF for invoice {} and user {}", invoiceId, userId);
 
         CancellationInvoice invoice = cancellationInvoiceRepository.findById(invoiceId)
@@ -228,11 +211,7 @@ public class SimpleOrderService implements OrderService {
                 List.of("You are not authorized to access this invoice"));
         }
 
-        try {
-            return Files.readAllBytes(Paths.get(invoice.getPdfPath()));
-        } catch (Exception e) {
-            throw new FatalException("Failed to read cancellation invoice PDF", e);
-        }
+        return new FileSystemResource(invoice.getPdfPath());
     }
 
     @Override
@@ -256,7 +235,7 @@ public class SimpleOrderService implements OrderService {
     }
 
     @Override
-    public byte[] getOrderPdf(Long orderId, Long userId) throws NotFoundException, ConflictException {
+    public Optional<Resource> getOrderPdf(Long orderId, Long userId) throws NotFoundException, ConflictException {
         Order order = orderRepository.findById(orderId)
             .orElseThrow(() -> new NotFoundException("Order not found"));
             
@@ -265,11 +244,16 @@ public class SimpleOrderService implements OrderService {
                 List.of("The user does not own this order"));
         }
 
-        try {
-            return Files.readAllBytes(Paths.get(order.getInvoicePath()));
-        } catch (IOException e) {
-            throw new FatalException("Failed to read invoice PDF", e);
+        if (order.getInvoicePath() == null) {
+            if (invoiceService.hasFailed(orderId)) {
+                throw new FatalException("Failed to generate invoice PDF");
+            }
+            // Orders from before the invoice outbox may not have an invoice yet
+            invoiceService.requestMissingInvoice(orderId);
+            return Optional.empty();
         }
+
+        return Optional.of(new FileSystemResource(order.getInvoicePath()));
     }
 
     @Override
@@ -0,0 +1,94 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.FatalException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import at.ac.tuwien.sepr.groupphase.backend.service.PasswordVerifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class SimplePasswordVerifier implements PasswordVerifier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    // a full line clears within a few hash durations, so clients are asked to come back soon
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor workers;
+    private final Timer queueTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+
+    public SimplePasswordVerifier(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                                  @Value("${app.login.hash-workers:0}") int workerCount,
+                                  @Value("${app.login.hash-queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        // hashing is bound by the CPU, so by default there is one worker per core
+        int size = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        this.workers = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("password-worker-", 0).factory());
+        meterRegistry.gauge("login.password.queue.depth", workers.getQueue(), queue -> queue.size());
+        this.queueTimer = Timer.builder("login.password.queue")
+            .description("Time password checks wait for a free worker")
+            .register(meterRegistry);
+        this.verifyTimer = Timer.builder("login.password.verify")
+            .description("Time spent hashing a password to check it")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("login.password.rejected")
+            .description("Password checks turned away because all workers were busy and the line was full")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Boolean> check;
+        try {
+            check = workers.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return passwordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                    verifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            LOGGER.warn("Turned away a password check, {} are waiting", workers.getQueue().size());
+            throw new TooManyRequestsException("Too many logins at once, please try again shortly", RETRY_AFTER);
+        }
+
+        try {
+            return check.get();
+        } catch (InterruptedException e) {
+            check.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new FatalException("Interrupted while checking a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new FatalException("Could not check a password", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,191 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Venue;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.VenueRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.SearchIndex;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ArtistSearchItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventSearchItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowSearchItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.VenueSearchItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Service
+public class SimpleSearchIndex implements SearchIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final ShowRepository showRepository;
+    private final EventRepository eventRepository;
+    private final ArtistRepository artistRepository;
+    private final VenueRepository venueRepository;
+    private final boolean enabled;
+    private final boolean typoTolerant;
+    private final int maxMatches;
+    // null until the first build
+    private volatile Indexes indexes;
+    // guarded by this, changes made while a rebuild reads the tables, replayed onto the rebuilt indexes
+    private List<Consumer<Indexes>> pendingChanges;
+
+    public SimpleSearchIndex(ShowRepository showRepository, EventRepository eventRepository,
+                             ArtistRepository artistRepository, VenueRepository venueRepository,
+                             @Value("${app.search.enabled:true}") boolean enabled,
+                             @Value("${app.search.typo-tolerant:false}") boolean typoTolerant,
+                             @Value("${app.search.max-matches:1000}") int maxMatches) {
+        this.showRepository = showRepository;
+        this.eventRepository = eventRepository;
+        this.artistRepository = artistRepository;
+        this.venueRepository = venueRepository;
+        this.enabled = enabled;
+        this.typoTolerant = typoTolerant;
+        this.maxMatches = maxMatches;
+    }
+
+    @Override
+    public Optional<List<Long>> searchShows(String name, String eventName) {
+        Indexes current = indexes;
+        return current == null ? Optional.empty() : search(current.shows(), name, eventName);
+    }
+
+    @Override
+    public Optional<List<Long>> searchEvents(String name, String type, String text) {
+        Indexes current = indexes;
+        return current == null ? Optional.empty() : search(current.events(), name, type, text);
+    }
+
+    @Override
+    public Optional<List<Long>> searchArtists(String name) {
+        Indexes current = indexes;
+        return current == null ? Optional.empty() : search(current.artists(), name);
+    }
+
+    @Override
+    public Optional<List<Long>> searchVenues(String name, String street, String city, String county, String postalCode) {
+        Indexes current = indexes;
+        return current == null ? Optional.empty() : search(current.venues(), name, street, city, county, postalCode);
+    }
+
+    @Override
+    public void index(Show show) {
+        Long id = show.getId();
+        String name = show.getName();
+        String eventName = show.getEvent() != null ? show.getEvent().getName() : null;
+        TransactionHooks.afterCommit(() -> change(current -> current.shows().put(id, name, eventName)));
+    }
+
+    @Override
+    public void index(Event event) {
+        Long id = event.getId();
+        String name = event.getName();
+        String type = event.getType();
+        String text = event.getText();
+        TransactionHooks.afterCommit(() -> change(current -> current.events().put(id, name, type, text)));
+    }
+
+    @Override
+    public void index(Artist artist) {
+        Long id = artist.getId();
+        String name = artist.getName();
+        TransactionHooks.afterCommit(() -> change(current -> current.artists().put(id, name)));
+    }
+
+    @Override
+    public void index(Venue venue) {
+        Long id = venue.getId();
+        String[] fields = {venue.getName(), venue.getStreet(), venue.getCity(), venue.getCounty(), venue.getPostalCode()};
+        TransactionHooks.afterCommit(() -> change(current -> current.venues().put(id, fields)));
+    }
+
+    @Override
+    public void removeVenue(Long venueId) {
+        TransactionHooks.afterCommit(() -> change(current -> current.venues().remove(venueId)));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.rebuild-interval:PT15M}",
+        initialDelayString = "${app.search.rebuild-interval:PT15M}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            pendingChanges = new ArrayList<>();
+        }
+        Indexes rebuilt = new Indexes(new TrigramIndex(2), new TrigramIndex(3), new TrigramIndex(1), new TrigramIndex(5));
+        try {
+            for (ShowSearchItem show : showRepository.findSearchableFields()) {
+                rebuilt.shows().put(show.id(), show.name(), show.eventName());
+            }
+            for (EventSearchItem event : eventRepository.findSearchableFields()) {
+                rebuilt.events().put(event.id(), event.name(), event.type(), event.text());
+            }
+            for (ArtistSearchItem artist : artistRepository.findSearchableFields()) {
+                rebuilt.artists().put(artist.id(), artist.name());
+            }
+            for (VenueSearchItem venue : venueRepository.findSearchableFields()) {
+                rebuilt.venues().put(venue.id(), venue.name(), venue.street(), venue.city(), venue.county(),
+                    venue.postalCode());
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            // published before the changes stop being recorded, so that no change can slip in between and be lost
+            if (pendingChanges != null) {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+            }
+            indexes = rebuilt;
+            pendingChanges = null;
+        }
+        LOGGER.info("Indexed {} shows, {} events, {} artists and {} venues for search", rebuilt.shows().size(),
+            rebuilt.events().size(), rebuilt.artists().size(), rebuilt.venues().size());
+    }
+
+    private synchronized void change(Consumer<Indexes> change) {
+        if (indexes != null) {
+            change.accept(indexes);
+        }
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    private Optional<List<Long>> search(TrigramIndex index, String... queries) {
+        // empty texts match everything, like in the repository queries
+        String[] texts = Arrays.stream(queries).map(query -> query == null || query.isEmpty() ? null : query)
+            .toArray(String[]::new);
+        if (Arrays.stream(texts).allMatch(Objects::isNull)) {
+            return Optional.empty();
+        }
+        List<Long> ids = index.search(texts, typoTolerant);
+        if (ids.size() > maxMatches) {
+            LOGGER.debug("Search for {} matches {} documents, leaving it to the database", Arrays.toString(texts), ids.size());
+            return Optional.empty();
+        }
+        return Optional.of(ids);
+    }
+
+    private record Indexes(TrigramIndex shows, TrigramIndex events, TrigramIndex artists, TrigramIndex venues) {
+    }
+}
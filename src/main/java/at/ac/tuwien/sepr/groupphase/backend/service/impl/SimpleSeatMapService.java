@@ -0,0 +1,111 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatMapLayoutDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatMapOccupancyDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatMapSectorDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatMapStandingSectorDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.StageDto;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayout;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayoutCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatMapService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatOccupancyService;
+import at.ac.tuwien.sepr.groupphase.backend.service.StandingCapacityService;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.HallLayoutVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class SimpleSeatMapService implements SeatMapService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final HallLayoutCache hallLayoutCache;
+    private final ShowRepository showRepository;
+    private final SeatOccupancyService seatOccupancyService;
+    private final StandingCapacityService standingCapacityService;
+    private final OccupancyVersions occupancyVersions;
+
+    public SimpleSeatMapService(HallLayoutCache hallLayoutCache, ShowRepository showRepository,
+                                SeatOccupancyService seatOccupancyService,
+                                StandingCapacityService standingCapacityService, OccupancyVersions occupancyVersions) {
+        this.hallLayoutCache = hallLayoutCache;
+        this.showRepository = showRepository;
+        this.seatOccupancyService = seatOccupancyService;
+        this.standingCapacityService = standingCapacityService;
+        this.occupancyVersions = occupancyVersions;
+    }
+
+    @Override
+    public SeatMapLayoutDto getLayout(Long hallId) {
+        LOGGER.debug("Get seat map layout of hall {}", hallId);
+        HallLayout layout = hallLayoutCache.get(hallId);
+        List<SeatMapSectorDto> sectors = new ArrayList<>(layout.sectorCount());
+        for (int sector = 0; sector < layout.sectorCount(); sector++) {
+            sectors.add(sectorOf(layout, sector));
+        }
+        List<SeatMapStandingSectorDto> standingSectors = layout.getStandingSectors().stream()
+            .map(SimpleSeatMapService::standingSectorOf)
+            .toList();
+        return new SeatMapLayoutDto(layout.getHallId(), layout.getVersion(), layout.getCanvasWidth(),
+            layout.getCanvasHeight(), stageOf(layout.getStage()), sectors, standingSectors);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SeatMapOccupancyDto getOccupancy(Long showId) {
+        LOGGER.debug("Get seat map occupancy of show {}", showId);
+        HallLayoutVersion hallOfShow = showRepository.findHallLayoutVersionByShowId(showId)
+            .orElseThrow(() -> new NotFoundException("Could not find a hall for show with id " + showId));
+        Long hallId = hallOfShow.hallId();
+        HallLayout layout = hallLayoutCache.get(hallId, hallOfShow.layoutVersion());
+
+        long occupancyVersion = occupancyVersions.get(showId);
+        BitSet occupied = seatOccupancyService.findOccupied(showId, layout.seatIds());
+        Map<Long, Integer> standingTaken = new LinkedHashMap<>();
+        for (HallLayout.StandingSector standingSector : layout.getStandingSectors()) {
+            standingTaken.put(standingSector.id(), standingCapacityService.getTaken(showId, standingSector.id()));
+        }
+        return new SeatMapOccupancyDto(showId, hallId, layout.getVersion(), occupancyVersion,
+            Base64.getEncoder().encodeToString(occupied.toByteArray()), standingTaken);
+    }
+
+    private static SeatMapSectorDto sectorOf(HallLayout layout, int sector) {
+        int first = layout.firstSeat(sector);
+        int count = layout.firstSeat(sector + 1) - first;
+        long[] seatIds = new long[count];
+        int[] seatRows = new int[count];
+        int[] seatColumns = new int[count];
+        int[] positionsX = new int[count];
+        int[] positionsY = new int[count];
+        for (int i = 0; i < count; i++) {
+            seatIds[i] = layout.seatId(first + i);
+            seatRows[i] = layout.seatRow(first + i);
+            seatColumns[i] = layout.seatColumn(first + i);
+            positionsX[i] = layout.seatPositionX(first + i);
+            positionsY[i] = layout.seatPositionY(first + i);
+        }
+        return new SeatMapSectorDto(layout.sectorId(sector), layout.sectorName(sector), layout.sectorPrice(sector),
+            layout.sectorRows(sector), layout.sectorColumns(sector), seatIds, seatRows, seatColumns, positionsX, positionsY);
+    }
+
+    private static SeatMapStandingSectorDto standingSectorOf(HallLayout.StandingSector standingSector) {
+        return new SeatMapStandingSectorDto(standingSector.id(), standingSector.sectorName(), standingSector.capacity(),
+            standingSector.price(), standingSector.positionX1(), standingSector.positionY1(), standingSector.positionX2(),
+            standingSector.positionY2());
+    }
+
+    private static StageDto stageOf(HallLayout.Stage stage) {
+        return stage == null ? null
+            : new StageDto(stage.id(), stage.positionX(), stage.positionY(), stage.width(), stage.height());
+    }
+}
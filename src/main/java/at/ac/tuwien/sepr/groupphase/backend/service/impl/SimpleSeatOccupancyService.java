@@ -0,0 +1,163 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatOccupancyService;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.OccupiedSeat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class SimpleSeatOccupancyService implements SeatOccupancyService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final TicketRepository ticketRepository;
+    private final OccupancyVersions occupancyVersions;
+    private final Map<Long, ShowSeats> seatsByShow = new ConcurrentHashMap<>();
+
+    public SimpleSeatOccupancyService(TicketRepository ticketRepository, OccupancyVersions occupancyVersions) {
+        this.ticketRepository = ticketRepository;
+        this.occupancyVersions = occupancyVersions;
+    }
+
+    @Override
+    public boolean tryClaim(Long showId, Long seatId) {
+        LOGGER.trace("Claim seat {} of show {}", seatId, showId);
+        if (!seatsFor(showId).claim(seatId)) {
+            return false;
+        }
+        occupancyVersions.bump(showId);
+        TransactionHooks.afterRollback(() -> releaseNow(showId, seatId));
+        return true;
+    }
+
+    @Override
+    public void release(Long showId, Long seatId) {
+        LOGGER.trace("Release seat {} of show {}", seatId, showId);
+        TransactionHooks.afterCommit(() -> releaseNow(showId, seatId));
+    }
+
+    private void releaseNow(Long showId, Long seatId) {
+        seatsFor(showId).release(seatId);
+        occupancyVersions.bump(showId);
+    }
+
+    @Override
+    public boolean isOccupied(Long showId, Long seatId) {
+        return seatsFor(showId).contains(seatId);
+    }
+
+    @Override
+    public BitSet findOccupied(Long showId, List<Long> seatIds) {
+        return seatsFor(showId).containsAll(seatIds);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LOGGER.debug("Rebuild seat occupancy of upcoming shows");
+        markHeldTicketsActive();
+        Map<Long, ShowSeats> rebuilt = new HashMap<>();
+        for (OccupiedSeat seat : ticketRepository.findOccupiedSeatsOfUpcomingShows()) {
+            rebuilt.computeIfAbsent(seat.showId(), id -> new ShowSeats()).claim(seat.seatId());
+        }
+        seatsByShow.clear();
+        seatsByShow.putAll(rebuilt);
+        occupancyVersions.bumpAll();
+        LOGGER.info("Loaded seat occupancy of {} shows", rebuilt.size());
+    }
+
+    private void markHeldTicketsActive() {
+        try {
+            int marked = ticketRepository.markHeldTicketsActive();
+            if (marked > 0) {
+                LOGGER.info("Marked {} held tickets as active", marked);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // seats held twice before the unique key existed, the index below still reports them as occupied
+            LOGGER.warn("Could not mark held tickets as active, some seats are held by more than one ticket", e);
+        }
+    }
+
+    private ShowSeats seatsFor(Long showId) {
+        ShowSeats seats = seatsByShow.get(showId);
+        if (seats != null) {
+            return seats;
+        }
+        return seatsByShow.computeIfAbsent(showId, this::load);
+    }
+
+    private ShowSeats load(Long showId) {
+        LOGGER.debug("Load seat occupancy of show {}", showId);
+        ShowSeats seats = new ShowSeats();
+        List<Long> occupiedSeatIds = ticketRepository.findOccupiedSeatIdsByShowId(showId);
+        occupiedSeatIds.forEach(seats::claim);
+        // the load may have seen rows of the current transaction, so forget it if they never get committed
+        TransactionHooks.afterRollback(() -> {
+            if (seatsByShow.remove(showId, seats)) {
+                occupancyVersions.bump(showId);
+            }
+        });
+        return seats;
+    }
+
+    /**
+     * Occupied seats of a single show as a bit set offset by the lowest seat ID seen,
+     * so that the bits of a hall's seats stay dense even though seat IDs are global.
+     */
+    static final class ShowSeats {
+        private long baseSeatId = -1;
+        private BitSet occupied = new BitSet();
+
+        synchronized boolean claim(long seatId) {
+            int bit = bitOf(seatId);
+            if (occupied.get(bit)) {
+                return false;
+            }
+            occupied.set(bit);
+            return true;
+        }
+
+        synchronized void release(long seatId) {
+            if (baseSeatId >= 0 && seatId >= baseSeatId) {
+                occupied.clear((int) (seatId - baseSeatId));
+            }
+        }
+
+        synchronized boolean contains(long seatId) {
+            return baseSeatId >= 0 && seatId >= baseSeatId && occupied.get((int) (seatId - baseSeatId));
+        }
+
+        synchronized BitSet containsAll(List<Long> seatIds) {
+            BitSet found = new BitSet(seatIds.size());
+            for (int i = 0; i < seatIds.size(); i++) {
+                if (contains(seatIds.get(i))) {
+                    found.set(i);
+                }
+            }
+            return found;
+        }
+
+        private int bitOf(long seatId) {
+            if (baseSeatId < 0) {
+                baseSeatId = seatId;
+            } else if (seatId < baseSeatId) {
+                int shift = (int) (baseSeatId - seatId);
+                BitSet shifted = new BitSet(occupied.length() + shift);
+                occupied.stream().forEach(bit -> shifted.set(bit + shift));
+                occupied = shifted;
+                baseSeatId = seatId;
+            }
+            return (int) (seatId - baseSeatId);
+        }
+    }
+}
@@ -1,21 +1,25 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
-import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Venue;
-import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.VenueRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowArtistItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem;
 import at.ac.tuwien.sepr.groupphase.backend.entity.ShowSector;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.CartHoldExpiryService;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayout;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayoutCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.SearchIndex;
 import at.ac.tuwien.sepr.groupphase.backend.service.ShowSectorService;
 import at.ac.tuwien.sepr.groupphase.backend.service.ShowService;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SearchShowDto;
-import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
 
 import org.hibernate.Hibernate;
 import org.slf4j.Logger;
@@ -23,11 +27,17 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.lang.invoke.MethodHandles;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -42,6 +52,8 @@ import java.time.LocalDateTime;
 public class SimpleShowService implements ShowService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    // the artists of a list are read in batches, so that long lists stay below the bind parameter limit of the database
+    private static final int ARTIST_BATCH_SIZE = 1000;
     private final ShowRepository showRepository;
     private final ArtistRepository artistRepository;
     private final VenueRepository venueRepository;
@@ -49,12 +61,17 @@ public class SimpleShowService implements ShowService {
     private final String imageDirectory;
     private final String imageBaseUrl;
     private final ShowSectorService showSectorService;
-    private final TicketRepository ticketRepository;
+    private final CartHoldExpiryService cartHoldExpiryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchIndex searchIndex;
+    private final HallLayoutCache hallLayoutCache;
 
     public SimpleShowService(ShowRepository showRepository, ArtistRepository artistRepository, VenueRepository venueRepository,
                              @Value("${app.storage.image-directory}") String imageDirectory,
                              @Value("${app.image-base-url}") String imageBaseUrl, HallRepository hallRepository,
-                             ShowSectorService showSectorService, TicketRepository ticketRepository) {
+                             ShowSectorService showSectorService, CartHoldExpiryService cartHoldExpiryService,
+                             ApplicationEventPublisher eventPublisher, SearchIndex searchIndex,
+                             HallLayoutCache hallLayoutCache) {
         this.showRepository = showRepository;
         this.artistRepository = artistRepository;
         this.venueRepository = venueRepository;
@@ -62,7 +79,10 @@ public class SimpleShowService implements ShowService {
         this.imageDirectory = imageDirectory;
         this.imageBaseUrl = imageBaseUrl;
         this.showSectorService = showSectorService;
-        this.ticketRepository = ticketRepository;
+        this.cartHoldExpiryService = cartHoldExpiryService;
+        this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
+        this.hallLayoutCache = hallLayoutCache;
     }
 
     @Override
@@ -73,7 +93,38 @@ public class SimpleShowService implements ShowService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public List<ShowListItem> findAllListItems() {
+        LOGGER.debug("Find list items of all shows");
+        return withArtists(showRepository.findUpcomingListItems());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ShowListItem> findAllAfter(LocalDate date, LocalTime time, Long id, int limit) {
+        LOGGER.debug("Find {} shows after show {}", limit, id);
+        return withArtists(showRepository.findListItemPageAfter(date, time, id, PageRequest.ofSize(limit)));
+    }
+
+    private List<ShowListItem> withArtists(List<ShowListItem> shows) {
+        Map<Long, ShowListItem> showsById = new HashMap<>();
+        for (ShowListItem show : shows) {
+            showsById.put(show.id(), show);
+        }
+        List<Long> showIds = List.copyOf(showsById.keySet());
+        // an artist of several shows is shared between them, like the entities of a persistence context are
+        Map<Long, Artist> artistsById = new HashMap<>();
+        for (int from = 0; from < showIds.size(); from += ARTIST_BATCH_SIZE) {
+            List<Long> batch = showIds.subList(from, Math.min(from + ARTIST_BATCH_SIZE, showIds.size()));
+            for (ShowArtistItem row : showRepository.findArtistItemsByShowIds(batch)) {
+                showsById.get(row.showId()).artists().add(artistsById.computeIfAbsent(row.id(), artistId -> row.toArtist()));
+            }
+        }
+        return shows;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Show findOne(Long id) {
         Show show = showRepository.findByIdWithArtists(id)
             .orElseThrow(() -> new NotFoundException("Show not found"));
@@ -86,35 +137,22 @@ public class SimpleShowService implements ShowService {
             Hibernate.initialize(show.getVenue().getHallIds());
         }
 
-        // Initialize hall-related collections
-        if (show.getHall() != null) {
-            Hibernate.initialize(show.getHall().getSectors());
-            Hibernate.initialize(show.getHall().getStandingSectors());
-            Hibernate.initialize(show.getHall().getStage());
-
-            // Initialize seats for each sector
-            for (Sector sector : show.getHall().getSectors()) {
-                Hibernate.initialize(sector.getSeats());
-            }
-        }
-
-        // Initialize tickets and clean up old cart items
+        // Initialize tickets and hide cart items whose hold is over but not yet released
         Hibernate.initialize(show.getTickets());
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-
-        // Find and delete expired cart tickets
-        show.getTickets().stream()
-            .filter(ticket -> ticket.getInCart() && ticket.getDate().isBefore(tenMinutesAgo))
-            .forEach(ticketRepository::delete);
-
-
-        show.getTickets().removeIf(ticket ->
-            ticket.getInCart()
-            && ticket.getDate().isBefore(tenMinutesAgo));
+        show.getTickets().removeIf(cartHoldExpiryService::isExpired);
 
         return show;
     }
 
+    @Override
+    @Transactional
+    public void setFlashSale(Long id, boolean enabled) {
+        LOGGER.debug("Set flash sale mode of show {} to {}", id, enabled);
+        Show show = showRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Show not found"));
+        show.setFlashSale(enabled);
+    }
+
     @Override
     @Transactional
     public Show createShow(Show show) throws ConflictException {
@@ -158,15 +196,9 @@ public class SimpleShowService implements ShowService {
 
         // 2. Then, validate and set up the hall
         if (show.getHallId() != null) {
-            Hall hall = hallRepository.findById(show.getHallId())
-                .orElseThrow(() -> new NotFoundException("Hall not found with id: " + show.getHallId()));
-
-            // Initialize the collections
-            Hibernate.initialize(hall.getSectors());
-            Hibernate.initialize(hall.getStandingSectors());
-            Hibernate.initialize(hall.getStage());
-
-            show.setHall(hall);
+            // the cached layout tells whether the hall exists, the show only needs a reference to it
+            HallLayout hall = hallLayoutCache.get(show.getHallId());
+            show.setHall(hallRepository.getReferenceById(show.getHallId()));
             show.setCapacity(hall.getCapacity());
         }
 
@@ -196,21 +228,13 @@ public class SimpleShowService implements ShowService {
             artistRepository.save(artist);
         }
 
-        // Initialize collections for the response
-        if (savedShow.getHall() != null) {
-            Hibernate.initialize(savedShow.getHall().getSectors());
-            Hibernate.initialize(savedShow.getHall().getStandingSectors());
-            Hibernate.initialize(savedShow.getHall().getStage());
-
-            for (Sector sector : savedShow.getHall().getSectors()) {
-                Hibernate.initialize(sector.getSeats());
-            }
-        }
-
+        // Initialize collections for the response, the hall is mapped from its cached layout
         if (savedShow.getVenue() != null) {
             Hibernate.initialize(savedShow.getVenue().getHallIds());
         }
 
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.SHOWS));
+        searchIndex.index(savedShow);
         return savedShow;
     }
 
@@ -244,6 +268,19 @@ public class SimpleShowService implements ShowService {
     public List<Show> showsByFilter(SearchShowDto searchShowDto) {
         LOGGER.debug("Find shows by filter {}", searchShowDto);
 
+        Optional<List<Long>> ids = searchIndex.searchShows(searchShowDto.getName(), searchShowDto.getEventName());
+        if (ids.isPresent()) {
+            return ids.get().isEmpty() ? List.of() : showRepository.findByIdsAndFilters(
+                ids.get(),
+                searchShowDto.getDate(),
+                searchShowDto.getTimeFrom(),
+                searchShowDto.getTimeTo(),
+                searchShowDto.getMinPrice(),
+                searchShowDto.getMaxPrice(),
+                searchShowDto.getVenueId(),
+                searchShowDto.getType()
+            );
+        }
         return showRepository.findByFilters(
             searchShowDto.getName(),
             searchShowDto.getDate(),
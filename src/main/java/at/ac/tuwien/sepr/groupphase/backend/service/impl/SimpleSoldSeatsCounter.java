@@ -0,0 +1,118 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventLeaderboard;
+import at.ac.tuwien.sepr.groupphase.backend.service.SoldSeatsCounter;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class SimpleSoldSeatsCounter implements SoldSeatsCounter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final ShowRepository showRepository;
+    private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventLeaderboard eventLeaderboard;
+
+    public SimpleSoldSeatsCounter(ShowRepository showRepository, EventRepository eventRepository,
+                                  ApplicationEventPublisher eventPublisher, EventLeaderboard eventLeaderboard) {
+        this.showRepository = showRepository;
+        this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
+        this.eventLeaderboard = eventLeaderboard;
+    }
+
+    @Override
+    public void add(Show show, int delta) {
+        LOGGER.trace("Add {} sold seats to show {}", delta, show.getId());
+        // keep the loaded entities in step, the columns are never written from them
+        show.setSoldSeats(show.getSoldSeats() + delta);
+        Event event = show.getEvent();
+        if (event != null && Hibernate.isInitialized(event)) {
+            event.setSoldSeats(event.getSoldSeats() + delta);
+        }
+
+        Deltas deltas = currentDeltas();
+        deltas.add(show.getId(), event != null ? event.getId() : null, delta);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deltas.flush();
+        }
+    }
+
+    private Deltas currentDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new Deltas();
+        }
+        Deltas deltas = (Deltas) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Deltas created = new Deltas();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    created.flush();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SimpleSoldSeatsCounter.this);
+                }
+            });
+            deltas = created;
+        }
+        return deltas;
+    }
+
+    /**
+     * Summed up deltas of one transaction. Sorted by ID, so that concurrent transactions lock the rows in the same order.
+     */
+    private final class Deltas {
+        private final Map<Long, Integer> byShow = new TreeMap<>();
+        private final Map<Long, Integer> byEvent = new TreeMap<>();
+
+        void add(Long showId, Long eventId, int delta) {
+            byShow.merge(showId, delta, Integer::sum);
+            if (eventId != null) {
+                byEvent.merge(eventId, delta, Integer::sum);
+            }
+        }
+
+        void flush() {
+            byShow.forEach((showId, delta) -> {
+                if (delta != 0) {
+                    showRepository.incrementSoldSeats(showId, delta);
+                }
+            });
+            boolean eventsChanged = false;
+            for (Map.Entry<Long, Integer> entry : byEvent.entrySet()) {
+                if (entry.getValue() != 0) {
+                    Long eventId = entry.getKey();
+                    int delta = entry.getValue();
+                    eventRepository.incrementSoldSeats(eventId, delta);
+                    TransactionHooks.afterCommit(() -> eventLeaderboard.addSoldSeats(eventId, delta));
+                    eventsChanged = true;
+                }
+            }
+            // the event list is ordered by sold seats, the show list does not show them
+            if (eventsChanged) {
+                eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.EVENTS));
+            }
+            LOGGER.debug("Wrote sold seats of {} shows and {} events", byShow.size(), byEvent.size());
+            byShow.clear();
+            byEvent.clear();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.StandingSector;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowSectorRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.StandingCapacityService;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.StandingCapacityItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class SimpleStandingCapacityService implements StandingCapacityService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private final ShowSectorRepository showSectorRepository;
+    private final TicketRepository ticketRepository;
+    private final HallRepository hallRepository;
+    private final OccupancyVersions occupancyVersions;
+    private final Map<SectorKey, SectorCapacity> ledger = new ConcurrentHashMap<>();
+
+    public SimpleStandingCapacityService(ShowSectorRepository showSectorRepository, TicketRepository ticketRepository,
+                                         HallRepository hallRepository, OccupancyVersions occupancyVersions) {
+        this.showSectorRepository = showSectorRepository;
+        this.ticketRepository = ticketRepository;
+        this.hallRepository = hallRepository;
+        this.occupancyVersions = occupancyVersions;
+    }
+
+    @Override
+    public boolean tryReserve(Long showId, Long standingSectorId, int count) {
+        LOGGER.trace("Reserve {} places in standing sector {} of show {}", count, standingSectorId, showId);
+        SectorCapacity sector = capacityFor(new SectorKey(showId, standingSectorId));
+        if (!sector.tryTake(count)) {
+            return false;
+        }
+        occupancyVersions.bump(showId);
+        // the database keeps the last word, e.g. if another instance took the places in the meantime
+        if (sector.persisted
+            && showSectorRepository.takeStandingCapacity(showId, standingSectorId, count, sector.capacity) == 0) {
+            LOGGER.warn("Standing sector {} of show {} is full in the database but not in the ledger", standingSectorId, showId);
+            give(showId, sector, count);
+            return false;
+        }
+        TransactionHooks.afterRollback(() -> give(showId, sector, count));
+        return true;
+    }
+
+    @Override
+    public void release(Long showId, Long standingSectorId, int count) {
+        LOGGER.trace("Release {} places in standing sector {} of show {}", count, standingSectorId, showId);
+        SectorCapacity sector = capacityFor(new SectorKey(showId, standingSectorId));
+        if (sector.persisted) {
+            showSectorRepository.releaseStandingCapacity(showId, standingSectorId, count);
+        }
+        TransactionHooks.afterCommit(() -> give(showId, sector, count));
+    }
+
+    private void give(Long showId, SectorCapacity sector, int count) {
+        sector.give(count);
+        occupancyVersions.bump(showId);
+    }
+
+    @Override
+    public int getTaken(Long showId, Long standingSectorId) {
+        return capacityFor(new SectorKey(showId, standingSectorId)).taken.get();
+    }
+
+    @Override
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LOGGER.debug("Rebuild standing capacity of upcoming shows");
+        showSectorRepository.recountStandingCapacity();
+        Map<SectorKey, SectorCapacity> rebuilt = new HashMap<>();
+        for (StandingCapacityItem item : showSectorRepository.findStandingCapacitiesOfUpcomingShows()) {
+            rebuilt.put(new SectorKey(item.showId(), item.standingSectorId()),
+                new SectorCapacity(item.capacity(), item.takenCapacity(), true));
+        }
+        ledger.clear();
+        ledger.putAll(rebuilt);
+        occupancyVersions.bumpAll();
+        LOGGER.info("Loaded capacity of {} standing sectors", rebuilt.size());
+    }
+
+    private SectorCapacity capacityFor(SectorKey key) {
+        SectorCapacity sector = ledger.get(key);
+        if (sector != null) {
+            return sector;
+        }
+        return ledger.computeIfAbsent(key, this::load);
+    }
+
+    private SectorCapacity load(SectorKey key) {
+        LOGGER.debug("Load capacity of standing sector {} of show {}", key.standingSectorId(), key.showId());
+        SectorCapacity sector;
+        Optional<StandingCapacityItem> item = showSectorRepository.findStandingCapacity(key.showId(), key.standingSectorId());
+        if (item.isPresent()) {
+            sector = new SectorCapacity(item.get().capacity(), item.get().takenCapacity(), true);
+        } else {
+            // the sector is not priced for this show, so there is no row to keep the count in
+            StandingSector standingSector = hallRepository.findStandingSectorById(key.standingSectorId())
+                .orElseThrow(() -> new NotFoundException("StandingSector with ID " + key.standingSectorId() + " not found"));
+            Long taken = ticketRepository.countByStandingSectorIdAndShowIdAndInCartTrueOrReservedTrueOrPurchasedTrue(
+                key.standingSectorId(), key.showId());
+            sector = new SectorCapacity(standingSector.getCapacity(), taken.intValue(), false);
+        }
+        // the load may have seen rows of the current transaction, so forget it if they never get committed
+        SectorCapacity loaded = sector;
+        TransactionHooks.afterRollback(() -> {
+            if (ledger.remove(key, loaded)) {
+                occupancyVersions.bump(key.showId());
+            }
+        });
+        return sector;
+    }
+
+    private record SectorKey(Long showId, Long standingSectorId) {
+    }
+
+    /**
+     * Capacity and taken places of a standing sector for one show.
+     */
+    static final class SectorCapacity {
+        private final int capacity;
+        private final boolean persisted;
+        private final AtomicInteger taken;
+
+        SectorCapacity(Integer capacity, Integer taken, boolean persisted) {
+            this.capacity = capacity == null ? 0 : capacity;
+            this.taken = new AtomicInteger(taken == null ? 0 : taken);
+            this.persisted = persisted;
+        }
+
+        boolean tryTake(int count) {
+            while (true) {
+                int current = taken.get();
+                if (current + count > capacity) {
+                    return false;
+                }
+                if (taken.compareAndSet(current, current + count)) {
+                    return true;
+                }
+            }
+        }
+
+        void give(int count) {
+            taken.updateAndGet(current -> Math.max(0, current - count));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.stripe.exception.StripeException;
 import com.stripe.model.PaymentIntent;
 import com.stripe.model.Refund;
 import com.stripe.param.PaymentIntentCreateParams;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -14,6 +15,7 @@ import java.util.Map;
 public class SimpleStripeService implements StripeService {
 
     @Override
+    @Timed("stripe.requests")
     public PaymentIntent createPaymentIntent(Double amount, String currency, String paymentMethodType) throws StripeException {
         PaymentIntentCreateParams params =
                 PaymentIntentCreateParams.builder()
@@ -26,6 +28,7 @@ public class SimpleStripeService implements StripeService {
     }
 
     @Override
+    @Timed("stripe.requests")
     public void refundPayment(String paymentIntentId, Double amount) throws StripeException {
         Map<String, Object> params = new HashMap<>();
         params.put("payment_intent", paymentIntentId);
@@ -1,7 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.ApplicationUser;
-import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Order;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
@@ -10,22 +9,34 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.lang.invoke.MethodHandles;
 import java.time.LocalDateTime;
 
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 
+import at.ac.tuwien.sepr.groupphase.backend.service.CartHoldExpiryService;
 import at.ac.tuwien.sepr.groupphase.backend.service.PdfGenerationService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatOccupancyService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SoldSeatsCounter;
+import at.ac.tuwien.sepr.groupphase.backend.service.StandingCapacityService;
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
@@ -35,7 +46,6 @@ import org.hibernate.Hibernate;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.SeatRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
-import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
 
 import java.io.OutputStream;
 import org.springframework.data.util.Pair;
@@ -51,13 +61,20 @@ public class SimpleTicketService implements TicketService {
     private final ShowRepository showRepository;
     private final SeatRepository seatRepository;
     private final HallRepository hallRepository;
-    private final EventRepository eventRepository;
+    private final SeatOccupancyService seatOccupancyService;
+    private final StandingCapacityService standingCapacityService;
+    private final SoldSeatsCounter soldSeatsCounter;
+    private final CartHoldExpiryService cartHoldExpiryService;
+    private final Counter seatOversellCounter;
+    private final Counter standingOversellCounter;
 
 
     @Autowired
     public SimpleTicketService(TicketRepository ticketRepository, UserRepository userRepository,
         PdfGenerationService pdfGenerationService, OrderRepository orderRepository, ShowRepository showRepository,
-        SeatRepository seatRepository, HallRepository hallRepository, EventRepository eventRepository) {
+        SeatRepository seatRepository, HallRepository hallRepository,
+        SeatOccupancyService seatOccupancyService, StandingCapacityService standingCapacityService,
+        SoldSeatsCounter soldSeatsCounter, CartHoldExpiryService cartHoldExpiryService, MeterRegistry meterRegistry) {
         this.ticketRepository = ticketRepository;
         this.userRepository = userRepository;
         this.pdfGenerationService = pdfGenerationService;
@@ -65,7 +82,19 @@ public class SimpleTicketService implements TicketService {
         this.showRepository = showRepository;
         this.seatRepository = seatRepository;
         this.hallRepository = hallRepository;
-        this.eventRepository = eventRepository;
+        this.seatOccupancyService = seatOccupancyService;
+        this.standingCapacityService = standingCapacityService;
+        this.soldSeatsCounter = soldSeatsCounter;
+        this.cartHoldExpiryService = cartHoldExpiryService;
+        this.seatOversellCounter = oversellCounter(meterRegistry, "seat");
+        this.standingOversellCounter = oversellCounter(meterRegistry, "standing");
+    }
+
+    private static Counter oversellCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("tickets.oversell.rejected")
+            .description("Tickets turned away because their seat or standing place was already taken")
+            .tag("type", type)
+            .register(meterRegistry);
     }
 
     private boolean isShowInPast(Show show) {
@@ -90,8 +119,11 @@ public class SimpleTicketService implements TicketService {
     }
 
     @Override
+    @Timed("tickets.create")
     public List<Ticket> createTickets(List<Ticket> tickets) throws ConflictException {
         final List<Ticket> conflictingTickets = new ArrayList<>();
+        final List<Pair<Long, Long>> claimedSeats = new ArrayList<>();
+        final List<Map.Entry<Pair<Long, Long>, Long>> reservedPlaces = new ArrayList<>();
 
         // Check if any shows are in the past (including duration)
         if (tickets.stream().anyMatch(ticket -> isShowInPast(ticket.getShow()))) {
@@ -121,6 +153,10 @@ public class SimpleTicketService implements TicketService {
             }
         }
 
+        if (tickets.stream().anyMatch(this::isFlashSale)) {
+            return createFlashSaleTickets(tickets);
+        }
+
         // Check for capacity
         // Group new tickets by StandingSector ID AND Show ID for capacity checking
         Map<Pair<Long, Long>, Long> newTicketsPerSectorAndShow = tickets.stream()
@@ -134,16 +170,10 @@ public class SimpleTicketService implements TicketService {
             Long showId = entry.getKey().getSecond();
             Long newTicketCount = entry.getValue();
 
-            // Fetch the StandingSector to get its capacity
-            StandingSector sector = hallRepository.findStandingSectorById(sectorId)
-                .orElseThrow(() -> new NotFoundException("StandingSector with ID " + sectorId + " not found"));
-
-            Integer capacity = sector.getCapacity();
-
-            // Count existing tickets in this sector AND show that are inCart, reserved, or purchased
-            Long existingTicketCount = ticketRepository.countByStandingSectorIdAndShowIdAndInCartTrueOrReservedTrueOrPurchasedTrue(sectorId, showId);
-
-            if ((existingTicketCount + newTicketCount) > capacity) {
+            // Take the places in the capacity ledger, which cannot oversell under contention
+            if (standingCapacityService.tryReserve(showId, sectorId, newTicketCount.intValue())) {
+                reservedPlaces.add(entry);
+            } else {
                 List<Ticket> newConflictingTickets = tickets.stream()
                     .filter(t -> "STANDING".equals(t.getTicketType()) 
                         && t.getStandingSector() != null 
@@ -151,6 +181,7 @@ public class SimpleTicketService implements TicketService {
                         && t.getStandingSector().getId().equals(sectorId)
                         && t.getShow().getId().equals(showId))
                     .collect(Collectors.toList());
+                standingOversellCounter.increment(newConflictingTickets.size());
                 conflictingTickets.addAll(newConflictingTickets);
             }
         }
@@ -170,16 +201,7 @@ public class SimpleTicketService implements TicketService {
                 Show managedShow = showRepository.findById(ticket.getShow().getId())
                     .orElse(null);
                 if (managedShow != null) {
-                    // Update Show soldSeats
-                    managedShow.setSoldSeats(managedShow.getSoldSeats() + 1);
-                    showRepository.save(managedShow);
-
-                    // Update Event soldSeats
-                    Event event = managedShow.getEvent();
-                    if (event != null) {
-                        event.setSoldSeats(event.getSoldSeats() + 1);
-                        eventRepository.save(event);
-                    }
+                    soldSeatsCounter.add(managedShow, 1);
                 }
                 ticket.setShow(managedShow);
             }
@@ -189,8 +211,9 @@ public class SimpleTicketService implements TicketService {
                 // For standing tickets, ensure seat is null and standing sector is managed
                 ticket.setSeat(null);
                 if (ticket.getStandingSector() != null && ticket.getStandingSector().getId() != null) {
-                    StandingSector managedSector = hallRepository.findStandingSectorById(
-                        ticket.getStandingSector().getId()).orElse(null);
+                    Long sectorId = ticket.getStandingSector().getId();
+                    StandingSector managedSector = hallRepository.findStandingSectorById(sectorId)
+                        .orElseThrow(() -> new NotFoundException("StandingSector with ID " + sectorId + " not found"));
                     ticket.setStandingSector(managedSector);
                 }
             } else if ("REGULAR".equals(ticket.getTicketType())) {
@@ -201,39 +224,30 @@ public class SimpleTicketService implements TicketService {
                         .orElse(null);
                     ticket.setSeat(managedSeat);
 
-                    // Check for existing tickets with the same seat and show
-                    List<Ticket> existingTickets = ticketRepository.findAll().stream()
-                        .filter(t -> t.getSeat() != null
-                            && t.getSeat().getSeatId().equals(managedSeat.getSeatId())
-                            && t.getShow().getId().equals(ticket.getShow().getId())
-                            && (t.getInCart() || t.getReserved() || t.getPurchased()))
-                        .toList();
-
-                    if (!existingTickets.isEmpty()) {
-                        conflictingTickets.addAll(existingTickets);
+                    // Claim the seat for this show, unless it is already taken
+                    if (managedSeat != null && ticket.getShow() != null) {
+                        Long showId = ticket.getShow().getId();
+                        if (seatOccupancyService.tryClaim(showId, managedSeat.getSeatId())) {
+                            claimedSeats.add(Pair.of(showId, managedSeat.getSeatId()));
+                        } else {
+                            seatOversellCounter.increment();
+                            conflictingTickets.add(ticket);
+                        }
                     }
                 }
             }
         });
 
         if (!conflictingTickets.isEmpty()) {
-            // If there are conflicts, rollback both Show and Event soldSeats increments
+            // If there are conflicts, give back the seats and standing places taken by this request
+            claimedSeats.forEach(seat -> seatOccupancyService.release(seat.getFirst(), seat.getSecond()));
+            reservedPlaces.forEach(places -> standingCapacityService.release(
+                places.getKey().getSecond(), places.getKey().getFirst(), places.getValue().intValue()));
+
+            // Rollback both Show and Event soldSeats increments, which then cancel out before being written
             tickets.forEach(ticket -> {
-                if (ticket.getShow() != null && ticket.getShow().getId() != null) {
-                    Show managedShow = showRepository.findById(ticket.getShow().getId())
-                        .orElse(null);
-                    if (managedShow != null) {
-                        // Rollback Show soldSeats
-                        managedShow.setSoldSeats(managedShow.getSoldSeats() - 1);
-                        showRepository.save(managedShow);
-
-                        // Rollback Event soldSeats
-                        Event event = managedShow.getEvent();
-                        if (event != null) {
-                            event.setSoldSeats(event.getSoldSeats() - 1);
-                            eventRepository.save(event);
-                        }
-                    }
+                if (ticket.getShow() != null) {
+                    soldSeatsCounter.add(ticket.getShow(), -1);
                 }
             });
             throw new ConflictException(
@@ -242,7 +256,113 @@ public class SimpleTicketService implements TicketService {
             );
         }
 
-        return ticketRepository.saveAll(tickets);
+        List<Ticket> savedTickets = saveTickets(tickets);
+        holdCartTickets(savedTickets);
+        return savedTickets;
+    }
+
+    private boolean isFlashSale(Ticket ticket) {
+        return ticket.getShow() != null && ticket.getShow().getId() != null
+            && showRepository.findById(ticket.getShow().getId()).map(Show::isFlashSale).orElse(false);
+    }
+
+    /**
+     * Creates the tickets of a flash sale without looking at their seats first. Every seat ticket is a plain insert,
+     * and the unique key on (show, seat, active) alone decides which of several concurrent buyers gets the seat,
+     * even across application instances. The seat occupancy index only follows the inserts that went through.
+     */
+    private List<Ticket> createFlashSaleTickets(List<Ticket> tickets) throws ConflictException {
+        Map<Long, Seat> seats = findSeats(tickets);
+        for (Ticket ticket : tickets) {
+            ticket.setOrder(null);
+            ticket.setDate(LocalDateTime.now());
+            // already loaded to find out that the show is a flash sale
+            ticket.setShow(showRepository.findById(ticket.getShow().getId())
+                .orElseThrow(() -> new NotFoundException("Show not found")));
+            if (ticket.getUser() != null && ticket.getUser().getId() != null) {
+                ticket.setUser(userRepository.getReferenceById(ticket.getUser().getId()));
+            }
+            if ("STANDING".equals(ticket.getTicketType())) {
+                ticket.setSeat(null);
+                if (ticket.getStandingSector() != null && ticket.getStandingSector().getId() != null) {
+                    Long sectorId = ticket.getStandingSector().getId();
+                    ticket.setStandingSector(hallRepository.findStandingSectorById(sectorId)
+                        .orElseThrow(() -> new NotFoundException("StandingSector with ID " + sectorId + " not found")));
+                    // standing places have no key in the database; the ledger only lets the reservation through
+                    // if the conditional update of the taken capacity of the show sector does too
+                    if (!standingCapacityService.tryReserve(ticket.getShow().getId(), sectorId, 1)) {
+                        standingOversellCounter.increment();
+                        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                        throw new ConflictException("Ticket creation failed",
+                            List.of("One or more seats are already taken for this show"));
+                    }
+                }
+            } else if ("REGULAR".equals(ticket.getTicketType())) {
+                ticket.setStandingSector(null);
+                if (ticket.getSeat() != null && ticket.getSeat().getSeatId() != null) {
+                    ticket.setSeat(seats.get(ticket.getSeat().getSeatId()));
+                }
+            }
+        }
+
+        List<Ticket> savedTickets = saveTickets(tickets);
+        for (Ticket ticket : savedTickets) {
+            soldSeatsCounter.add(ticket.getShow(), 1);
+            if (ticket.getSeat() != null) {
+                seatOccupancyService.tryClaim(ticket.getShow().getId(), ticket.getSeat().getSeatId());
+            }
+        }
+        holdCartTickets(savedTickets);
+        return savedTickets;
+    }
+
+    /**
+     * Loads the seats of the regular tickets in one query, so that an unknown seat is answered with not found
+     * before the insert instead of failing on its foreign key.
+     */
+    private Map<Long, Seat> findSeats(List<Ticket> tickets) {
+        Set<Long> seatIds = tickets.stream()
+            .filter(ticket -> "REGULAR".equals(ticket.getTicketType()))
+            .filter(ticket -> ticket.getSeat() != null && ticket.getSeat().getSeatId() != null)
+            .map(ticket -> ticket.getSeat().getSeatId())
+            .collect(Collectors.toSet());
+        if (seatIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Seat> seats = seatRepository.findAllById(seatIds).stream()
+            .collect(Collectors.toMap(Seat::getSeatId, Function.identity()));
+        for (Long seatId : seatIds) {
+            if (!seats.containsKey(seatId)) {
+                throw new NotFoundException("Seat with ID " + seatId + " not found");
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * Inserts the tickets, which happens right away as their IDs come from an identity column. A seat taken behind
+     * the occupancy index, e.g. by another application instance, is answered with a conflict instead of a server error.
+     */
+    private List<Ticket> saveTickets(List<Ticket> tickets) throws ConflictException {
+        try {
+            return ticketRepository.saveAll(tickets);
+        } catch (DataIntegrityViolationException e) {
+            if (!isActiveSeatConflict(e)) {
+                throw e;
+            }
+            LOGGER.debug("Lost the race for seats of tickets {}", tickets);
+            seatOversellCounter.increment();
+            // the session cannot be used after the failed flush, and the rollback also gives back the claims
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw new ConflictException("Ticket creation failed",
+                List.of("One or more seats are already taken for this show"));
+        }
+    }
+
+    private boolean isActiveSeatConflict(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+            && violation.getConstraintName() != null
+            && violation.getConstraintName().toLowerCase().contains(Ticket.ACTIVE_SEAT_CONSTRAINT);
     }
 
     public List<Ticket> getTicketsByUser(ApplicationUser user) {
@@ -281,6 +401,20 @@ public class SimpleTicketService implements TicketService {
                 List.of("One or more tickets are already reserved by someone else"));
         }
 
+        // Tickets that are no longer held need to claim their seat or standing place again
+        List<Ticket> reclaimedTickets = new ArrayList<>();
+        for (Ticket ticket : tickets) {
+            if (ticket.getInCart() || ticket.getReserved() || ticket.getShow() == null) {
+                continue;
+            }
+            if (!claimSeatOrPlace(ticket)) {
+                reclaimedTickets.forEach(this::releaseSeatOrPlace);
+                throw new ConflictException("Adding tickets to cart failed",
+                    List.of("One or more seats are already taken for this show"));
+            }
+            reclaimedTickets.add(ticket);
+        }
+
         // Update cart status
         for (Ticket ticket : tickets) {
             ticket.setDate(LocalDateTime.now());
@@ -290,10 +424,13 @@ public class SimpleTicketService implements TicketService {
             ticket.setUser(userRepository.findById(userId).orElseThrow(() -> new NotFoundException("User not found")));
         }
 
-        return ticketRepository.saveAll(tickets);
+        List<Ticket> savedTickets = ticketRepository.saveAll(tickets);
+        holdCartTickets(savedTickets);
+        return savedTickets;
     }
 
     @Override
+    @Timed("tickets.purchase")
     public List<Ticket> purchaseTickets(List<Long> ticketIds, Long userId) throws ConflictException {
         LOGGER.debug("Purchasing tickets with ids: {} for user with id: {}", ticketIds, userId);
         List<Ticket> tickets = ticketRepository.findAllById(ticketIds);
@@ -357,6 +494,7 @@ public class SimpleTicketService implements TicketService {
             // Only delete the ticket if it is reserved
             if (ticket.getReserved()) {
                 decreaseShowEventSoldSeats(ticket);
+                releaseSeatOrPlace(ticket);
                 ticketRepository.delete(ticket);
             } else {
                 throw new NotFoundException("Ticket is not reserved");
@@ -372,6 +510,7 @@ public class SimpleTicketService implements TicketService {
             if (ticket.getInCart()) {
                 // Handle show reference and update both Show and Event soldSeats
                 decreaseShowEventSoldSeats(ticket);
+                releaseSeatOrPlace(ticket);
 
                 ticketRepository.delete(ticket);
             } else {
@@ -415,6 +554,7 @@ public class SimpleTicketService implements TicketService {
             ticket.setReserved(false);
             ticket.setInCart(false);
             decreaseShowEventSoldSeats(ticket);
+            releaseSeatOrPlace(ticket);
         }
 
         // Save changes
@@ -424,22 +564,48 @@ public class SimpleTicketService implements TicketService {
         return order;
     }
 
+    private void holdCartTickets(List<Ticket> tickets) {
+        tickets.stream()
+            .filter(ticket -> Boolean.TRUE.equals(ticket.getInCart()))
+            .forEach(ticket -> cartHoldExpiryService.hold(ticket.getId(), ticket.getDate()));
+    }
+
+    private boolean claimSeatOrPlace(Ticket ticket) {
+        if (ticket.getSeat() != null) {
+            if (seatOccupancyService.tryClaim(ticket.getShow().getId(), ticket.getSeat().getSeatId())) {
+                return true;
+            }
+            seatOversellCounter.increment();
+            return false;
+        }
+        if (ticket.getStandingSector() != null) {
+            if (standingCapacityService.tryReserve(ticket.getShow().getId(), ticket.getStandingSector().getId(), 1)) {
+                return true;
+            }
+            standingOversellCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private void releaseSeatOrPlace(Ticket ticket) {
+        if (ticket.getShow() == null) {
+            return;
+        }
+        if (ticket.getSeat() != null) {
+            seatOccupancyService.release(ticket.getShow().getId(), ticket.getSeat().getSeatId());
+        } else if (ticket.getStandingSector() != null) {
+            standingCapacityService.release(ticket.getShow().getId(), ticket.getStandingSector().getId(), 1);
+        }
+    }
+
     private void decreaseShowEventSoldSeats(Ticket ticket) {
         // Handle show reference and update both Show and Event soldSeats
         if (ticket.getShow() != null && ticket.getShow().getId() != null) {
             Show managedShow = showRepository.findById(ticket.getShow().getId())
                 .orElse(null);
             if (managedShow != null) {
-                // Update Show soldSeats
-                managedShow.setSoldSeats(managedShow.getSoldSeats() - 1);
-                showRepository.save(managedShow);
-
-                // Update Event soldSeats
-                Event event = managedShow.getEvent();
-                if (event != null) {
-                    event.setSoldSeats(event.getSoldSeats() - 1);
-                    eventRepository.save(event);
-                }
+                soldSeatsCounter.add(managedShow, -1);
             }
             ticket.setShow(managedShow);
         }
@@ -482,6 +648,39 @@ public class SimpleTicketService implements TicketService {
         }
     }
 
+    @Override
+    public List<Ticket> getPrintableTicketsByOrder(Long orderId, Long userId) throws NotFoundException, ConflictException {
+        LOGGER.debug("Getting printable tickets of order {} for user {}", orderId, userId);
+
+        Order order = orderRepository.findById(orderId)
+            .orElseThrow(() -> new NotFoundException(String.format("Could not find order with id %d", orderId)));
+        if (order.getUser() == null || !order.getUser().getId().equals(userId)) {
+            throw new ConflictException("Access denied",
+                List.of("You are not authorized to access the tickets of this order"));
+        }
+
+        List<Ticket> tickets = ticketRepository.findPrintableByOrderId(orderId);
+        if (tickets.isEmpty()) {
+            throw new ConflictException("Invalid order state",
+                List.of("The order has no purchased or reserved tickets"));
+        }
+        return tickets;
+    }
+
+    @Override
+    public void generateTicketBundle(List<Ticket> tickets, BundleFormat format, OutputStream outputStream) {
+        LOGGER.debug("Generating {} of {} tickets", format, tickets.size());
+        try {
+            if (format == BundleFormat.ZIP) {
+                pdfGenerationService.generateTicketsZip(tickets, outputStream);
+            } else {
+                pdfGenerationService.generateTicketsPdf(tickets, outputStream);
+            }
+        } catch (Exception e) {
+            throw new FatalException("Failed to generate the tickets of the order", e);
+        }
+    }
+
     @Override
     public List<Ticket> getTicketsByOrder(Long orderId) {
         LOGGER.debug("Getting tickets for order {}", orderId);
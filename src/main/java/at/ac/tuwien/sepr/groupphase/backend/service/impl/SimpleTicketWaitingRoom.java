@@ -0,0 +1,349 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
+import at.ac.tuwien.sepr.groupphase.backend.service.TicketWaitingRoom;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+@Service
+public class SimpleTicketWaitingRoom implements TicketWaitingRoom {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    // assumed duration of a ticket creation until the first one of a show was measured
+    private static final Duration DEFAULT_SERVICE_TIME = Duration.ofMillis(200);
+    private final TicketService ticketService;
+    private final int admittedPerShow;
+    private final int maxDepth;
+    private final Duration maxWait;
+    private final Duration resultTtl;
+    private final int maxEntries;
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+    // the queued entries wait on virtual threads of their own, which cost next to nothing while they are parked
+    private final ExecutorService waiters = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("waiting-room-", 0).factory());
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+
+    public SimpleTicketWaitingRoom(TicketService ticketService, MeterRegistry meterRegistry,
+                                   @Value("${app.waiting-room.admitted-per-show:8}") int admittedPerShow,
+                                   @Value("${app.waiting-room.max-depth:1000}") int maxDepth,
+                                   @Value("${app.waiting-room.max-wait:PT30S}") Duration maxWait,
+                                   @Value("${app.waiting-room.result-ttl:PT5M}") Duration resultTtl,
+                                   @Value("${app.waiting-room.max-entries:10000}") int maxEntries) {
+        this.ticketService = ticketService;
+        this.admittedPerShow = admittedPerShow;
+        this.maxDepth = maxDepth;
+        this.maxWait = maxWait;
+        this.resultTtl = resultTtl;
+        this.maxEntries = maxEntries;
+        meterRegistry.gauge("tickets.waiting.room.depth", depth);
+        this.waitTimer = Timer.builder("tickets.waiting.room.wait")
+            .description("Time ticket creations wait in line until they are admitted")
+            .register(meterRegistry);
+        this.admittedCounter = Counter.builder("tickets.waiting.room.admitted")
+            .description("Ticket creations let out of the waiting room")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("tickets.waiting.room.rejected")
+            .description("Ticket creations turned away because the line was full or they waited too long")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<List<Ticket>> createTickets(List<Ticket> tickets) {
+        List<Lane> route = lanesFor(tickets);
+        enter(route);
+        CompletableFuture<List<Ticket>> created = new CompletableFuture<>();
+        // waits on a virtual thread like the queued entries, so the request thread is handed back meanwhile
+        waiters.execute(() -> {
+            try {
+                long[] admittedAt = admit(route, admitted -> { });
+                try {
+                    created.complete(ticketService.createTickets(tickets));
+                } finally {
+                    leave(route, admittedAt);
+                }
+            } catch (ConflictException | RuntimeException e) {
+                created.completeExceptionally(e);
+            }
+        });
+        return created;
+    }
+
+    @Override
+    public Entry enqueue(List<Ticket> tickets, String owner) {
+        if (jobs.size() >= maxEntries) {
+            purgeFinished();
+            if (jobs.size() >= maxEntries) {
+                rejectedCounter.increment();
+                LOGGER.warn("Waiting room holds {} entries, turned away another one", jobs.size());
+                throw new TooManyRequestsException("Too many requests are waiting", resultTtl);
+            }
+        }
+        List<Lane> route = lanesFor(tickets);
+        long[] numbers = enter(route);
+        Job job = new Job(UUID.randomUUID(), owner, route, numbers);
+        LOGGER.debug("Enqueue ticket creation {} of user {} for show {}", job.id, owner, job.showId());
+        jobs.put(job.id, job);
+        waiters.execute(() -> run(job, tickets));
+        return job.entry();
+    }
+
+    @Override
+    public Entry getEntry(UUID id, String owner) throws ConflictException {
+        Job job = jobs.get(id);
+        if (job == null || !job.owner.equals(owner)) {
+            throw new NotFoundException("Waiting room entry not found");
+        }
+        // the failure is set before the job is done, so it is complete once the entry says so
+        Entry entry = job.entry();
+        if (entry.state() == State.DONE && job.failure instanceof ConflictException conflict) {
+            throw conflict;
+        }
+        if (entry.state() == State.DONE && job.failure instanceof RuntimeException e) {
+            throw e;
+        }
+        return entry;
+    }
+
+    /**
+     * Forgets the entries that are done for longer than they are kept for polling. Entries that are still not done
+     * long after they must have been admitted are forgotten as well, their creation goes on but is no longer polled.
+     */
+    @Scheduled(fixedDelayString = "${app.waiting-room.result-ttl:PT5M}")
+    public void purgeFinished() {
+        long now = System.nanoTime();
+        long doneCutoff = now - resultTtl.toNanos();
+        long staleCutoff = doneCutoff - maxWait.toNanos();
+        jobs.values().removeIf(job -> job.state == State.DONE
+            ? job.finishedAt - doneCutoff < 0
+            : job.createdAt - staleCutoff < 0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        waiters.shutdownNow();
+    }
+
+    private void run(Job job, List<Ticket> tickets) {
+        try {
+            long[] admittedAt = admit(job.route, admitted -> job.admittedLanes = admitted);
+            job.state = State.ADMITTED;
+            try {
+                job.tickets = ticketService.createTickets(tickets);
+            } finally {
+                leave(job.route, admittedAt);
+            }
+        } catch (ConflictException | RuntimeException e) {
+            LOGGER.debug("Ticket creation {} failed: {}", job.id, e.getMessage());
+            job.failure = e;
+        } finally {
+            job.finishedAt = System.nanoTime();
+            job.state = State.DONE;
+        }
+    }
+
+    /**
+     * Finds the lines a request waits in. A request with tickets of several shows waits in the line of each of them,
+     * one after the other in the order of their IDs, so that two such requests never wait for a place the other holds.
+     */
+    private List<Lane> lanesFor(List<Ticket> tickets) {
+        return tickets.stream()
+            .map(Ticket::getShow)
+            .filter(Objects::nonNull)
+            .map(Show::getId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted()
+            .map(showId -> lanes.computeIfAbsent(showId, Lane::new))
+            .toList();
+    }
+
+    private long[] enter(List<Lane> route) {
+        long[] numbers = new long[route.size()];
+        for (int i = 0; i < route.size(); i++) {
+            try {
+                numbers[i] = route.get(i).enter();
+            } catch (TooManyRequestsException e) {
+                route.subList(0, i).forEach(Lane::abandon);
+                throw e;
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * Waits to be admitted by every line in turn, all within the maximum wait.
+     *
+     * @param onAdmitted told how many lines have admitted the request so far
+     * @return when the request was admitted by each line
+     */
+    private long[] admit(List<Lane> route, IntConsumer onAdmitted) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        long[] admittedAt = new long[route.size()];
+        for (int i = 0; i < route.size(); i++) {
+            try {
+                admittedAt[i] = route.get(i).admit(deadline);
+            } catch (RuntimeException e) {
+                route.subList(0, i).forEach(Lane::release);
+                route.subList(i + 1, route.size()).forEach(Lane::abandon);
+                throw e;
+            }
+            onAdmitted.accept(i + 1);
+        }
+        return admittedAt;
+    }
+
+    private void leave(List<Lane> route, long[] admittedAt) {
+        for (int i = 0; i < route.size(); i++) {
+            route.get(i).leave(admittedAt[i]);
+        }
+    }
+
+    /**
+     * The line of a single show. Numbers are handed out on entry, and a fair semaphore lets the waiting
+     * requests in roughly in the order of their numbers, so the position is the distance to the last one let through.
+     */
+    private final class Lane {
+        private final Long showId;
+        private final Semaphore permits = new Semaphore(admittedPerShow, true);
+        private final AtomicLong issued = new AtomicLong();
+        private final AtomicLong passed = new AtomicLong();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LongAdder servedNanos = new LongAdder();
+        private final LongAdder served = new LongAdder();
+
+        private Lane(Long showId) {
+            this.showId = showId;
+        }
+
+        long enter() {
+            if (waiting.incrementAndGet() > maxDepth) {
+                waiting.decrementAndGet();
+                rejectedCounter.increment();
+                LOGGER.debug("Waiting room of show {} is full", showId);
+                throw new TooManyRequestsException("Too many requests are waiting for this show", estimatedWait(maxDepth));
+            }
+            depth.incrementAndGet();
+            return issued.incrementAndGet();
+        }
+
+        long admit(long deadline) {
+            long enteredAt = System.nanoTime();
+            boolean admitted = false;
+            try {
+                admitted = permits.tryAcquire(deadline - enteredAt, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waiting.decrementAndGet();
+                depth.decrementAndGet();
+                passed.incrementAndGet();
+            }
+            long admittedAt = System.nanoTime();
+            if (!admitted) {
+                rejectedCounter.increment();
+                throw new TooManyRequestsException("The request was not admitted in time", estimatedWait(waiting.get()));
+            }
+            waitTimer.record(admittedAt - enteredAt, TimeUnit.NANOSECONDS);
+            admittedCounter.increment();
+            return admittedAt;
+        }
+
+        void leave(long admittedAt) {
+            servedNanos.add(System.nanoTime() - admittedAt);
+            served.increment();
+            permits.release();
+        }
+
+        /**
+         * Gives up a place in line without having waited for it, as another line of the request turned it away.
+         */
+        void abandon() {
+            waiting.decrementAndGet();
+            depth.decrementAndGet();
+            passed.incrementAndGet();
+        }
+
+        /**
+         * Hands back the admission without having created tickets, as another line of the request turned it away.
+         */
+        void release() {
+            permits.release();
+        }
+
+        long positionOf(long number) {
+            return Math.max(1, number - passed.get());
+        }
+
+        Duration estimatedWait(long position) {
+            long count = served.sum();
+            long meanNanos = count == 0 ? DEFAULT_SERVICE_TIME.toNanos() : servedNanos.sum() / count;
+            return Duration.ofNanos(meanNanos * position / admittedPerShow);
+        }
+    }
+
+    private static final class Job {
+        private final UUID id;
+        private final String owner;
+        private final List<Lane> route;
+        private final long[] numbers;
+        private final long createdAt = System.nanoTime();
+        private volatile State state = State.WAITING;
+        private volatile int admittedLanes;
+        private volatile List<Ticket> tickets = List.of();
+        private volatile Exception failure;
+        private volatile long finishedAt;
+
+        private Job(UUID id, String owner, List<Lane> route, long[] numbers) {
+            this.id = id;
+            this.owner = owner;
+            this.route = route;
+            this.numbers = numbers;
+        }
+
+        Long showId() {
+            return route.isEmpty() ? null : route.getFirst().showId;
+        }
+
+        Entry entry() {
+            State current = state;
+            int admitted = admittedLanes;
+            if (current != State.WAITING || admitted >= route.size()) {
+                return new Entry(id, showId(), current, 0, Duration.ZERO, tickets);
+            }
+            Lane lane = route.get(admitted);
+            long position = lane.positionOf(numbers[admitted]);
+            return new Entry(id, lane.showId, current, position, lane.estimatedWait(position), List.of());
+        }
+    }
+}
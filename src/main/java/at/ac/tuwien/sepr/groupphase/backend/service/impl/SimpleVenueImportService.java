@@ -0,0 +1,341 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.HallDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueImportDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueImportResultDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueImportResultDto.RowError;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Venue;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.VenueRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SearchIndex;
+import at.ac.tuwien.sepr.groupphase.backend.service.VenueImportService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class SimpleVenueImportService implements VenueImportService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    // venues written per transaction
+    private static final int BATCH_SIZE = 500;
+    // the errors of further failed venues are only counted, so that a broken file does not fill the memory
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final List<String> VENUE_COLUMNS = List.of("name", "street", "city", "county", "postalcode");
+
+    private final VenueRepository venueRepository;
+    private final HallService hallService;
+    private final SearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+
+    public SimpleVenueImportService(VenueRepository venueRepository, HallService hallService, SearchIndex searchIndex,
+                                    ApplicationEventPublisher eventPublisher, Validator validator,
+                                    ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.venueRepository = venueRepository;
+        this.hallService = hallService;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public VenueImportResultDto importCsv(Reader csv) throws IOException, ValidationException {
+        LOGGER.debug("Import venues from CSV");
+        CsvReader reader = new CsvReader(csv);
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new ValidationException("Import failed", List.of("The CSV is empty"));
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = VENUE_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new ValidationException("Import failed", List.of("The CSV header lacks the columns " + missing));
+        }
+
+        Import run = new Import();
+        Row current = null;
+        long row = 0;
+        for (List<String> record = reader.next(); record != null; record = reader.next()) {
+            if (record.size() == 1 && record.getFirst().isBlank()) {
+                continue;
+            }
+            row++;
+            String name = value(record, columns, "name");
+            String street = value(record, columns, "street");
+            if (current == null || !current.key().equals(Venue.uniqueKeyOf(name, street))) {
+                if (current != null) {
+                    run.add(current);
+                }
+                current = new Row(row, new VenueImportDto(name, street, value(record, columns, "city"),
+                    value(record, columns, "county"), value(record, columns, "postalcode"), new ArrayList<>()),
+                    new ArrayList<>());
+            }
+            String hallName = value(record, columns, "hallname");
+            if (hallName != null && !hallName.isBlank()) {
+                try {
+                    current.venue().halls().add(new HallDto(null, hallName, integer(record, columns, "hallcapacity"),
+                        integer(record, columns, "canvaswidth"), integer(record, columns, "canvasheight"), null,
+                        List.of(), List.of()));
+                } catch (NumberFormatException e) {
+                    current.problems().add("Hall " + hallName + ": capacity and canvas size must be whole numbers");
+                }
+            }
+        }
+        if (current != null) {
+            run.add(current);
+        }
+        return run.finish();
+    }
+
+    @Override
+    public VenueImportResultDto importJson(InputStream json) throws IOException, ValidationException {
+        LOGGER.debug("Import venues from JSON");
+        Import run = new Import();
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ValidationException("Import failed", List.of("The JSON is not an array of venues"));
+            }
+            long row = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                row++;
+                VenueImportDto venue;
+                try {
+                    venue = objectMapper.readValue(parser, VenueImportDto.class);
+                } catch (JsonProcessingException e) {
+                    run.fail(row, null, List.of("Not a valid venue, the venues after it are not imported: "
+                        + e.getOriginalMessage()));
+                    break;
+                }
+                run.add(new Row(row, venue, new ArrayList<>()));
+            }
+        }
+        return run.finish();
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer integer(List<String> record, Map<String, Integer> columns, String column) {
+        String value = value(record, columns, column);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * A venue as read from the import.
+     *
+     * @param number the number of the venue in the import
+     * @param problems what was found wrong with the venue while reading it
+     */
+    private record Row(long number, VenueImportDto venue, List<String> problems) {
+
+        String key() {
+            return Venue.uniqueKeyOf(venue.name(), venue.street());
+        }
+    }
+
+    /**
+     * Collects the venues of one import into batches and writes each batch in one transaction.
+     */
+    private final class Import {
+        private final List<Row> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<RowError> errors = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        void add(Row row) {
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void fail(long row, String name, List<String> messages) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(row, name, messages));
+            }
+        }
+
+        VenueImportResultDto finish() {
+            flush();
+            LOGGER.info("Imported {} venues, {} failed", imported, failed);
+            return new VenueImportResultDto(imported, failed, errors);
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            // venues that already exist are found with one query for the whole batch
+            Set<String> taken = new HashSet<>(venueRepository.findTakenUniqueKeys(
+                batch.stream().map(Row::key).toList()));
+            List<Row> valid = new ArrayList<>(batch.size());
+            for (Row row : batch) {
+                List<String> problems = validate(row);
+                if (problems.isEmpty() && !taken.add(row.key())) {
+                    problems.add("A venue with this name and address already exists");
+                }
+                if (problems.isEmpty()) {
+                    valid.add(row);
+                } else {
+                    fail(row.number(), row.venue().name(), problems);
+                }
+            }
+            batch.clear();
+
+            try {
+                transaction.executeWithoutResult(status -> save(valid));
+                imported += valid.size();
+            } catch (RuntimeException e) {
+                // the batch is written again venue by venue, to tell the venues that fail from the others
+                LOGGER.warn("Import of {} venues failed, importing them one by one: {}", valid.size(), e.getMessage());
+                for (Row row : valid) {
+                    try {
+                        transaction.executeWithoutResult(status -> save(List.of(row)));
+                        imported++;
+                    } catch (RuntimeException rowFailure) {
+                        fail(row.number(), row.venue().name(), List.of("Could not be saved: "
+                            + NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage()));
+                    }
+                }
+            }
+        }
+
+        private List<String> validate(Row row) {
+            VenueImportDto venue = row.venue();
+            List<String> problems = new ArrayList<>(row.problems());
+            validator.validate(new VenueDto(null, venue.name(), venue.street(), venue.city(), venue.county(),
+                    venue.postalCode(), null)).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .forEach(problems::add);
+            if (venue.halls() != null) {
+                for (HallDto hall : venue.halls()) {
+                    if (hall.name() == null || hall.name().isBlank() || hall.capacity() == null
+                        || hall.canvasWidth() == null || hall.canvasHeight() == null) {
+                        problems.add("Every hall needs a name, a capacity and a canvas size");
+                        break;
+                    }
+                }
+            }
+            return problems;
+        }
+
+        private void save(List<Row> rows) {
+            List<Venue> venues = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                VenueImportDto dto = row.venue();
+                Venue venue = new Venue();
+                venue.setName(dto.name());
+                venue.setStreet(dto.street());
+                venue.setCity(dto.city());
+                venue.setCounty(dto.county());
+                venue.setPostalCode(dto.postalCode());
+                if (dto.halls() != null) {
+                    for (HallDto hall : dto.halls()) {
+                        venue.addHallId(hallService.createHall(hall).getId());
+                    }
+                }
+                venues.add(venue);
+            }
+            venueRepository.saveAllAndFlush(venues).forEach(searchIndex::index);
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.VENUES));
+        }
+    }
+
+    /**
+     * Reads CSV records one at a time. Fields are separated by commas and may be quoted with double quotes,
+     * in which case they may contain commas, line breaks and doubled quotes.
+     */
+    private static final class CsvReader {
+        private final BufferedReader reader;
+
+        CsvReader(Reader reader) {
+            this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        }
+
+        /**
+         * Reads the next record.
+         *
+         * @return the fields of the record, or null at the end of the input
+         */
+        List<String> next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c != '"') {
+                            field.append(c);
+                        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(c);
+                    }
+                }
+                // a quoted field goes on in the next line
+                line = quoted ? reader.readLine() : null;
+                if (line == null) {
+                    break;
+                }
+                field.append('\n');
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -2,23 +2,41 @@ package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SearchVenueDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueDto;
-import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Venue;
 import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.VenueRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayout;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayoutCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.SearchIndex;
 import at.ac.tuwien.sepr.groupphase.backend.service.VenueService;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.FatalException;
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -26,10 +44,17 @@ public class SimpleVenueService implements VenueService {
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private final VenueRepository venueRepository;
     private final HallRepository hallRepository;
+    private final SearchIndex searchIndex;
+    private final HallLayoutCache hallLayoutCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SimpleVenueService(VenueRepository venueRepository, HallRepository hallRepository) {
+    public SimpleVenueService(VenueRepository venueRepository, HallRepository hallRepository, SearchIndex searchIndex,
+                              HallLayoutCache hallLayoutCache, ApplicationEventPublisher eventPublisher) {
         this.venueRepository = venueRepository;
         this.hallRepository = hallRepository;
+        this.searchIndex = searchIndex;
+        this.hallLayoutCache = hallLayoutCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -39,6 +64,20 @@ public class SimpleVenueService implements VenueService {
         return venueRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<Venue> streamAll() {
+        LOGGER.debug("Stream all venues");
+        return venueRepository.streamAllByOrderByIdAsc();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Venue> findAllAfter(Long id, int limit) {
+        LOGGER.debug("Find {} venues after venue {}", limit, id);
+        return venueRepository.findPageAfter(id, PageRequest.ofSize(limit));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Venue findOne(Long id) {
@@ -58,9 +97,7 @@ public class SimpleVenueService implements VenueService {
             // Validate the input
 
             // Check for conflicts (e.g., duplicate venue)
-            if (venueRepository.findAll().stream()
-                .anyMatch(v -> v.getName().equals(venueDto.name())
-                    && v.getStreet().equals(venueDto.street()))) {
+            if (venueRepository.existsOtherByUniqueKey(Venue.uniqueKeyOf(venueDto.name(), venueDto.street()), null)) {
                 throw new ConflictException("Venue already exists",
                     List.of("A venue with this name and address already exists"));
             }
@@ -76,7 +113,9 @@ public class SimpleVenueService implements VenueService {
                 venue.setHallIds(venueDto.hallIds());
             }
 
-            Venue savedVenue = venueRepository.save(venue);
+            Venue savedVenue = saveUnique(venue, "A venue with this name and address already exists");
+            searchIndex.index(savedVenue);
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.VENUES));
             LOGGER.debug("Created venue with id {}", savedVenue.getId());
             LOGGER.info("Servicelayer: created venue hall id: {}", savedVenue.getHallIds());
             return savedVenue;
@@ -99,11 +138,9 @@ public class SimpleVenueService implements VenueService {
             Venue existingVenue = venueRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Could not find venue with id " + id));
 
-            // Check for conflicts (duplicate venue, but ignore self)
-            if (venueRepository.findAll().stream()
-                .anyMatch(v -> v.getName().equals(venueDto.name())
-                    && v.getStreet().equals(venueDto.street())
-                    && !v.getId().equals(id))) {
+            // Check for conflicts (duplicate venue, but ignore self and duplicates stored before venues had a key)
+            String uniqueKey = Venue.uniqueKeyOf(venueDto.name(), venueDto.street());
+            if (!existingVenue.isLegacyDuplicateUnder(uniqueKey) && venueRepository.existsOtherByUniqueKey(uniqueKey, id)) {
                 throw new ConflictException("Venue already exists",
                     List.of("Another venue with this name and address already exists"));
             }
@@ -119,7 +156,9 @@ public class SimpleVenueService implements VenueService {
                 existingVenue.setHallIds(venueDto.hallIds());
             }
 
-            Venue updatedVenue = venueRepository.save(existingVenue);
+            Venue updatedVenue = saveUnique(existingVenue, "Another venue with this name and address already exists");
+            searchIndex.index(updatedVenue);
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.VENUES));
             LOGGER.debug("Updated venue with id {}", updatedVenue.getId());
             return updatedVenue;
 
@@ -132,6 +171,51 @@ public class SimpleVenueService implements VenueService {
         }
     }
 
+    /**
+     * Gives the venues stored before venues had a unique key their key, so that the duplicate check sees them.
+     * Of venues that already are duplicates of each other, only the first one gets the key. The others are left
+     * without key, which still lets them be saved under their name and street, and are logged for an admin to merge.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingUniqueKeys() {
+        List<Venue> venues = venueRepository.findByUniqueKeyIsNull();
+        if (venues.isEmpty()) {
+            return;
+        }
+        Set<String> taken = new HashSet<>(venueRepository.findTakenUniqueKeys(
+            venues.stream().map(venue -> Venue.uniqueKeyOf(venue.getName(), venue.getStreet())).toList()));
+        int filled = 0;
+        for (Venue venue : venues) {
+            if (taken.add(Venue.uniqueKeyOf(venue.getName(), venue.getStreet()))) {
+                venue.updateUniqueKey();
+                filled++;
+            } else {
+                LOGGER.warn("Venue {} duplicates another venue named '{}' at '{}' and is left without unique key",
+                    venue.getId(), venue.getName(), venue.getStreet());
+            }
+        }
+        LOGGER.info("Filled in the unique keys of {} venues", filled);
+    }
+
+    /**
+     * Saves a venue right away, so that the unique key decides between concurrent writes of the same venue.
+     * A lost race is answered with a conflict instead of a server error.
+     */
+    private Venue saveUnique(Venue venue, String conflict) throws ConflictException {
+        try {
+            return venueRepository.saveAndFlush(venue);
+        } catch (DataIntegrityViolationException e) {
+            if (!(e.getCause() instanceof ConstraintViolationException violation)
+                || violation.getConstraintName() == null
+                || !violation.getConstraintName().toLowerCase().contains(Venue.UNIQUE_KEY_CONSTRAINT)) {
+                throw e;
+            }
+            // the session cannot be used after the failed flush
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw new ConflictException("Venue already exists", List.of(conflict));
+        }
+    }
+
     @Override
     public void deleteVenue(Long id) throws ValidationException, NotFoundException {
         LOGGER.debug("Delete venue with id {}", id);
@@ -147,6 +231,8 @@ public class SimpleVenueService implements VenueService {
 
         // Now we can safely delete the venue
         venueRepository.deleteById(id);
+        searchIndex.removeVenue(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.VENUES));
         LOGGER.debug("Successfully deleted venue with id {}", id);
     }
 
@@ -155,25 +241,35 @@ public class SimpleVenueService implements VenueService {
     @Transactional(readOnly = true)
     public List<Venue> searchVenuesByName(String query) {
         LOGGER.debug("Searching for venues with query: {}", query);
+        Optional<List<Long>> ids = searchIndex.searchVenues(query, null, null, null, null);
+        if (ids.isPresent()) {
+            return findInOrder(ids.get());
+        }
         return venueRepository.findByNameContainingIgnoreCase(query);
     }
 
     @Override
-    public List<Hall> getHallsByVenueId(Long id) {
+    @Transactional(readOnly = true)
+    public List<HallLayout> getHallsByVenueId(Long id) {
         LOGGER.debug("Service: Getting halls for venue with id {}", id);
         Venue venue = findOne(id);
         if (venue == null) {
             throw new NotFoundException("Could not find venue with id " + id);
         }
 
-        List<Hall> halls = hallRepository.findAllById(venue.getHallIds());
-        return halls;
+        // a venue keeps the IDs of deleted halls, which are left out
+        return hallRepository.findExistingIds(venue.getHallIds()).stream().map(hallLayoutCache::get).toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Venue> filterVenues(SearchVenueDto searchDto) {
         LOGGER.debug("Filter venues with criteria: {}", searchDto);
+        Optional<List<Long>> ids = searchIndex.searchVenues(searchDto.getName(), searchDto.getStreet(),
+            searchDto.getCity(), searchDto.getCounty(), searchDto.getPostalCode());
+        if (ids.isPresent()) {
+            return findInOrder(ids.get());
+        }
         return venueRepository.findByFilter(
             searchDto.getName(),
             searchDto.getStreet(),
@@ -183,6 +279,15 @@ public class SimpleVenueService implements VenueService {
         );
     }
 
+    private List<Venue> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Venue> venues = venueRepository.findAllByIdWithHalls(ids).stream()
+            .collect(Collectors.toMap(Venue::getId, Function.identity()));
+        return ids.stream().map(venues::get).filter(Objects::nonNull).toList();
+    }
+
     @Override
     public List<String[]> findUniqueCountriesAndCities() {
         List<String> distinctCountries = venueRepository.findDistinctCountries();
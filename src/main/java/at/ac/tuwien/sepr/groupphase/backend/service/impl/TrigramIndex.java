@@ -0,0 +1,195 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from the trigrams of a fixed number of text fields to the IDs of the documents containing them.
+ * A field matches a query if it contains the query, ignoring case. The trigrams only narrow down the documents
+ * that are checked, queries shorter than a trigram are checked against every document.
+ */
+final class TrigramIndex {
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final List<Map<Long, Set<Long>>> postings = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    TrigramIndex(int fieldCount) {
+        for (int i = 0; i < fieldCount; i++) {
+            postings.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds a document or replaces the fields of an indexed one.
+     *
+     * @param id the ID of the document
+     * @param values the value of each field, null for fields without a value
+     */
+    void put(Long id, String... values) {
+        String[] normalized = new String[postings.size()];
+        for (int field = 0; field < normalized.length; field++) {
+            normalized[field] = normalize(values[field]);
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            documents.put(id, normalized);
+            for (int field = 0; field < normalized.length; field++) {
+                for (Long gram : trigramsOf(normalized[field])) {
+                    postings.get(field).computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the documents whose fields contain all given queries.
+     * Every match scores at least one, more if the query starts the field or a word of it, or covers more of it.
+     * If a field has no match at all and typos are tolerated, the documents sharing at least half of the
+     * query's trigrams with that field match it with a score below one.
+     *
+     * @param queries the query of each field, null for fields that are not searched
+     * @param typoTolerant whether near misses match if nothing matches exactly
+     * @return the IDs of the matching documents, best match first
+     */
+    List<Long> search(String[] queries, boolean typoTolerant) {
+        lock.readLock().lock();
+        Map<Long, Double> scores = null;
+        try {
+            for (int field = 0; field < queries.length; field++) {
+                if (queries[field] == null) {
+                    continue;
+                }
+                Map<Long, Double> matches = searchField(field, normalize(queries[field]), typoTolerant);
+                if (scores != null) {
+                    matches.keySet().retainAll(scores.keySet());
+                    scores.forEach((id, score) -> matches.computeIfPresent(id, (key, sum) -> sum + score));
+                }
+                scores = matches;
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (scores == null) {
+            return List.of();
+        }
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> searchField(int field, String query, boolean typoTolerant) {
+        Map<Long, Double> matches = new HashMap<>();
+        Set<Long> grams = trigramsOf(query);
+        Collection<Long> candidates = grams.isEmpty() ? documents.keySet() : candidatesOf(field, grams);
+        for (Long id : candidates) {
+            String value = documents.get(id)[field];
+            int at = value == null ? -1 : value.indexOf(query);
+            if (at >= 0) {
+                matches.put(id, score(value, query, at));
+            }
+        }
+        if (matches.isEmpty() && typoTolerant && grams.size() > 1) {
+            Map<Long, Integer> shared = new HashMap<>();
+            for (Long gram : grams) {
+                postings.get(field).getOrDefault(gram, Set.of()).forEach(id -> shared.merge(id, 1, Integer::sum));
+            }
+            shared.forEach((id, count) -> {
+                if (count * 2 >= grams.size()) {
+                    matches.put(id, 0.5 * count / grams.size());
+                }
+            });
+        }
+        return matches;
+    }
+
+    private Collection<Long> candidatesOf(int field, Set<Long> grams) {
+        List<Set<Long>> lists = new ArrayList<>(grams.size());
+        for (Long gram : grams) {
+            Set<Long> ids = postings.get(field).get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>(lists.getFirst());
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        return candidates;
+    }
+
+    private void removeLocked(Long id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int field = 0; field < previous.length; field++) {
+            Map<Long, Set<Long>> fieldPostings = postings.get(field);
+            for (Long gram : trigramsOf(previous[field])) {
+                Set<Long> ids = fieldPostings.get(gram);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static double score(String value, String query, int at) {
+        double coverage = (double) query.length() / value.length();
+        if (at == 0) {
+            return (coverage == 1 ? 3 : 2) + coverage;
+        }
+        return (Character.isLetterOrDigit(value.charAt(at - 1)) ? 1 : 1.5) + coverage;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Long> trigramsOf(String value) {
+        if (value == null || value.length() < 3) {
+            return Set.of();
+        }
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            grams.add((long) value.charAt(i) << 32 | (long) value.charAt(i + 1) << 16 | value.charAt(i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,162 @@
+package at.ac.tuwien.sepr.groupphase.backend.benchmark;
+
+import at.ac.tuwien.sepr.groupphase.backend.BackendApplication;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.HallDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SectorDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.StageDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
+import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayout;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating a hall through cascaded seat entities, as halls were created before, against the JDBC batches
+ * of the hall service, and measures an update that only moves one row of seats of an otherwise unchanged hall.
+ * The halls have ten sectors with rows of 50 seats.
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=HallWriteBenchmark}; the score is the time per hall write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HallWriteBenchmark {
+
+    private static final int SECTORS = 10;
+    private static final int COLUMNS = 50;
+
+    @Param({"1000", "10000", "50000"})
+    private int seats;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transaction;
+    private HallRepository hallRepository;
+    private HallService hallService;
+    private Long updatedHallId;
+    private HallLayout updatedLayout;
+    private int offset;
+    private Long createdHallId;
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(BackendApplication.class);
+        application.setAdditionalProfiles("test");
+        context = application.run("--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        hallRepository = context.getBean(HallRepository.class);
+        hallService = context.getBean(HallService.class);
+        updatedHallId = hallService.createHall(hall(null, 0)).getId();
+        updatedLayout = hallService.findLayout(updatedHallId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Deletes the hall an invocation created, so that the database stays the same size.
+     */
+    @TearDown(Level.Invocation)
+    public void deleteCreatedHall() {
+        if (createdHallId != null) {
+            transaction.executeWithoutResult(status -> {
+                try {
+                    hallService.removeHallContent(createdHallId);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                hallRepository.deleteById(createdHallId);
+            });
+            createdHallId = null;
+        }
+    }
+
+    @Benchmark
+    public Long createWithSeatEntities() {
+        HallDto hallDto = hall(null, 0);
+        createdHallId = transaction.execute(status -> {
+            Hall hall = new Hall();
+            hall.setName(hallDto.name());
+            hall.setCapacity(hallDto.capacity());
+            hall.setCanvasWidth(hallDto.canvasWidth());
+            hall.setCanvasHeight(hallDto.canvasHeight());
+            for (SectorDto sectorDto : hallDto.sectors()) {
+                Sector sector = new Sector();
+                sector.setSectorName(sectorDto.sectorName().toString());
+                sector.setRows(sectorDto.rows());
+                sector.setColumns(sectorDto.columns());
+                sector.setPrice(sectorDto.price());
+                for (SeatDto seatDto : sectorDto.seats()) {
+                    Seat seat = new Seat();
+                    seat.setRowSeat(seatDto.rowSeat());
+                    seat.setColumnSeat(seatDto.columnSeat());
+                    seat.setPositionX(seatDto.positionX());
+                    seat.setPositionY(seatDto.positionY());
+                    seat.setSector(sector);
+                    sector.getSeats().add(seat);
+                }
+                hall.addSector(sector);
+            }
+            return hallRepository.save(hall).getId();
+        });
+        return createdHallId;
+    }
+
+    @Benchmark
+    public Long createInBatches() {
+        createdHallId = hallService.createHall(hall(null, 0)).getId();
+        return createdHallId;
+    }
+
+    @Benchmark
+    public Hall updateMovingOneRow() throws Exception {
+        // moves the first row back and forth, so that every update has the same single row to write
+        offset = offset == 0 ? 1 : 0;
+        return hallService.updateHall(hall(updatedLayout, offset));
+    }
+
+    private HallDto hall(HallLayout layout, int firstRowOffset) {
+        int seatsPerSector = seats / SECTORS;
+        int rows = (seatsPerSector + COLUMNS - 1) / COLUMNS;
+        List<SectorDto> sectors = new ArrayList<>(SECTORS);
+        for (int s = 0; s < SECTORS; s++) {
+            List<SeatDto> sectorSeats = new ArrayList<>(seatsPerSector);
+            for (int i = 0; i < seatsPerSector; i++) {
+                int row = i / COLUMNS + 1;
+                int column = i % COLUMNS + 1;
+                int shift = s == 0 && row == 1 ? firstRowOffset : 0;
+                sectorSeats.add(new SeatDto(null, row, s + 1, column, column * 10 + shift, (s * rows + row) * 10));
+            }
+            Long sectorId = layout == null ? null : layout.sectorId(s);
+            sectors.add(new SectorDto(sectorId, (long) s + 1, rows, COLUMNS, 50L, sectorSeats));
+        }
+        return new HallDto(layout == null ? null : layout.getHallId(), "Arena", seats, COLUMNS * 10 + 20,
+            SECTORS * rows * 10 + 20, new StageDto(null, 0, 0, 100, 10), sectors, List.of());
+    }
+}
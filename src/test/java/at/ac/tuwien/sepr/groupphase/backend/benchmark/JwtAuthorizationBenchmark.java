@@ -0,0 +1,96 @@
+package at.ac.tuwien.sepr.groupphase.backend.benchmark;
+
+import at.ac.tuwien.sepr.groupphase.backend.config.SecurityPropertiesConfig;
+import at.ac.tuwien.sepr.groupphase.backend.config.properties.SecurityProperties;
+import at.ac.tuwien.sepr.groupphase.backend.security.JwtAuthorizationFilter;
+import at.ac.tuwien.sepr.groupphase.backend.security.JwtTokenizer;
+import at.ac.tuwien.sepr.groupphase.backend.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what the authorization filter adds to an authenticated request: verifying the token with a signing key
+ * built for every request, as done before, against the key and parser built once, and against the cache of verified
+ * tokens that a client sending the same token again hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthorizationBenchmark {
+
+    private SecurityProperties securityProperties;
+    private String authHeader;
+    private JwtAuthorizationFilter uncachedFilter;
+    private JwtAuthorizationFilter cachedFilter;
+
+    @Setup
+    public void setUp() {
+        SecurityPropertiesConfig.Auth auth = new SecurityPropertiesConfig.Auth();
+        auth.setHeader("Authorization");
+        auth.setPrefix("Bearer ");
+        auth.setLoginUri("/api/v1/authentication");
+        SecurityPropertiesConfig.Jwt jwt = new SecurityPropertiesConfig.Jwt();
+        jwt.setSecret("?E(H+MbQeThWmZq4t7w!z%C*F-J@NcRfUjXn2r5u8x/A?D(G+KbPdSgVkYp3s6v9");
+        jwt.setType("JWT");
+        jwt.setIssuer("secure-backend");
+        jwt.setAudience("secure-app");
+        jwt.setExpirationTime(43_200_000L);
+        securityProperties = new SecurityProperties(auth, jwt);
+
+        authHeader = new JwtTokenizer(securityProperties).getAuthToken("user@email.com", List.of("ROLE_USER"));
+        uncachedFilter = new JwtAuthorizationFilter(securityProperties, new VerifiedTokenCache(0));
+        cachedFilter = new JwtAuthorizationFilter(securityProperties, new VerifiedTokenCache(10_000));
+    }
+
+    @Benchmark
+    public Object keyPerRequest() {
+        Claims claims = Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(securityProperties.getJwtSecret().getBytes())).build()
+            .parseSignedClaims(authHeader.replace(securityProperties.getAuthTokenPrefix(), ""))
+            .getPayload();
+        return claims.get("rol");
+    }
+
+    @Benchmark
+    public Authentication precomputedParser() throws ServletException, IOException {
+        return authenticate(uncachedFilter);
+    }
+
+    @Benchmark
+    public Authentication cachedToken() throws ServletException, IOException {
+        return authenticate(cachedFilter);
+    }
+
+    private Authentication authenticate(JwtAuthorizationFilter filter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/shows");
+        request.addHeader("Authorization", authHeader);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,174 @@
+package at.ac.tuwien.sepr.groupphase.backend.benchmark;
+
+import at.ac.tuwien.sepr.groupphase.backend.BackendApplication;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleShowDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.EventMapper;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.ShowMapper;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventService;
+import at.ac.tuwien.sepr.groupphase.backend.service.ShowService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the show and event lists through the entities, as they were read before, against the
+ * projection queries that select only the list columns. Every show and event carries a full 10,000 character
+ * text, and every show has two artists.
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=ListReadModelBenchmark}; the list requests per second are
+ * the score, {@code rows} the list rows per second and {@code gc.alloc.rate.norm} the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListReadModelBenchmark {
+
+    private static final String TEXT = "x".repeat(10_000);
+
+    @Param({"100", "1000"})
+    private int shows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private ShowRepository showRepository;
+    private EventRepository eventRepository;
+    private ShowService showService;
+    private EventService eventService;
+    private ShowMapper showMapper;
+    private EventMapper eventMapper;
+
+    /**
+     * Counts the rows of the list requests, which JMH reports per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(BackendApplication.class);
+        application.setAdditionalProfiles("test");
+        context = application.run("--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        showRepository = context.getBean(ShowRepository.class);
+        eventRepository = context.getBean(EventRepository.class);
+        showService = context.getBean(ShowService.class);
+        eventService = context.getBean(EventService.class);
+        showMapper = context.getBean(ShowMapper.class);
+        eventMapper = context.getBean(EventMapper.class);
+
+        ArtistRepository artistRepository = context.getBean(ArtistRepository.class);
+        List<Artist> artists = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            artists.add(artistRepository.save(Artist.ArtistBuilder.anArtist()
+                .withName("Artist " + i)
+                .withSummary("Summary")
+                .withText(TEXT)
+                .build()));
+        }
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < shows / 10; i++) {
+            Event event = new Event();
+            event.setName("Event " + i);
+            event.setSummary("Summary");
+            event.setText(TEXT);
+            event.setType("Concert");
+            event.setDurationFrom(LocalDate.now());
+            event.setDurationTo(LocalDate.now().plusYears(1));
+            event.setSoldSeats(i);
+            events.add(eventRepository.save(event));
+        }
+        List<Show> all = new ArrayList<>(shows);
+        for (int i = 0; i < shows; i++) {
+            Show show = Show.ShowBuilder.aShow()
+                .withName("Show " + i)
+                .withDate(LocalDate.now().plusDays(1 + i % 300))
+                .withTime(LocalTime.of(20, 0))
+                .withDuration(120)
+                .withEventType("Concert")
+                .withCapacity(1000)
+                .withSoldSeats(0)
+                .withSummary("Summary")
+                .withText(TEXT)
+                .build();
+            show.setArtists(Set.of(artists.get(i % artists.size()), artists.get((i + 1) % artists.size())));
+            show.setEvent(events.get(i % events.size()));
+            all.add(show);
+        }
+        showRepository.saveAll(all);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<SimpleShowDto> showsFromEntities(Rows rows) {
+        List<SimpleShowDto> list = readOnly.execute(
+            status -> showMapper.showToSimpleShowDto(showRepository.findAllByOrderByDateAscTimeAsc()));
+        rows.rows += list.size();
+        return list;
+    }
+
+    @Benchmark
+    public List<SimpleShowDto> showsFromProjection(Rows rows) {
+        List<SimpleShowDto> list = showMapper.showListItemToSimpleShowDto(showService.findAllListItems());
+        rows.rows += list.size();
+        return list;
+    }
+
+    @Benchmark
+    public List<SimpleEventDto> eventsFromEntities(Rows rows) {
+        List<SimpleEventDto> list = readOnly.execute(
+            status -> eventMapper.eventToSimpleEventDto(eventRepository.findAllByOrderBySoldSeatsDesc()));
+        rows.rows += list.size();
+        return list;
+    }
+
+    @Benchmark
+    public List<SimpleEventDto> eventsFromProjection(Rows rows) {
+        List<SimpleEventDto> list = eventMapper.eventListItemToSimpleEventDto(eventService.findAllListItems());
+        rows.rows += list.size();
+        return list;
+    }
+}
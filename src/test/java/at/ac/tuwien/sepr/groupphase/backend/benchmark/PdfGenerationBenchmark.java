@@ -0,0 +1,81 @@
+package at.ac.tuwien.sepr.groupphase.backend.benchmark;
+
+import at.ac.tuwien.sepr.groupphase.backend.basetest.TestData;
+import at.ac.tuwien.sepr.groupphase.backend.config.CompanyConfig;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Order;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.PdfGenerationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many invoices are rendered per second for orders of different sizes.
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark=PdfGenerationBenchmark}; the gc profiler of the
+ * benchmark profile reports the bytes allocated per PDF as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfGenerationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int tickets;
+
+    private PdfGenerationServiceImpl pdfGenerationService;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        CompanyConfig companyConfig = new CompanyConfig();
+        companyConfig.setName("Ticketline GmbH");
+        companyConfig.setStreet("Karlsplatz 13");
+        companyConfig.setPostalCode("1040");
+        companyConfig.setCity("Vienna");
+        companyConfig.setCountry("Austria");
+        companyConfig.setUid("ATU12345678");
+        companyConfig.setVatRate(20);
+        pdfGenerationService = new PdfGenerationServiceImpl(companyConfig, 1, new SimpleMeterRegistry());
+
+        List<Ticket> orderTickets = new ArrayList<>(tickets);
+        for (int i = 0; i < tickets; i++) {
+            orderTickets.add(TestData.createTestTicket());
+        }
+        order = Order.OrderBuilder.anOrder()
+            .withId(1L)
+            .withTotal(orderTickets.stream().mapToDouble(Ticket::getPrice).sum())
+            .withOrderDate(LocalDateTime.now())
+            .withTickets(orderTickets)
+            .withUser(orderTickets.getFirst().getUser())
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pdfGenerationService.shutdown();
+    }
+
+    @Benchmark
+    public void orderPdf() throws Exception {
+        pdfGenerationService.generateOrderPdf(order, OutputStream.nullOutputStream());
+    }
+}
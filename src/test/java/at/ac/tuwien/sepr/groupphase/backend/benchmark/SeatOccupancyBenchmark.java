@@ -0,0 +1,103 @@
+package at.ac.tuwien.sepr.groupphase.backend.benchmark;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.OccupiedSeat;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.OccupancyVersions;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleSeatOccupancyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the seat conflict check of ticket creation: scanning all tickets, as done by loading
+ * the whole ticket table, against a lookup in the per-show seat occupancy index.
+ * The scan is measured in memory only, so the real cost of the old path is even higher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatOccupancyBenchmark {
+
+    private static final int SEATS_PER_SHOW = 5_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int tickets;
+
+    private List<Ticket> allTickets;
+    private SimpleSeatOccupancyService seatOccupancyService;
+    private int shows;
+
+    @Setup
+    public void setUp() {
+        shows = Math.max(1, tickets / SEATS_PER_SHOW);
+        allTickets = new ArrayList<>(tickets);
+        List<OccupiedSeat> occupiedSeats = new ArrayList<>(tickets);
+        for (int i = 0; i < tickets; i++) {
+            long showId = i / SEATS_PER_SHOW + 1;
+            long seatId = showId * SEATS_PER_SHOW + i % SEATS_PER_SHOW;
+
+            Show show = new Show();
+            show.setId(showId);
+            Seat seat = new Seat();
+            seat.setSeatId(seatId);
+            Ticket ticket = new Ticket();
+            ticket.setShow(show);
+            ticket.setSeat(seat);
+            ticket.setPurchased(true);
+            allTickets.add(ticket);
+            occupiedSeats.add(new OccupiedSeat(showId, seatId));
+        }
+
+        TicketRepository ticketRepository = mock(TicketRepository.class);
+        when(ticketRepository.findOccupiedSeatsOfUpcomingShows()).thenReturn(occupiedSeats);
+        seatOccupancyService = new SimpleSeatOccupancyService(ticketRepository, new OccupancyVersions());
+        seatOccupancyService.rebuild();
+    }
+
+    @Benchmark
+    public boolean scanAllTickets() {
+        long showId = randomShowId();
+        long seatId = randomSeatId(showId);
+        return allTickets.stream()
+            .anyMatch(t -> t.getSeat() != null
+                && t.getSeat().getSeatId().equals(seatId)
+                && t.getShow().getId().equals(showId)
+                && (t.getInCart() || t.getReserved() || t.getPurchased()));
+    }
+
+    @Benchmark
+    public boolean occupancyIndex() {
+        long showId = randomShowId();
+        return seatOccupancyService.isOccupied(showId, randomSeatId(showId));
+    }
+
+    private long randomShowId() {
+        return ThreadLocalRandom.current().nextInt(shows) + 1;
+    }
+
+    private long randomSeatId(long showId) {
+        return showId * SEATS_PER_SHOW + ThreadLocalRandom.current().nextInt(SEATS_PER_SHOW);
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.core.io.ClassPathResource;
 import java.nio.file.Files;
@@ -35,6 +36,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -166,18 +168,28 @@ public class ArtistEndpointTest implements TestData {
 
         artist1 = artistRepository.save(artist1);
         artist2 = artistRepository.save(artist2);
+        // the list is streamed within a transaction of its own, which only sees committed artists
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
 
         // Act & Assert
-        MvcResult mvcResult = mockMvc.perform(get("/api/v1/artists")
-                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES)))
-            .andDo(print())
-            .andExpect(status().isOk())
-            .andExpect(jsonPath("$", hasSize(2)))
-            .andExpect(jsonPath("$[0].id").value(artist1.getId()))
-            .andExpect(jsonPath("$[0].name").value("Test Artist 1"))
-            .andExpect(jsonPath("$[1].id").value(artist2.getId()))
-            .andExpect(jsonPath("$[1].name").value("Test Artist 2"))
-            .andReturn();
+        try {
+            MvcResult mvcResult = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/artists")
+                    .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES))).andReturn()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(artist1.getId()))
+                .andExpect(jsonPath("$[0].name").value("Test Artist 1"))
+                .andExpect(jsonPath("$[1].id").value(artist2.getId()))
+                .andExpect(jsonPath("$[1].name").value("Test Artist 2"))
+                .andReturn();
+        } finally {
+            TestTransaction.start();
+            artistRepository.deleteAll();
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
     }
 
     @Test
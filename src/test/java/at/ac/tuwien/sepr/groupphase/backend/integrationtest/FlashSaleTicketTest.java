@@ -0,0 +1,272 @@
+package at.ac.tuwien.sepr.groupphase.backend.integrationtest;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.ApplicationUser;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Venue;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.SeatRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.SectorRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.VenueRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatOccupancyService;
+import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the real database without a surrounding test transaction,
+ * since the unique key on (show, seat, active) only bites on committed rows of concurrent transactions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class FlashSaleTicketTest {
+
+    private static final int SEATS = 100;
+    private static final int CLAIMERS = 1000;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private SeatOccupancyService seatOccupancyService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private HallRepository hallRepository;
+
+    @Autowired
+    private SectorRepository sectorRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    private ApplicationUser user;
+    private Venue venue;
+    private Hall hall;
+    private Sector sector;
+    private Show show;
+    private List<Seat> seats;
+
+    @BeforeEach
+    public void beforeEach() {
+        user = new ApplicationUser();
+        user.setEmail("flash@email.com");
+        user.setPassword("password");
+        user.setFirstName("Flash");
+        user.setLastName("Sale");
+        user.setAdmin(false);
+        user = userRepository.save(user);
+
+        venue = new Venue();
+        venue.setName("Flash Venue");
+        venue.setCity("Vienna");
+        venue.setCounty("Vienna");
+        venue.setPostalCode("1040");
+        venue.setStreet("Karlsplatz 13");
+        venue = venueRepository.save(venue);
+
+        hall = new Hall();
+        hall.setName("Flash Hall");
+        hall.setVenue(venue);
+        hall.setCapacity(SEATS);
+        hall.setCanvasHeight(800);
+        hall.setCanvasWidth(1200);
+        hall = hallRepository.save(hall);
+
+        sector = new Sector();
+        sector.setSectorName("Flash Sector");
+        sector.setHall(hall);
+        sector.setPrice(1L);
+        sector.setRows(10);
+        sector.setColumns(10);
+        sector = sectorRepository.save(sector);
+
+        seats = new ArrayList<>();
+        for (int i = 0; i < SEATS; i++) {
+            Seat seat = new Seat();
+            seat.setSector(sector);
+            seat.setRowSeat(i / 10 + 1);
+            seat.setColumnSeat(i % 10 + 1);
+            seat.setPositionX(i % 10);
+            seat.setPositionY(i / 10);
+            seats.add(seat);
+        }
+        seats = seatRepository.saveAll(seats);
+
+        show = new Show();
+        show.setName("Flash Show");
+        show.setDate(LocalDate.now().plusDays(1));
+        show.setTime(LocalTime.of(20, 0));
+        show.setEventType("Concert");
+        show.setDuration(120);
+        show.setCapacity(SEATS);
+        show.setSoldSeats(0);
+        show.setSummary("Flash Summary");
+        show.setText("Flash Text");
+        show.setVenue(venue);
+        show.setHall(hall);
+        show.setFlashSale(true);
+        show = showRepository.save(show);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        ticketRepository.deleteAll();
+        showRepository.deleteById(show.getId());
+        seatRepository.deleteAll(seats);
+        sectorRepository.deleteById(sector.getId());
+        hallRepository.deleteById(hall.getId());
+        venueRepository.deleteById(venue.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    public void givenActiveTicketForSeat_whenSaveSecondActiveTicketForSameSeat_thenUniqueKeyIsViolated() {
+        ticketRepository.saveAndFlush(ticketFor(seats.getFirst()));
+
+        assertThrows(DataIntegrityViolationException.class,
+            () -> ticketRepository.saveAndFlush(ticketFor(seats.getFirst())));
+    }
+
+    @Test
+    public void givenReleasedTicketsForSeat_whenSaveActiveTicketForSameSeat_thenSucceeds() {
+        for (int i = 0; i < 2; i++) {
+            Ticket released = ticketFor(seats.getFirst());
+            released.setInCart(false);
+            ticketRepository.saveAndFlush(released);
+        }
+
+        assertDoesNotThrow(() -> ticketRepository.saveAndFlush(ticketFor(seats.getFirst())));
+    }
+
+    @Test
+    public void givenSeatTakenBehindTheIndex_whenCreateTicket_thenConflictFromUniqueKey() {
+        Seat seat = seats.getFirst();
+        // load the index first, then take the seat the way another instance would
+        assertFalse(seatOccupancyService.isOccupied(show.getId(), seat.getSeatId()));
+        ticketRepository.saveAndFlush(ticketFor(seat));
+
+        assertThrows(ConflictException.class, () -> ticketService.createTickets(List.of(ticketFor(seat))));
+        assertEquals(1, ticketRepository.count());
+    }
+
+    @Test
+    public void givenSeatMarkedInTheIndexOnly_whenCreateFlashSaleTicket_thenOnlyTheUniqueKeyDecides() throws ConflictException {
+        Seat seat = seats.getFirst();
+        assertTrue(seatOccupancyService.tryClaim(show.getId(), seat.getSeatId()));
+
+        ticketService.createTickets(List.of(ticketFor(seat)));
+
+        assertEquals(1, ticketRepository.count());
+    }
+
+    @Test
+    public void givenUnknownSeat_whenCreateFlashSaleTicket_thenNotFound() {
+        Seat unknown = new Seat();
+        unknown.setSeatId(-1L);
+
+        assertThrows(NotFoundException.class,
+            () -> ticketService.createTickets(List.of(ticketFor(seats.getFirst()), ticketFor(unknown))));
+        assertEquals(0, ticketRepository.count());
+    }
+
+    @Test
+    public void givenRegularShowAndSeatTakenBehindTheIndex_whenCreateTicket_thenConflictFromUniqueKey() {
+        show.setFlashSale(false);
+        show = showRepository.save(show);
+        Seat seat = seats.getFirst();
+        assertFalse(seatOccupancyService.isOccupied(show.getId(), seat.getSeatId()));
+        ticketRepository.saveAndFlush(ticketFor(seat));
+
+        assertThrows(ConflictException.class, () -> ticketService.createTickets(List.of(ticketFor(seat))));
+        assertEquals(1, ticketRepository.count());
+    }
+
+    @Test
+    public void givenThousandClaimersForHundredSeats_whenCreateTicketsConcurrently_thenEverySeatIsSoldExactlyOnce()
+        throws InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Throwable> failures = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLAIMERS; i++) {
+                Seat seat = seats.get(i % SEATS);
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        ticketService.createTickets(List.of(ticketFor(seat)));
+                        created.incrementAndGet();
+                    } catch (ConflictException e) {
+                        conflicts.incrementAndGet();
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertAll(
+            () -> assertEquals(List.of(), failures),
+            () -> assertEquals(SEATS, created.get()),
+            () -> assertEquals(CLAIMERS - SEATS, conflicts.get())
+        );
+        Map<Long, Long> ticketsPerSeat = ticketRepository.findAll().stream()
+            .collect(Collectors.groupingBy(t -> t.getSeat().getSeatId(), Collectors.counting()));
+        assertEquals(seats.stream().collect(Collectors.toMap(Seat::getSeatId, s -> 1L)), ticketsPerSeat);
+        assertEquals(SEATS, showRepository.findById(show.getId()).orElseThrow().getSoldSeats());
+    }
+
+    private Ticket ticketFor(Seat seat) {
+        return Ticket.TicketBuilder.aTicket()
+            .withTicketType("REGULAR")
+            .withPrice(10.0)
+            .withShow(show)
+            .withSeat(seat)
+            .withUser(user)
+            .withInCart(true)
+            .build();
+    }
+}
@@ -3,8 +3,12 @@ package at.ac.tuwien.sepr.groupphase.backend.integrationtest;
 import at.ac.tuwien.sepr.groupphase.backend.config.properties.SecurityProperties;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.HallDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.HallInquiryDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatMapLayoutDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.StageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SectorDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
 import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
 import at.ac.tuwien.sepr.groupphase.backend.security.JwtTokenizer;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -259,6 +263,52 @@ public class HallEndpointTest {
         assertEquals(HttpStatus.NOT_FOUND.value(), mvcResult.getResponse().getStatus());
     }
 
+    @Test
+    public void givenHallWithSeats_whenGetLayout_thenSeatArraysAndVersionTagThatAnswers304() throws Exception {
+        Hall hall = new Hall();
+        hall.setName("Seat Map Hall");
+        hall.setCapacity(3);
+        hall.setCanvasWidth(100);
+        hall.setCanvasHeight(100);
+        Sector sector = new Sector();
+        sector.setSectorName("1");
+        sector.setRows(1);
+        sector.setColumns(3);
+        sector.setPrice(50L);
+        for (int column = 1; column <= 3; column++) {
+            Seat seat = new Seat();
+            seat.setRowSeat(1);
+            seat.setColumnSeat(column);
+            seat.setPositionX(column * 20);
+            seat.setPositionY(10);
+            seat.setSector(sector);
+            sector.getSeats().add(seat);
+        }
+        hall.addSector(sector);
+        hall = hallRepository.save(hall);
+
+        MockHttpServletResponse response = this.mockMvc.perform(get(HALL_BASE_URI + "/{id}/layout", hall.getId())
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES)))
+            .andReturn().getResponse();
+        SeatMapLayoutDto layout = objectMapper.readValue(response.getContentAsString(), SeatMapLayoutDto.class);
+        String etag = response.getHeader("ETag");
+
+        MockHttpServletResponse revalidated = this.mockMvc.perform(get(HALL_BASE_URI + "/{id}/layout", hall.getId())
+                .header("If-None-Match", etag)
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES)))
+            .andReturn().getResponse();
+
+        assertAll(
+            () -> assertEquals(HttpStatus.OK.value(), response.getStatus()),
+            () -> assertEquals(0, layout.version()),
+            () -> assertEquals(1, layout.sectors().size()),
+            () -> assertArrayEquals(new int[] {1, 2, 3}, layout.sectors().getFirst().seatColumns()),
+            () -> assertArrayEquals(new int[] {20, 40, 60}, layout.sectors().getFirst().positionsX()),
+            () -> assertNotNull(etag),
+            () -> assertEquals(HttpStatus.NOT_MODIFIED.value(), revalidated.getStatus())
+        );
+    }
+
     @Test
     public void givenNoAuth_whenAccess_thenUnauthorized() throws Exception {
         MvcResult mvcResult = this.mockMvc.perform(get(HALL_BASE_URI))
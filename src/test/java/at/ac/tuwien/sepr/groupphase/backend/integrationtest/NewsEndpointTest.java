@@ -81,8 +81,8 @@ public class NewsEndpointTest implements TestData {
 
     @Test
     public void givenNothing_whenFindAll_thenEmptyList() throws Exception {
-        MvcResult mvcResult = this.mockMvc.perform(get(NEWS_BASE_URI)
-            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES)))
+        MvcResult mvcResult = this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(get(NEWS_BASE_URI)
+            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES))).andReturn()))
             .andDo(print())
             .andReturn();
         MockHttpServletResponse response = mvcResult.getResponse();
@@ -101,8 +101,8 @@ public class NewsEndpointTest implements TestData {
         throws Exception {
         newsRepository.save(news);
 
-        MvcResult mvcResult = this.mockMvc.perform(get(NEWS_BASE_URI)
-            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES)))
+        MvcResult mvcResult = this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(get(NEWS_BASE_URI)
+            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES))).andReturn()))
             .andDo(print())
             .andReturn();
         MockHttpServletResponse response = mvcResult.getResponse();
@@ -123,6 +123,46 @@ public class NewsEndpointTest implements TestData {
         );
     }
 
+    @Test
+    public void givenThreeNews_whenFindAllWithLimit_thenNewestFirstInPages() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            newsRepository.save(News.NewsBuilder.aNews()
+                .withTitle("News " + i)
+                .withSummary(TEST_NEWS_SUMMARY)
+                .withText(TEST_NEWS_TEXT)
+                .withPublishedAt(TEST_NEWS_PUBLISHED_AT.plusDays(i))
+                .withImagePaths("")
+                .build());
+        }
+
+        MockHttpServletResponse first = this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(get(NEWS_BASE_URI).param("limit", "2")
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES))).andReturn()))
+            .andReturn().getResponse();
+        MockHttpServletResponse second = this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(get(NEWS_BASE_URI).param("limit", "2")
+                .param("cursor", first.getHeader("X-Next-Cursor"))
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES))).andReturn()))
+            .andReturn().getResponse();
+
+        assertAll(
+            () -> assertEquals(HttpStatus.OK.value(), first.getStatus()),
+            () -> assertEquals(List.of("News 2", "News 1"), Arrays.stream(objectMapper.readValue(
+                first.getContentAsString(), SimpleNewsDto[].class)).map(SimpleNewsDto::getTitle).toList()),
+            () -> assertEquals(List.of("News 0"), Arrays.stream(objectMapper.readValue(
+                second.getContentAsString(), SimpleNewsDto[].class)).map(SimpleNewsDto::getTitle).toList()),
+            () -> assertNull(second.getHeader("X-Next-Cursor"))
+        );
+    }
+
+    @Test
+    public void givenForeignCursor_whenFindAll_then422() throws Exception {
+        MockHttpServletResponse response = this.mockMvc.perform(get(NEWS_BASE_URI).param("limit", "2")
+                .param("cursor", "bm90IGEgY3Vyc29y")
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES)))
+            .andReturn().getResponse();
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), response.getStatus());
+    }
+
     @Test
     public void givenOneMessage_whenFindById_thenMessageWithAllProperties() throws Exception {
         newsRepository.save(news);
@@ -22,6 +22,7 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.SectorRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.SeatRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ShowSectorRepository;
 import at.ac.tuwien.sepr.groupphase.backend.security.JwtTokenizer;
+import at.ac.tuwien.sepr.groupphase.backend.service.InvoiceService;
 import at.ac.tuwien.sepr.groupphase.backend.service.StripeService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -50,6 +51,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.anyDouble;
@@ -101,6 +103,9 @@ public class OrderEndpointTest implements TestData {
     @Autowired
     private ShowSectorRepository showSectorRepository;
 
+    @Autowired
+    private InvoiceService invoiceService;
+
     @MockBean
     private StripeService stripeService;
 
@@ -335,6 +340,15 @@ public class OrderEndpointTest implements TestData {
 
         OrderDto createdOrder = objectMapper.readValue(createResult.getResponse().getContentAsString(), OrderDto.class);
 
+        // The invoice is rendered in the background, so it is not ready right after the purchase
+        mockMvc.perform(get(ORDER_BASE_URI + "/" + createdOrder.getId() + "/pdf")
+                .param("userId", createdOrder.getUserId().toString())
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES)))
+            .andExpect(status().isAccepted())
+            .andExpect(header().exists("Retry-After"));
+
+        assertTrue(invoiceService.renderInvoice(createdOrder.getId()));
+
         mockMvc.perform(get(ORDER_BASE_URI + "/" + createdOrder.getId() + "/pdf")
                 .param("userId", createdOrder.getUserId().toString())
                 .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES)))
@@ -345,6 +359,44 @@ public class OrderEndpointTest implements TestData {
                 .contains("attachment; filename=\"order-" + createdOrder.getId() + ".pdf\"")));
     }
 
+    @Test
+    public void givenRenderedInvoice_whenGetOrderPdfConditionallyOrPartially_thenNotModifiedOrPartialContent() throws Exception {
+        MvcResult createResult = mockMvc.perform(post(ORDER_BASE_URI + "/purchase")
+                .content(objectMapper.writeValueAsString(testOrderDto))
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        OrderDto createdOrder = objectMapper.readValue(createResult.getResponse().getContentAsString(), OrderDto.class);
+        assertTrue(invoiceService.renderInvoice(createdOrder.getId()));
+        String pdfUri = ORDER_BASE_URI + "/" + createdOrder.getId() + "/pdf";
+
+        MvcResult fullResult = mockMvc.perform(get(pdfUri)
+                .param("userId", createdOrder.getUserId().toString())
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Accept-Ranges", "bytes"))
+            .andReturn();
+        String etag = fullResult.getResponse().getHeader("ETag");
+        byte[] pdf = fullResult.getResponse().getContentAsByteArray();
+        assertNotNull(etag);
+
+        mockMvc.perform(get(pdfUri)
+                .param("userId", createdOrder.getUserId().toString())
+                .header("If-None-Match", etag)
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES)))
+            .andExpect(status().isNotModified())
+            .andExpect(result -> assertEquals(0, result.getResponse().getContentAsByteArray().length));
+
+        mockMvc.perform(get(pdfUri)
+                .param("userId", createdOrder.getUserId().toString())
+                .header("Range", "bytes=0-4")
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES)))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string("Content-Range", "bytes 0-4/" + pdf.length))
+            .andExpect(result -> assertEquals("%PDF-", result.getResponse().getContentAsString()));
+    }
+
     @Test
     public void whenGetOrdersWithoutAuth_thenReturn403() throws Exception {
         mockMvc.perform(get(ORDER_BASE_URI + "/user/1"))
@@ -136,8 +136,8 @@ public class SecurityTest implements TestData {
 
     @Test
     public void givenUserLoggedIn_whenFindAll_then200() throws Exception {
-        MvcResult mvcResult = this.mockMvc.perform(get(NEWS_BASE_URI)
-            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES)))
+        MvcResult mvcResult = this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(get(NEWS_BASE_URI)
+            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES))).andReturn()))
             .andDo(print())
             .andReturn();
         MockHttpServletResponse response = mvcResult.getResponse();
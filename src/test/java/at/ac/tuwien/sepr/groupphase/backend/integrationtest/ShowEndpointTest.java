@@ -44,6 +44,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -526,8 +527,8 @@ public class ShowEndpointTest implements TestData {
         showRepository.save(show1);
         showRepository.save(show2);
 
-        MvcResult result = mockMvc.perform(get("/api/v1/shows")
-                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES)))
+        MvcResult result = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/shows")
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES))).andReturn()))
             .andDo(print())
             .andExpect(status().isOk())
             .andReturn();
@@ -538,6 +539,54 @@ public class ShowEndpointTest implements TestData {
         assertEquals(2, shows.size());
     }
 
+    @Test
+    public void findAllWithLimit_pagesThroughShowsByDateTimeAndId() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(1);
+        for (String name : List.of("Late Show", "Early Show", "Second Early Show")) {
+            showRepository.save(Show.ShowBuilder.aShow()
+                .withName(name)
+                .withDate(date)
+                .withTime(name.equals("Late Show") ? LocalTime.of(22, 0) : LocalTime.of(18, 0))
+                .withDuration(120)
+                .withEventType("CONCERT")
+                .withCapacity(100)
+                .withSoldSeats(0)
+                .withSummary("Summary")
+                .withText("Text")
+                .build());
+        }
+        // past shows are left out of the pages like they are left out of the full list
+        showRepository.save(Show.ShowBuilder.aShow()
+            .withName("Past Show")
+            .withDate(LocalDate.now().minusDays(1))
+            .withTime(LocalTime.of(18, 0))
+            .withDuration(120)
+            .withEventType("CONCERT")
+            .withCapacity(100)
+            .withSoldSeats(0)
+            .withSummary("Summary")
+            .withText("Text")
+            .build());
+
+        MvcResult first = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/shows").param("limit", "2")
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES))).andReturn()))
+            .andExpect(status().isOk())
+            .andReturn();
+        String cursor = first.getResponse().getHeader("X-Next-Cursor");
+        MvcResult second = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/shows").param("limit", "2").param("cursor", cursor)
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(DEFAULT_USER, USER_ROLES))).andReturn()))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertAll(
+            () -> assertEquals(List.of("Early Show", "Second Early Show"), Arrays.stream(objectMapper.readValue(
+                first.getResponse().getContentAsString(), SimpleShowDto[].class)).map(SimpleShowDto::getName).toList()),
+            () -> assertEquals(List.of("Late Show"), Arrays.stream(objectMapper.readValue(
+                second.getResponse().getContentAsString(), SimpleShowDto[].class)).map(SimpleShowDto::getName).toList()),
+            () -> assertNull(second.getResponse().getHeader("X-Next-Cursor"))
+        );
+    }
+
     @Test
     public void getShowsWithoutEvent_returnsShowsWithNoEvent() throws Exception {
         Show show = Show.ShowBuilder.aShow()
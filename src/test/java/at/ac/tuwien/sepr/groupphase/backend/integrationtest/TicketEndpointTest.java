@@ -18,21 +18,32 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
@@ -48,6 +59,9 @@ public class TicketEndpointTest implements TestData {
     @Autowired
     private TicketRepository ticketRepository;
 
+    @Autowired
+    private OrderRepository orderRepository;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -149,7 +163,7 @@ public class TicketEndpointTest implements TestData {
             .withSeatId(testSeat.getSeatId())
             .withStandingSectorId(null)  // Explicitly set standing sector to null
             .withPrice(10.0)
-            .withTicketType("Regular")
+            .withTicketType("REGULAR")
             .withPurchased(false)
             .withReserved(true)
             .withInCart(false)
@@ -162,27 +176,43 @@ public class TicketEndpointTest implements TestData {
     @Test
     public void givenValidTicket_whenCreateTicket_thenTicketCreated() throws Exception {
         String body = objectMapper.writeValueAsString(List.of(testTicketDto));
-
-        MvcResult mvcResult = mockMvc.perform(post("/api/v1/tickets/create")
-                .contentType(MediaType.APPLICATION_JSON)
-                .content(body)
-                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(testUser.getEmail(), USER_ROLES)))
-            .andDo(print())
-            .andExpect(status().isCreated())
-            .andReturn();
-
-        List<TicketDto> ticketDtos = objectMapper.readValue(
-            mvcResult.getResponse().getContentAsString(),
-            objectMapper.getTypeFactory().constructCollectionType(List.class, TicketDto.class)
-        );
-
-        assertEquals(1, ticketDtos.size());
-        TicketDto createdTicket = ticketDtos.get(0);
-        assertNotNull(createdTicket.getId());
-        assertEquals(testTicketDto.getShowId(), createdTicket.getShowId());
-        assertEquals(testTicketDto.getSeatId(), createdTicket.getSeatId());
-        assertEquals(testTicketDto.getPrice(), createdTicket.getPrice());
-        assertEquals(testTicketDto.getTicketType(), createdTicket.getTicketType());
+        // the tickets are created on a thread of the waiting room, which only sees committed rows
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            MvcResult mvcResult = mockMvc.perform(asyncDispatch(mockMvc.perform(post("/api/v1/tickets/create")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body)
+                    .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(testUser.getEmail(), USER_ROLES)))
+                .andExpect(request().asyncStarted())
+                .andReturn()))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andReturn();
+
+            List<TicketDto> ticketDtos = objectMapper.readValue(
+                mvcResult.getResponse().getContentAsString(),
+                objectMapper.getTypeFactory().constructCollectionType(List.class, TicketDto.class)
+            );
+
+            assertEquals(1, ticketDtos.size());
+            TicketDto createdTicket = ticketDtos.get(0);
+            assertNotNull(createdTicket.getId());
+            assertEquals(testTicketDto.getShowId(), createdTicket.getShowId());
+            assertEquals(testTicketDto.getSeatId(), createdTicket.getSeatId());
+            assertEquals(testTicketDto.getPrice(), createdTicket.getPrice());
+            assertEquals(testTicketDto.getTicketType(), createdTicket.getTicketType());
+        } finally {
+            TestTransaction.start();
+            ticketRepository.deleteAll();
+            showRepository.deleteById(testShow.getId());
+            hallRepository.deleteById(testShow.getHall().getId());
+            venueRepository.deleteById(testShow.getVenue().getId());
+            userRepository.deleteById(testUser.getId());
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
     }
 
     @Test
@@ -488,4 +518,82 @@ public class TicketEndpointTest implements TestData {
             .andExpect(result -> assertTrue(result.getResponse().getHeader("Content-Disposition")
                 .contains("attachment; filename=\"ticket-" + ticketId + ".pdf\"")));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenOrderWithTickets_whenGenerateOrderTicketsPdf_thenReturnOnePagePerTicket() throws Exception {
+        Order order = createOrderWithTickets(3);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/tickets/order/{orderId}/pdf", order.getId())
+                .param("userId", testUser.getId().toString())
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(testUser.getEmail(), USER_ROLES)))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertEquals("application/pdf", mvcResult.getResponse().getContentType());
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(mvcResult.getResponse().getContentAsByteArray())))) {
+            assertEquals(3, pdf.getNumberOfPages());
+        }
+    }
+
+    @Test
+    public void givenOrderWithTickets_whenGenerateOrderTicketsZip_thenReturnOnePdfPerTicketInOrder() throws Exception {
+        Order order = createOrderWithTickets(3);
+        List<String> expectedEntries = ticketRepository.findByOrderId(order.getId()).stream()
+            .sorted(Comparator.comparing(Ticket::getId))
+            .map(ticket -> "ticket-" + ticket.getId() + ".pdf")
+            .toList();
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/tickets/order/{orderId}/zip", order.getId())
+                .param("userId", testUser.getId().toString())
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(testUser.getEmail(), USER_ROLES)))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertEquals("application/zip", mvcResult.getResponse().getContentType());
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(mvcResult.getResponse().getContentAsByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+                assertTrue(new String(zip.readAllBytes(), 0, 5).startsWith("%PDF-"));
+            }
+        }
+        assertEquals(expectedEntries, entries);
+    }
+
+    @Test
+    public void givenOrderOfOtherUser_whenGenerateOrderTicketsPdf_thenConflict() throws Exception {
+        Order order = createOrderWithTickets(1);
+
+        mockMvc.perform(get("/api/v1/tickets/order/{orderId}/pdf", order.getId())
+                .param("userId", String.valueOf(testUser.getId() + 1))
+                .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(testUser.getEmail(), USER_ROLES)))
+            .andExpect(status().isConflict());
+    }
+
+    private Order createOrderWithTickets(int count) {
+        Order order = Order.OrderBuilder.anOrder()
+            .withTotal(10.0 * count)
+            .withOrderDate(LocalDateTime.now())
+            .withUser(testUser)
+            .withPaymentIntentId("pi_bundle")
+            .build();
+        order = orderRepository.save(order);
+
+        for (int i = 0; i < count; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setUser(testUser);
+            ticket.setShow(testShow);
+            // only the first ticket gets the seat, the unique key allows one active ticket per seat
+            ticket.setSeat(i == 0 ? testSeat : null);
+            ticket.setPrice(10.0);
+            ticket.setTicketType("REGULAR");
+            ticket.setPurchased(true);
+            ticket.setReserved(false);
+            ticket.setInCart(false);
+            ticket.setDate(LocalDateTime.now());
+            ticket.setOrder(order);
+            ticketRepository.save(ticket);
+        }
+        return order;
+    }
+}
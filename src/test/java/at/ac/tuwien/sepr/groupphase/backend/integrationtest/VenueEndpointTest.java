@@ -2,6 +2,7 @@ package at.ac.tuwien.sepr.groupphase.backend.integrationtest;
 
 import at.ac.tuwien.sepr.groupphase.backend.config.properties.SecurityProperties;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.VenueImportResultDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Venue;
 import at.ac.tuwien.sepr.groupphase.backend.repository.VenueRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
@@ -21,6 +22,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -69,8 +71,8 @@ public class VenueEndpointTest {
 
     @Test
     public void givenNothing_whenFindAll_thenEmptyList() throws Exception {
-        MvcResult mvcResult = this.mockMvc.perform(get(VENUE_BASE_URI)
-            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES)))
+        MvcResult mvcResult = this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(get(VENUE_BASE_URI)
+            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES))).andReturn()))
             .andDo(print())
             .andReturn();
         MockHttpServletResponse response = mvcResult.getResponse();
@@ -84,6 +86,31 @@ public class VenueEndpointTest {
         assertEquals(0, venueDtos.size());
     }
 
+    @Test
+    public void givenMoreVenuesThanWrittenBetweenSessionClears_whenFindAll_thenAllWithTheirHalls() throws Exception {
+        List<Venue> venues = new ArrayList<>();
+        for (long i = 1; i <= 150; i++) {
+            Venue venue = venueOf("Venue " + i, "Street " + i);
+            venue.setHallIds(new ArrayList<>(List.of(i, i + 1000)));
+            venues.add(venue);
+        }
+        venueRepository.saveAll(venues);
+
+        MvcResult mvcResult = this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(get(VENUE_BASE_URI)
+            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES))).andReturn()))
+            .andReturn();
+        MockHttpServletResponse response = mvcResult.getResponse();
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        List<VenueDto> venueDtos = Arrays.asList(objectMapper.readValue(response.getContentAsString(),
+            VenueDto[].class));
+        assertEquals(150, venueDtos.size());
+        for (VenueDto venueDto : venueDtos) {
+            long number = Long.parseLong(venueDto.name().substring("Venue ".length()));
+            assertEquals(List.of(number, number + 1000), venueDto.hallIds());
+        }
+    }
+
     @Test
     public void givenValidVenue_whenCreate_thenCreated() throws Exception {
         // Arrange
@@ -112,6 +139,61 @@ public class VenueEndpointTest {
         );
     }
 
+    @Test
+    public void givenVenueWithOtherCasing_whenCreate_thenConflict() throws Exception {
+        venueRepository.save(venueOf("Test Venue", "123 Street"));
+        VenueDto duplicate = new VenueDto(null, " test  VENUE", "123 street ", "City", "County", "12345", List.of());
+
+        MvcResult mvcResult = this.mockMvc.perform(post(VENUE_BASE_URI)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(duplicate))
+            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES)))
+            .andReturn();
+
+        assertEquals(HttpStatus.CONFLICT.value(), mvcResult.getResponse().getStatus());
+        assertEquals(1, venueRepository.count());
+    }
+
+    @Test
+    public void givenCsvWithDuplicateAndInvalidVenue_whenImport_thenOthersImportedAndFailuresReported() throws Exception {
+        venueRepository.save(venueOf("Stadthalle", "Vogelweidplatz 14"));
+        String csv = """
+            name,street,city,county,postalCode,hallName,hallCapacity,canvasWidth,canvasHeight
+            Konzerthaus,Lothringerstrasse 20,Wien,Wien,1030,Grosser Saal,1800,800,600
+            Konzerthaus,Lothringerstrasse 20,Wien,Wien,1030,Mozart-Saal,700,600,400
+            "Arena, Open Air",Baumgasse 80,Wien,Wien,1030,,,,
+            STADTHALLE,vogelweidplatz 14,Wien,Wien,1150,,,,
+            Gasometer,Guglgasse 8,Wien,Wien,abc,,,,
+            """;
+
+        MvcResult mvcResult = this.mockMvc.perform(post(VENUE_BASE_URI + "/import")
+            .contentType("text/csv")
+            .content(csv)
+            .header(securityProperties.getAuthHeader(), jwtTokenizer.getAuthToken(ADMIN_USER, ADMIN_ROLES)))
+            .andReturn();
+
+        MockHttpServletResponse response = mvcResult.getResponse();
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        VenueImportResultDto result = objectMapper.readValue(response.getContentAsString(), VenueImportResultDto.class);
+        assertAll(
+            () -> assertEquals(2, result.imported()),
+            () -> assertEquals(2, result.failed()),
+            () -> assertEquals(List.of(4L, 5L), result.errors().stream().map(VenueImportResultDto.RowError::row).toList()),
+            () -> assertEquals(3, venueRepository.count()),
+            () -> assertEquals(2, hallRepository.count())
+        );
+    }
+
+    private static Venue venueOf(String name, String street) {
+        Venue venue = new Venue();
+        venue.setName(name);
+        venue.setStreet(street);
+        venue.setCity("Wien");
+        venue.setCounty("Wien");
+        venue.setPostalCode("1150");
+        return venue;
+    }
+
     @Test
     public void givenNonExistingVenue_whenGetById_thenNotFound() throws Exception {
         MvcResult mvcResult = this.mockMvc.perform(get(VENUE_BASE_URI + "/{id}", 999)
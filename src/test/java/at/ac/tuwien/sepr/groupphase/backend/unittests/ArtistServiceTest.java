@@ -5,12 +5,14 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.SearchIndex;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleArtistService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -32,11 +34,17 @@ class ArtistServiceTest implements TestData {
     @Mock
     private ArtistRepository artistRepository;
 
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private SimpleArtistService artistService;
 
     @BeforeEach
     void setUp() {
-        artistService = new SimpleArtistService(artistRepository, "/images", "/images/");
+        artistService = new SimpleArtistService(artistRepository, "/images", "/images/", searchIndex, eventPublisher);
     }
 
     @Test
@@ -0,0 +1,167 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.entity.StandingSector;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.CartHold;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowCartCount;
+import at.ac.tuwien.sepr.groupphase.backend.service.SeatOccupancyService;
+import at.ac.tuwien.sepr.groupphase.backend.service.SoldSeatsCounter;
+import at.ac.tuwien.sepr.groupphase.backend.service.StandingCapacityService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleCartHoldExpiryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartHoldExpiryServiceTest {
+
+    private static final Duration HOLD_TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private SeatOccupancyService seatOccupancyService;
+    @Mock
+    private StandingCapacityService standingCapacityService;
+    @Mock
+    private SoldSeatsCounter soldSeatsCounter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SimpleCartHoldExpiryService cartHoldExpiryService;
+    private Show show;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cartHoldExpiryService = new SimpleCartHoldExpiryService(ticketRepository, seatOccupancyService,
+            standingCapacityService, soldSeatsCounter, meterRegistry, HOLD_TTL);
+        show = new Show();
+        show.setId(1L);
+    }
+
+    private Ticket cartTicket(Long id, LocalDateTime date) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setShow(show);
+        ticket.setInCart(true);
+        ticket.setDate(date);
+        return ticket;
+    }
+
+    @Test
+    void givenExpiredHolds_whenExpireHolds_thenTicketsAreDeletedAndCountersReleased() {
+        LocalDateTime longAgo = LocalDateTime.now().minusMinutes(30);
+        Ticket seated = cartTicket(1L, longAgo);
+        Seat seat = new Seat();
+        seat.setSeatId(10L);
+        seated.setSeat(seat);
+        Ticket standing = cartTicket(2L, longAgo);
+        StandingSector sector = new StandingSector();
+        sector.setId(20L);
+        standing.setStandingSector(sector);
+        cartHoldExpiryService.hold(1L, longAgo);
+        cartHoldExpiryService.hold(2L, longAgo);
+        when(ticketRepository.findExpiredCartTickets(eq(List.of(1L, 2L)), any())).thenReturn(List.of(seated, standing));
+
+        assertEquals(2, cartHoldExpiryService.expireHolds());
+
+        verify(seatOccupancyService).release(1L, 10L);
+        verify(standingCapacityService).release(1L, 20L, 1);
+        verify(soldSeatsCounter, times(2)).add(show, -1);
+        verify(ticketRepository).deleteAllInBatch(List.of(seated, standing));
+        assertEquals(2, meterRegistry.get("cart.holds.expired").counter().count());
+    }
+
+    @Test
+    void givenHoldsNotYetDue_whenExpireHolds_thenNothingIsQueried() {
+        cartHoldExpiryService.hold(1L, LocalDateTime.now());
+
+        assertEquals(0, cartHoldExpiryService.expireHolds());
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void givenTicketBoughtSinceHold_whenExpireHolds_thenNothingIsReleased() {
+        cartHoldExpiryService.hold(1L, LocalDateTime.now().minusMinutes(30));
+        when(ticketRepository.findExpiredCartTickets(anyCollection(), any())).thenReturn(List.of());
+
+        assertEquals(0, cartHoldExpiryService.expireHolds());
+        verifyNoInteractions(seatOccupancyService, standingCapacityService, soldSeatsCounter);
+    }
+
+    @Test
+    void givenManyExpiredHolds_whenExpireHolds_thenTicketsAreQueriedInBatches() {
+        LocalDateTime longAgo = LocalDateTime.now().minusMinutes(30);
+        for (long id = 1; id <= 1200; id++) {
+            cartHoldExpiryService.hold(id, longAgo);
+        }
+        when(ticketRepository.findExpiredCartTickets(anyCollection(), any())).thenReturn(List.of());
+
+        cartHoldExpiryService.expireHolds();
+
+        verify(ticketRepository, times(3)).findExpiredCartTickets(anyCollection(), any());
+    }
+
+    @Test
+    void givenStoredCartTickets_whenRebuild_thenExpiredOnesAreReleased() {
+        List<CartHold> holds = new ArrayList<>();
+        holds.add(new CartHold(1L, LocalDateTime.now().minusMinutes(30)));
+        holds.add(new CartHold(2L, LocalDateTime.now()));
+        when(ticketRepository.findCartHolds()).thenReturn(holds);
+        when(ticketRepository.findExpiredCartTickets(anyCollection(), any())).thenReturn(List.of());
+
+        cartHoldExpiryService.rebuild();
+        cartHoldExpiryService.expireHolds();
+
+        verify(ticketRepository).findExpiredCartTickets(eq(List.of(1L)), any());
+    }
+
+    @Test
+    void givenCartsOfShows_whenPublishActiveCarts_thenGaugePerShowFollowsTheCarts() {
+        List<ShowCartCount> carts = new ArrayList<>();
+        carts.add(new ShowCartCount(1L, 3L));
+        carts.add(new ShowCartCount(2L, 1L));
+        when(ticketRepository.countCartsByShow()).thenReturn(carts, carts.subList(0, 1));
+
+        cartHoldExpiryService.publishActiveCarts();
+
+        assertAll(
+            () -> assertEquals(3, meterRegistry.get("cart.active").tag("show", "1").gauge().value()),
+            () -> assertEquals(1, meterRegistry.get("cart.active").tag("show", "2").gauge().value())
+        );
+
+        cartHoldExpiryService.publishActiveCarts();
+
+        assertEquals(1, meterRegistry.get("cart.active").gauges().size());
+    }
+
+    @Test
+    void givenCartTickets_whenIsExpired_thenOnlyTicketsPastTheirHoldAreExpired() {
+        Ticket expired = cartTicket(1L, LocalDateTime.now().minusMinutes(11));
+        Ticket fresh = cartTicket(2L, LocalDateTime.now().minusMinutes(9));
+        Ticket reserved = cartTicket(3L, LocalDateTime.now().minusMinutes(30));
+        reserved.setInCart(false);
+        reserved.setReserved(true);
+
+        assertAll(
+            () -> assertTrue(cartHoldExpiryService.isExpired(expired)),
+            () -> assertFalse(cartHoldExpiryService.isExpired(fresh)),
+            () -> assertFalse(cartHoldExpiryService.isExpired(reserved))
+        );
+    }
+}
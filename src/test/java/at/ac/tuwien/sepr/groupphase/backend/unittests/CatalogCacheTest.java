@@ -0,0 +1,129 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleShowDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.EventMapper;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.ShowMapper;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventService;
+import at.ac.tuwien.sepr.groupphase.backend.service.ShowService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleCatalogCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogCacheTest {
+
+    @Mock
+    private ShowService showService;
+    @Mock
+    private EventService eventService;
+    @Mock
+    private ShowMapper showMapper;
+    @Mock
+    private EventMapper eventMapper;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SimpleCatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        catalogCache = new SimpleCatalogCache(showService, eventService, showMapper, eventMapper, meterRegistry,
+            true, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogCache.shutdown();
+    }
+
+    @Test
+    void givenLoadedShows_whenGetShowsAgain_thenServedFromCache() {
+        List<SimpleShowDto> shows = List.of(new SimpleShowDto());
+        when(showService.findAllListItems()).thenReturn(List.of(new ShowListItem(1L, "Show", null, null, null, null, null)));
+        when(showMapper.showListItemToSimpleShowDto(anyList())).thenReturn(shows);
+
+        assertEquals(shows, catalogCache.getShows());
+        assertEquals(shows, catalogCache.getShows());
+        assertEquals(shows, catalogCache.getShows());
+
+        verify(showService, times(1)).findAllListItems();
+        assertAll(
+            () -> assertEquals(2, meterRegistry.get("catalog.cache.gets").tags("catalog", "shows", "result", "hit").counter().count()),
+            () -> assertEquals(1, meterRegistry.get("catalog.cache.gets").tags("catalog", "shows", "result", "miss").counter().count()),
+            () -> assertEquals(2.0 / 3, meterRegistry.get("catalog.cache.hit.ratio").tag("catalog", "shows").gauge().value(), 1e-9),
+            () -> assertEquals(1, meterRegistry.get("catalog.cache.rebuild").tag("catalog", "shows").timer().count())
+        );
+    }
+
+    @Test
+    void givenChangedEvents_whenRefreshing_thenOldCopyIsServedUntilTheNewOneIsLoaded() throws Exception {
+        List<SimpleEventDto> before = List.of(new SimpleEventDto());
+        List<SimpleEventDto> after = List.of(new SimpleEventDto(), new SimpleEventDto());
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch finishRefresh = new CountDownLatch(1);
+        when(eventMapper.eventListItemToSimpleEventDto(anyList())).thenReturn(before).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            finishRefresh.await();
+            return after;
+        });
+        when(eventService.findAllListItems()).thenReturn(List.of(new EventListItem(1L, null, null, null, null, null, 0, null)));
+        assertEquals(before, catalogCache.getEvents());
+
+        catalogCache.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Catalog.EVENTS));
+        assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(before, catalogCache.getEvents());
+
+        finishRefresh.countDown();
+        for (int i = 0; i < 500 && !after.equals(catalogCache.getEvents()); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(after, catalogCache.getEvents());
+    }
+
+    @Test
+    void givenChangedShows_whenGetEvents_thenEventsAreNotLoadedAgain() throws Exception {
+        when(eventService.findAllListItems()).thenReturn(List.of());
+        when(eventMapper.eventListItemToSimpleEventDto(anyList())).thenReturn(List.of());
+        when(showService.findAllListItems()).thenReturn(List.of());
+        when(showMapper.showListItemToSimpleShowDto(anyList())).thenReturn(List.of());
+        catalogCache.getEvents();
+
+        catalogCache.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Catalog.SHOWS));
+        verify(showService, timeout(5000)).findAllListItems();
+        catalogCache.getEvents();
+
+        verify(eventService, times(1)).findAllListItems();
+    }
+
+    @Test
+    void givenDisabledCache_whenGetShows_thenLoadedEveryTime() {
+        catalogCache.shutdown();
+        catalogCache = new SimpleCatalogCache(showService, eventService, showMapper, eventMapper, new SimpleMeterRegistry(),
+            false, Duration.ofHours(1));
+        when(showService.findAllListItems()).thenReturn(List.of());
+        when(showMapper.showListItemToSimpleShowDto(anyList())).thenReturn(List.of());
+
+        catalogCache.getShows();
+        catalogCache.getShows();
+
+        verify(showService, times(2)).findAllListItems();
+    }
+}
@@ -0,0 +1,219 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.config.ConditionalGetFilter;
+import at.ac.tuwien.sepr.groupphase.backend.config.ConditionalGetInterceptor;
+import at.ac.tuwien.sepr.groupphase.backend.config.properties.HttpCacheProperties;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.ConditionalGet;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent.Catalog;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleCatalogVersions;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConditionalGetInterceptorTest {
+
+    private ShowRepository showRepository;
+    private SimpleCatalogVersions catalogVersions;
+    private HttpCacheProperties properties;
+    private ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        showRepository = mock(ShowRepository.class);
+        catalogVersions = new SimpleCatalogVersions(showRepository);
+        properties = new HttpCacheProperties();
+        properties.setCacheControl(Map.of("default", "private, no-cache", "venues", "private, max-age=300"));
+        interceptor = new ConditionalGetInterceptor(catalogVersions, properties);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            "user@email.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void givenNoTag_whenGet_thenTaggedAndPassedOn() throws Exception {
+        MockHttpServletResponse response = handle(get(null), "venues", HttpServletResponse.SC_OK);
+
+        assertAll(
+            () -> assertEquals("[]", response.getContentAsString()),
+            () -> assertTrue(response.getHeader("ETag").startsWith("W/\"")),
+            () -> assertEquals("private, max-age=300", response.getHeader("Cache-Control")),
+            () -> assertEquals("Authorization", response.getHeader("Vary"))
+        );
+    }
+
+    @Test
+    void givenCurrentTag_whenGet_thenNotModified() throws Exception {
+        String etag = tagOf("venues");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(get("\"other\", " + etag.substring(2)), response, handler("venues")));
+        assertEquals(304, response.getStatus());
+        assertEquals(etag, response.getHeader("ETag"));
+    }
+
+    @Test
+    void givenTagOfOtherCatalog_whenThatCatalogChanges_thenStillNotModified() throws Exception {
+        String etag = tagOf("venues");
+
+        catalogVersions.onCatalogChanged(new CatalogChangedEvent(Catalog.NEWS));
+
+        assertFalse(interceptor.preHandle(get(etag), new MockHttpServletResponse(), handler("venues")));
+    }
+
+    @Test
+    void givenOutdatedTag_whenCatalogChanged_thenPassedOnWithNewTag() throws Exception {
+        String etag = tagOf("venueHalls");
+
+        catalogVersions.onCatalogChanged(new CatalogChangedEvent(Catalog.HALLS));
+        MockHttpServletResponse response = handle(get(etag), "venueHalls", HttpServletResponse.SC_OK);
+
+        assertEquals("[]", response.getContentAsString());
+        assertNotEquals(etag, response.getHeader("ETag"));
+    }
+
+    @Test
+    void givenCurrentTagButMissingRole_whenGet_thenPassedOnToTheRoleCheck() throws Exception {
+        String etag = tagOf("adminVenues");
+        SecurityContextHolder.clearContext();
+
+        assertTrue(interceptor.preHandle(get(etag), new MockHttpServletResponse(), handler("adminVenues")));
+    }
+
+    @Test
+    void givenMissingRole_whenGet_thenDeniedResponseNotTagged() throws Exception {
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletResponse response = handle(get(null), "venues", HttpServletResponse.SC_FORBIDDEN);
+
+        assertAll(
+            () -> assertNull(response.getHeader("ETag")),
+            () -> assertNull(response.getHeader("Cache-Control"))
+        );
+    }
+
+    @Test
+    void givenEndpointFails_whenGet_thenErrorNotTagged() throws Exception {
+        MockHttpServletResponse response = handle(get(null), "venues", HttpServletResponse.SC_NOT_FOUND);
+
+        assertAll(
+            () -> assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus()),
+            () -> assertNull(response.getHeader("ETag")),
+            () -> assertNull(response.getHeader("Cache-Control"))
+        );
+    }
+
+    @Test
+    void givenShowList_whenNextShowStarts_thenNewTag() throws Exception {
+        when(showRepository.findListItemPageAfter(isNull(), isNull(), isNull(), any())).thenReturn(
+            List.of(new ShowListItem(1L, "Started", LocalDate.now().minusDays(1), LocalTime.NOON, null, null, null)),
+            List.of(new ShowListItem(2L, "Upcoming", LocalDate.now().plusDays(1), LocalTime.NOON, null, null, null)));
+
+        String etag = tagOf("shows");
+        String next = tagOf("shows");
+
+        assertAll(
+            () -> assertNotEquals(etag, next),
+            () -> assertEquals(next, tagOf("shows")),
+            () -> verify(showRepository, times(2)).findListItemPageAfter(isNull(), isNull(), isNull(), any())
+        );
+    }
+
+    @Test
+    void givenDisabled_whenGet_thenNeitherTaggedNorAnswered() throws Exception {
+        String etag = tagOf("venues");
+        properties.setEnabled(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(get(etag), response, handler("venues")));
+        assertNull(response.getHeader("ETag"));
+    }
+
+    private String tagOf(String method) throws Exception {
+        return handle(get(null), method, HttpServletResponse.SC_OK).getHeader("ETag");
+    }
+
+    /**
+     * Passes the request through the filter and the interceptor to an endpoint that answers with the given status.
+     */
+    private MockHttpServletResponse handle(MockHttpServletRequest request, String method, int status) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = handler(method);
+        new ConditionalGetFilter().doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                if (interceptor.preHandle(req, res, handler)) {
+                    res.setStatus(status);
+                    res.getWriter().write("[]");
+                }
+            }
+        }));
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/venues");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoint(), Endpoint.class.getMethod(method));
+    }
+
+    static class Endpoint {
+
+        @Secured("ROLE_USER")
+        @ConditionalGet(value = Catalog.VENUES, policy = "venues")
+        public void venues() {
+        }
+
+        @Secured("ROLE_USER")
+        @ConditionalGet(value = {Catalog.VENUES, Catalog.HALLS}, policy = "venues")
+        public void venueHalls() {
+        }
+
+        @Secured("ROLE_ADMIN")
+        @ConditionalGet(value = Catalog.VENUES, policy = "venues")
+        public void adminVenues() {
+        }
+
+        @Secured("ROLE_USER")
+        @ConditionalGet(value = Catalog.SHOWS, policy = "shows")
+        public void shows() {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.config.ConflictMetricsAspect;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleOrderService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleTicketService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConflictMetricsAspectTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConflictMetricsAspect aspect = new ConflictMetricsAspect(meterRegistry);
+
+    @Test
+    void givenConflictOfNestedServiceCall_whenItPassesTheOuterCall_thenItIsCountedOnceWhereItCameFrom() throws Throwable {
+        ConflictException conflict = new ConflictException("Ticket purchase failed", List.of("Seat is taken"));
+        ProceedingJoinPoint purchaseTickets = joinPoint(SimpleTicketService.class, "purchaseTickets");
+        when(purchaseTickets.proceed()).thenThrow(conflict);
+        ProceedingJoinPoint purchaseOrder = joinPoint(SimpleOrderService.class, "purchaseOrder");
+        when(purchaseOrder.proceed()).thenAnswer(invocation -> aspect.countConflict(purchaseTickets));
+
+        assertSame(conflict, assertThrows(ConflictException.class, () -> aspect.countConflict(purchaseOrder)));
+
+        assertAll(
+            () -> assertEquals(1, conflicts("SimpleTicketService", "purchaseTickets")),
+            () -> assertEquals(0, conflicts("SimpleOrderService", "purchaseOrder"))
+        );
+    }
+
+    @Test
+    void givenCountedConflict_whenTheNextCallConflicts_thenItIsCountedAgain() throws Throwable {
+        ProceedingJoinPoint purchaseTickets = joinPoint(SimpleTicketService.class, "purchaseTickets");
+        when(purchaseTickets.proceed())
+            .thenThrow(new ConflictException("Ticket purchase failed", List.of("Seat is taken")))
+            .thenThrow(new ConflictException("Ticket purchase failed", List.of("Seat is taken")));
+
+        assertThrows(ConflictException.class, () -> aspect.countConflict(purchaseTickets));
+        assertThrows(ConflictException.class, () -> aspect.countConflict(purchaseTickets));
+
+        assertEquals(2, conflicts("SimpleTicketService", "purchaseTickets"));
+    }
+
+    private double conflicts(String className, String method) {
+        return meterRegistry.counter("app.conflicts", "class", className, "method", method).count();
+    }
+
+    private static ProceedingJoinPoint joinPoint(Class<?> declaringType, String method) {
+        Signature signature = mock(Signature.class);
+        doReturn(declaringType).when(signature).getDeclaringType();
+        when(signature.getName()).thenReturn(method);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        return joinPoint;
+    }
+}
@@ -0,0 +1,123 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.EmailJob;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EmailJobRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.EmailTransport;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.EmailServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailServiceTest {
+
+    @Mock
+    private EmailJobRepository emailJobRepository;
+
+    @Mock
+    private EmailTransport emailTransport;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailServiceImpl emailService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        emailService = new EmailServiceImpl(emailJobRepository, emailTransport, transactionManager,
+            new SimpleMeterRegistry(), 100, 2, Duration.ofSeconds(30), Duration.ofMinutes(2));
+    }
+
+    @Test
+    void givenEmail_whenSendEmail_thenOnlyQueued() throws Exception {
+        emailService.sendEmail("user@email.com", "Hello", "Content");
+
+        ArgumentCaptor<EmailJob> job = ArgumentCaptor.forClass(EmailJob.class);
+        verify(emailJobRepository).save(job.capture());
+        verify(emailTransport, never()).send(any(), any(), any());
+        assertAll(
+            () -> assertEquals("user@email.com", job.getValue().getRecipient()),
+            () -> assertEquals(EmailJob.Status.PENDING, job.getValue().getStatus()),
+            () -> assertNotNull(job.getValue().getNextAttemptAt())
+        );
+    }
+
+    @Test
+    void givenEqualAndDifferentDueEmails_whenDispatch_thenEqualOnesSentTogetherAndRemoved() throws Exception {
+        EmailJob first = job(1L, "a@email.com", "News");
+        EmailJob second = job(2L, "b@email.com", "News");
+        EmailJob other = job(3L, "c@email.com", "Reset");
+        when(emailJobRepository.findDue(any(), any())).thenReturn(List.of(first, second, other));
+        when(emailJobRepository.claim(anyLong(), any(), any())).thenReturn(1);
+
+        assertEquals(3, emailService.dispatchDue());
+
+        verify(emailTransport).send("News", "Content", List.of("a@email.com", "b@email.com"));
+        verify(emailTransport).send("Reset", "Content", List.of("c@email.com"));
+        verify(emailJobRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(emailJobRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void givenEmailClaimedByOtherDispatcher_whenDispatch_thenNotSent() throws Exception {
+        when(emailJobRepository.findDue(any(), any())).thenReturn(List.of(job(1L, "a@email.com", "News")));
+        when(emailJobRepository.claim(eq(1L), any(), any())).thenReturn(0);
+
+        assertEquals(0, emailService.dispatchDue());
+
+        verify(emailTransport, never()).send(any(), any(), any());
+    }
+
+    @Test
+    void givenFailingTransport_whenDispatch_thenRetriedLaterAndDeadLetteredAfterMaxAttempts() throws Exception {
+        EmailJob job = job(1L, "a@email.com", "News");
+        when(emailJobRepository.findDue(any(), any())).thenReturn(List.of(job));
+        when(emailJobRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(emailJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        doThrow(new IOException("SendGrid answered 503")).when(emailTransport).send(any(), any(), any());
+
+        assertEquals(0, emailService.dispatchDue());
+
+        assertAll(
+            () -> assertEquals(1, job.getAttempts()),
+            () -> assertEquals(EmailJob.Status.PENDING, job.getStatus()),
+            () -> assertTrue(job.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20))),
+            () -> assertTrue(job.getLastError().contains("503"))
+        );
+
+        emailService.dispatchDue();
+
+        assertEquals(EmailJob.Status.FAILED, job.getStatus());
+        verify(emailJobRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private static EmailJob job(Long id, String recipient, String subject) {
+        EmailJob job = new EmailJob();
+        job.setId(id);
+        job.setRecipient(recipient);
+        job.setSubject(subject);
+        job.setContent("Content");
+        job.setCreatedAt(LocalDateTime.now());
+        job.setNextAttemptAt(LocalDateTime.now());
+        return job;
+    }
+}
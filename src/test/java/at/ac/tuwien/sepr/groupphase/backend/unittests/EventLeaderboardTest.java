@@ -0,0 +1,117 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SimpleEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.EventMapper;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventListItem;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleEventLeaderboard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventLeaderboardTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private SimpleEventLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new SimpleEventLeaderboard(eventRepository, Mappers.getMapper(EventMapper.class), true);
+    }
+
+    @Test
+    void givenStoredEvents_whenReconcile_thenRankedBySoldSeatsOverallAndPerType() {
+        when(eventRepository.findCurrentEventSummaries()).thenReturn(List.of(
+            row(1L, "Concert", 10), row(2L, "Theater", 30), row(3L, "Concert", 20)));
+
+        leaderboard.reconcile();
+
+        assertAll(
+            () -> assertEquals(List.of(2L, 3L, 1L), idsOf(leaderboard.getTopTen(null))),
+            () -> assertEquals(List.of(3L, 1L), idsOf(leaderboard.getTopTen("Concert"))),
+            () -> assertEquals(List.of(2L), idsOf(leaderboard.getTopTen("Theater"))),
+            () -> assertEquals(List.of(), leaderboard.getTopTen("Opera"))
+        );
+    }
+
+    @Test
+    void givenMoreThanTenEvents_whenGetTopTen_thenOnlyTheTenMostSoldAreReturned() {
+        List<EventListItem> rows = new ArrayList<>();
+        for (long id = 1; id <= 15; id++) {
+            rows.add(row(id, "Concert", (int) id));
+        }
+        when(eventRepository.findCurrentEventSummaries()).thenReturn(rows);
+
+        leaderboard.reconcile();
+
+        assertEquals(List.of(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L), idsOf(leaderboard.getTopTen(null)));
+    }
+
+    @Test
+    void givenRankedEvents_whenAddSoldSeats_thenEventMovesUpWithoutQuery() {
+        when(eventRepository.findCurrentEventSummaries()).thenReturn(List.of(
+            row(1L, "Concert", 10), row(2L, "Concert", 30)));
+        leaderboard.reconcile();
+
+        leaderboard.addSoldSeats(1L, 25);
+
+        List<SimpleEventDto> top = leaderboard.getTopTen("Concert");
+        assertEquals(List.of(1L, 2L), idsOf(top));
+        assertEquals(35, top.getFirst().getSoldSeats());
+        assertEquals(List.of(1L, 2L), idsOf(leaderboard.getTopTen(null)));
+        verify(eventRepository, times(1)).findCurrentEventSummaries();
+    }
+
+    @Test
+    void givenUnknownEvent_whenAddSoldSeats_thenBoardIsUnchanged() {
+        when(eventRepository.findCurrentEventSummaries()).thenReturn(List.of(row(1L, "Concert", 10)));
+        leaderboard.reconcile();
+        List<SimpleEventDto> before = leaderboard.getTopTen(null);
+
+        leaderboard.addSoldSeats(99L, 5);
+
+        assertSame(before, leaderboard.getTopTen(null));
+    }
+
+    @Test
+    void givenNewEvent_whenTrack_thenItIsRanked() {
+        when(eventRepository.findCurrentEventSummaries()).thenReturn(List.of(row(1L, "Concert", 10)));
+        leaderboard.reconcile();
+        Event event = new Event();
+        event.setId(2L);
+        event.setName("New");
+        event.setType("Festival");
+        event.setDurationFrom(LocalDate.now());
+        event.setDurationTo(LocalDate.now().plusDays(3));
+        event.setSoldSeats(0);
+
+        leaderboard.track(event);
+        leaderboard.addSoldSeats(2L, 12);
+
+        assertEquals(List.of(2L, 1L), idsOf(leaderboard.getTopTen(null)));
+        assertEquals(List.of(2L), idsOf(leaderboard.getTopTen("Festival")));
+    }
+
+    private static EventListItem row(Long id, String type, int soldSeats) {
+        return new EventListItem(id, "Event " + id, "Summary", type,
+            LocalDate.now().minusDays(1), LocalDate.now().plusDays(10), soldSeats, null);
+    }
+
+    private static List<Long> idsOf(List<SimpleEventDto> events) {
+        return events.stream().map(SimpleEventDto::getId).toList();
+    }
+}
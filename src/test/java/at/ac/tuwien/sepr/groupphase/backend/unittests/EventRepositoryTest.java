@@ -10,6 +10,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -104,6 +106,29 @@ public class EventRepositoryTest implements TestData {
         );
     }
 
+    @Test
+    public void givenEvents_whenFindByIdsAndFilters_thenOnlyGivenCurrentEventsAreFound() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            events.add(eventRepository.save(Event.EventBuilder.anEvent()
+                .withName("Event " + i)
+                .withSummary(TEST_EVENT_SUMMARY)
+                .withText(TEST_EVENT_TEXT)
+                .withDurationFrom(TEST_EVENT_DURATION_FROM)
+                .withDurationTo(i == 3 ? LocalDate.now().minusDays(1) : TEST_EVENT_DURATION_TO)
+                .withType(TEST_EVENT_TYPE)
+                .withSoldSeats(0)
+                .build()));
+        }
+
+        List<Event> found = eventRepository.findByIdsAndFilters(events.stream().skip(1).map(Event::getId).toList(), null);
+
+        assertAll(
+            () -> assertEquals(List.of(events.get(1).getId()), found.stream().map(Event::getId).toList()),
+            () -> assertEquals(3, eventRepository.findSearchableFields().size())
+        );
+    }
+
     @Test
     public void givenEvents_whenFindTop10BySoldSeats_thenReturnOrderedList() {
         // Create events with different sold seats
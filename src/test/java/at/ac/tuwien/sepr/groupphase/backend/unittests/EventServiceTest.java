@@ -7,12 +7,15 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventLeaderboard;
+import at.ac.tuwien.sepr.groupphase.backend.service.SearchIndex;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleEventService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -35,11 +38,20 @@ class EventServiceTest implements TestData {
     @Mock
     private ShowRepository showRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventLeaderboard eventLeaderboard;
+
+    @Mock
+    private SearchIndex searchIndex;
+
     private SimpleEventService eventService;
 
     @BeforeEach
     void setUp() {
-        eventService = new SimpleEventService(eventRepository, showRepository, "/images", "/images/");
+        eventService = new SimpleEventService(eventRepository, showRepository, "/images", "/images/", eventPublisher, eventLeaderboard, searchIndex);
     }
 
     @Test
@@ -0,0 +1,124 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Hall;
+import at.ac.tuwien.sepr.groupphase.backend.entity.StandingSector;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.SeatRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.SectorRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.StandingSectorRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.SeatRow;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.SectorRow;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayout;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleHallLayoutCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HallLayoutCacheTest {
+
+    @Mock
+    private HallRepository hallRepository;
+    @Mock
+    private SectorRepository sectorRepository;
+    @Mock
+    private SeatRepository seatRepository;
+    @Mock
+    private StandingSectorRepository standingSectorRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleHallLayoutCache hallLayoutCache;
+
+    @BeforeEach
+    void setUp() {
+        hallLayoutCache = new SimpleHallLayoutCache(hallRepository, sectorRepository, seatRepository,
+            standingSectorRepository, transactionManager);
+    }
+
+    @Test
+    void givenHall_whenGet_thenSeatsAreFlattenedBySectorAndReadOnlyOnce() {
+        givenHall(0);
+        StandingSector standingSector = new StandingSector();
+        standingSector.setId(7L);
+        standingSector.setSectorName("Floor");
+        standingSector.setCapacity(300);
+        when(standingSectorRepository.findByHallIdOrderByIdAsc(1L)).thenReturn(List.of(standingSector));
+
+        HallLayout layout = hallLayoutCache.get(1L);
+
+        assertAll(
+            () -> assertSame(layout, hallLayoutCache.get(1L)),
+            () -> assertEquals("Main Hall", layout.getName()),
+            () -> assertEquals(2, layout.sectorCount()),
+            () -> assertEquals(List.of(100L, 101L, 200L), layout.seatIds()),
+            () -> assertEquals(0, layout.firstSeat(0)),
+            () -> assertEquals(2, layout.firstSeat(1)),
+            () -> assertEquals(3, layout.firstSeat(2)),
+            () -> assertEquals(2, layout.seatColumn(1)),
+            () -> assertEquals(30, layout.seatPositionX(2)),
+            () -> assertEquals(300, layout.getStandingSectors().getFirst().capacity())
+        );
+        verify(seatRepository, times(1)).findLayoutRowsByHallId(1L);
+    }
+
+    @Test
+    void givenCachedLayout_whenInvalidatedWithoutTransaction_thenItIsReadAgain() {
+        givenHall(0);
+        HallLayout first = hallLayoutCache.get(1L);
+
+        hallLayoutCache.invalidate(1L);
+
+        assertNotSame(first, hallLayoutCache.get(1L));
+        verify(hallRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void givenCachedLayout_whenAnotherVersionIsAsked_thenItIsReadAgain() {
+        givenHall(0);
+        hallLayoutCache.get(1L);
+        givenHall(1);
+
+        HallLayout layout = hallLayoutCache.get(1L, 1);
+
+        assertAll(
+            () -> assertEquals(1, layout.getVersion()),
+            () -> assertSame(layout, hallLayoutCache.get(1L, 1))
+        );
+    }
+
+    @Test
+    void givenUnknownHall_whenGet_thenNotFoundAndNothingIsCached() {
+        when(hallRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> hallLayoutCache.get(9L));
+        assertThrows(NotFoundException.class, () -> hallLayoutCache.get(9L));
+        verify(hallRepository, times(2)).findById(9L);
+    }
+
+    private void givenHall(int version) {
+        Hall hall = new Hall();
+        hall.setId(1L);
+        hall.setName("Main Hall");
+        hall.setCapacity(303);
+        hall.setLayoutVersion(version);
+        when(hallRepository.findById(1L)).thenReturn(Optional.of(hall));
+        when(sectorRepository.findLayoutRowsByHallId(1L)).thenReturn(List.of(
+            new SectorRow(10L, "1", 1, 2, 50L),
+            new SectorRow(20L, "2", 1, 1, 30L)));
+        when(seatRepository.findLayoutRowsByHallId(1L)).thenReturn(List.of(
+            new SeatRow(100L, 10L, 1, 1, 10, 10),
+            new SeatRow(101L, 10L, 1, 2, 20, 10),
+            new SeatRow(200L, 20L, 1, 1, 30, 40)));
+    }
+}
@@ -6,8 +6,11 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Stage;
 
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayout;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleHallService;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.HallDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SeatDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.SectorDto;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.HallMapper;
 import org.junit.jupiter.api.Test;
@@ -159,4 +162,43 @@ class HallServiceTest {
         assertEquals(15, createdSector.getRows());
         assertEquals(75L, createdSector.getPrice());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void givenHallWithSeats_whenUpdate_thenOnlyChangedSeatsAreWritten() throws Exception {
+        // Arrange
+        HallDto hallDto = new HallDto(null, "Diff Hall", 4, 500, 400, null, List.of(
+            new SectorDto(null, 1L, 1, 3, 50L, List.of(
+                new SeatDto(null, 1, 1, 1, 10, 10),
+                new SeatDto(null, 1, 1, 2, 20, 10),
+                new SeatDto(null, 1, 1, 3, 30, 10))),
+            new SectorDto(null, 2L, 1, 1, 30L, List.of(
+                new SeatDto(null, 1, 2, 1, 10, 50)))), List.of());
+        Long hallId = hallService.createHall(hallDto).getId();
+        HallLayout created = hallService.findLayout(hallId);
+        // the sectors of a hall are ordered by ID, which need not be the order they were given in
+        int sector = created.sectorName(0).equals("1") ? 0 : 1;
+        int first = created.firstSeat(sector);
+
+        // Act: keep the first seat, move the second, drop the third, add one and drop the second sector
+        hallService.updateHall(new HallDto(hallId, "Diff Hall", 3, 500, 400, null, List.of(
+            new SectorDto(created.sectorId(sector), 1L, 2, 3, 60L, List.of(
+                new SeatDto(null, 1, 1, 1, 10, 10),
+                new SeatDto(null, 1, 1, 2, 25, 10),
+                new SeatDto(null, 2, 1, 1, 10, 20)))), List.of()));
+
+        // Assert
+        HallLayout updated = hallService.findLayout(hallId);
+        assertAll(
+            () -> assertEquals(created.getVersion() + 1, updated.getVersion()),
+            () -> assertEquals(1, updated.sectorCount()),
+            () -> assertEquals(created.sectorId(sector), updated.sectorId(0)),
+            () -> assertEquals(60L, updated.sectorPrice(0)),
+            () -> assertEquals(3, updated.seatCount()),
+            () -> assertEquals(created.seatId(first), updated.seatId(0)),
+            () -> assertEquals(created.seatId(first + 1), updated.seatId(1)),
+            () -> assertEquals(25, updated.seatPositionX(1)),
+            () -> assertEquals(2, updated.seatRow(2)),
+            () -> assertFalse(created.seatIds().contains(updated.seatId(2)))
+        );
+    }
+}
@@ -0,0 +1,148 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.InvoiceJob;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Order;
+import at.ac.tuwien.sepr.groupphase.backend.repository.InvoiceJobRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.OrderRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.PdfGenerationService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleInvoiceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvoiceServiceTest {
+
+    @Mock
+    private InvoiceJobRepository invoiceJobRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PdfGenerationService pdfGenerationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path invoicesDirectory;
+
+    private SimpleInvoiceService invoiceService;
+    private InvoiceJob job;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        invoiceService = new SimpleInvoiceService(invoiceJobRepository, orderRepository, pdfGenerationService,
+            transactionManager, invoicesDirectory.toString(), 1, 10, 2, Duration.ofSeconds(10), Duration.ofMinutes(5));
+
+        order = new Order();
+        order.setId(7L);
+        order.setOrderDate(LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        job = new InvoiceJob();
+        job.setId(3L);
+        job.setOrderId(7L);
+        job.setNextAttemptAt(LocalDateTime.now());
+        lenient().when(invoiceJobRepository.findByOrderId(7L)).thenReturn(Optional.of(job));
+        lenient().when(invoiceJobRepository.findById(3L)).thenReturn(Optional.of(job));
+    }
+
+    @AfterEach
+    void tearDown() {
+        invoiceService.shutdown();
+    }
+
+    @Test
+    void givenPendingInvoice_whenRenderInvoice_thenPdfIsStoredAndJobRemoved() throws Exception {
+        when(invoiceJobRepository.claim(eq(3L), any(), any())).thenReturn(1);
+        when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+
+        assertTrue(invoiceService.renderInvoice(7L));
+
+        verify(pdfGenerationService).generateOrderPdf(eq(order), any());
+        verify(invoiceJobRepository).delete(job);
+        assertNotNull(order.getInvoicePath());
+        assertTrue(Files.exists(Path.of(order.getInvoicePath())));
+    }
+
+    @Test
+    void givenInvoiceTakenByOtherWorker_whenRenderInvoice_thenNothingIsRendered() throws Exception {
+        when(invoiceJobRepository.claim(eq(3L), any(), any())).thenReturn(0);
+
+        assertFalse(invoiceService.renderInvoice(7L));
+
+        verify(pdfGenerationService, never()).generateOrderPdf(any(), any());
+    }
+
+    @Test
+    void givenFailingRendering_whenRenderInvoice_thenRetriedLaterAndGivenUpAfterMaxAttempts() throws Exception {
+        when(invoiceJobRepository.claim(eq(3L), any(), any())).thenReturn(1);
+        when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+        doThrow(new IllegalStateException("font missing")).when(pdfGenerationService).generateOrderPdf(any(), any());
+
+        assertFalse(invoiceService.renderInvoice(7L));
+
+        assertAll(
+            () -> assertEquals(1, job.getAttempts()),
+            () -> assertEquals(InvoiceJob.Status.PENDING, job.getStatus()),
+            () -> assertTrue(job.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(5))),
+            () -> assertTrue(job.getLastError().contains("font missing")),
+            () -> assertFalse(invoiceService.hasFailed(7L))
+        );
+
+        assertFalse(invoiceService.renderInvoice(7L));
+
+        assertEquals(2, job.getAttempts());
+        assertEquals(InvoiceJob.Status.FAILED, job.getStatus());
+        assertTrue(invoiceService.hasFailed(7L));
+        verify(invoiceJobRepository, never()).delete(any());
+    }
+
+    @Test
+    void givenRequestedInvoice_whenRequestInvoiceAgain_thenNoSecondJob() {
+        invoiceService.requestInvoice(7L);
+
+        verify(invoiceJobRepository, never()).save(any());
+    }
+
+    @Test
+    void givenNewOrder_whenRequestInvoice_thenPendingJobIsStored() {
+        when(invoiceJobRepository.findByOrderId(8L)).thenReturn(Optional.empty());
+        when(invoiceJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        invoiceService.requestInvoice(8L);
+
+        verify(invoiceJobRepository).save(argThat(saved ->
+            saved.getOrderId().equals(8L) && saved.getStatus() == InvoiceJob.Status.PENDING));
+    }
+
+    @Test
+    void givenInvoiceStoredConcurrently_whenRequestMissingInvoice_thenDuplicateIsIgnored() {
+        when(invoiceJobRepository.findByOrderId(8L)).thenReturn(Optional.empty());
+        when(invoiceJobRepository.save(any())).thenThrow(new DataIntegrityViolationException("order_id"));
+
+        assertDoesNotThrow(() -> invoiceService.requestMissingInvoice(8L));
+        verify(transactionManager).rollback(any());
+    }
+}
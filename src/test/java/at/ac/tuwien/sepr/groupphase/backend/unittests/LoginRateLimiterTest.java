@@ -0,0 +1,48 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleLoginRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private final SimpleLoginRateLimiter limiter =
+        new SimpleLoginRateLimiter(new SimpleMeterRegistry(), 5, 3, Duration.ofHours(1));
+
+    @Test
+    void givenAccountOutOfAttempts_whenAcquire_thenTooManyRequestsUntilRefilled() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("10.0.0.1", "user@email.com");
+        }
+
+        TooManyRequestsException thrown = assertThrows(TooManyRequestsException.class,
+            () -> limiter.acquire("10.0.0.2", " USER@email.com"));
+        assertTrue(thrown.getRetryAfter().compareTo(Duration.ofMinutes(19)) > 0);
+    }
+
+    @Test
+    void givenAddressOutOfAttempts_whenAcquireForOtherAccount_thenTooManyRequests() {
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire("10.0.0.1", "user" + i + "@email.com");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("10.0.0.1", "other@email.com"));
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.2", "other@email.com"));
+    }
+
+    @Test
+    void givenUntouchedBuckets_whenPurged_thenAttemptsStillCounted() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("10.0.0.1", "user@email.com");
+        }
+
+        limiter.purgeFull();
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("10.0.0.1", "user@email.com"));
+    }
+}
@@ -4,6 +4,7 @@ import at.ac.tuwien.sepr.groupphase.backend.basetest.TestData;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import at.ac.tuwien.sepr.groupphase.backend.service.PdfGenerationService;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Order;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,9 +12,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +33,9 @@ class PdfGenerationServiceTest implements TestData {
     @Autowired
     private PdfGenerationService pdfGenerationService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void generateTicketPdf_withValidTicket_shouldGeneratePdfSuccessfully() throws Exception {
         // Arrange
@@ -60,6 +71,48 @@ class PdfGenerationServiceTest implements TestData {
             () -> pdfGenerationService.generateTicketPdf(ticket, null));
     }
 
+    @Test
+    void generateTicketsZip_withSeveralTickets_shouldTimeEveryTicket() throws Exception {
+        // Arrange
+        List<Ticket> tickets = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            Ticket ticket = TestData.createTestTicket();
+            ticket.setId(id);
+            tickets.add(ticket);
+        }
+        long timed = meterRegistry.timer("pdf.ticket").count();
+
+        // Act
+        pdfGenerationService.generateTicketsZip(tickets, new ByteArrayOutputStream());
+
+        // Assert
+        assertEquals(timed + tickets.size(), meterRegistry.timer("pdf.ticket").count());
+    }
+
+    @Test
+    void generateTicketsZip_withTicketWithoutUser_shouldContainEveryTicket() throws Exception {
+        // Arrange
+        Ticket ticket = TestData.createTestTicket();
+        ticket.setId(1L);
+        Ticket ticketWithoutUser = TestData.createTestTicket();
+        ticketWithoutUser.setId(2L);
+        ticketWithoutUser.setUser(null);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        pdfGenerationService.generateTicketsZip(List.of(ticket, ticketWithoutUser), outputStream);
+
+        // Assert
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+                assertValidPdfHeader(zip.readAllBytes());
+            }
+        }
+        assertEquals(List.of("ticket-1.pdf", "ticket-2.pdf"), entries);
+    }
+
     @Test
     void generateOrderPdf_withValidOrder_shouldGeneratePdfSuccessfully() throws Exception {
         // Arrange
@@ -95,6 +148,32 @@ class PdfGenerationServiceTest implements TestData {
             () -> pdfGenerationService.generateOrderPdf(order, null));
     }
 
+    @Test
+    void generateOrderPdf_concurrently_shouldGenerateIdenticalSizedPdfs() throws Exception {
+        // Arrange
+        Order order = createTestOrder();
+        List<Future<byte[]>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 32; i++) {
+                results.add(executor.submit(() -> {
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                    pdfGenerationService.generateOrderPdf(order, outputStream);
+                    return outputStream.toByteArray();
+                }));
+            }
+        }
+
+        // Assert
+        int expectedLength = results.getFirst().get().length;
+        for (Future<byte[]> result : results) {
+            byte[] pdfContent = result.get();
+            assertValidPdfHeader(pdfContent);
+            assertEquals(expectedLength, pdfContent.length, "PDFs of the same order should have the same size");
+        }
+    }
+
     private void assertValidPdfHeader(byte[] pdfContent) {
         // PDF files start with "%PDF-"
         byte[] pdfHeader = new byte[]{0x25, 0x50, 0x44, 0x46, 0x2D};
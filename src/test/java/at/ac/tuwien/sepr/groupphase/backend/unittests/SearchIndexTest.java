@@ -0,0 +1,154 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.VenueRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ArtistSearchItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.EventSearchItem;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexTest {
+
+    @Mock
+    private ShowRepository showRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private ArtistRepository artistRepository;
+    @Mock
+    private VenueRepository venueRepository;
+
+    @Test
+    void givenIndexNotBuilt_whenSearch_thenNoResultSoTheCallerFallsBack() {
+        SimpleSearchIndex searchIndex = searchIndex(false, 1000);
+
+        assertEquals(Optional.empty(), searchIndex.searchArtists("queen"));
+    }
+
+    @Test
+    void givenArtists_whenSearchArtists_thenContainingNamesAreFoundBestMatchFirst() {
+        givenArtists("The Queen Tribute", "Queen", "Queensryche", "Dream Theater");
+        SimpleSearchIndex searchIndex = searchIndex(false, 1000);
+        searchIndex.rebuild();
+
+        assertAll(
+            () -> assertEquals(Optional.of(List.of(2L, 3L, 1L)), searchIndex.searchArtists("QUEEN")),
+            () -> assertEquals(Optional.of(List.of(4L)), searchIndex.searchArtists("m t")),
+            () -> assertEquals(Optional.of(List.of(4L)), searchIndex.searchArtists("d")),
+            () -> assertEquals(Optional.of(List.of()), searchIndex.searchArtists("metallica")),
+            () -> assertEquals(Optional.empty(), searchIndex.searchArtists(""))
+        );
+    }
+
+    @Test
+    void givenEvents_whenSearchEventsBySeveralFields_thenAllFieldsMustMatch() {
+        when(eventRepository.findSearchableFields()).thenReturn(List.of(
+            new EventSearchItem(1L, "Summer Jazz", "Concert", "Open air jazz by the lake"),
+            new EventSearchItem(2L, "Winter Jazz", "Concert", "Jazz in the concert hall"),
+            new EventSearchItem(3L, "Hamlet", "Theater", "A play about a prince")));
+        SimpleSearchIndex searchIndex = searchIndex(false, 1000);
+        searchIndex.rebuild();
+
+        assertAll(
+            () -> assertEquals(Optional.of(List.of(1L, 2L)), searchIndex.searchEvents("jazz", "concert", null)),
+            () -> assertEquals(Optional.of(List.of(1L)), searchIndex.searchEvents("jazz", null, "lake")),
+            () -> assertEquals(Optional.of(List.of()), searchIndex.searchEvents("hamlet", "concert", null))
+        );
+    }
+
+    @Test
+    void givenTypoTolerance_whenNothingMatchesExactly_thenNearMissesAreFound() {
+        givenArtists("Metallica", "Madonna");
+        SimpleSearchIndex tolerant = searchIndex(true, 1000);
+        tolerant.rebuild();
+        SimpleSearchIndex strict = searchIndex(false, 1000);
+        strict.rebuild();
+
+        assertAll(
+            () -> assertEquals(Optional.of(List.of(1L)), tolerant.searchArtists("metalica")),
+            () -> assertEquals(Optional.of(List.of()), strict.searchArtists("metalica")),
+            () -> assertEquals(Optional.of(List.of(2L)), tolerant.searchArtists("madonna"))
+        );
+    }
+
+    @Test
+    void givenTooManyMatches_whenSearch_thenNoResultSoTheDatabaseIsAsked() {
+        List<ArtistSearchItem> rows = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            rows.add(new ArtistSearchItem(id, "Band " + id));
+        }
+        when(artistRepository.findSearchableFields()).thenReturn(rows);
+        SimpleSearchIndex searchIndex = searchIndex(false, 3);
+        searchIndex.rebuild();
+
+        assertAll(
+            () -> assertEquals(Optional.empty(), searchIndex.searchArtists("band")),
+            () -> assertEquals(Optional.of(List.of(4L)), searchIndex.searchArtists("band 4"))
+        );
+    }
+
+    @Test
+    void givenBuiltIndex_whenShowIsIndexedWithoutTransaction_thenItIsFoundByItsEventName() {
+        SimpleSearchIndex searchIndex = searchIndex(false, 1000);
+        searchIndex.rebuild();
+        Event event = new Event();
+        event.setName("Donauinselfest");
+        Show show = new Show();
+        show.setId(5L);
+        show.setName("Main Stage");
+        show.setEvent(event);
+
+        searchIndex.index(show);
+
+        assertAll(
+            () -> assertEquals(Optional.of(List.of(5L)), searchIndex.searchShows(null, "insel")),
+            () -> assertEquals(Optional.of(List.of(5L)), searchIndex.searchShows("stage", "donau"))
+        );
+    }
+
+    @Test
+    void givenIndexedArtist_whenRenamed_thenOnlyTheNewNameIsFound() {
+        givenArtists("Old Name");
+        SimpleSearchIndex searchIndex = searchIndex(false, 1000);
+        searchIndex.rebuild();
+
+        Artist artist = new Artist();
+        artist.setId(1L);
+        artist.setName("New Name");
+        searchIndex.index(artist);
+
+        assertAll(
+            () -> assertEquals(Optional.of(List.of()), searchIndex.searchArtists("old")),
+            () -> assertEquals(Optional.of(List.of(1L)), searchIndex.searchArtists("new"))
+        );
+    }
+
+    private void givenArtists(String... names) {
+        List<ArtistSearchItem> rows = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            rows.add(new ArtistSearchItem(i + 1L, names[i]));
+        }
+        when(artistRepository.findSearchableFields()).thenReturn(rows);
+    }
+
+    private SimpleSearchIndex searchIndex(boolean typoTolerant, int maxMatches) {
+        return new SimpleSearchIndex(showRepository, eventRepository, artistRepository, venueRepository,
+            true, typoTolerant, maxMatches);
+    }
+}
@@ -0,0 +1,130 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.OccupiedSeat;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.OccupancyVersions;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleSeatOccupancyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatOccupancyServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    private OccupancyVersions occupancyVersions;
+    private SimpleSeatOccupancyService seatOccupancyService;
+
+    @BeforeEach
+    void setUp() {
+        occupancyVersions = new OccupancyVersions();
+        seatOccupancyService = new SimpleSeatOccupancyService(ticketRepository, occupancyVersions);
+    }
+
+    @Test
+    void givenFreeSeat_whenTryClaim_thenSeatIsOccupied() {
+        when(ticketRepository.findOccupiedSeatIdsByShowId(1L)).thenReturn(List.of());
+
+        assertTrue(seatOccupancyService.tryClaim(1L, 10L));
+        assertTrue(seatOccupancyService.isOccupied(1L, 10L));
+        assertFalse(seatOccupancyService.isOccupied(1L, 11L));
+    }
+
+    @Test
+    void givenOccupiedSeats_whenFindOccupied_thenBitsFollowTheOrderOfTheGivenSeats() {
+        when(ticketRepository.findOccupiedSeatIdsByShowId(1L)).thenReturn(List.of(10L, 12L));
+
+        BitSet occupied = seatOccupancyService.findOccupied(1L, List.of(12L, 11L, 10L, 9L));
+
+        assertEquals(BitSet.valueOf(new long[] {0b0101}), occupied);
+    }
+
+    @Test
+    void givenClaimedSeat_whenTryClaimAgain_thenFails() {
+        when(ticketRepository.findOccupiedSeatIdsByShowId(1L)).thenReturn(List.of());
+
+        assertTrue(seatOccupancyService.tryClaim(1L, 10L));
+        assertFalse(seatOccupancyService.tryClaim(1L, 10L));
+    }
+
+    @Test
+    void givenSeatTakenByStoredTicket_whenTryClaim_thenFailsAndLoadsShowOnlyOnce() {
+        when(ticketRepository.findOccupiedSeatIdsByShowId(1L)).thenReturn(List.of(10L, 12L));
+
+        assertFalse(seatOccupancyService.tryClaim(1L, 12L));
+        assertTrue(seatOccupancyService.tryClaim(1L, 11L));
+        assertFalse(seatOccupancyService.tryClaim(1L, 10L));
+        verify(ticketRepository, times(1)).findOccupiedSeatIdsByShowId(1L);
+    }
+
+    @Test
+    void givenClaimedSeat_whenRelease_thenSeatCanBeClaimedAgain() {
+        when(ticketRepository.findOccupiedSeatIdsByShowId(1L)).thenReturn(List.of(10L));
+
+        seatOccupancyService.release(1L, 10L);
+
+        assertFalse(seatOccupancyService.isOccupied(1L, 10L));
+        assertTrue(seatOccupancyService.tryClaim(1L, 10L));
+    }
+
+    @Test
+    void givenShow_whenSeatIsClaimedAndReleased_thenOccupancyVersionChangesEachTime() {
+        when(ticketRepository.findOccupiedSeatIdsByShowId(1L)).thenReturn(List.of());
+        long initial = occupancyVersions.get(1L);
+
+        seatOccupancyService.tryClaim(1L, 10L);
+        long claimed = occupancyVersions.get(1L);
+        seatOccupancyService.tryClaim(1L, 10L);
+        long claimedAgain = occupancyVersions.get(1L);
+        seatOccupancyService.release(1L, 10L);
+        long released = occupancyVersions.get(1L);
+
+        assertAll(
+            () -> assertNotEquals(initial, claimed),
+            () -> assertEquals(claimed, claimedAgain),
+            () -> assertNotEquals(claimed, released),
+            () -> assertNotEquals(initial, released),
+            () -> assertEquals(initial, occupancyVersions.get(2L))
+        );
+    }
+
+    @Test
+    void givenSeatBelowLowestKnownSeat_whenTryClaim_thenExistingSeatsStayOccupied() {
+        when(ticketRepository.findOccupiedSeatIdsByShowId(1L)).thenReturn(List.of(500L, 501L));
+
+        assertTrue(seatOccupancyService.tryClaim(1L, 3L));
+
+        assertTrue(seatOccupancyService.isOccupied(1L, 3L));
+        assertTrue(seatOccupancyService.isOccupied(1L, 500L));
+        assertTrue(seatOccupancyService.isOccupied(1L, 501L));
+        assertFalse(seatOccupancyService.isOccupied(1L, 4L));
+    }
+
+    @Test
+    void givenStoredTickets_whenRebuild_thenShowsAreServedWithoutFurtherQueries() {
+        when(ticketRepository.findOccupiedSeatsOfUpcomingShows()).thenReturn(List.of(
+            new OccupiedSeat(1L, 10L),
+            new OccupiedSeat(1L, 11L),
+            new OccupiedSeat(2L, 10L)));
+
+        seatOccupancyService.rebuild();
+
+        assertAll(
+            () -> assertTrue(seatOccupancyService.isOccupied(1L, 10L)),
+            () -> assertTrue(seatOccupancyService.isOccupied(1L, 11L)),
+            () -> assertTrue(seatOccupancyService.isOccupied(2L, 10L)),
+            () -> assertFalse(seatOccupancyService.isOccupied(2L, 11L))
+        );
+        verify(ticketRepository, never()).findOccupiedSeatIdsByShowId(anyLong());
+    }
+}
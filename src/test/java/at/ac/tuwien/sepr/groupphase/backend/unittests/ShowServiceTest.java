@@ -7,14 +7,19 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.VenueRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowArtistItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.ShowListItem;
+import at.ac.tuwien.sepr.groupphase.backend.service.CartHoldExpiryService;
+import at.ac.tuwien.sepr.groupphase.backend.service.HallLayoutCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.SearchIndex;
 import at.ac.tuwien.sepr.groupphase.backend.service.ShowSectorService;
-import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleShowService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -23,6 +28,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,13 +46,19 @@ class ShowServiceTest implements TestData {
     @Mock
     private ShowSectorService showSectorService;
     @Mock
-    private TicketRepository ticketRepository;
+    private CartHoldExpiryService cartHoldExpiryService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private SearchIndex searchIndex;
+    @Mock
+    private HallLayoutCache hallLayoutCache;
 
     private SimpleShowService showService;
 
     @BeforeEach
     void setUp() {
-        showService = new SimpleShowService(showRepository, artistRepository, venueRepository, "/images", "/images/", hallRepository, showSectorService, ticketRepository);
+        showService = new SimpleShowService(showRepository, artistRepository, venueRepository, "/images", "/images/", hallRepository, showSectorService, cartHoldExpiryService, eventPublisher, searchIndex, hallLayoutCache);
     }
 
     @Test
@@ -129,6 +141,25 @@ class ShowServiceTest implements TestData {
         );
     }
 
+    @Test
+    void findAllListItems_AddsArtistsReadSeparately() {
+        when(showRepository.findUpcomingListItems()).thenReturn(List.of(
+            new ShowListItem(1L, TEST_SHOW_NAME, TEST_SHOW_DATE, TEST_SHOW_TIME, TEST_SHOW_SUMMARY, TEST_SHOW_TYPE, null),
+            new ShowListItem(2L, "Another Show", TEST_SHOW_DATE, TEST_SHOW_TIME, TEST_SHOW_SUMMARY, TEST_SHOW_TYPE, null)));
+        when(showRepository.findArtistItemsByShowIds(anyList())).thenReturn(List.of(
+            new ShowArtistItem(1L, 10L, "Artist", "Summary", "Text", null),
+            new ShowArtistItem(2L, 10L, "Artist", "Summary", "Text", null)));
+
+        List<ShowListItem> result = showService.findAllListItems();
+
+        assertAll(
+            () -> assertEquals(List.of(1L, 2L), result.stream().map(ShowListItem::id).toList()),
+            () -> assertEquals("Artist", result.get(0).artists().iterator().next().getName()),
+            () -> assertSame(result.get(0).artists().iterator().next(), result.get(1).artists().iterator().next()),
+            () -> verify(showRepository, never()).findAllByOrderByDateAscTimeAsc()
+        );
+    }
+
     @Test
     void findShowsWithoutEvent_ReturnsFilteredShows() {
         List<Show> shows = Arrays.asList(
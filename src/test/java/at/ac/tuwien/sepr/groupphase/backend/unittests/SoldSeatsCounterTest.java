@@ -0,0 +1,118 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.CatalogChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventLeaderboard;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleSoldSeatsCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SoldSeatsCounterTest {
+
+    @Mock
+    private ShowRepository showRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EventLeaderboard eventLeaderboard;
+
+    private SimpleSoldSeatsCounter soldSeatsCounter;
+    private Show show;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        soldSeatsCounter = new SimpleSoldSeatsCounter(showRepository, eventRepository, eventPublisher, eventLeaderboard);
+        event = new Event();
+        event.setId(7L);
+        event.setSoldSeats(20);
+        show = new Show();
+        show.setId(1L);
+        show.setSoldSeats(5);
+        show.setEvent(event);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(soldSeatsCounter);
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    @Test
+    void givenNoTransaction_whenAdd_thenCountersAreWrittenRightAway() {
+        soldSeatsCounter.add(show, 2);
+
+        assertEquals(7, show.getSoldSeats());
+        assertEquals(22, event.getSoldSeats());
+        verify(showRepository).incrementSoldSeats(1L, 2);
+        verify(eventRepository).incrementSoldSeats(7L, 2);
+    }
+
+    @Test
+    void givenTransaction_whenAddSeveralTimes_thenOneUpdatePerShowAndEventOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        for (int i = 0; i < 6; i++) {
+            soldSeatsCounter.add(show, 1);
+        }
+        assertEquals(11, show.getSoldSeats());
+        verifyNoInteractions(showRepository, eventRepository);
+
+        commit();
+
+        verify(showRepository, times(1)).incrementSoldSeats(1L, 6);
+        verify(eventRepository, times(1)).incrementSoldSeats(7L, 6);
+        verify(eventPublisher, times(1)).publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Catalog.EVENTS));
+        verifyNoInteractions(eventLeaderboard);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(eventLeaderboard, times(1)).addSoldSeats(7L, 6);
+    }
+
+    @Test
+    void givenDeltasCancellingOut_whenCommit_thenNothingIsWritten() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        soldSeatsCounter.add(show, 3);
+        soldSeatsCounter.add(show, -3);
+        commit();
+
+        assertEquals(5, show.getSoldSeats());
+        verify(showRepository, never()).incrementSoldSeats(anyLong(), anyInt());
+        verify(eventRepository, never()).incrementSoldSeats(anyLong(), anyInt());
+    }
+
+    @Test
+    void givenShowWithoutEvent_whenAdd_thenOnlyShowIsWritten() {
+        show.setEvent(null);
+
+        soldSeatsCounter.add(show, -1);
+
+        verify(showRepository).incrementSoldSeats(1L, -1);
+        verifyNoInteractions(eventRepository, eventPublisher);
+    }
+}
@@ -0,0 +1,155 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.StandingSector;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.HallRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ShowSectorRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.projection.StandingCapacityItem;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.OccupancyVersions;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleStandingCapacityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StandingCapacityServiceTest {
+
+    @Mock
+    private ShowSectorRepository showSectorRepository;
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private HallRepository hallRepository;
+
+    private SimpleStandingCapacityService standingCapacityService;
+
+    @BeforeEach
+    void setUp() {
+        standingCapacityService = new SimpleStandingCapacityService(showSectorRepository, ticketRepository, hallRepository, new OccupancyVersions());
+    }
+
+    private void givenShowSector(long showId, long sectorId, int capacity, int taken) {
+        when(showSectorRepository.findStandingCapacity(showId, sectorId))
+            .thenReturn(Optional.of(new StandingCapacityItem(showId, sectorId, capacity, taken)));
+    }
+
+    @Test
+    void givenFreeCapacity_whenTryReserve_thenPlacesAreTakenInLedgerAndDatabase() {
+        givenShowSector(1L, 2L, 10, 3);
+        when(showSectorRepository.takeStandingCapacity(1L, 2L, 4, 10)).thenReturn(1);
+
+        assertTrue(standingCapacityService.tryReserve(1L, 2L, 4));
+        assertEquals(7, standingCapacityService.getTaken(1L, 2L));
+        verify(ticketRepository, never()).countByStandingSectorIdAndShowIdAndInCartTrueOrReservedTrueOrPurchasedTrue(anyLong(), anyLong());
+    }
+
+    @Test
+    void givenTooFewPlacesLeft_whenTryReserve_thenFailsWithoutDatabaseUpdate() {
+        givenShowSector(1L, 2L, 10, 8);
+
+        assertFalse(standingCapacityService.tryReserve(1L, 2L, 3));
+        assertEquals(8, standingCapacityService.getTaken(1L, 2L));
+        verify(showSectorRepository, never()).takeStandingCapacity(anyLong(), anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void givenDatabaseRejectsUpdate_whenTryReserve_thenLedgerIsUndone() {
+        givenShowSector(1L, 2L, 10, 0);
+        when(showSectorRepository.takeStandingCapacity(1L, 2L, 5, 10)).thenReturn(0);
+
+        assertFalse(standingCapacityService.tryReserve(1L, 2L, 5));
+        assertEquals(0, standingCapacityService.getTaken(1L, 2L));
+    }
+
+    @Test
+    void givenTakenPlaces_whenRelease_thenPlacesAreFreeAgain() {
+        givenShowSector(1L, 2L, 10, 10);
+
+        standingCapacityService.release(1L, 2L, 2);
+
+        assertEquals(8, standingCapacityService.getTaken(1L, 2L));
+        verify(showSectorRepository).releaseStandingCapacity(1L, 2L, 2);
+    }
+
+    @Test
+    void givenSectorNotPricedForShow_whenTryReserve_thenFallsBackToTicketCount() {
+        StandingSector sector = new StandingSector();
+        sector.setId(2L);
+        sector.setCapacity(5);
+        when(showSectorRepository.findStandingCapacity(1L, 2L)).thenReturn(Optional.empty());
+        when(hallRepository.findStandingSectorById(2L)).thenReturn(Optional.of(sector));
+        when(ticketRepository.countByStandingSectorIdAndShowIdAndInCartTrueOrReservedTrueOrPurchasedTrue(2L, 1L)).thenReturn(4L);
+
+        assertTrue(standingCapacityService.tryReserve(1L, 2L, 1));
+        assertFalse(standingCapacityService.tryReserve(1L, 2L, 1));
+        verify(showSectorRepository, never()).takeStandingCapacity(anyLong(), anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void givenUnknownSector_whenTryReserve_thenThrowNotFoundException() {
+        when(showSectorRepository.findStandingCapacity(1L, 2L)).thenReturn(Optional.empty());
+        when(hallRepository.findStandingSectorById(2L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> standingCapacityService.tryReserve(1L, 2L, 1));
+    }
+
+    @Test
+    void givenStoredSectors_whenRebuild_thenSectorsAreServedWithoutFurtherQueries() {
+        when(showSectorRepository.findStandingCapacitiesOfUpcomingShows()).thenReturn(List.of(
+            new StandingCapacityItem(1L, 2L, 100, 40),
+            new StandingCapacityItem(1L, 3L, 50, 0)));
+
+        standingCapacityService.rebuild();
+
+        assertEquals(40, standingCapacityService.getTaken(1L, 2L));
+        assertEquals(0, standingCapacityService.getTaken(1L, 3L));
+        verify(showSectorRepository).recountStandingCapacity();
+        verify(showSectorRepository, never()).findStandingCapacity(anyLong(), anyLong());
+    }
+
+    @Test
+    void givenManyConcurrentBuyers_whenTryReserve_thenSectorIsNeverOversold() throws Exception {
+        final int capacity = 50;
+        final int buyers = 200;
+        givenShowSector(1L, 2L, capacity, 0);
+        when(showSectorRepository.takeStandingCapacity(1L, 2L, 1, capacity)).thenReturn(1);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < buyers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return standingCapacityService.tryReserve(1L, 2L, 1);
+                }));
+            }
+            start.countDown();
+        }
+
+        int admitted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                admitted++;
+            }
+        }
+        assertEquals(capacity, admitted);
+        assertEquals(capacity, standingCapacityService.getTaken(1L, 2L));
+        verify(showSectorRepository, times(capacity)).takeStandingCapacity(1L, 2L, 1, capacity);
+        verify(showSectorRepository, times(1)).findStandingCapacity(1L, 2L);
+    }
+}
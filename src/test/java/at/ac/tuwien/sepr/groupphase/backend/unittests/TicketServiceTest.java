@@ -15,6 +15,7 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ShowRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleTicketService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +38,9 @@ class TicketServiceTest {
     @Autowired
     private SimpleTicketService ticketService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockBean
     private TicketRepository ticketRepository;
 
@@ -353,13 +357,21 @@ class TicketServiceTest {
         existingTicket.setPurchased(true);
 
         when(seatRepository.findById(1L)).thenReturn(Optional.of(seat));
-        when(ticketRepository.findAll()).thenReturn(List.of(existingTicket));
+        when(ticketRepository.findOccupiedSeatIdsByShowId(1L)).thenReturn(List.of(existingTicket.getSeat().getSeatId()));
         when(showRepository.findById(1L)).thenReturn(Optional.of(show));
+        double oversold = meterRegistry.counter("tickets.oversell.rejected", "type", "seat").count();
+        double conflicts = meterRegistry.counter("app.conflicts", "class", "SimpleTicketService", "method", "createTickets").count();
 
         // Act & Assert
         ConflictException exception = assertThrows(ConflictException.class,
             () -> ticketService.createTickets(List.of(regularTicket)));
         assertTrue(exception.getMessage().contains("One or more seats are already taken for this show"));
+        assertAll(
+            () -> assertEquals(oversold + 1, meterRegistry.counter("tickets.oversell.rejected", "type", "seat").count()),
+            () -> assertEquals(conflicts + 1,
+                meterRegistry.counter("app.conflicts", "class", "SimpleTicketService", "method", "createTickets").count()),
+            () -> assertTrue(meterRegistry.get("tickets.create").tag("exception", "ConflictException").timer().count() > 0)
+        );
     }
 
     @Test
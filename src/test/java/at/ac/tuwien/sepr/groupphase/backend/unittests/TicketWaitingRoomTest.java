@@ -0,0 +1,250 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Show;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
+import at.ac.tuwien.sepr.groupphase.backend.service.TicketWaitingRoom;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.SimpleTicketWaitingRoom;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketWaitingRoomTest {
+
+    @Mock
+    private TicketService ticketService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SimpleTicketWaitingRoom waitingRoom;
+
+    @AfterEach
+    void tearDown() {
+        if (waitingRoom != null) {
+            waitingRoom.shutdown();
+        }
+    }
+
+    @Test
+    void givenManyConcurrentRequests_whenCreateTickets_thenAtMostAdmittedPerShowRunAtOnce() throws Exception {
+        waitingRoom = waitingRoom(2, 100);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(ticketService.createTickets(anyList())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            running.decrementAndGet();
+            return invocation.getArgument(0);
+        });
+
+        List<Future<List<Ticket>>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(waitingRoom.createTickets(ticketsFor(1L)));
+        }
+        for (Future<List<Ticket>> result : results) {
+            assertEquals(1, result.get(5, TimeUnit.SECONDS).size());
+        }
+
+        assertTrue(maxRunning.get() <= 2);
+        assertEquals(20, meterRegistry.counter("tickets.waiting.room.admitted").count());
+        assertEquals(20, meterRegistry.timer("tickets.waiting.room.wait").count());
+    }
+
+    @Test
+    void givenFullLine_whenCreateTickets_thenTooManyRequests() throws Exception {
+        waitingRoom = waitingRoom(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ticketService.createTickets(anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        Future<List<Ticket>> admitted = waitingRoom.createTickets(ticketsFor(1L));
+        started.await();
+        Future<List<Ticket>> waiting = waitingRoom.createTickets(ticketsFor(1L));
+        awaitDepth(1);
+        // the caller got its future back instead of waiting in line itself
+        assertFalse(waiting.isDone());
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+            () -> waitingRoom.createTickets(ticketsFor(1L)));
+        assertNotNull(e.getRetryAfter());
+        // other shows have their own line
+        assertNotNull(waitingRoom.enqueue(ticketsFor(2L), "user"));
+
+        release.countDown();
+        assertAll(
+            () -> assertEquals(1, admitted.get(5, TimeUnit.SECONDS).size()),
+            () -> assertEquals(1, waiting.get(5, TimeUnit.SECONDS).size()),
+            () -> assertEquals(1, meterRegistry.counter("tickets.waiting.room.rejected").count())
+        );
+    }
+
+    @Test
+    void givenBusyShow_whenEnqueue_thenEntryReportsPositionUntilDone() throws Exception {
+        waitingRoom = waitingRoom(1, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ticketService.createTickets(anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        waitingRoom.createTickets(ticketsFor(1L));
+        started.await();
+        TicketWaitingRoom.Entry entry = waitingRoom.enqueue(ticketsFor(1L), "user");
+
+        TicketWaitingRoom.Entry polled = waitingRoom.getEntry(entry.id(), "user");
+        assertAll(
+            () -> assertEquals(TicketWaitingRoom.State.WAITING, polled.state()),
+            () -> assertEquals(1L, polled.showId()),
+            () -> assertEquals(1, polled.position()),
+            () -> assertTrue(polled.estimatedWait().compareTo(Duration.ZERO) > 0)
+        );
+
+        release.countDown();
+        TicketWaitingRoom.Entry done = awaitDone(entry);
+        assertEquals(1, done.tickets().size());
+        assertEquals(0, done.position());
+    }
+
+    @Test
+    void givenConflictingTickets_whenEnqueueAndPoll_thenConflictIsThrown() throws Exception {
+        waitingRoom = waitingRoom(1, 10);
+        when(ticketService.createTickets(anyList()))
+            .thenThrow(new ConflictException("Ticket creation failed", List.of("Seat taken")));
+
+        TicketWaitingRoom.Entry entry = waitingRoom.enqueue(ticketsFor(1L), "user");
+
+        assertThrows(ConflictException.class, () -> awaitDone(entry));
+    }
+
+    @Test
+    void givenEntryOfOtherUser_whenGetEntry_thenNotFound() {
+        waitingRoom = waitingRoom(1, 10);
+
+        TicketWaitingRoom.Entry entry = waitingRoom.enqueue(ticketsFor(1L), "user");
+
+        assertThrows(NotFoundException.class, () -> waitingRoom.getEntry(entry.id(), "someone-else"));
+    }
+
+    @Test
+    void givenTicketsOfBusyAndFreeShow_whenEnqueue_thenEntryWaitsInTheLineOfTheBusyShow() throws Exception {
+        waitingRoom = waitingRoom(1, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ticketService.createTickets(anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        waitingRoom.createTickets(ticketsFor(2L));
+        started.await();
+        List<Ticket> tickets = new ArrayList<>(ticketsFor(1L));
+        tickets.addAll(ticketsFor(2L));
+        TicketWaitingRoom.Entry entry = waitingRoom.enqueue(tickets, "user");
+
+        awaitDepth(1);
+        TicketWaitingRoom.Entry polled = waitingRoom.getEntry(entry.id(), "user");
+        assertAll(
+            () -> assertEquals(TicketWaitingRoom.State.WAITING, polled.state()),
+            () -> assertEquals(2L, polled.showId())
+        );
+
+        release.countDown();
+        assertEquals(2, awaitDone(entry).tickets().size());
+    }
+
+    @Test
+    void givenTicketsOfSeveralShows_whenOneLineIsFull_thenNoPlaceIsKeptInTheOthers() throws Exception {
+        waitingRoom = waitingRoom(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ticketService.createTickets(anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        waitingRoom.createTickets(ticketsFor(2L));
+        started.await();
+        waitingRoom.createTickets(ticketsFor(2L));
+        awaitDepth(1);
+        List<Ticket> tickets = new ArrayList<>(ticketsFor(1L));
+        tickets.addAll(ticketsFor(2L));
+
+        assertThrows(TooManyRequestsException.class, () -> waitingRoom.createTickets(tickets));
+        assertEquals(1, meterRegistry.get("tickets.waiting.room.depth").gauge().value());
+        release.countDown();
+    }
+
+    @Test
+    void givenMaxEntries_whenEnqueueMore_thenTooManyRequests() throws Exception {
+        waitingRoom = new SimpleTicketWaitingRoom(ticketService, meterRegistry, 1, 10,
+            Duration.ofSeconds(5), Duration.ofMinutes(5), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ticketService.createTickets(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        waitingRoom.enqueue(ticketsFor(1L), "user");
+
+        assertThrows(TooManyRequestsException.class, () -> waitingRoom.enqueue(ticketsFor(2L), "user"));
+        release.countDown();
+    }
+
+    private SimpleTicketWaitingRoom waitingRoom(int admittedPerShow, int maxDepth) {
+        return new SimpleTicketWaitingRoom(ticketService, meterRegistry, admittedPerShow, maxDepth,
+            Duration.ofSeconds(5), Duration.ofMinutes(5), 100);
+    }
+
+    private void awaitDepth(int depth) throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.get("tickets.waiting.room.depth").gauge().value() != depth; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(depth, meterRegistry.get("tickets.waiting.room.depth").gauge().value());
+    }
+
+    private TicketWaitingRoom.Entry awaitDone(TicketWaitingRoom.Entry entry) throws Exception {
+        for (int i = 0; i < 500; i++) {
+            TicketWaitingRoom.Entry polled = waitingRoom.getEntry(entry.id(), "user");
+            if (polled.state() == TicketWaitingRoom.State.DONE) {
+                return polled;
+            }
+            Thread.sleep(10);
+        }
+        return fail("Entry was not done in time");
+    }
+
+    private List<Ticket> ticketsFor(Long showId) {
+        Show show = new Show();
+        show.setId(showId);
+        Ticket ticket = new Ticket();
+        ticket.setShow(show);
+        return List.of(ticket);
+    }
+}
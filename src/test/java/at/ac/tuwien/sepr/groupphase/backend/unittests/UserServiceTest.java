@@ -13,6 +13,7 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.PasswordResetTokenRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlockedUserRegistry;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -51,6 +52,9 @@ class UserServiceTest implements TestData {
     @Autowired
     private PasswordResetTokenRepository passwordResetTokenRepository;
 
+    @Autowired
+    private BlockedUserRegistry blockedUserRegistry;
+
     @MockBean
     private PasswordEncoder passwordEncoder;
 
@@ -452,6 +456,7 @@ class UserServiceTest implements TestData {
         );
 
         assertEquals("Account is locked. Please try again later or reset your password.", thrown.getMessage());
+        assertTrue(blockedUserRegistry.isBlocked(TEST_USER_EMAIL));
 
         // Verify that even with correct password, account remains locked
         UserLoginDto correctLoginDto = UserLoginDto.UserLoginDtoBuilder.anUserLoginDto()
@@ -535,6 +540,7 @@ class UserServiceTest implements TestData {
         // Assert
         ApplicationUser blockedUser = userRepository.findByEmail(TEST_USER_EMAIL);
         assertTrue(blockedUser.getBlocked());
+        assertTrue(blockedUserRegistry.isBlocked(TEST_USER_EMAIL));
     }
 
     @Test
@@ -568,6 +574,7 @@ class UserServiceTest implements TestData {
         // Assert
         ApplicationUser unblockedUser = userRepository.findByEmail(TEST_USER_EMAIL);
         assertFalse(unblockedUser.getBlocked());
+        assertFalse(blockedUserRegistry.isBlocked(TEST_USER_EMAIL));
     }
 
     @Test
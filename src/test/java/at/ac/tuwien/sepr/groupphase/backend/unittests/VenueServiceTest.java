@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.AfterAll;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
@@ -28,6 +29,9 @@ class VenueServiceTest {
     @Autowired
     private SimpleVenueService venueService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private static Venue testVenue;
 
     @BeforeAll
@@ -110,4 +114,44 @@ class VenueServiceTest {
         // Act & Assert
         assertThrows(NotFoundException.class, () -> venueService.deleteVenue(999L));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void givenVenuesWithoutUniqueKey_whenFillMissingUniqueKeys_thenDuplicatesStayUnkeyedAndCanBeUpdated() throws Exception {
+        // Arrange
+        Venue original = venueRepository.save(venueNamed("Old Venue"));
+        Venue duplicate = venueRepository.save(venueNamed("Old Venue Copy"));
+        // stored before venues had a unique key, when a second " OLD venue" could still be added
+        jdbcTemplate.update("UPDATE venue SET unique_key = NULL WHERE id = ?", original.getId());
+        jdbcTemplate.update("UPDATE venue SET unique_key = NULL, name = ' OLD venue' WHERE id = ?", duplicate.getId());
+
+        // Act
+        venueService.fillMissingUniqueKeys();
+
+        // Assert
+        Venue keptOriginal = venueRepository.findById(original.getId()).orElseThrow();
+        Venue keptDuplicate = venueRepository.findById(duplicate.getId()).orElseThrow();
+        assertAll(
+            () -> assertEquals(Venue.uniqueKeyOf("Old Venue", "Old Street"), keptOriginal.getUniqueKey()),
+            () -> assertEquals(" OLD venue", keptDuplicate.getName()),
+            () -> assertNull(keptDuplicate.getUniqueKey())
+        );
+        Venue updated = venueService.updateVenue(duplicate.getId(), new VenueDto(duplicate.getId(),
+            " OLD venue", "Old Street", "New City", "Old Country", "12345", null));
+        Venue stored = venueRepository.findById(duplicate.getId()).orElseThrow();
+        assertAll(
+            () -> assertEquals("New City", updated.getCity()),
+            () -> assertEquals(" OLD venue", stored.getName()),
+            () -> assertNull(stored.getUniqueKey())
+        );
+    }
+
+    private static Venue venueNamed(String name) {
+        Venue venue = new Venue();
+        venue.setName(name);
+        venue.setStreet("Old Street");
+        venue.setCity("Old City");
+        venue.setCounty("Old Country");
+        venue.setPostalCode("12345");
+        return venue;
+    }
+}
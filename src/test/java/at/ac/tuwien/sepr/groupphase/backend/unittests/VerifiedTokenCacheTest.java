@@ -0,0 +1,66 @@
+package at.ac.tuwien.sepr.groupphase.backend.unittests;
+
+import at.ac.tuwien.sepr.groupphase.backend.security.VerifiedTokenCache;
+import at.ac.tuwien.sepr.groupphase.backend.security.VerifiedTokenCache.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    void givenVerifiedToken_whenGet_thenFound() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        VerifiedToken verified = token(System.currentTimeMillis() + 60_000);
+
+        cache.put("a.b.c", verified);
+
+        assertAll(
+            () -> assertEquals(verified, cache.get("a.b.c")),
+            () -> assertNull(cache.get("a.b.d"))
+        );
+    }
+
+    @Test
+    void givenExpiredToken_whenGet_thenNotFoundAndDropped() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("a.b.c", token(System.currentTimeMillis() - 1));
+
+        assertNull(cache.get("a.b.c"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void givenFullCache_whenPut_thenExpiredTokensDroppedFirstAndSizeBounded() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(3);
+        long later = System.currentTimeMillis() + 60_000;
+        cache.put("expired", token(System.currentTimeMillis() - 1));
+        cache.put("first", token(later));
+        cache.put("second", token(later));
+
+        cache.put("third", token(later));
+        cache.put("fourth", token(later));
+
+        assertAll(
+            () -> assertNull(cache.get("expired")),
+            () -> assertNotNull(cache.get("fourth")),
+            () -> assertTrue(cache.size() <= 3)
+        );
+    }
+
+    @Test
+    void givenSizeZero_whenPut_thenNothingKept() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+
+        cache.put("a.b.c", token(System.currentTimeMillis() + 60_000));
+
+        assertNull(cache.get("a.b.c"));
+    }
+
+    private static VerifiedToken token(long expiresAt) {
+        return new VerifiedToken("user@email.com", List.of(new SimpleGrantedAuthority("ROLE_USER")), expiresAt);
+    }
+}